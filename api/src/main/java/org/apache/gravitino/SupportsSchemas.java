@@ -20,6 +20,8 @@
 
 package org.apache.gravitino;
 
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Map;
 import org.apache.gravitino.annotation.Evolving;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
@@ -46,6 +48,21 @@ public interface SupportsSchemas {
    */
   String[] listSchemas() throws NoSuchCatalogException;
 
+  /**
+   * List schemas under the entity page by page. The pages are fetched lazily as the returned
+   * iterator advances, so that a catalog with a large number of schemas needn't be listed in one
+   * call.
+   *
+   * <p>The default implementation lists all the schemas with {@link #listSchemas()} at once.
+   *
+   * @param pageSize The maximum number of schema names fetched in one page.
+   * @return An iterator over the schema names under the namespace.
+   * @throws NoSuchCatalogException If the catalog does not exist.
+   */
+  default Iterator<String> listSchemas(int pageSize) throws NoSuchCatalogException {
+    return Arrays.asList(listSchemas()).iterator();
+  }
+
   /**
    * Check if a schema exists.
    *
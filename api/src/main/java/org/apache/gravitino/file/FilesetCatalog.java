@@ -131,4 +131,25 @@ public interface FilesetCatalog {
    * @throws NoSuchFilesetException If the fileset does not exist.
    */
   String getFileLocation(NameIdentifier ident, String subPath) throws NoSuchFilesetException;
+
+  /**
+   * Get the actual locations of multiple files or directories in a fileset, for the same data
+   * operation if there's one in the caller context.
+   *
+   * <p>The default implementation gets the locations one by one. The catalogs that are able to
+   * resolve the storage location of the fileset once for all the sub paths should override it.
+   *
+   * @param ident A fileset identifier.
+   * @param subPaths The sub paths to the files or directories.
+   * @return The actual locations of the files or directories, in the order of the sub paths.
+   * @throws NoSuchFilesetException If the fileset does not exist.
+   */
+  default String[] getFileLocations(NameIdentifier ident, String... subPaths)
+      throws NoSuchFilesetException {
+    String[] fileLocations = new String[subPaths.length];
+    for (int i = 0; i < subPaths.length; i++) {
+      fileLocations[i] = getFileLocation(ident, subPaths[i]);
+    }
+    return fileLocations;
+  }
 }
@@ -20,6 +20,10 @@
 
 package org.apache.gravitino.rel;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
@@ -51,6 +55,23 @@ public interface TableCatalog {
    */
   NameIdentifier[] listTables(Namespace namespace) throws NoSuchSchemaException;
 
+  /**
+   * List the tables in a namespace from the catalog page by page. The pages are fetched lazily as
+   * the returned iterator advances, so that a schema with a large number of tables needn't be
+   * listed in one call.
+   *
+   * <p>The default implementation lists all the tables with {@link #listTables(Namespace)} at once.
+   *
+   * @param namespace A namespace.
+   * @param pageSize The maximum number of table identifiers fetched in one page.
+   * @return An iterator over the table identifiers in the namespace.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  default Iterator<NameIdentifier> listTables(Namespace namespace, int pageSize)
+      throws NoSuchSchemaException {
+    return Arrays.asList(listTables(namespace)).iterator();
+  }
+
   /**
    * Load table metadata by {@link NameIdentifier} from the catalog.
    *
@@ -74,6 +95,40 @@ public interface TableCatalog {
     }
   }
 
+  /**
+   * Load the metadata of multiple tables in a namespace from the catalog. The tables that don't
+   * exist are skipped.
+   *
+   * <p>The default implementation loads the requested tables one by one, or lists the namespace
+   * and loads each table if no name is specified. The catalogs that are able to load the tables in
+   * bulk should override it.
+   *
+   * @param namespace A namespace.
+   * @param names The names of the tables to load, all the tables in the namespace are loaded if no
+   *     name is specified.
+   * @return An array of the table metadata.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  default Table[] loadTables(Namespace namespace, String... names) throws NoSuchSchemaException {
+    NameIdentifier[] idents =
+        names.length == 0
+            ? listTables(namespace)
+            : Arrays.stream(names)
+                .distinct()
+                .map(name -> NameIdentifier.of(namespace, name))
+                .toArray(NameIdentifier[]::new);
+
+    List<Table> tables = new ArrayList<>();
+    for (NameIdentifier ident : idents) {
+      try {
+        tables.add(loadTable(ident));
+      } catch (NoSuchTableException e) {
+        // The table doesn't exist or is dropped after listing, skip it.
+      }
+    }
+    return tables.toArray(new Table[0]);
+  }
+
   /**
    * Create a table in the catalog based on the provided details.
    *
@@ -63,11 +63,27 @@ public class IcebergConstants {
   public static final String ICEBERG_METRICS_STORE = "metricsStore";
   public static final String ICEBERG_METRICS_STORE_RETAIN_DAYS = "metricsStoreRetainDays";
   public static final String ICEBERG_METRICS_QUEUE_CAPACITY = "metricsQueueCapacity";
+  public static final String ICEBERG_METRICS_BATCH_SIZE = "metricsBatchSize";
+  public static final String ICEBERG_METRICS_STORE_JDBC_URL = "metricsStoreJdbcUrl";
+  public static final String ICEBERG_METRICS_STORE_JDBC_USER = "metricsStoreJdbcUser";
+  public static final String ICEBERG_METRICS_STORE_JDBC_PASSWORD = "metricsStoreJdbcPassword";
+  public static final String ICEBERG_METRICS_STORE_JDBC_DRIVER = "metricsStoreJdbcDriver";
 
   public static final String GRAVITINO_ICEBERG_REST_SERVICE_NAME = "iceberg-rest";
 
   public static final String ICEBERG_REST_CATALOG_CACHE_EVICTION_INTERVAL =
       "catalog-cache-eviction-interval-ms";
+  public static final String ICEBERG_REST_CATALOG_CACHE_REFRESH_INTERVAL =
+      "catalog-cache-refresh-interval-ms";
+  public static final String ICEBERG_REST_CATALOG_CACHE_WARM_UP_ENABLED =
+      "catalog-cache-warm-up-enabled";
+  public static final String CREDENTIAL_CACHE_MAX_SIZE = "credential-cache-max-size";
+  public static final String CREDENTIAL_CACHE_REFRESH_MARGIN_MS =
+      "credential-cache-refresh-margin-ms";
+
+  public static final String TABLE_METADATA_CACHE_ENABLED = "table-metadata-cache-enabled";
+  public static final String TABLE_METADATA_CACHE_MAX_SIZE = "table-metadata-cache-max-size";
+  public static final String TABLE_METADATA_CACHE_EXPIRE_MS = "table-metadata-cache-expire-ms";
 
   public static final String ICEBERG_REST_CATALOG_CONFIG_PROVIDER = "catalog-config-provider";
   public static final String STATIC_ICEBERG_CATALOG_CONFIG_PROVIDER_NAME = "static-config-provider";
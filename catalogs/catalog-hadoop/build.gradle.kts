@@ -41,6 +41,9 @@ dependencies {
   }
 
   compileOnly(libs.guava)
+  compileOnly(libs.metrics.core)
+
+  implementation(libs.caffeine)
 
   implementation(libs.hadoop3.common) {
     exclude("com.sun.jersey")
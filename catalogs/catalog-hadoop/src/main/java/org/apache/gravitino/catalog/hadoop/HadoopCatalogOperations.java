@@ -20,16 +20,20 @@ package org.apache.gravitino.catalog.hadoop;
 
 import static org.apache.gravitino.connector.BaseCatalog.CATALOG_BYPASS_PREFIX;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Maps;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.Entity;
@@ -64,6 +68,8 @@ import org.apache.gravitino.file.FilesetChange;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.FilesetEntity;
 import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.utils.NamespaceUtil;
 import org.apache.gravitino.utils.PrincipalUtils;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileSystem;
@@ -75,6 +81,7 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
   private static final String SCHEMA_DOES_NOT_EXIST_MSG = "Schema %s does not exist";
   private static final String FILESET_DOES_NOT_EXIST_MSG = "Fileset %s does not exist";
   private static final String SLASH = "/";
+  private static final int FILESET_LOCATION_CACHE_MAX_SIZE = 10000;
   private static final Logger LOG = LoggerFactory.getLogger(HadoopCatalogOperations.class);
 
   private final EntityStore store;
@@ -93,6 +100,12 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
 
   private FileSystemProvider defaultFileSystemProvider;
 
+  // Caches the storage location and the single-file check of the filesets resolved by
+  // getFileLocation, which would otherwise cost a store read and a file system RPC per call.
+  @VisibleForTesting Cache<NameIdentifier, FilesetLocation> filesetLocationCache;
+
+  private FilesetLocationCacheMetricsSource filesetLocationCacheMetricsSource;
+
   HadoopCatalogOperations(EntityStore store) {
     this.store = store;
   }
@@ -155,6 +168,16 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
                 .map(s -> s.endsWith(SLASH) ? s : s + SLASH)
                 .map(Path::new)
             : Optional.empty();
+
+    long cacheExpirationMs =
+        (long)
+            propertiesMetadata
+                .catalogPropertiesMetadata()
+                .getOrDefault(
+                    config, HadoopCatalogPropertiesMetadata.FILESET_LOCATION_CACHE_EXPIRATION_MS);
+    if (cacheExpirationMs > 0) {
+      initializeFilesetLocationCache(cacheExpirationMs);
+    }
   }
 
   @Override
@@ -322,6 +345,7 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
               FilesetEntity.class,
               Entity.EntityType.FILESET,
               e -> updateFilesetEntity(ident, e, changes));
+      invalidateFilesetLocation(ident);
 
       return HadoopFileset.builder()
           .withName(updatedFilesetEntity.name())
@@ -370,12 +394,28 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
       return false;
     } catch (IOException ioe) {
       throw new RuntimeException("Failed to delete fileset " + ident, ioe);
+    } finally {
+      invalidateFilesetLocation(ident);
     }
   }
 
   @Override
   public String getFileLocation(NameIdentifier ident, String subPath)
       throws NoSuchFilesetException {
+    return getFileLocation(ident, getFilesetLocation(ident), subPath);
+  }
+
+  @Override
+  public String[] getFileLocations(NameIdentifier ident, String... subPaths)
+      throws NoSuchFilesetException {
+    // The storage location of the fileset is resolved once for all the sub paths.
+    FilesetLocation fileset = getFilesetLocation(ident);
+    return Arrays.stream(subPaths)
+        .map(subPath -> getFileLocation(ident, fileset, subPath))
+        .toArray(String[]::new);
+  }
+
+  private String getFileLocation(NameIdentifier ident, FilesetLocation fileset, String subPath) {
     Preconditions.checkArgument(subPath != null, "subPath must not be null");
     String processedSubPath;
     if (!subPath.trim().isEmpty() && !subPath.trim().startsWith(SLASH)) {
@@ -384,9 +424,7 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
       processedSubPath = subPath.trim();
     }
 
-    Fileset fileset = loadFileset(ident);
-
-    boolean isSingleFile = checkSingleFile(fileset);
+    boolean isSingleFile = fileset.isSingleFile();
     // if the storage location is a single file, it cannot have sub path to access.
     if (isSingleFile && StringUtils.isBlank(processedSubPath)) {
       throw new GravitinoRuntimeException(
@@ -458,6 +496,21 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
     }
   }
 
+  @Override
+  public NameIdentifier[] listSchemas(Namespace namespace, String startAfter, int limit)
+      throws NoSuchCatalogException {
+    try {
+      List<SchemaEntity> schemas =
+          store.listPage(
+              namespace, SchemaEntity.class, Entity.EntityType.SCHEMA, startAfter, limit);
+      return schemas.stream()
+          .map(s -> NameIdentifier.of(namespace, s.name()))
+          .toArray(NameIdentifier[]::new);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to list schemas under namespace " + namespace, e);
+    }
+  }
+
   @Override
   public Schema createSchema(NameIdentifier ident, String comment, Map<String, String> properties)
       throws NoSuchCatalogException, SchemaAlreadyExistsException {
@@ -580,6 +633,13 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
 
   @Override
   public boolean dropSchema(NameIdentifier ident, boolean cascade) throws NonEmptySchemaException {
+    if (filesetLocationCache != null) {
+      Namespace filesetNamespace =
+          NamespaceUtil.ofFileset(
+              ident.namespace().level(0), ident.namespace().level(1), ident.name());
+      filesetLocationCache.asMap().keySet().removeIf(k -> k.namespace().equals(filesetNamespace));
+    }
+
     try {
       SchemaEntity schemaEntity = store.get(ident, Entity.EntityType.SCHEMA, SchemaEntity.class);
       Map<String, String> properties =
@@ -632,7 +692,16 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
   }
 
   @Override
-  public void close() throws IOException {}
+  public void close() throws IOException {
+    if (filesetLocationCache != null) {
+      filesetLocationCache.invalidateAll();
+    }
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (filesetLocationCacheMetricsSource != null && metricsSystem != null) {
+      metricsSystem.unregister(filesetLocationCacheMetricsSource);
+    }
+  }
 
   private SchemaEntity updateSchemaEntity(
       NameIdentifier ident, SchemaEntity schemaEntity, SchemaChange... changes) {
@@ -741,6 +810,41 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
         && !CallerContext.CallerContextHolder.get().context().isEmpty();
   }
 
+  private void initializeFilesetLocationCache(long expirationMs) {
+    this.filesetLocationCache =
+        Caffeine.newBuilder()
+            .maximumSize(FILESET_LOCATION_CACHE_MAX_SIZE)
+            .expireAfterWrite(expirationMs, TimeUnit.MILLISECONDS)
+            .recordStats()
+            .build();
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null && catalogInfo != null) {
+      this.filesetLocationCacheMetricsSource =
+          new FilesetLocationCacheMetricsSource(
+              catalogInfo.namespace().level(0), catalogInfo.name(), filesetLocationCache);
+      metricsSystem.register(filesetLocationCacheMetricsSource);
+    }
+  }
+
+  private FilesetLocation getFilesetLocation(NameIdentifier ident) {
+    if (filesetLocationCache == null) {
+      return loadFilesetLocation(ident);
+    }
+    return filesetLocationCache.get(ident, this::loadFilesetLocation);
+  }
+
+  private FilesetLocation loadFilesetLocation(NameIdentifier ident) {
+    Fileset fileset = loadFileset(ident);
+    return new FilesetLocation(fileset.storageLocation(), checkSingleFile(fileset));
+  }
+
+  private void invalidateFilesetLocation(NameIdentifier ident) {
+    if (filesetLocationCache != null) {
+      filesetLocationCache.invalidate(ident);
+    }
+  }
+
   private boolean checkSingleFile(Fileset fileset) {
     try {
       Path locationPath = new Path(fileset.storageLocation());
@@ -776,4 +880,24 @@ public class HadoopCatalogOperations implements CatalogOperations, SupportsSchem
 
     return provider.getFileSystem(path, config);
   }
+
+  /** The storage location of a fileset, and whether the location is a single file. */
+  @VisibleForTesting
+  static class FilesetLocation {
+    private final String storageLocation;
+    private final boolean isSingleFile;
+
+    FilesetLocation(String storageLocation, boolean isSingleFile) {
+      this.storageLocation = storageLocation;
+      this.isSingleFile = isSingleFile;
+    }
+
+    String storageLocation() {
+      return storageLocation;
+    }
+
+    boolean isSingleFile() {
+      return isSingleFile;
+    }
+  }
 }
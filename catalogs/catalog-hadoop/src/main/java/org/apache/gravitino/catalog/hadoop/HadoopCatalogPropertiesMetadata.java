@@ -55,6 +55,15 @@ public class HadoopCatalogPropertiesMetadata extends BaseCatalogPropertiesMetada
   public static final String BUILTIN_LOCAL_FS_PROVIDER = "builtin-local";
   public static final String BUILTIN_HDFS_FS_PROVIDER = "builtin-hdfs";
 
+  /**
+   * How long the resolved storage location and the single-file check of a fileset are cached for
+   * {@code getFileLocation}, in milliseconds. A non-positive value disables the cache.
+   */
+  public static final String FILESET_LOCATION_CACHE_EXPIRATION_MS =
+      "fileset-location-cache-expiration-ms";
+
+  public static final long DEFAULT_FILESET_LOCATION_CACHE_EXPIRATION_MS = 60 * 1000L;
+
   private static final Map<String, PropertyEntry<?>> HADOOP_CATALOG_PROPERTY_ENTRIES =
       ImmutableMap.<String, PropertyEntry<?>>builder()
           .put(
@@ -81,6 +90,14 @@ public class HadoopCatalogPropertiesMetadata extends BaseCatalogPropertiesMetada
                   false /* immutable */,
                   BUILTIN_LOCAL_FS_PROVIDER, // please see LocalFileSystemProvider#name()
                   false /* hidden */))
+          .put(
+              FILESET_LOCATION_CACHE_EXPIRATION_MS,
+              PropertyEntry.longOptionalPropertyEntry(
+                  FILESET_LOCATION_CACHE_EXPIRATION_MS,
+                  "The expiration time of the cached fileset locations in milliseconds",
+                  false /* immutable */,
+                  DEFAULT_FILESET_LOCATION_CACHE_EXPIRATION_MS,
+                  false /* hidden */))
           // The following two are about authentication.
           .putAll(KERBEROS_PROPERTY_ENTRIES)
           .putAll(AuthenticationConfig.AUTHENTICATION_PROPERTY_ENTRIES)
@@ -201,6 +201,12 @@ public class SecureHadoopCatalogOperations
     return hadoopCatalogOperations.listSchemas(namespace);
   }
 
+  @Override
+  public NameIdentifier[] listSchemas(Namespace namespace, String startAfter, int limit)
+      throws NoSuchCatalogException {
+    return hadoopCatalogOperations.listSchemas(namespace, startAfter, limit);
+  }
+
   @Override
   public Schema loadSchema(NameIdentifier ident) throws NoSuchSchemaException {
     return hadoopCatalogOperations.loadSchema(ident);
@@ -228,6 +234,12 @@ public class SecureHadoopCatalogOperations
     return hadoopCatalogOperations.getFileLocation(ident, subPath);
   }
 
+  @Override
+  public String[] getFileLocations(NameIdentifier ident, String... subPaths)
+      throws NoSuchFilesetException {
+    return hadoopCatalogOperations.getFileLocations(ident, subPaths);
+  }
+
   @Override
   public void close() throws IOException {
     hadoopCatalogOperations.close();
@@ -19,14 +19,36 @@
 package org.apache.gravitino.catalog.hadoop;
 
 import static org.apache.gravitino.Configs.DEFAULT_ENTITY_RELATIONAL_STORE;
+import static org.apache.gravitino.Configs.DEFAULT_RELATIONAL_CONNECTION_POOL;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_COLUMN_BATCH_SIZE;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_CACHE_STATEMENTS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_EVICTION_INTERVAL_MS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MAX_IDLE;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MAX_STATEMENTS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MAX_TOTAL;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MAX_WAIT_MS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MIN_EVICTABLE_IDLE_MS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MIN_IDLE;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_TEST_ON_BORROW;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_TEST_WHILE_IDLE;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_VALIDATION_QUERY;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_FIELD_ENCODING;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_GC_MAX_BATCH_SIZE;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_GC_MAX_DELETES_PER_SECOND;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_GC_PARALLELISM;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_GC_TARGET_BATCH_LATENCY_MS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_ID_CACHE_ENABLED;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PATH;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JOINED_ID_QUERY_ENABLED;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_STORE;
 import static org.apache.gravitino.Configs.ENTITY_SERDE;
 import static org.apache.gravitino.Configs.ENTITY_STORE;
+import static org.apache.gravitino.Configs.ENTITY_STORE_CACHE_ENABLED;
 import static org.apache.gravitino.Configs.RELATIONAL_ENTITY_STORE;
 import static org.apache.gravitino.Configs.STORE_DELETE_AFTER_TIME;
 import static org.apache.gravitino.Configs.STORE_TRANSACTION_MAX_SKEW_TIME;
@@ -45,6 +67,7 @@ import java.net.ConnectException;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -165,6 +188,7 @@ public class TestHadoopCatalogOperations {
   public static void setUp() {
     Config config = Mockito.mock(Config.class);
     when(config.get(ENTITY_STORE)).thenReturn(RELATIONAL_ENTITY_STORE);
+    when(config.get(ENTITY_STORE_CACHE_ENABLED)).thenReturn(false);
     when(config.get(ENTITY_RELATIONAL_STORE)).thenReturn(DEFAULT_ENTITY_RELATIONAL_STORE);
     when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_PATH)).thenReturn(STORE_PATH);
 
@@ -177,6 +201,29 @@ public class TestHadoopCatalogOperations {
     when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_USER)).thenReturn("gravitino");
     when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD)).thenReturn("gravitino");
     when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER)).thenReturn("org.h2.Driver");
+    when(config.get(ENTITY_RELATIONAL_FIELD_ENCODING)).thenReturn("json");
+    when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL))
+        .thenReturn(DEFAULT_RELATIONAL_CONNECTION_POOL);
+    when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_MAX_WAIT_MS)).thenReturn(1000L);
+    when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_MAX_TOTAL)).thenReturn(20);
+    when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_MAX_IDLE)).thenReturn(5);
+    when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_MIN_IDLE)).thenReturn(0);
+    when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_EVICTION_INTERVAL_MS))
+        .thenReturn(10 * 60 * 1000L);
+    when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_TEST_ON_BORROW)).thenReturn(false);
+    when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_TEST_WHILE_IDLE)).thenReturn(false);
+    when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_VALIDATION_QUERY))
+        .thenReturn(Optional.empty());
+    when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_MIN_EVICTABLE_IDLE_MS)).thenReturn(1000L);
+    when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_CACHE_STATEMENTS)).thenReturn(false);
+    when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_MAX_STATEMENTS)).thenReturn(-1);
+    when(config.get(ENTITY_RELATIONAL_ID_CACHE_ENABLED)).thenReturn(false);
+    when(config.get(ENTITY_RELATIONAL_JOINED_ID_QUERY_ENABLED)).thenReturn(false);
+    when(config.get(ENTITY_RELATIONAL_COLUMN_BATCH_SIZE)).thenReturn(1000);
+    when(config.get(ENTITY_RELATIONAL_GC_PARALLELISM)).thenReturn(2);
+    when(config.get(ENTITY_RELATIONAL_GC_MAX_BATCH_SIZE)).thenReturn(1000);
+    when(config.get(ENTITY_RELATIONAL_GC_TARGET_BATCH_LATENCY_MS)).thenReturn(500L);
+    when(config.get(ENTITY_RELATIONAL_GC_MAX_DELETES_PER_SECOND)).thenReturn(0);
 
     File f = FileUtils.getFile(STORE_PATH);
     f.deleteOnExit();
@@ -867,6 +914,11 @@ public class TestHadoopCatalogOperations {
       String subPath4 = "";
       String fileLocation3 = ops.getFileLocation(filesetIdent, subPath4);
       Assertions.assertEquals(fileset.storageLocation(), fileLocation3);
+
+      // test multiple sub paths in one call
+      Assertions.assertArrayEquals(
+          new String[] {fileLocation1, fileLocation2, fileLocation3},
+          ops.getFileLocations(filesetIdent, subPath1, subPath2, subPath4));
     }
 
     // test mount a single file
@@ -952,6 +1004,51 @@ public class TestHadoopCatalogOperations {
     }
   }
 
+  @Test
+  public void testFilesetLocationCache() throws IOException {
+    String schemaName = "schema1025";
+    String comment = "comment1025";
+    String schemaPath = TEST_ROOT_PATH + "/" + schemaName;
+    createSchema(schemaName, comment, null, schemaPath);
+
+    String name = "fileset1025";
+    String storageLocation = TEST_ROOT_PATH + "/c1/" + schemaName + "/" + name;
+    createFileset(name, schemaName, comment, Fileset.Type.MANAGED, null, storageLocation);
+
+    try (HadoopCatalogOperations ops = new HadoopCatalogOperations(store)) {
+      ops.initialize(Maps.newHashMap(), randomCatalogInfo(), HADOOP_PROPERTIES_METADATA);
+      NameIdentifier filesetIdent = NameIdentifier.of("m1", "c1", schemaName, name);
+
+      for (int i = 0; i < 3; i++) {
+        Assertions.assertEquals(
+            storageLocation + "/test.parquet", ops.getFileLocation(filesetIdent, "test.parquet"));
+      }
+      Assertions.assertEquals(1, ops.filesetLocationCache.stats().missCount());
+      Assertions.assertEquals(2, ops.filesetLocationCache.stats().hitCount());
+      Assertions.assertFalse(ops.filesetLocationCache.getIfPresent(filesetIdent).isSingleFile());
+
+      // Altering the fileset invalidates the cached location.
+      ops.alterFileset(filesetIdent, FilesetChange.updateComment("comment1025_new"));
+      Assertions.assertNull(ops.filesetLocationCache.getIfPresent(filesetIdent));
+
+      ops.getFileLocation(filesetIdent, "");
+      Assertions.assertNotNull(ops.filesetLocationCache.getIfPresent(filesetIdent));
+
+      // Dropping the fileset invalidates the cached location.
+      Assertions.assertTrue(ops.dropFileset(filesetIdent));
+      Assertions.assertNull(ops.filesetLocationCache.getIfPresent(filesetIdent));
+      Assertions.assertThrows(
+          NoSuchFilesetException.class, () -> ops.getFileLocation(filesetIdent, ""));
+    }
+
+    Map<String, String> props =
+        ImmutableMap.of(HadoopCatalogPropertiesMetadata.FILESET_LOCATION_CACHE_EXPIRATION_MS, "0");
+    try (HadoopCatalogOperations ops = new HadoopCatalogOperations(store)) {
+      ops.initialize(props, randomCatalogInfo(), HADOOP_PROPERTIES_METADATA);
+      Assertions.assertNull(ops.filesetLocationCache);
+    }
+  }
+
   private static Stream<Arguments> locationArguments() {
     return Stream.of(
         // Honor the catalog location
@@ -400,6 +400,21 @@ public class KafkaCatalogOperations implements CatalogOperations, SupportsSchema
     }
   }
 
+  @Override
+  public NameIdentifier[] listSchemas(Namespace namespace, String startAfter, int limit)
+      throws NoSuchCatalogException {
+    try {
+      List<SchemaEntity> schemas =
+          store.listPage(
+              namespace, SchemaEntity.class, Entity.EntityType.SCHEMA, startAfter, limit);
+      return schemas.stream()
+          .map(s -> NameIdentifier.of(namespace, s.name()))
+          .toArray(NameIdentifier[]::new);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to list schemas under namespace " + namespace, e);
+    }
+  }
+
   @Override
   public Schema createSchema(NameIdentifier ident, String comment, Map<String, String> properties)
       throws NoSuchCatalogException, SchemaAlreadyExistsException {
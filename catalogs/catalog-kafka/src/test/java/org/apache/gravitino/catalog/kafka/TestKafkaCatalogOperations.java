@@ -21,16 +21,38 @@ package org.apache.gravitino.catalog.kafka;
 import static org.apache.gravitino.Catalog.Type.MESSAGING;
 import static org.apache.gravitino.Configs.DEFAULT_ENTITY_KV_STORE;
 import static org.apache.gravitino.Configs.DEFAULT_ENTITY_RELATIONAL_STORE;
+import static org.apache.gravitino.Configs.DEFAULT_RELATIONAL_CONNECTION_POOL;
 import static org.apache.gravitino.Configs.ENTITY_KV_ROCKSDB_BACKEND_PATH;
 import static org.apache.gravitino.Configs.ENTITY_KV_STORE;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_COLUMN_BATCH_SIZE;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_CACHE_STATEMENTS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_EVICTION_INTERVAL_MS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MAX_IDLE;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MAX_STATEMENTS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MAX_TOTAL;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MAX_WAIT_MS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MIN_EVICTABLE_IDLE_MS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MIN_IDLE;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_TEST_ON_BORROW;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_TEST_WHILE_IDLE;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_VALIDATION_QUERY;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_FIELD_ENCODING;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_GC_MAX_BATCH_SIZE;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_GC_MAX_DELETES_PER_SECOND;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_GC_PARALLELISM;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_GC_TARGET_BATCH_LATENCY_MS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_ID_CACHE_ENABLED;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PATH;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JOINED_ID_QUERY_ENABLED;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_STORE;
 import static org.apache.gravitino.Configs.ENTITY_SERDE;
 import static org.apache.gravitino.Configs.ENTITY_STORE;
+import static org.apache.gravitino.Configs.ENTITY_STORE_CACHE_ENABLED;
 import static org.apache.gravitino.Configs.RELATIONAL_ENTITY_STORE;
 import static org.apache.gravitino.Configs.STORE_DELETE_AFTER_TIME;
 import static org.apache.gravitino.Configs.STORE_TRANSACTION_MAX_SKEW_TIME;
@@ -51,6 +73,7 @@ import java.io.File;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.Map;
+import java.util.Optional;
 import org.apache.commons.io.FileUtils;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
@@ -136,6 +159,7 @@ public class TestKafkaCatalogOperations extends KafkaClusterEmbedded {
     Mockito.when(config.get(STORE_DELETE_AFTER_TIME)).thenReturn(20 * 60 * 1000L);
 
     when(config.get(ENTITY_STORE)).thenReturn(RELATIONAL_ENTITY_STORE);
+    when(config.get(ENTITY_STORE_CACHE_ENABLED)).thenReturn(false);
     when(config.get(ENTITY_RELATIONAL_STORE)).thenReturn(DEFAULT_ENTITY_RELATIONAL_STORE);
     when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_PATH)).thenReturn(STORE_PATH);
 
@@ -144,6 +168,29 @@ public class TestKafkaCatalogOperations extends KafkaClusterEmbedded {
     when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_USER)).thenReturn("gravitino");
     when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD)).thenReturn("gravitino");
     when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER)).thenReturn("org.h2.Driver");
+    when(config.get(ENTITY_RELATIONAL_FIELD_ENCODING)).thenReturn("json");
+    when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL))
+        .thenReturn(DEFAULT_RELATIONAL_CONNECTION_POOL);
+    when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_MAX_WAIT_MS)).thenReturn(1000L);
+    when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_MAX_TOTAL)).thenReturn(20);
+    when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_MAX_IDLE)).thenReturn(5);
+    when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_MIN_IDLE)).thenReturn(0);
+    when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_EVICTION_INTERVAL_MS))
+        .thenReturn(10 * 60 * 1000L);
+    when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_TEST_ON_BORROW)).thenReturn(false);
+    when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_TEST_WHILE_IDLE)).thenReturn(false);
+    when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_VALIDATION_QUERY))
+        .thenReturn(Optional.empty());
+    when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_MIN_EVICTABLE_IDLE_MS)).thenReturn(1000L);
+    when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_CACHE_STATEMENTS)).thenReturn(false);
+    when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_MAX_STATEMENTS)).thenReturn(-1);
+    when(config.get(ENTITY_RELATIONAL_ID_CACHE_ENABLED)).thenReturn(false);
+    when(config.get(ENTITY_RELATIONAL_JOINED_ID_QUERY_ENABLED)).thenReturn(false);
+    when(config.get(ENTITY_RELATIONAL_COLUMN_BATCH_SIZE)).thenReturn(1000);
+    when(config.get(ENTITY_RELATIONAL_GC_PARALLELISM)).thenReturn(2);
+    when(config.get(ENTITY_RELATIONAL_GC_MAX_BATCH_SIZE)).thenReturn(1000);
+    when(config.get(ENTITY_RELATIONAL_GC_TARGET_BATCH_LATENCY_MS)).thenReturn(500L);
+    when(config.get(ENTITY_RELATIONAL_GC_MAX_DELETES_PER_SECOND)).thenReturn(0);
 
     File f = FileUtils.getFile(STORE_PATH);
     f.deleteOnExit();
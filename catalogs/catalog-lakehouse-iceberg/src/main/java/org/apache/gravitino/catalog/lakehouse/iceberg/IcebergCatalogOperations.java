@@ -415,8 +415,10 @@ public class IcebergCatalogOperations implements CatalogOperations, SupportsSche
     try {
       String[] levels = tableIdent.namespace().levels();
       IcebergTableChange icebergTableChange =
-          icebergCatalogWrapperHelper.buildIcebergTableChanges(
-              NameIdentifier.of(levels[levels.length - 1], tableIdent.name()), changes);
+          icebergCatalogWrapper.doAs(
+              () ->
+                  icebergCatalogWrapperHelper.buildIcebergTableChanges(
+                      NameIdentifier.of(levels[levels.length - 1], tableIdent.name()), changes));
       LoadTableResponse loadTableResponse = icebergCatalogWrapper.updateTable(icebergTableChange);
       loadTableResponse.validate();
       return IcebergTable.fromIcebergTable(loadTableResponse.tableMetadata(), tableIdent.name());
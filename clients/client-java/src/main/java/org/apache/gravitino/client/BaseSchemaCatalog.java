@@ -18,8 +18,11 @@
  */
 package org.apache.gravitino.client;
 
+import com.google.common.base.Preconditions;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -125,6 +128,27 @@ abstract class BaseSchemaCatalog extends CatalogDTO
     return Arrays.stream(resp.identifiers()).map(NameIdentifier::name).toArray(String[]::new);
   }
 
+  /**
+   * List all the schemas under the given catalog namespace page by page.
+   *
+   * @param pageSize The maximum number of schema names fetched in one request.
+   * @return An iterator over the schema names, which fetches the pages lazily.
+   * @throws NoSuchCatalogException if the catalog with specified namespace does not exist.
+   */
+  @Override
+  public Iterator<String> listSchemas(int pageSize) throws NoSuchCatalogException {
+    Preconditions.checkArgument(pageSize > 0, "pageSize must be positive");
+
+    return new PagedEntityIterator<>(
+        pageToken ->
+            restClient.get(
+                formatSchemaRequestPath(schemaNamespace()),
+                EntityListResponse.class,
+                pageParams(pageSize, pageToken),
+                ErrorHandlers.schemaErrorHandler()),
+        NameIdentifier::name);
+  }
+
   /**
    * Create a new schema with specified identifier, comment and metadata.
    *
@@ -280,4 +304,13 @@ abstract class BaseSchemaCatalog extends CatalogDTO
         .append("/schemas")
         .toString();
   }
+
+  static Map<String, String> pageParams(int pageSize, String pageToken) {
+    Map<String, String> params = new HashMap<>();
+    params.put("pageSize", String.valueOf(pageSize));
+    if (pageToken != null) {
+      params.put("pageToken", pageToken);
+    }
+    return params;
+  }
 }
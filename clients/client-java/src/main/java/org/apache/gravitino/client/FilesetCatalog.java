@@ -33,12 +33,14 @@ import org.apache.gravitino.Namespace;
 import org.apache.gravitino.audit.CallerContext;
 import org.apache.gravitino.dto.AuditDTO;
 import org.apache.gravitino.dto.CatalogDTO;
+import org.apache.gravitino.dto.requests.FileLocationsRequest;
 import org.apache.gravitino.dto.requests.FilesetCreateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdatesRequest;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.FileLocationResponse;
+import org.apache.gravitino.dto.responses.FileLocationsResponse;
 import org.apache.gravitino.dto.responses.FilesetResponse;
 import org.apache.gravitino.exceptions.FilesetAlreadyExistsException;
 import org.apache.gravitino.exceptions.NoSuchFilesetException;
@@ -265,6 +267,43 @@ class FilesetCatalog extends BaseSchemaCatalog implements org.apache.gravitino.f
     }
   }
 
+  /**
+   * Get the actual paths of multiple files or directories based on the storage location of Fileset
+   * and the sub paths, in one request.
+   *
+   * @param ident A fileset identifier.
+   * @param subPaths The sub paths to the files or directories.
+   * @return The actual locations of the files or directories, in the order of the sub paths.
+   * @throws NoSuchFilesetException If the fileset does not exist.
+   */
+  @Override
+  public String[] getFileLocations(NameIdentifier ident, String... subPaths)
+      throws NoSuchFilesetException {
+    checkFilesetNameIdentifier(ident);
+    Namespace fullNamespace = getFilesetFullNamespace(ident.namespace());
+
+    try {
+      CallerContext callerContext = CallerContext.CallerContextHolder.get();
+
+      FileLocationsRequest req = new FileLocationsRequest(subPaths);
+      req.validate();
+
+      FileLocationsResponse resp =
+          restClient.post(
+              formatFileLocationsRequestPath(fullNamespace, ident.name()),
+              req,
+              FileLocationsResponse.class,
+              callerContext != null ? callerContext.context() : Collections.emptyMap(),
+              ErrorHandlers.filesetErrorHandler());
+      resp.validate();
+
+      return resp.getFileLocations();
+    } finally {
+      // Clear the caller context
+      CallerContext.CallerContextHolder.remove();
+    }
+  }
+
   @VisibleForTesting
   static String formatFilesetRequestPath(Namespace ns) {
     Namespace schemaNs = Namespace.of(ns.level(0), ns.level(1));
@@ -289,6 +328,19 @@ class FilesetCatalog extends BaseSchemaCatalog implements org.apache.gravitino.f
         .toString();
   }
 
+  @VisibleForTesting
+  static String formatFileLocationsRequestPath(Namespace ns, String name) {
+    Namespace schemaNs = Namespace.of(ns.level(0), ns.level(1));
+    return new StringBuilder()
+        .append(formatSchemaRequestPath(schemaNs))
+        .append("/")
+        .append(RESTUtils.encodeString(ns.level(2)))
+        .append("/filesets/")
+        .append(RESTUtils.encodeString(name))
+        .append("/locations")
+        .toString();
+  }
+
   /**
    * Check whether the namespace of a fileset is valid.
    *
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.client;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.dto.responses.EntityListResponse;
+
+/**
+ * An iterator over the entities listed from the server page by page. A page is only fetched when
+ * the entities of the previous page are consumed.
+ *
+ * @param <T> The type of the iterated elements converted from the entity identifiers.
+ */
+class PagedEntityIterator<T> implements Iterator<T> {
+
+  private final Function<String, EntityListResponse> pageFetcher;
+  private final Function<NameIdentifier, T> converter;
+
+  private Iterator<NameIdentifier> currentPage = Collections.emptyIterator();
+  private String nextPageToken;
+  private boolean lastPageFetched;
+
+  /**
+   * Creates a new PagedEntityIterator.
+   *
+   * @param pageFetcher The function to fetch the page with the given page token, the token is null
+   *     for the first page.
+   * @param converter The function to convert the entity identifiers to the iterated elements.
+   */
+  PagedEntityIterator(
+      Function<String, EntityListResponse> pageFetcher, Function<NameIdentifier, T> converter) {
+    this.pageFetcher = pageFetcher;
+    this.converter = converter;
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (!currentPage.hasNext() && !lastPageFetched) {
+      EntityListResponse resp = pageFetcher.apply(nextPageToken);
+      resp.validate();
+
+      currentPage = Arrays.asList(resp.identifiers()).iterator();
+      nextPageToken = resp.nextPageToken();
+      lastPageFetched = nextPageToken == null;
+    }
+    return currentPage.hasNext();
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more entities");
+    }
+    return converter.apply(currentPage.next());
+  }
+}
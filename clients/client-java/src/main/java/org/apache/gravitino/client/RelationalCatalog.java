@@ -23,9 +23,12 @@ import static org.apache.gravitino.dto.util.DTOConverters.toDTOs;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -40,6 +43,7 @@ import org.apache.gravitino.dto.requests.TableUpdateRequest;
 import org.apache.gravitino.dto.requests.TableUpdatesRequest;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
+import org.apache.gravitino.dto.responses.TableListResponse;
 import org.apache.gravitino.dto.responses.TableResponse;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.exceptions.NoSuchTableException;
@@ -61,6 +65,10 @@ import org.apache.gravitino.rest.RESTUtils;
  */
 class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog {
 
+  // The maximum number of table names sent in one request to load tables, to keep the request
+  // URI short.
+  private static final int LOAD_TABLES_BATCH_SIZE = 100;
+
   RelationalCatalog(
       Namespace namespace,
       String name,
@@ -104,6 +112,33 @@ class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog {
         .toArray(NameIdentifier[]::new);
   }
 
+  /**
+   * List the tables in a schema namespace page by page from the Gravitino server.
+   *
+   * @param namespace The namespace to list the tables under it. This namespace should have 1 level,
+   *     which is the schema name;
+   * @param pageSize The maximum number of table identifiers fetched in one request.
+   * @return An iterator over the {@link NameIdentifier} of the tables, which fetches the pages
+   *     lazily.
+   * @throws NoSuchSchemaException if the schema with specified namespace does not exist.
+   */
+  @Override
+  public Iterator<NameIdentifier> listTables(Namespace namespace, int pageSize)
+      throws NoSuchSchemaException {
+    checkTableNamespace(namespace);
+    Preconditions.checkArgument(pageSize > 0, "pageSize must be positive");
+
+    Namespace fullNamespace = getTableFullNamespace(namespace);
+    return new PagedEntityIterator<>(
+        pageToken ->
+            restClient.get(
+                formatTableRequestPath(fullNamespace),
+                EntityListResponse.class,
+                pageParams(pageSize, pageToken),
+                ErrorHandlers.tableErrorHandler()),
+        ident -> NameIdentifier.of(ident.namespace().level(2), ident.name()));
+  }
+
   /**
    * Load the table with specified identifier.
    *
@@ -127,6 +162,41 @@ class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog {
     return RelationalTable.from(fullNamespace, resp.getTable(), restClient);
   }
 
+  /**
+   * Load the tables with specified names under the given Schema namespace. The tables are loaded in
+   * bulk by the server rather than one request per table.
+   *
+   * @param namespace The namespace to load the tables under it. This namespace should have 1 level,
+   *     which is the schema name;
+   * @param names The names of the tables to load, all the tables under the namespace are loaded if
+   *     no name is specified.
+   * @return An array of the loaded {@link Table}, the tables that don't exist are skipped.
+   * @throws NoSuchSchemaException if the schema with specified namespace does not exist.
+   */
+  @Override
+  public Table[] loadTables(Namespace namespace, String... names) throws NoSuchSchemaException {
+    checkTableNamespace(namespace);
+
+    Namespace fullNamespace = getTableFullNamespace(namespace);
+    if (names.length == 0) {
+      return loadTablesByPath(fullNamespace, formatTableRequestPath(fullNamespace));
+    }
+
+    List<Table> tables = Lists.newArrayListWithCapacity(names.length);
+    for (List<String> batch : Lists.partition(Arrays.asList(names), LOAD_TABLES_BATCH_SIZE)) {
+      // The names are passed as a repeated query parameter, which can't be expressed by the
+      // query parameter map of the REST client. The spaces are percent-encoded so that they are
+      // decoded the same way no matter whether "+" is taken as a space or not.
+      String query =
+          batch.stream()
+              .map(name -> "name=" + RESTUtils.encodeString(name).replace("+", "%20"))
+              .collect(Collectors.joining("&"));
+      String path = formatTableRequestPath(fullNamespace) + "?" + query;
+      tables.addAll(Arrays.asList(loadTablesByPath(fullNamespace, path)));
+    }
+    return tables.toArray(new Table[0]);
+  }
+
   /**
    * Create a new table with specified identifier, columns, comment and properties.
    *
@@ -257,6 +327,20 @@ class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog {
     return resp.dropped();
   }
 
+  private Table[] loadTablesByPath(Namespace fullNamespace, String path) {
+    TableListResponse resp =
+        restClient.get(
+            path,
+            TableListResponse.class,
+            ImmutableMap.of("details", "true"),
+            ErrorHandlers.tableErrorHandler());
+    resp.validate();
+
+    return Arrays.stream(resp.getTables())
+        .map(table -> RelationalTable.from(fullNamespace, table, restClient))
+        .toArray(Table[]::new);
+  }
+
   @VisibleForTesting
   static String formatTableRequestPath(Namespace ns) {
     Namespace schemaNs = Namespace.of(ns.level(0), ns.level(1));
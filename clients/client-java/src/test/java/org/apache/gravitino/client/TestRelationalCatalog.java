@@ -32,10 +32,13 @@ import static org.apache.hc.core5.http.HttpStatus.SC_OK;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.stream.IntStream;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.NameIdentifier;
@@ -70,6 +73,7 @@ import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ErrorResponse;
 import org.apache.gravitino.dto.responses.SchemaResponse;
+import org.apache.gravitino.dto.responses.TableListResponse;
 import org.apache.gravitino.dto.responses.TableResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
@@ -317,6 +321,36 @@ public class TestRelationalCatalog extends TestBase {
     Assertions.assertTrue(ex.getMessage().contains("schema is not empty"));
   }
 
+  @Test
+  public void testListTablesInPages() throws JsonProcessingException {
+    NameIdentifier table1 = NameIdentifier.of(metalakeName, catalogName, "schema1", "table1");
+    NameIdentifier table2 = NameIdentifier.of(metalakeName, catalogName, "schema1", "table2");
+    NameIdentifier table3 = NameIdentifier.of(metalakeName, catalogName, "schema1", "table3");
+    String tablePath = withSlash(RelationalCatalog.formatTableRequestPath(table1.namespace()));
+
+    EntityListResponse resp =
+        new EntityListResponse(new NameIdentifier[] {table1, table2}, "token1");
+    buildMockResource(Method.GET, tablePath, ImmutableMap.of("pageSize", "2"), null, resp, SC_OK);
+    EntityListResponse resp1 = new EntityListResponse(new NameIdentifier[] {table3}, null);
+    buildMockResource(
+        Method.GET,
+        tablePath,
+        ImmutableMap.of("pageSize", "2", "pageToken", "token1"),
+        null,
+        resp1,
+        SC_OK);
+
+    Iterator<NameIdentifier> tables =
+        catalog.asTableCatalog().listTables(Namespace.of("schema1"), 2);
+    Assertions.assertEquals(
+        Lists.newArrayList(
+            NameIdentifier.of("schema1", "table1"),
+            NameIdentifier.of("schema1", "table2"),
+            NameIdentifier.of("schema1", "table3")),
+        Lists.newArrayList(tables));
+    Assertions.assertThrows(NoSuchElementException.class, tables::next);
+  }
+
   @Test
   public void testListTables() throws JsonProcessingException {
     NameIdentifier table1 = NameIdentifier.of(metalakeName, catalogName, "schema1", "table1");
@@ -789,6 +823,67 @@ public class TestRelationalCatalog extends TestBase {
     Assertions.assertTrue(ex.getMessage().contains("table not found"));
   }
 
+  @Test
+  public void testLoadTables() throws JsonProcessingException {
+    Namespace fullNamespace = Namespace.of(metalakeName, catalogName, "schema1");
+    String tablePath = withSlash(RelationalCatalog.formatTableRequestPath(fullNamespace));
+    ColumnDTO[] columns =
+        new ColumnDTO[] {createMockColumn("col1", Types.ByteType.get(), "comment1")};
+    TableDTO table1 =
+        createMockTable(
+            "table1",
+            columns,
+            "comment",
+            Collections.emptyMap(),
+            new Partitioning[0],
+            DistributionDTO.NONE,
+            new SortOrderDTO[0]);
+    TableDTO table2 =
+        createMockTable(
+            "table2",
+            columns,
+            "comment",
+            Collections.emptyMap(),
+            new Partitioning[0],
+            DistributionDTO.NONE,
+            new SortOrderDTO[0]);
+
+    TableListResponse resp = new TableListResponse(new TableDTO[] {table1, table2});
+    buildMockResource(Method.GET, tablePath, ImmutableMap.of("details", "true"), null, resp, SC_OK);
+
+    TableCatalog tableCatalog = catalog.asTableCatalog();
+    Table[] tables = tableCatalog.loadTables(Namespace.of("schema1"));
+    Assertions.assertEquals(2, tables.length);
+    assertTableEquals(fromDTO(table1), tables[0]);
+    assertTableEquals(fromDTO(table2), tables[1]);
+
+    // Test load the tables with the specified names
+    TableListResponse resp1 = new TableListResponse(new TableDTO[] {table2});
+    buildMockResource(
+        Method.GET,
+        tablePath,
+        ImmutableMap.of("details", "true", "name", "table2"),
+        null,
+        resp1,
+        SC_OK);
+
+    Table[] tables1 = tableCatalog.loadTables(Namespace.of("schema1"), "table2");
+    Assertions.assertEquals(1, tables1.length);
+    assertTableEquals(fromDTO(table2), tables1[0]);
+
+    // Test throw NoSuchSchemaException
+    ErrorResponse errorResp =
+        ErrorResponse.notFound(NoSuchSchemaException.class.getSimpleName(), "schema not found");
+    buildMockResource(
+        Method.GET, tablePath, ImmutableMap.of("details", "true"), null, errorResp, SC_NOT_FOUND);
+
+    Namespace namespace = Namespace.of("schema1");
+    Throwable ex =
+        Assertions.assertThrows(
+            NoSuchSchemaException.class, () -> tableCatalog.loadTables(namespace));
+    Assertions.assertTrue(ex.getMessage().contains("schema not found"));
+  }
+
   @Test
   public void testRenameTable() throws JsonProcessingException {
     NameIdentifier tableId = NameIdentifier.of("schema1", "table1");
@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.filesystem.hadoop;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import java.io.Closeable;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.audit.CallerContext;
+import org.apache.gravitino.audit.FilesetAuditConstants;
+import org.apache.gravitino.audit.FilesetDataOperation;
+import org.apache.gravitino.audit.InternalClientType;
+import org.apache.gravitino.file.FilesetCatalog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reports the data operations on filesets to the Gravitino server in the background when the file
+ * locations are resolved locally by {@link GravitinoVirtualFileSystem}. Every operation is buffered
+ * in a bounded queue and reported through the file locations API with the caller context, which is
+ * where the server audits the data operations. The queue is flushed in batches once per interval,
+ * or as soon as a batch is filled, with one request for all the sub paths of the same operation on
+ * the same fileset in a batch. The operations are dropped and counted if the queue is full.
+ */
+class FilesetAuditReporter implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(FilesetAuditReporter.class);
+
+  @VisibleForTesting static final int REPORT_BATCH_SIZE = 100;
+
+  private final Function<NameIdentifier, FilesetCatalog> catalogLoader;
+  private final ScheduledThreadPoolExecutor reportScheduler;
+  private final BlockingQueue<OperationRecord> pendingOperations;
+  private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+  private final LongAdder droppedOperations = new LongAdder();
+  private long loggedDroppedOperations = 0;
+
+  /**
+   * Creates a new FilesetAuditReporter.
+   *
+   * @param catalogLoader The function to load the fileset catalog by the catalog identifier.
+   * @param reportIntervalMills The interval to report the collected operations, in milliseconds.
+   * @param queueCapacity The max number of the operations waiting to be reported.
+   * @param threadFactory The thread factory to create the report thread.
+   */
+  FilesetAuditReporter(
+      Function<NameIdentifier, FilesetCatalog> catalogLoader,
+      long reportIntervalMills,
+      int queueCapacity,
+      ThreadFactory threadFactory) {
+    this.catalogLoader = catalogLoader;
+    this.pendingOperations = new LinkedBlockingQueue<>(queueCapacity);
+    this.reportScheduler = new ScheduledThreadPoolExecutor(1, threadFactory);
+    reportScheduler.scheduleWithFixedDelay(
+        this::report, reportIntervalMills, reportIntervalMills, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Collects a data operation on the fileset to report it later, the operation is dropped if the
+   * queue of the operations to report is full.
+   *
+   * @param filesetIdent The identifier of the fileset, with the metalake, catalog and schema.
+   * @param subPath The sub path of the operation in the fileset.
+   * @param operation The data operation.
+   */
+  void record(NameIdentifier filesetIdent, String subPath, FilesetDataOperation operation) {
+    if (!pendingOperations.offer(new OperationRecord(filesetIdent, subPath, operation))) {
+      droppedOperations.increment();
+      return;
+    }
+
+    // Flush a filled batch without waiting for the interval, the flag avoids queuing a flush for
+    // every operation recorded before the flush runs.
+    if (pendingOperations.size() >= REPORT_BATCH_SIZE
+        && flushScheduled.compareAndSet(false, true)) {
+      try {
+        reportScheduler.execute(this::report);
+      } catch (RejectedExecutionException e) {
+        // The reporter is closed, the pending operations are reported on closing.
+        flushScheduled.set(false);
+      }
+    }
+  }
+
+  synchronized void report() {
+    flushScheduled.set(false);
+
+    long dropped = droppedOperations.sum();
+    if (dropped > loggedDroppedOperations) {
+      LOG.warn(
+          "Dropped {} data operations on filesets to report since the queue is full, {} in total",
+          dropped - loggedDroppedOperations,
+          dropped);
+      loggedDroppedOperations = dropped;
+    }
+
+    List<OperationRecord> batch = Lists.newArrayListWithCapacity(REPORT_BATCH_SIZE);
+    while (pendingOperations.drainTo(batch, REPORT_BATCH_SIZE) > 0) {
+      // Every sub path is still reported, the batch is only grouped by the fileset and the
+      // operation since the caller context of a request carries a single operation.
+      Map<NameIdentifier, Map<FilesetDataOperation, List<String>>> subPathsByFileset =
+          Maps.newLinkedHashMap();
+      for (OperationRecord record : batch) {
+        subPathsByFileset
+            .computeIfAbsent(record.filesetIdent, k -> new EnumMap<>(FilesetDataOperation.class))
+            .computeIfAbsent(record.operation, k -> Lists.newArrayList())
+            .add(record.subPath);
+      }
+      subPathsByFileset.forEach(
+          (filesetIdent, subPathsByOperation) ->
+              subPathsByOperation.forEach(
+                  (operation, subPaths) -> report(filesetIdent, operation, subPaths)));
+      batch.clear();
+    }
+  }
+
+  @Override
+  public void close() {
+    reportScheduler.shutdownNow();
+    // Report the operations collected since the last interval before the file system is closed.
+    report();
+  }
+
+  @VisibleForTesting
+  long droppedOperationCount() {
+    return droppedOperations.sum();
+  }
+
+  private void report(
+      NameIdentifier filesetIdent, FilesetDataOperation operation, List<String> subPaths) {
+    try {
+      FilesetCatalog filesetCatalog =
+          catalogLoader.apply(
+              NameIdentifier.of(
+                  filesetIdent.namespace().level(0), filesetIdent.namespace().level(1)));
+
+      Map<String, String> contextMap = Maps.newHashMap();
+      contextMap.put(
+          FilesetAuditConstants.HTTP_HEADER_INTERNAL_CLIENT_TYPE,
+          InternalClientType.HADOOP_GVFS.name());
+      contextMap.put(FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION, operation.name());
+      CallerContext.CallerContextHolder.set(
+          CallerContext.builder().withContext(contextMap).build());
+
+      filesetCatalog.getFileLocations(
+          NameIdentifier.of(filesetIdent.namespace().level(2), filesetIdent.name()),
+          subPaths.toArray(new String[0]));
+    } catch (Exception e) {
+      // The operations are already done on the storage, a failed report should never fail them.
+      LOG.warn(
+          "Failed to report {} operations {} on fileset {}",
+          subPaths.size(),
+          operation,
+          filesetIdent,
+          e);
+    } finally {
+      CallerContext.CallerContextHolder.remove();
+    }
+  }
+
+  private static class OperationRecord {
+    private final NameIdentifier filesetIdent;
+    private final String subPath;
+    private final FilesetDataOperation operation;
+
+    private OperationRecord(
+        NameIdentifier filesetIdent, String subPath, FilesetDataOperation operation) {
+      this.filesetIdent = filesetIdent;
+      this.subPath = subPath;
+      this.operation = operation;
+    }
+  }
+}
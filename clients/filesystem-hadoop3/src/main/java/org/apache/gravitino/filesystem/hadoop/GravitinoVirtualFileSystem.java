@@ -28,6 +28,7 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.File;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.URI;
 import java.util.Arrays;
@@ -49,6 +50,7 @@ import org.apache.gravitino.client.DefaultOAuth2TokenProvider;
 import org.apache.gravitino.client.GravitinoClient;
 import org.apache.gravitino.client.KerberosTokenProvider;
 import org.apache.gravitino.exceptions.GravitinoRuntimeException;
+import org.apache.gravitino.file.Fileset;
 import org.apache.gravitino.file.FilesetCatalog;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FSDataInputStream;
@@ -77,6 +79,10 @@ public class GravitinoVirtualFileSystem extends FileSystem {
   private ScheduledThreadPoolExecutor catalogCleanScheduler;
   private Cache<String, FileSystem> internalFileSystemCache;
   private ScheduledThreadPoolExecutor internalFileSystemCleanScheduler;
+  // The cache of the fileset storage locations, null if the file locations are resolved by the
+  // Gravitino server in strict mode.
+  private Cache<NameIdentifier, FilesetLocation> filesetLocationCache;
+  private FilesetAuditReporter auditReporter;
 
   // The pattern is used to match gvfs path. The scheme prefix (gvfs://fileset) is optional.
   // The following path can be match:
@@ -120,6 +126,7 @@ public class GravitinoVirtualFileSystem extends FileSystem {
 
     initializeFileSystemCache(maxCapacity, evictionMillsAfterAccess);
     initializeCatalogCache();
+    initializeFilesetLocationCache(configuration);
 
     this.metalakeName =
         configuration.get(GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_CLIENT_METALAKE_KEY);
@@ -186,6 +193,63 @@ public class GravitinoVirtualFileSystem extends FileSystem {
             .build();
   }
 
+  private void initializeFilesetLocationCache(Configuration configuration) {
+    boolean cacheEnabled =
+        configuration.getBoolean(
+            GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_FILESET_LOCATION_CACHE_ENABLED_KEY,
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_CACHE_ENABLED_DEFAULT);
+    if (!cacheEnabled) {
+      return;
+    }
+
+    long expirationMills =
+        configuration.getLong(
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_CACHE_EXPIRATION_MILLS_KEY,
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_CACHE_EXPIRATION_MILLS_DEFAULT);
+    Preconditions.checkArgument(
+        expirationMills > 0,
+        "'%s' should be greater than 0",
+        GravitinoVirtualFileSystemConfiguration
+            .FS_GRAVITINO_FILESET_LOCATION_CACHE_EXPIRATION_MILLS_KEY);
+    long reportIntervalMills =
+        configuration.getLong(
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_AUDIT_REPORT_INTERVAL_MILLS_KEY,
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_AUDIT_REPORT_INTERVAL_MILLS_DEFAULT);
+    Preconditions.checkArgument(
+        reportIntervalMills > 0,
+        "'%s' should be greater than 0",
+        GravitinoVirtualFileSystemConfiguration
+            .FS_GRAVITINO_FILESET_AUDIT_REPORT_INTERVAL_MILLS_KEY);
+    int auditQueueCapacity =
+        configuration.getInt(
+            GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_FILESET_AUDIT_QUEUE_CAPACITY_KEY,
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_AUDIT_QUEUE_CAPACITY_DEFAULT);
+    Preconditions.checkArgument(
+        auditQueueCapacity > 0,
+        "'%s' should be greater than 0",
+        GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_FILESET_AUDIT_QUEUE_CAPACITY_KEY);
+
+    // The entries are small, a job rarely accesses so many filesets that it needs to be
+    // configurable.
+    this.filesetLocationCache =
+        Caffeine.newBuilder()
+            .maximumSize(1000)
+            .expireAfterWrite(expirationMills, TimeUnit.MILLISECONDS)
+            .build();
+    this.auditReporter =
+        new FilesetAuditReporter(
+            this::getFilesetCatalog,
+            reportIntervalMills,
+            auditQueueCapacity,
+            newDaemonThreadFactory("gvfs-fileset-audit-reporter"));
+  }
+
   private ThreadFactory newDaemonThreadFactory(String name) {
     return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(name + "-%d").build();
   }
@@ -354,52 +418,89 @@ public class GravitinoVirtualFileSystem extends FileSystem {
     String subPath = getSubPathFromVirtualPath(identifier, virtualPathString);
 
     NameIdentifier catalogIdent = NameIdentifier.of(metalakeName, identifier.namespace().level(1));
+    FilesetCatalog filesetCatalog = getFilesetCatalog(catalogIdent);
+
+    String actualFileLocation;
+    if (filesetLocationCache == null) {
+      Map<String, String> contextMap = Maps.newHashMap();
+      contextMap.put(
+          FilesetAuditConstants.HTTP_HEADER_INTERNAL_CLIENT_TYPE,
+          InternalClientType.HADOOP_GVFS.name());
+      contextMap.put(FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION, operation.name());
+      CallerContext callerContext = CallerContext.builder().withContext(contextMap).build();
+      CallerContext.CallerContextHolder.set(callerContext);
+
+      actualFileLocation =
+          filesetCatalog.getFileLocation(
+              NameIdentifier.of(identifier.namespace().level(2), identifier.name()), subPath);
+    } else {
+      FilesetLocation filesetLocation =
+          filesetLocationCache.get(
+              identifier, ident -> loadFilesetLocation(filesetCatalog, identifier));
+      actualFileLocation = filesetLocation.resolve(identifier, subPath, operation);
+      auditReporter.record(identifier, subPath, operation);
+    }
+
+    Path filePath = new Path(actualFileLocation);
+    return new FilesetContextPair(filePath, getActualFileSystem(filePath));
+  }
+
+  private FilesetCatalog getFilesetCatalog(NameIdentifier catalogIdent) {
     FilesetCatalog filesetCatalog =
         catalogCache.get(
             catalogIdent, ident -> client.loadCatalog(catalogIdent.name()).asFilesetCatalog());
     Preconditions.checkArgument(
         filesetCatalog != null, String.format("Loaded fileset catalog: %s is null.", catalogIdent));
+    return filesetCatalog;
+  }
 
-    Map<String, String> contextMap = Maps.newHashMap();
-    contextMap.put(
-        FilesetAuditConstants.HTTP_HEADER_INTERNAL_CLIENT_TYPE,
-        InternalClientType.HADOOP_GVFS.name());
-    contextMap.put(FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION, operation.name());
-    CallerContext callerContext = CallerContext.builder().withContext(contextMap).build();
-    CallerContext.CallerContextHolder.set(callerContext);
-
-    String actualFileLocation =
-        filesetCatalog.getFileLocation(
-            NameIdentifier.of(identifier.namespace().level(2), identifier.name()), subPath);
+  private FilesetLocation loadFilesetLocation(
+      FilesetCatalog filesetCatalog, NameIdentifier identifier) {
+    Fileset fileset =
+        filesetCatalog.loadFileset(
+            NameIdentifier.of(identifier.namespace().level(2), identifier.name()));
+    Path locationPath = new Path(fileset.storageLocation());
+    boolean isSingleFile;
+    try {
+      isSingleFile = getActualFileSystem(locationPath).getFileStatus(locationPath).isFile();
+    } catch (FileNotFoundException e) {
+      // Same with the check in the Gravitino server, a location that does not exist yet is not a
+      // single file.
+      isSingleFile = false;
+    } catch (IOException e) {
+      throw new GravitinoRuntimeException(
+          e,
+          "Exception occurs when checking whether fileset: %s mounts a single file",
+          identifier);
+    }
+    return new FilesetLocation(fileset.storageLocation(), isSingleFile);
+  }
 
-    Path filePath = new Path(actualFileLocation);
+  private FileSystem getActualFileSystem(Path filePath) {
     URI uri = filePath.toUri();
     // we cache the fs for the same scheme, so we can reuse it
     String scheme = uri.getScheme();
     Preconditions.checkArgument(
         StringUtils.isNotBlank(scheme), "Scheme of the actual file location cannot be null.");
-    FileSystem fs =
-        internalFileSystemCache.get(
-            scheme,
-            str -> {
-              try {
-                FileSystemProvider provider = fileSystemProvidersMap.get(scheme);
-                if (provider == null) {
-                  throw new GravitinoRuntimeException(
-                      "Unsupported file system scheme: %s for %s.",
-                      scheme, GravitinoVirtualFileSystemConfiguration.GVFS_SCHEME);
-                }
-
-                Map<String, String> maps = getConfigMap(getConf());
-                return provider.getFileSystem(filePath, maps);
-              } catch (IOException ioe) {
-                throw new GravitinoRuntimeException(
-                    "Exception occurs when create new FileSystem for actual uri: %s, msg: %s",
-                    uri, ioe);
-              }
-            });
-
-    return new FilesetContextPair(new Path(actualFileLocation), fs);
+    return internalFileSystemCache.get(
+        scheme,
+        str -> {
+          try {
+            FileSystemProvider provider = fileSystemProvidersMap.get(scheme);
+            if (provider == null) {
+              throw new GravitinoRuntimeException(
+                  "Unsupported file system scheme: %s for %s.",
+                  scheme, GravitinoVirtualFileSystemConfiguration.GVFS_SCHEME);
+            }
+
+            Map<String, String> maps = getConfigMap(getConf());
+            return provider.getFileSystem(filePath, maps);
+          } catch (IOException ioe) {
+            throw new GravitinoRuntimeException(
+                "Exception occurs when create new FileSystem for actual uri: %s, msg: %s",
+                uri, ioe);
+          }
+        });
   }
 
   private Map<String, String> getConfigMap(Configuration configuration) {
@@ -570,7 +671,13 @@ public class GravitinoVirtualFileSystem extends FileSystem {
       }
     }
     internalFileSystemCache.invalidateAll();
+    if (auditReporter != null) {
+      auditReporter.close();
+    }
     catalogCache.invalidateAll();
+    if (filesetLocationCache != null) {
+      filesetLocationCache.invalidateAll();
+    }
     // close the client
     try {
       if (client != null) {
@@ -584,6 +691,61 @@ public class GravitinoVirtualFileSystem extends FileSystem {
     super.close();
   }
 
+  /** The storage location of a fileset, from which the file locations are resolved locally. */
+  private static class FilesetLocation {
+    private final String storageLocation;
+    private final boolean isSingleFile;
+
+    private FilesetLocation(String storageLocation, boolean isSingleFile) {
+      this.storageLocation = storageLocation;
+      this.isSingleFile = isSingleFile;
+    }
+
+    // Keep the same rules as the Gravitino server to get the file location.
+    private String resolve(
+        NameIdentifier identifier, String subPath, FilesetDataOperation operation) {
+      String processedSubPath;
+      if (!subPath.trim().isEmpty() && !subPath.trim().startsWith(SLASH)) {
+        processedSubPath = SLASH + subPath.trim();
+      } else {
+        processedSubPath = subPath.trim();
+      }
+
+      // if the storage location is a single file, it cannot have sub path to access.
+      if (isSingleFile && StringUtils.isBlank(processedSubPath)) {
+        throw new GravitinoRuntimeException(
+            "Sub path should always be blank, because the fileset only mounts a single file.");
+      }
+
+      if (operation == FilesetDataOperation.RENAME) {
+        // Fileset only mounts a single file, the storage location of the fileset cannot be
+        // renamed; Otherwise the metadata in the Gravitino server may be inconsistent.
+        if (isSingleFile) {
+          throw new GravitinoRuntimeException(
+              "Cannot rename the fileset: %s which only mounts to a single file.", identifier);
+        }
+        // if the sub path is blank, it cannot be renamed,
+        // otherwise the metadata in the Gravitino server may be inconsistent.
+        if (StringUtils.isBlank(processedSubPath)
+            || (processedSubPath.startsWith(SLASH) && processedSubPath.length() == 1)) {
+          throw new GravitinoRuntimeException(
+              "subPath cannot be blank when need to rename a file or a directory.");
+        }
+      }
+
+      if (isSingleFile || StringUtils.isBlank(processedSubPath)) {
+        return storageLocation;
+      }
+      // the processed sub path always starts with "/" if it is not blank,
+      // so we can safely remove the tailing slash if storage location ends with "/".
+      String location =
+          storageLocation.endsWith(SLASH)
+              ? storageLocation.substring(0, storageLocation.length() - 1)
+              : storageLocation;
+      return String.format("%s%s", location, processedSubPath);
+    }
+  }
+
   private static class FilesetContextPair {
     private final Path actualFileLocation;
     private final FileSystem fileSystem;
@@ -107,5 +107,47 @@ public class GravitinoVirtualFileSystemConfiguration {
   public static final long FS_GRAVITINO_FILESET_CACHE_EVICTION_MILLS_AFTER_ACCESS_DEFAULT =
       1000L * 60 * 60;
 
+  /**
+   * The configuration key for whether to cache the storage locations of the filesets and resolve
+   * the file locations locally. If disabled, the actual location of each file operation is resolved
+   * by the Gravitino server, which is the strict mode.
+   */
+  public static final String FS_GRAVITINO_FILESET_LOCATION_CACHE_ENABLED_KEY =
+      "fs.gravitino.fileset.locationCache.enabled";
+
+  /** The default value for whether to cache the storage locations of the filesets. */
+  public static final boolean FS_GRAVITINO_FILESET_LOCATION_CACHE_ENABLED_DEFAULT = true;
+
+  /**
+   * The configuration key for the time that a cached storage location of the fileset expires after
+   * it's loaded, measured in mills.
+   */
+  public static final String FS_GRAVITINO_FILESET_LOCATION_CACHE_EXPIRATION_MILLS_KEY =
+      "fs.gravitino.fileset.locationCache.expirationMills";
+
+  /** The default value for the expiration time of a cached storage location of the fileset. */
+  public static final long FS_GRAVITINO_FILESET_LOCATION_CACHE_EXPIRATION_MILLS_DEFAULT =
+      1000L * 60;
+
+  /**
+   * The configuration key for the interval to report the data operations to the Gravitino server
+   * for audit when the file locations are resolved locally, measured in mills.
+   */
+  public static final String FS_GRAVITINO_FILESET_AUDIT_REPORT_INTERVAL_MILLS_KEY =
+      "fs.gravitino.fileset.audit.reportIntervalMills";
+
+  /** The default value for the interval to report the data operations for audit. */
+  public static final long FS_GRAVITINO_FILESET_AUDIT_REPORT_INTERVAL_MILLS_DEFAULT = 1000L * 10;
+
+  /**
+   * The configuration key for the max number of the data operations waiting to be reported for
+   * audit, the data operations are dropped when the limit is reached.
+   */
+  public static final String FS_GRAVITINO_FILESET_AUDIT_QUEUE_CAPACITY_KEY =
+      "fs.gravitino.fileset.audit.queueCapacity";
+
+  /** The default value for the max number of the data operations waiting to be reported. */
+  public static final int FS_GRAVITINO_FILESET_AUDIT_QUEUE_CAPACITY_DEFAULT = 10000;
+
   private GravitinoVirtualFileSystemConfiguration() {}
 }
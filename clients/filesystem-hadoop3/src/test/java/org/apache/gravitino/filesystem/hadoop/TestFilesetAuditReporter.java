@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.filesystem.hadoop;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.audit.FilesetDataOperation;
+import org.apache.gravitino.file.FilesetCatalog;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.Invocation;
+
+public class TestFilesetAuditReporter {
+
+  private static final NameIdentifier FILESET_IDENT =
+      NameIdentifier.of("metalake", "catalog", "schema", "fileset");
+
+  @Test
+  public void testReportOneRequestPerBatch() {
+    FilesetCatalog filesetCatalog = mock(FilesetCatalog.class);
+    FilesetAuditReporter reporter =
+        new FilesetAuditReporter(
+            ident -> filesetCatalog,
+            TimeUnit.HOURS.toMillis(1),
+            FilesetAuditReporter.REPORT_BATCH_SIZE * 3,
+            Executors.defaultThreadFactory());
+
+    // More than two batches of operations on the same fileset, holding the monitor of the reporter
+    // keeps the flush of a filled batch from draining the queue before all of them are recorded.
+    int operations = FilesetAuditReporter.REPORT_BATCH_SIZE * 2 + 1;
+    synchronized (reporter) {
+      for (int i = 0; i < operations; i++) {
+        reporter.record(FILESET_IDENT, "/file" + i, FilesetDataOperation.CREATE);
+      }
+    }
+    reporter.close();
+
+    List<Invocation> invocations = fileLocationsInvocations(filesetCatalog);
+    assertEquals(3, invocations.size());
+    assertEquals(NameIdentifier.of("schema", "fileset"), invocations.get(0).getArgument(0));
+    assertArrayEquals(
+        IntStream.range(0, operations).mapToObj(i -> "/file" + i).toArray(String[]::new),
+        invocations.stream()
+            .map(TestFilesetAuditReporter::subPaths)
+            .flatMap(Arrays::stream)
+            .toArray(String[]::new));
+    assertEquals(0, reporter.droppedOperationCount());
+  }
+
+  @Test
+  public void testReportOneRequestPerFilesetOperation() {
+    FilesetCatalog filesetCatalog = mock(FilesetCatalog.class);
+    FilesetAuditReporter reporter =
+        new FilesetAuditReporter(
+            ident -> filesetCatalog,
+            TimeUnit.HOURS.toMillis(1),
+            FilesetAuditReporter.REPORT_BATCH_SIZE,
+            Executors.defaultThreadFactory());
+
+    NameIdentifier otherFilesetIdent = NameIdentifier.of("metalake", "catalog", "schema", "other");
+    reporter.record(FILESET_IDENT, "/file1", FilesetDataOperation.CREATE);
+    reporter.record(otherFilesetIdent, "/file1", FilesetDataOperation.OPEN);
+    reporter.record(FILESET_IDENT, "/file2", FilesetDataOperation.OPEN);
+    reporter.record(FILESET_IDENT, "/file1", FilesetDataOperation.CREATE);
+    reporter.close();
+
+    // The same sub path with the same operation is reported twice, in the same request
+    List<Invocation> invocations = fileLocationsInvocations(filesetCatalog);
+    assertEquals(3, invocations.size());
+    assertArrayEquals(new String[] {"/file1", "/file1"}, subPaths(invocations.get(0)));
+    assertArrayEquals(new String[] {"/file2"}, subPaths(invocations.get(1)));
+    assertEquals(NameIdentifier.of("schema", "other"), invocations.get(2).getArgument(0));
+    assertArrayEquals(new String[] {"/file1"}, subPaths(invocations.get(2)));
+  }
+
+  @Test
+  public void testDropOperationsWhenQueueIsFull() {
+    FilesetCatalog filesetCatalog = mock(FilesetCatalog.class);
+    FilesetAuditReporter reporter =
+        new FilesetAuditReporter(
+            ident -> filesetCatalog,
+            TimeUnit.HOURS.toMillis(1),
+            2,
+            Executors.defaultThreadFactory());
+
+    reporter.record(FILESET_IDENT, "/file1", FilesetDataOperation.CREATE);
+    reporter.record(FILESET_IDENT, "/file2", FilesetDataOperation.CREATE);
+    reporter.record(FILESET_IDENT, "/file3", FilesetDataOperation.CREATE);
+    assertEquals(1, reporter.droppedOperationCount());
+
+    reporter.close();
+    List<Invocation> invocations = fileLocationsInvocations(filesetCatalog);
+    assertEquals(1, invocations.size());
+    assertArrayEquals(new String[] {"/file1", "/file2"}, subPaths(invocations.get(0)));
+  }
+
+  private static List<Invocation> fileLocationsInvocations(FilesetCatalog filesetCatalog) {
+    return mockingDetails(filesetCatalog).getInvocations().stream()
+        .filter(invocation -> invocation.getMethod().getName().equals("getFileLocations"))
+        .collect(Collectors.toList());
+  }
+
+  private static String[] subPaths(Invocation invocation) {
+    return (String[]) invocation.getRawArguments()[1];
+  }
+}
@@ -40,7 +40,10 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.audit.FilesetAuditConstants;
+import org.apache.gravitino.audit.FilesetDataOperation;
 import org.apache.gravitino.dto.responses.FileLocationResponse;
+import org.apache.gravitino.file.Fileset;
 import org.apache.gravitino.rest.RESTUtils;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileStatus;
@@ -55,6 +58,8 @@ import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.verify.VerificationTimes;
 
 public class TestGvfsBase extends GravitinoMockServerBase {
   protected static final String GVFS_IMPL_CLASS = GravitinoVirtualFileSystem.class.getName();
@@ -78,6 +83,10 @@ public class TestGvfsBase extends GravitinoMockServerBase {
         String.format(
             "fs.%s.impl.disable.cache", GravitinoVirtualFileSystemConfiguration.GVFS_SCHEME),
         "true");
+    // Most of the tests mock the file location API, which is only requested in strict mode.
+    conf.set(
+        GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_FILESET_LOCATION_CACHE_ENABLED_KEY,
+        "false");
   }
 
   @AfterAll
@@ -253,6 +262,78 @@ public class TestGvfsBase extends GravitinoMockServerBase {
     }
   }
 
+  @Test
+  public void testFilesetLocationCache() throws IOException {
+    String filesetName = "testFilesetLocationCache";
+    Path managedFilesetPath =
+        FileSystemTestUtils.createFilesetPath(catalogName, schemaName, filesetName, true);
+    Path localPath = FileSystemTestUtils.createLocalDirPrefix(catalogName, schemaName, filesetName);
+    String filesetPath =
+        String.format(
+            "/api/metalakes/%s/catalogs/%s/schemas/%s/filesets/%s",
+            metalakeName, catalogName, schemaName, filesetName);
+    mockFilesetDTO(
+        metalakeName,
+        catalogName,
+        schemaName,
+        filesetName,
+        Fileset.Type.MANAGED,
+        localPath.toString());
+
+    Configuration configuration = new Configuration(conf);
+    configuration.set(
+        GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_FILESET_LOCATION_CACHE_ENABLED_KEY,
+        "true");
+    configuration.set(
+        GravitinoVirtualFileSystemConfiguration
+            .FS_GRAVITINO_FILESET_AUDIT_REPORT_INTERVAL_MILLS_KEY,
+        String.valueOf(TimeUnit.HOURS.toMillis(1)));
+    FileSystem gravitinoFileSystem = managedFilesetPath.getFileSystem(configuration);
+    try (FileSystem localFileSystem = localPath.getFileSystem(conf)) {
+      FileSystemTestUtils.mkdirs(localPath, localFileSystem);
+
+      Path filePath1 = new Path(managedFilesetPath + "/test1.txt");
+      Path filePath2 = new Path(managedFilesetPath + "/sub_dir/test2.txt");
+      FileSystemTestUtils.create(filePath1, gravitinoFileSystem);
+      FileSystemTestUtils.create(filePath2, gravitinoFileSystem);
+      assertTrue(localFileSystem.exists(new Path(localPath + "/test1.txt")));
+      assertTrue(localFileSystem.exists(new Path(localPath + "/sub_dir/test2.txt")));
+      assertTrue(gravitinoFileSystem.delete(filePath1, true));
+      assertFalse(localFileSystem.exists(new Path(localPath + "/test1.txt")));
+
+      // The fileset is loaded only once, and the file locations are resolved locally
+      mockServer()
+          .verify(
+              HttpRequest.request(filesetPath).withMethod(Method.GET.name()),
+              VerificationTimes.exactly(1));
+      mockServer()
+          .verify(
+              HttpRequest.request(filesetPath + "/location").withMethod(Method.GET.name()),
+              VerificationTimes.never());
+
+      // Every operation is reported when the file system is closed
+      gravitinoFileSystem.close();
+      mockServer()
+          .verify(
+              HttpRequest.request(filesetPath + "/location")
+                  .withMethod(Method.GET.name())
+                  .withHeader(
+                      FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION,
+                      FilesetDataOperation.CREATE.name()),
+              VerificationTimes.exactly(2));
+      mockServer()
+          .verify(
+              HttpRequest.request(filesetPath + "/location")
+                  .withMethod(Method.GET.name())
+                  .withHeader(
+                      FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION,
+                      FilesetDataOperation.DELETE.name()),
+              VerificationTimes.exactly(1));
+
+      localFileSystem.delete(localPath, true);
+    }
+  }
+
   @ParameterizedTest
   @ValueSource(booleans = {true, false})
   @Disabled("Append operation is not supported in LocalFileSystem. We can't test it now.")
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.dto.responses;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/** Represents a response containing the status of the garbage collector of the entity store. */
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public class GarbageCollectorResponse extends BaseResponse {
+
+  @JsonProperty("triggered")
+  private final boolean triggered;
+
+  @JsonProperty("running")
+  private final boolean running;
+
+  @JsonProperty("lastRunStartTime")
+  private final long lastRunStartTime;
+
+  @JsonProperty("lastRunEndTime")
+  private final long lastRunEndTime;
+
+  @JsonProperty("lastRunDeletedRows")
+  private final long lastRunDeletedRows;
+
+  @JsonProperty("pendingEntityTypes")
+  private final int pendingEntityTypes;
+
+  @JsonProperty("pendingRows")
+  private final long pendingRows;
+
+  /**
+   * Constructor for GarbageCollectorResponse.
+   *
+   * @param triggered Whether a new run is triggered by the request.
+   * @param running Whether a run is in progress.
+   * @param lastRunStartTime The start time in milliseconds of the last or the current run.
+   * @param lastRunEndTime The end time in milliseconds of the last finished run.
+   * @param lastRunDeletedRows The count of the rows deleted by the last finished run.
+   * @param pendingEntityTypes The count of the entity types left to collect in the current run.
+   * @param pendingRows The count of the legacy rows left to delete in the current run.
+   */
+  public GarbageCollectorResponse(
+      boolean triggered,
+      boolean running,
+      long lastRunStartTime,
+      long lastRunEndTime,
+      long lastRunDeletedRows,
+      int pendingEntityTypes,
+      long pendingRows) {
+    super(0);
+    this.triggered = triggered;
+    this.running = running;
+    this.lastRunStartTime = lastRunStartTime;
+    this.lastRunEndTime = lastRunEndTime;
+    this.lastRunDeletedRows = lastRunDeletedRows;
+    this.pendingEntityTypes = pendingEntityTypes;
+    this.pendingRows = pendingRows;
+  }
+
+  /** Default constructor for GarbageCollectorResponse (used by Jackson deserializer). */
+  public GarbageCollectorResponse() {
+    this(false, false, 0, 0, 0, 0, 0);
+  }
+
+  /**
+   * Returns whether a new run is triggered by the request.
+   *
+   * @return True if a new run is triggered, false if the request only inspects the status or a run
+   *     is already in progress.
+   */
+  public boolean triggered() {
+    return triggered;
+  }
+
+  /**
+   * Returns whether a run is in progress.
+   *
+   * @return True if a run is in progress, otherwise false.
+   */
+  public boolean running() {
+    return running;
+  }
+
+  /**
+   * Returns the start time of the last or the current run.
+   *
+   * @return The start time in milliseconds, 0 if there is no run yet.
+   */
+  public long lastRunStartTime() {
+    return lastRunStartTime;
+  }
+
+  /**
+   * Returns the end time of the last finished run.
+   *
+   * @return The end time in milliseconds, 0 if no run has finished yet.
+   */
+  public long lastRunEndTime() {
+    return lastRunEndTime;
+  }
+
+  /**
+   * Returns the count of the rows deleted by the last finished run.
+   *
+   * @return The count of the deleted rows.
+   */
+  public long lastRunDeletedRows() {
+    return lastRunDeletedRows;
+  }
+
+  /**
+   * Returns the count of the entity types left to collect in the current run.
+   *
+   * @return The count of the pending entity types, 0 between two runs.
+   */
+  public int pendingEntityTypes() {
+    return pendingEntityTypes;
+  }
+
+  /**
+   * Returns the count of the legacy rows left to delete in the current run.
+   *
+   * @return The count of the pending rows, 0 between two runs.
+   */
+  public long pendingRows() {
+    return pendingRows;
+  }
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.gravitino.dto.responses;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.base.Preconditions;
 import java.util.Arrays;
@@ -36,20 +37,36 @@ public class GroupListResponse extends BaseResponse {
   @JsonProperty("groups")
   private final GroupDTO[] groups;
 
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @JsonProperty("nextPageToken")
+  private final String nextPageToken;
+
   /**
    * Constructor for GroupListResponse.
    *
    * @param groups The array of group DTOs.
    */
   public GroupListResponse(GroupDTO[] groups) {
+    this(groups, null);
+  }
+
+  /**
+   * Constructor for GroupListResponse with a page of the groups.
+   *
+   * @param groups The array of group DTOs in the page.
+   * @param nextPageToken The token to fetch the next page, or null if this is the last page.
+   */
+  public GroupListResponse(GroupDTO[] groups, String nextPageToken) {
     super(0);
     this.groups = groups;
+    this.nextPageToken = nextPageToken;
   }
 
   /** Default constructor for GroupListResponse. (Used for Jackson deserialization.) */
   public GroupListResponse() {
     super();
     this.groups = null;
+    this.nextPageToken = null;
   }
 
   /**
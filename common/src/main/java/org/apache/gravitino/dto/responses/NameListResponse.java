@@ -18,6 +18,7 @@
  */
 package org.apache.gravitino.dto.responses;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.base.Preconditions;
 import java.util.Arrays;
@@ -35,13 +36,28 @@ public class NameListResponse extends BaseResponse {
   @JsonProperty("names")
   private final String[] names;
 
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @JsonProperty("nextPageToken")
+  private final String nextPageToken;
+
   /**
    * Creates a new NameListResponse.
    *
    * @param names The list of names.
    */
   public NameListResponse(String[] names) {
+    this(names, null);
+  }
+
+  /**
+   * Creates a new NameListResponse with a page of the names.
+   *
+   * @param names The list of names in the page.
+   * @param nextPageToken The token to fetch the next page, or null if this is the last page.
+   */
+  public NameListResponse(String[] names, String nextPageToken) {
     this.names = names;
+    this.nextPageToken = nextPageToken;
   }
 
   /**
@@ -50,6 +66,7 @@ public class NameListResponse extends BaseResponse {
    */
   public NameListResponse() {
     this.names = null;
+    this.nextPageToken = null;
   }
 
   @Override
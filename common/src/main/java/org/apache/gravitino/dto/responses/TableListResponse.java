@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.responses;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.dto.rel.TableDTO;
+
+/** Represents a response for a list of tables with their information. */
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public class TableListResponse extends BaseResponse {
+
+  @JsonProperty("tables")
+  private final TableDTO[] tables;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @JsonProperty("nextPageToken")
+  private final String nextPageToken;
+
+  /**
+   * Creates a new TableListResponse.
+   *
+   * @param tables The list of tables.
+   */
+  public TableListResponse(TableDTO[] tables) {
+    this(tables, null);
+  }
+
+  /**
+   * Creates a new TableListResponse with a page of the tables.
+   *
+   * @param tables The list of tables in the page.
+   * @param nextPageToken The token to fetch the next page, or null if this is the last page.
+   */
+  public TableListResponse(TableDTO[] tables, String nextPageToken) {
+    super(0);
+    this.tables = tables;
+    this.nextPageToken = nextPageToken;
+  }
+
+  /**
+   * This is the constructor that is used by Jackson deserializer to create an instance of
+   * TableListResponse.
+   */
+  public TableListResponse() {
+    super();
+    this.tables = null;
+    this.nextPageToken = null;
+  }
+
+  /**
+   * Validates the response data.
+   *
+   * @throws IllegalArgumentException if name, audit or partitioning information is not set.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    super.validate();
+
+    Preconditions.checkArgument(tables != null, "tables must be non-null");
+    Arrays.stream(tables)
+        .forEach(
+            table -> {
+              Preconditions.checkArgument(
+                  StringUtils.isNotBlank(table.name()), "table 'name' must not be null and empty");
+              Preconditions.checkArgument(
+                  table.auditInfo() != null, "table 'audit' must not be null");
+              Preconditions.checkArgument(
+                  table.partitioning() != null, "table 'partitions' must not be null");
+            });
+  }
+}
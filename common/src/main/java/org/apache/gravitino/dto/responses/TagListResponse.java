@@ -18,6 +18,7 @@
  */
 package org.apache.gravitino.dto.responses;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.base.Preconditions;
 import java.util.Arrays;
@@ -35,14 +36,29 @@ public class TagListResponse extends BaseResponse {
   @JsonProperty("tags")
   private final TagDTO[] tags;
 
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @JsonProperty("nextPageToken")
+  private final String nextPageToken;
+
   /**
    * Creates a new TagListResponse.
    *
    * @param tags The list of tags.
    */
   public TagListResponse(TagDTO[] tags) {
+    this(tags, null);
+  }
+
+  /**
+   * Creates a new TagListResponse with a page of the tags.
+   *
+   * @param tags The list of tags in the page.
+   * @param nextPageToken The token to fetch the next page, or null if this is the last page.
+   */
+  public TagListResponse(TagDTO[] tags, String nextPageToken) {
     super(0);
     this.tags = tags;
+    this.nextPageToken = nextPageToken;
   }
 
   /**
@@ -52,6 +68,7 @@ public class TagListResponse extends BaseResponse {
   public TagListResponse() {
     super();
     this.tags = null;
+    this.nextPageToken = null;
   }
 
   @Override
@@ -18,6 +18,7 @@
  */
 package org.apache.gravitino.dto.responses;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.base.Preconditions;
 import lombok.EqualsAndHashCode;
@@ -34,14 +35,29 @@ public class UserListResponse extends BaseResponse {
   @JsonProperty("users")
   private final UserDTO[] users;
 
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @JsonProperty("nextPageToken")
+  private final String nextPageToken;
+
   /**
    * Constructor for UserListResponse.
    *
    * @param users The array of users.
    */
   public UserListResponse(UserDTO[] users) {
+    this(users, null);
+  }
+
+  /**
+   * Constructor for UserListResponse with a page of the users.
+   *
+   * @param users The array of users in the page.
+   * @param nextPageToken The token to fetch the next page, or null if this is the last page.
+   */
+  public UserListResponse(UserDTO[] users, String nextPageToken) {
     super(0);
     this.users = users;
+    this.nextPageToken = nextPageToken;
   }
 
   /**
@@ -51,6 +67,7 @@ public class UserListResponse extends BaseResponse {
   public UserListResponse() {
     super(0);
     this.users = null;
+    this.nextPageToken = null;
   }
 
   /**
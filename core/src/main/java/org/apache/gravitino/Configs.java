@@ -22,12 +22,17 @@ import com.google.common.collect.Lists;
 import java.io.File;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import org.apache.commons.lang3.EnumUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.audit.AuditLogQueueFullPolicy;
 import org.apache.gravitino.audit.FileAuditWriter;
 import org.apache.gravitino.audit.SimpleFormatter;
 import org.apache.gravitino.config.ConfigBuilder;
 import org.apache.gravitino.config.ConfigConstants;
 import org.apache.gravitino.config.ConfigEntry;
+import org.apache.gravitino.storage.relational.utils.EntityFieldCodec;
 
 public class Configs {
 
@@ -97,6 +102,8 @@ public class Configs {
 
   public static final String DEFAULT_RELATIONAL_JDBC_BACKEND_PASSWORD = "gravitino";
 
+  public static final String DEFAULT_RELATIONAL_CONNECTION_POOL = "dbcp";
+
   public static final int GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT = 100;
   public static final long MAX_NODE_IN_MEMORY = 100000L;
 
@@ -168,6 +175,174 @@ public class Configs {
           .stringConf()
           .createWithDefault(DEFAULT_RELATIONAL_JDBC_BACKEND_PATH);
 
+  public static final ConfigEntry<String> ENTITY_RELATIONAL_CONNECTION_POOL =
+      new ConfigBuilder("gravitino.entity.store.relational.connectionPool")
+          .doc(
+              "The connection pool implementation of `JDBCBackend`, it can be `dbcp` or the full "
+                  + "qualified class name of a `ConnectionPool` implementation")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .stringConf()
+          .createWithDefault(DEFAULT_RELATIONAL_CONNECTION_POOL);
+
+  public static final ConfigEntry<Integer> ENTITY_RELATIONAL_CONNECTION_POOL_MAX_TOTAL =
+      new ConfigBuilder("gravitino.entity.store.relational.connectionPool.maxTotal")
+          .doc("The maximum number of connections in the connection pool of `JDBCBackend`")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(20);
+
+  public static final ConfigEntry<Integer> ENTITY_RELATIONAL_CONNECTION_POOL_MAX_IDLE =
+      new ConfigBuilder("gravitino.entity.store.relational.connectionPool.maxIdle")
+          .doc("The maximum number of idle connections in the connection pool of `JDBCBackend`")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(5);
+
+  public static final ConfigEntry<Integer> ENTITY_RELATIONAL_CONNECTION_POOL_MIN_IDLE =
+      new ConfigBuilder("gravitino.entity.store.relational.connectionPool.minIdle")
+          .doc("The minimum number of idle connections in the connection pool of `JDBCBackend`")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0);
+
+  public static final ConfigEntry<Long> ENTITY_RELATIONAL_CONNECTION_POOL_MAX_WAIT_MS =
+      new ConfigBuilder("gravitino.entity.store.relational.connectionPool.maxWaitMs")
+          .doc(
+              "The maximum time in milliseconds to wait for a connection from the connection pool "
+                  + "of `JDBCBackend` when all connections are in use")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000L);
+
+  public static final ConfigEntry<Long> ENTITY_RELATIONAL_CONNECTION_POOL_MIN_EVICTABLE_IDLE_MS =
+      new ConfigBuilder("gravitino.entity.store.relational.connectionPool.minEvictableIdleTimeMs")
+          .doc(
+              "The minimum time in milliseconds a connection may sit idle in the connection pool "
+                  + "of `JDBCBackend` before it is eligible for eviction")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000L);
+
+  public static final ConfigEntry<Long> ENTITY_RELATIONAL_CONNECTION_POOL_EVICTION_INTERVAL_MS =
+      new ConfigBuilder(
+              "gravitino.entity.store.relational.connectionPool.timeBetweenEvictionRunsMs")
+          .doc(
+              "The interval in milliseconds between the runs of the idle connection evictor of "
+                  + "the connection pool of `JDBCBackend`")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(10 * 60 * 1000L);
+
+  public static final ConfigEntry<Boolean> ENTITY_RELATIONAL_CONNECTION_POOL_TEST_ON_BORROW =
+      new ConfigBuilder("gravitino.entity.store.relational.connectionPool.testOnBorrow")
+          .doc(
+              "Whether to validate the connections borrowed from the connection pool of "
+                  + "`JDBCBackend`")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Boolean> ENTITY_RELATIONAL_CONNECTION_POOL_TEST_WHILE_IDLE =
+      new ConfigBuilder("gravitino.entity.store.relational.connectionPool.testWhileIdle")
+          .doc(
+              "Whether to validate the idle connections by the evictor of the connection pool of "
+                  + "`JDBCBackend`")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Optional<String>>
+      ENTITY_RELATIONAL_CONNECTION_POOL_VALIDATION_QUERY =
+          new ConfigBuilder("gravitino.entity.store.relational.connectionPool.validationQuery")
+              .doc(
+                  "The SQL query used to validate connections of the connection pool of "
+                      + "`JDBCBackend`, the JDBC driver's validation is used if it's not set")
+              .version(ConfigConstants.VERSION_0_8_0)
+              .stringConf()
+              .createWithOptional();
+
+  public static final ConfigEntry<Boolean> ENTITY_RELATIONAL_CONNECTION_POOL_CACHE_STATEMENTS =
+      new ConfigBuilder("gravitino.entity.store.relational.connectionPool.poolPreparedStatements")
+          .doc(
+              "Whether to cache the prepared statements of the pooled connections of "
+                  + "`JDBCBackend`")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Integer> ENTITY_RELATIONAL_CONNECTION_POOL_MAX_STATEMENTS =
+      new ConfigBuilder(
+              "gravitino.entity.store.relational.connectionPool.maxOpenPreparedStatements")
+          .doc(
+              "The maximum number of cached prepared statements of each pooled connection of "
+                  + "`JDBCBackend`, a negative value means no limit")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .intConf()
+          .createWithDefault(-1);
+
+  public static final ConfigEntry<Boolean> ENTITY_RELATIONAL_ID_CACHE_ENABLED =
+      new ConfigBuilder("gravitino.entity.store.relational.idCache.enabled")
+          .doc(
+              "Whether to cache the ids of metalakes, catalogs and schemas resolved by name in "
+                  + "`JDBCBackend`")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Long> ENTITY_RELATIONAL_ID_CACHE_MAX_SIZE =
+      new ConfigBuilder("gravitino.entity.store.relational.idCache.maxSize")
+          .doc("The maximum number of namespaces whose ids are cached in `JDBCBackend`")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(10000L);
+
+  public static final ConfigEntry<Long> ENTITY_RELATIONAL_ID_CACHE_EXPIRATION_MS =
+      new ConfigBuilder("gravitino.entity.store.relational.idCache.expirationMs")
+          .doc("The time in milliseconds after which a cached id expires since it was resolved")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(10 * 60 * 1000L);
+
+  public static final ConfigEntry<Boolean> ENTITY_RELATIONAL_JOINED_ID_QUERY_ENABLED =
+      new ConfigBuilder("gravitino.entity.store.relational.joinedIdQuery.enabled")
+          .doc(
+              "Whether to resolve the ids of a namespace with one joined query instead of one "
+                  + "query per level in `JDBCBackend`")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<String> ENTITY_RELATIONAL_FIELD_ENCODING =
+      new ConfigBuilder("gravitino.entity.store.relational.fieldEncoding")
+          .doc(
+              "The encoding of the properties, audit info and schema version of the entities "
+                  + "written by `JDBCBackend`, `json` or `binary`, the fields in both encodings "
+                  + "can always be read")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .stringConf()
+          .checkValue(
+              value -> EnumUtils.isValidEnumIgnoreCase(EntityFieldCodec.Encoding.class, value),
+              "The value must be one of json and binary")
+          .createWithDefault(EntityFieldCodec.Encoding.JSON.name().toLowerCase(Locale.ROOT));
+
+  public static final ConfigEntry<Integer> ENTITY_RELATIONAL_COLUMN_BATCH_SIZE =
+      new ConfigBuilder("gravitino.entity.store.relational.columnBatchSize")
+          .doc(
+              "The maximum number of table columns written by one JDBC batch in `JDBCBackend`, "
+                  + "the columns are inserted by a reused prepared statement")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000);
+
   public static final ConfigEntry<String> ENTITY_KV_ROCKSDB_BACKEND_PATH =
       new ConfigBuilder(ENTITY_KV_ROCKSDB_BACKEND_PATH_KEY)
           .doc(
@@ -179,6 +354,37 @@ public class Configs {
           .stringConf()
           .createWithDefault(DEFAULT_KV_ROCKSDB_BACKEND_PATH);
 
+  public static final long DEFAULT_ENTITY_STORE_CACHE_MAX_WEIGHT = 100000L;
+
+  public static final long DEFAULT_ENTITY_STORE_CACHE_EXPIRATION_MS = 10 * 60 * 1000L;
+
+  public static final ConfigEntry<Boolean> ENTITY_STORE_CACHE_ENABLED =
+      new ConfigBuilder("gravitino.entity.store.cache.enabled")
+          .doc("Whether to cache the entities read from the entity store in memory")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Long> ENTITY_STORE_CACHE_MAX_WEIGHT =
+      new ConfigBuilder("gravitino.entity.store.cache.maxWeight")
+          .doc(
+              "The maximum total weight of the cached entities, a table entity weighs one plus "
+                  + "the number of its columns, other entities weigh one")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_ENTITY_STORE_CACHE_MAX_WEIGHT);
+
+  public static final ConfigEntry<Long> ENTITY_STORE_CACHE_EXPIRATION_MS =
+      new ConfigBuilder("gravitino.entity.store.cache.expirationMs")
+          .doc(
+              "The time in milliseconds after which a cached entity expires since it was loaded, "
+                  + "it bounds the staleness when several servers share one entity store")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_ENTITY_STORE_CACHE_EXPIRATION_MS);
+
   public static final ConfigEntry<String> ENTITY_SERDE =
       new ConfigBuilder("gravitino.entity.serde")
           .doc("The entity SerDe to use")
@@ -200,6 +406,23 @@ public class Configs {
           .booleanConf()
           .createWithDefault(true);
 
+  public static final ConfigEntry<Boolean> CATALOG_TABLE_ASYNC_COLUMN_RECONCILE =
+      new ConfigBuilder("gravitino.catalog.table.asyncColumnReconcile")
+          .doc(
+              "Whether to reconcile the stored columns of a table with the ones of the underlying "
+                  + "catalog in the background when they're found different on loading the table")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Long> CATALOG_TABLE_COLUMN_RECONCILE_INTERVAL_MS =
+      new ConfigBuilder("gravitino.catalog.table.columnReconcileIntervalMs")
+          .doc("The interval in milliseconds to reconcile the columns of the queued tables")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000L);
+
   public static final ConfigEntry<String> AUTHENTICATOR =
       new ConfigBuilder("gravitino.authenticator")
           .doc(
@@ -287,6 +510,46 @@ public class Configs {
                   MAX_VERSION_RETENTION_COUNT))
           .createWithDefault(DEFAULT_VERSION_RETENTION_COUNT);
 
+  public static final ConfigEntry<Integer> ENTITY_RELATIONAL_GC_PARALLELISM =
+      new ConfigBuilder("gravitino.entity.store.relational.gc.parallelism")
+          .doc(
+              "The number of threads of the garbage collector of `JDBCBackend`, the data of "
+                  + "different entity types are collected in parallel")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(2);
+
+  public static final ConfigEntry<Integer> ENTITY_RELATIONAL_GC_MAX_BATCH_SIZE =
+      new ConfigBuilder("gravitino.entity.store.relational.gc.maxBatchSize")
+          .doc(
+              "The maximum number of rows deleted by one statement of the garbage collector of "
+                  + "`JDBCBackend`")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000);
+
+  public static final ConfigEntry<Long> ENTITY_RELATIONAL_GC_TARGET_BATCH_LATENCY_MS =
+      new ConfigBuilder("gravitino.entity.store.relational.gc.targetBatchLatencyMs")
+          .doc(
+              "The target latency in milliseconds of one statement of the garbage collector of "
+                  + "`JDBCBackend`, the batch size is adapted to keep the statements around it")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(500L);
+
+  public static final ConfigEntry<Integer> ENTITY_RELATIONAL_GC_MAX_DELETES_PER_SECOND =
+      new ConfigBuilder("gravitino.entity.store.relational.gc.maxDeletesPerSecond")
+          .doc(
+              "The maximum number of rows deleted per second by the garbage collector of "
+                  + "`JDBCBackend`, 0 means unlimited")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0);
+
   // The followings are configurations for tree lock
 
   public static final ConfigEntry<Long> TREE_LOCK_MAX_NODE_IN_MEMORY =
@@ -310,6 +573,15 @@ public class Configs {
           .longConf()
           .createWithDefault(CLEAN_INTERVAL_IN_SECS);
 
+  public static final ConfigEntry<Long> TREE_LOCK_ACQUIRE_TIMEOUT =
+      new ConfigBuilder("gravitino.lock.acquireTimeoutInMs")
+          .doc(
+              "The maximum time in milliseconds to wait for a tree lock, a non-positive value "
+                  + "means waiting until the lock is acquired")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .longConf()
+          .createWithDefault(0L);
+
   public static final ConfigEntry<Boolean> ENABLE_AUTHORIZATION =
       new ConfigBuilder("gravitino.authorization.enable")
           .doc("Enable the authorization")
@@ -367,4 +639,61 @@ public class Configs {
           .version(ConfigConstants.VERSION_0_7_0)
           .stringConf()
           .createWithDefault(SimpleFormatter.class.getName());
+
+  public static final ConfigEntry<Integer> AUDIT_LOG_QUEUE_CAPACITY =
+      new ConfigBuilder("gravitino.audit.queueCapacity")
+          .doc("The capacity of the queue buffering the audit events to be written")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(10000);
+
+  public static final ConfigEntry<Integer> AUDIT_LOG_BATCH_SIZE =
+      new ConfigBuilder("gravitino.audit.batchSize")
+          .doc("The maximum number of audit events taken from the queue and written in one batch")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(500);
+
+  public static final ConfigEntry<String> AUDIT_LOG_QUEUE_FULL_POLICY =
+      new ConfigBuilder("gravitino.audit.queueFullPolicy")
+          .doc(
+              "The policy to handle an audit event when the queue is full, `block` waits for the "
+                  + "room in the queue, `drop` discards the event and `spill` writes the event on "
+                  + "the calling thread")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .stringConf()
+          .checkValue(
+              value -> EnumUtils.isValidEnumIgnoreCase(AuditLogQueueFullPolicy.class, value),
+              "The value must be one of block, drop and spill")
+          .createWithDefault(AuditLogQueueFullPolicy.BLOCK.name().toLowerCase(Locale.ROOT));
+
+  public static final ConfigEntry<Double> TRACING_SAMPLE_RATE =
+      new ConfigBuilder("gravitino.tracing.sampleRate")
+          .doc(
+              "The ratio of the requests traced, between 0 and 1, 0 disables the tracing and 1 "
+                  + "traces all the requests")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .doubleConf()
+          .checkValue(value -> value >= 0 && value <= 1, "The value must be between 0 and 1")
+          .createWithDefault(0.0);
+
+  public static final ConfigEntry<String> TRACING_EXPORTER =
+      new ConfigBuilder("gravitino.tracing.exporter")
+          .doc(
+              "The exporter of the finished spans, it can be `file`, `memory` or the full "
+                  + "qualified class name of a `SpanExporter` implementation")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .stringConf()
+          .createWithDefault("file");
+
+  public static final ConfigEntry<String> TRACING_FILE_NAME =
+      new ConfigBuilder("gravitino.tracing.file.fileName")
+          .doc(
+              "The name of the file the `file` exporter writes the spans to, under the log "
+                  + "directory of the server")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .stringConf()
+          .createWithDefault("gravitino_trace.log");
 }
@@ -20,12 +20,16 @@ package org.apache.gravitino;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.gravitino.Entity.EntityType;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.tag.SupportsTagOperations;
 import org.apache.gravitino.utils.Executable;
+import org.apache.gravitino.utils.PageUtil;
 
 public interface EntityStore extends Closeable {
 
@@ -91,6 +95,54 @@ public interface EntityStore extends Closeable {
     throw new UnsupportedOperationException("Don't support to skip fields");
   }
 
+  /**
+   * List the entities with the specified names in the {@link org.apache.gravitino.Namespace}, with
+   * all the fields. The names that don't exist are skipped.
+   *
+   * <p>The default implementation lists all the entities in the namespace and filters them, the
+   * stores that are able to look up the entities by names should override it.
+   *
+   * @param <E> class of the entity
+   * @param namespace the namespace of the entities
+   * @param type the detailed type of the entity
+   * @param entityType the general type of the entity
+   * @param names the names of the entities to list
+   * @return the list of entities
+   * @throws IOException if the list operation fails
+   */
+  default <E extends Entity & HasIdentifier> List<E> listByNames(
+      Namespace namespace, Class<E> type, EntityType entityType, List<String> names)
+      throws IOException {
+    Set<String> nameSet = new HashSet<>(names);
+    return list(namespace, type, entityType).stream()
+        .filter(e -> nameSet.contains(e.name()))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * List a page of the entities in the {@link org.apache.gravitino.Namespace} ordered by name, the
+   * page holds the entities whose names follow the specified name. The fields which are costly to
+   * fetch may be absent, as {@link #list(Namespace, Class, EntityType, boolean)} without all the
+   * fields.
+   *
+   * <p>The default implementation lists all the entities in the namespace and selects the page
+   * from them, the stores that are able to look up a page of the entities should override it.
+   *
+   * @param <E> class of the entity
+   * @param namespace the namespace of the entities
+   * @param type the detailed type of the entity
+   * @param entityType the general type of the entity
+   * @param startAfter the last name of the previous page, or null for the first page
+   * @param limit the maximum number of the entities in the page
+   * @return the list of entities in the page
+   * @throws IOException if the list operation fails
+   */
+  default <E extends Entity & HasIdentifier> List<E> listPage(
+      Namespace namespace, Class<E> type, EntityType entityType, String startAfter, int limit)
+      throws IOException {
+    return PageUtil.page(list(namespace, type, entityType), HasIdentifier::name, startAfter, limit);
+  }
+
   /**
    * Check if the entity with the specified {@link org.apache.gravitino.NameIdentifier} exists.
    *
@@ -173,6 +225,30 @@ public interface EntityStore extends Closeable {
   <E extends Entity & HasIdentifier> E get(NameIdentifier ident, EntityType entityType, Class<E> e)
       throws NoSuchEntityException, IOException;
 
+  /**
+   * Get the entity from the underlying storage.
+   *
+   * <p>Note. The implementation should be thread-safe, and should be able to handle concurrent
+   * retrieve of entities.
+   *
+   * @param ident the unique identifier of the entity
+   * @param entityType the general type of the entity
+   * @param e the entity class instance
+   * @param allFields Some fields may have a relatively high acquisition cost, EntityStore provides
+   *     an optional setting to avoid fetching these high-cost fields to improve the performance. If
+   *     true, the method will fetch all the fields, Otherwise, the method will fetch all the fields
+   *     except for high-cost fields, such as the columns of a table.
+   * @param <E> the class of entity
+   * @return the entity retrieved from the underlying storage
+   * @throws NoSuchEntityException if the entity does not exist
+   * @throws IOException if the retrieve operation fails
+   */
+  default <E extends Entity & HasIdentifier> E get(
+      NameIdentifier ident, EntityType entityType, Class<E> e, boolean allFields)
+      throws NoSuchEntityException, IOException {
+    return get(ident, entityType, e);
+  }
+
   /**
    * Delete the entity from the underlying storage by the specified {@link
    * org.apache.gravitino.NameIdentifier}.
@@ -21,6 +21,7 @@ package org.apache.gravitino;
 import static org.apache.gravitino.Configs.KV_STORE_KEY;
 
 import com.google.common.collect.ImmutableMap;
+import org.apache.gravitino.storage.cache.CachedEntityStore;
 import org.apache.gravitino.storage.kv.KvEntityStore;
 import org.apache.gravitino.storage.relational.RelationalEntityStore;
 import org.slf4j.Logger;
@@ -61,11 +62,17 @@ public class EntityStoreFactory {
           "KvEntityStore is not supported since version 0.6.0. Please use RelationalEntityStore instead.");
     }
 
+    EntityStore entityStore;
     try {
-      return (EntityStore) Class.forName(className).getDeclaredConstructor().newInstance();
+      entityStore = (EntityStore) Class.forName(className).getDeclaredConstructor().newInstance();
     } catch (Exception e) {
       LOG.error("Failed to create and initialize EntityStore by name {}.", name, e);
       throw new RuntimeException("Failed to create and initialize EntityStore: " + name, e);
     }
+
+    // The cache only wraps the store here, it's built when the store is initialized.
+    return config.get(Configs.ENTITY_STORE_CACHE_ENABLED)
+        ? new CachedEntityStore(entityStore)
+        : entityStore;
   }
 }
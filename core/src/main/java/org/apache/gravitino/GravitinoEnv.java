@@ -68,6 +68,7 @@ import org.apache.gravitino.metrics.source.JVMMetricsSource;
 import org.apache.gravitino.storage.IdGenerator;
 import org.apache.gravitino.storage.RandomIdGenerator;
 import org.apache.gravitino.tag.TagManager;
+import org.apache.gravitino.tracing.Tracer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -92,6 +93,8 @@ public class GravitinoEnv {
 
   private TableDispatcher tableDispatcher;
 
+  private TableOperationDispatcher tableOperationDispatcher;
+
   private PartitionDispatcher partitionDispatcher;
 
   private FilesetDispatcher filesetDispatcher;
@@ -333,6 +336,10 @@ public class GravitinoEnv {
   public void shutdown() {
     LOG.info("Shutting down Gravitino Environment...");
 
+    if (tableOperationDispatcher != null) {
+      tableOperationDispatcher.close();
+    }
+
     if (entityStore != null) {
       try {
         entityStore.close();
@@ -361,6 +368,8 @@ public class GravitinoEnv {
       eventListenerManager.stop();
     }
 
+    Tracer.close();
+
     LOG.info("Gravitino Environment is shut down.");
   }
 
@@ -368,6 +377,9 @@ public class GravitinoEnv {
     this.metricsSystem = new MetricsSystem();
     metricsSystem.register(new JVMMetricsSource());
 
+    // The dispatchers are traced only if the tracing is enabled, so initialize it first.
+    Tracer.initialize(config);
+
     this.eventListenerManager = new EventListenerManager();
     eventListenerManager.init(
         config.getConfigsWithPrefix(EventListenerManager.GRAVITINO_EVENT_LISTENER_PREFIX));
@@ -385,60 +397,94 @@ public class GravitinoEnv {
     // create and initialize a random id generator
     this.idGenerator = new RandomIdGenerator();
 
+    // The CatalogManager is created first, as the MetalakeManager refreshes the in-use states of
+    // metalakes kept by it.
+    this.catalogManager = new CatalogManager(config, entityStore, idGenerator);
+
     // Create and initialize metalake related modules, the operation chain is:
     // MetalakeEventDispatcher -> MetalakeNormalizeDispatcher -> MetalakeHookDispatcher ->
     // MetalakeManager
-    MetalakeDispatcher metalakeManager = new MetalakeManager(entityStore, idGenerator);
+    MetalakeDispatcher metalakeManager =
+        Tracer.traced(
+            MetalakeDispatcher.class,
+            new MetalakeManager(entityStore, idGenerator, catalogManager));
     MetalakeHookDispatcher metalakeHookDispatcher = new MetalakeHookDispatcher(metalakeManager);
     MetalakeNormalizeDispatcher metalakeNormalizeDispatcher =
         new MetalakeNormalizeDispatcher(metalakeHookDispatcher);
-    this.metalakeDispatcher = new MetalakeEventDispatcher(eventBus, metalakeNormalizeDispatcher);
+    this.metalakeDispatcher =
+        Tracer.traced(
+            MetalakeDispatcher.class,
+            new MetalakeEventDispatcher(eventBus, metalakeNormalizeDispatcher));
 
     // Create and initialize Catalog related modules, the operation chain is:
     // CatalogEventDispatcher -> CatalogNormalizeDispatcher -> CatalogHookDispatcher ->
     // CatalogManager
-    this.catalogManager = new CatalogManager(config, entityStore, idGenerator);
-    CatalogHookDispatcher catalogHookDispatcher = new CatalogHookDispatcher(catalogManager);
+    CatalogHookDispatcher catalogHookDispatcher =
+        new CatalogHookDispatcher(Tracer.traced(CatalogDispatcher.class, catalogManager));
     CatalogNormalizeDispatcher catalogNormalizeDispatcher =
         new CatalogNormalizeDispatcher(catalogHookDispatcher);
-    this.catalogDispatcher = new CatalogEventDispatcher(eventBus, catalogNormalizeDispatcher);
-
-    SchemaOperationDispatcher schemaOperationDispatcher =
-        new SchemaOperationDispatcher(catalogManager, entityStore, idGenerator);
+    this.catalogDispatcher =
+        Tracer.traced(
+            CatalogDispatcher.class,
+            new CatalogEventDispatcher(eventBus, catalogNormalizeDispatcher));
+
+    SchemaDispatcher schemaOperationDispatcher =
+        Tracer.traced(
+            SchemaDispatcher.class,
+            new SchemaOperationDispatcher(catalogManager, entityStore, idGenerator));
     SchemaHookDispatcher schemaHookDispatcher = new SchemaHookDispatcher(schemaOperationDispatcher);
     SchemaNormalizeDispatcher schemaNormalizeDispatcher =
         new SchemaNormalizeDispatcher(schemaHookDispatcher, catalogManager);
-    this.schemaDispatcher = new SchemaEventDispatcher(eventBus, schemaNormalizeDispatcher);
-
-    TableOperationDispatcher tableOperationDispatcher =
-        new TableOperationDispatcher(catalogManager, entityStore, idGenerator);
-    TableHookDispatcher tableHookDispatcher = new TableHookDispatcher(tableOperationDispatcher);
+    this.schemaDispatcher =
+        Tracer.traced(
+            SchemaDispatcher.class, new SchemaEventDispatcher(eventBus, schemaNormalizeDispatcher));
+
+    this.tableOperationDispatcher =
+        new TableOperationDispatcher(catalogManager, entityStore, idGenerator, config);
+    TableHookDispatcher tableHookDispatcher =
+        new TableHookDispatcher(Tracer.traced(TableDispatcher.class, tableOperationDispatcher));
     TableNormalizeDispatcher tableNormalizeDispatcher =
         new TableNormalizeDispatcher(tableHookDispatcher, catalogManager);
-    this.tableDispatcher = new TableEventDispatcher(eventBus, tableNormalizeDispatcher);
+    this.tableDispatcher =
+        Tracer.traced(
+            TableDispatcher.class, new TableEventDispatcher(eventBus, tableNormalizeDispatcher));
 
     // TODO: We can install hooks when we need, we only supports ownership post hook,
     //  partition doesn't have ownership, so we don't need it now.
-    PartitionOperationDispatcher partitionOperationDispatcher =
-        new PartitionOperationDispatcher(catalogManager, entityStore, idGenerator);
+    PartitionDispatcher partitionOperationDispatcher =
+        Tracer.traced(
+            PartitionDispatcher.class,
+            new PartitionOperationDispatcher(catalogManager, entityStore, idGenerator));
     PartitionNormalizeDispatcher partitionNormalizeDispatcher =
         new PartitionNormalizeDispatcher(partitionOperationDispatcher, catalogManager);
-    this.partitionDispatcher = new PartitionEventDispatcher(eventBus, partitionNormalizeDispatcher);
-
-    FilesetOperationDispatcher filesetOperationDispatcher =
-        new FilesetOperationDispatcher(catalogManager, entityStore, idGenerator);
+    this.partitionDispatcher =
+        Tracer.traced(
+            PartitionDispatcher.class,
+            new PartitionEventDispatcher(eventBus, partitionNormalizeDispatcher));
+
+    FilesetDispatcher filesetOperationDispatcher =
+        Tracer.traced(
+            FilesetDispatcher.class,
+            new FilesetOperationDispatcher(catalogManager, entityStore, idGenerator));
     FilesetHookDispatcher filesetHookDispatcher =
         new FilesetHookDispatcher(filesetOperationDispatcher);
     FilesetNormalizeDispatcher filesetNormalizeDispatcher =
         new FilesetNormalizeDispatcher(filesetHookDispatcher, catalogManager);
-    this.filesetDispatcher = new FilesetEventDispatcher(eventBus, filesetNormalizeDispatcher);
-
-    TopicOperationDispatcher topicOperationDispatcher =
-        new TopicOperationDispatcher(catalogManager, entityStore, idGenerator);
+    this.filesetDispatcher =
+        Tracer.traced(
+            FilesetDispatcher.class,
+            new FilesetEventDispatcher(eventBus, filesetNormalizeDispatcher));
+
+    TopicDispatcher topicOperationDispatcher =
+        Tracer.traced(
+            TopicDispatcher.class,
+            new TopicOperationDispatcher(catalogManager, entityStore, idGenerator));
     TopicHookDispatcher topicHookDispatcher = new TopicHookDispatcher(topicOperationDispatcher);
     TopicNormalizeDispatcher topicNormalizeDispatcher =
         new TopicNormalizeDispatcher(topicHookDispatcher, catalogManager);
-    this.topicDispatcher = new TopicEventDispatcher(eventBus, topicNormalizeDispatcher);
+    this.topicDispatcher =
+        Tracer.traced(
+            TopicDispatcher.class, new TopicEventDispatcher(eventBus, topicNormalizeDispatcher));
 
     // Create and initialize access control related modules
     boolean enableAuthorization = config.get(Configs.ENABLE_AUTHORIZATION);
@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.audit;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.listener.api.event.Event;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * AuditLogDispatcher buffers the audit events in a bounded queue, and writes them in batches with a
+ * dedicated thread, so the operations producing the events don't wait for the audit log writer.
+ *
+ * <p>The writer is only called by the dispatcher thread, unless the queue is full and the policy is
+ * {@link AuditLogQueueFullPolicy#SPILL}, in which case the writer must be thread-safe.
+ */
+class AuditLogDispatcher implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(AuditLogDispatcher.class);
+  private static final long POLL_INTERVAL_MS = 100;
+  private static final long DROP_LOG_INTERVAL_MS = 60 * 1000L;
+  private static final long CLOSE_TIMEOUT_MS = 10 * 1000L;
+
+  private final AuditLogWriter auditLogWriter;
+  private final BlockingQueue<Event> queue;
+  private final int batchSize;
+  private final AuditLogQueueFullPolicy queueFullPolicy;
+  private final Thread dispatcherThread;
+  private final AtomicLong lastDropLogTime = new AtomicLong(0);
+  private volatile boolean stopped = false;
+
+  @VisibleForTesting final AuditLogMetricsSource metricsSource;
+
+  AuditLogDispatcher(
+      AuditLogWriter auditLogWriter,
+      int queueCapacity,
+      int batchSize,
+      AuditLogQueueFullPolicy queueFullPolicy) {
+    this.auditLogWriter = auditLogWriter;
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.batchSize = batchSize;
+    this.queueFullPolicy = queueFullPolicy;
+    this.metricsSource = new AuditLogMetricsSource(queue);
+    this.dispatcherThread = new Thread(this::dispatchEvents, "audit-log-dispatcher");
+    dispatcherThread.setDaemon(true);
+  }
+
+  void start() {
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+    dispatcherThread.start();
+  }
+
+  /**
+   * Put the audit event into the queue, the event is handled by the queue full policy if there is
+   * no room in the queue.
+   *
+   * @param event The audit event to write.
+   */
+  void dispatch(Event event) {
+    if (stopped) {
+      LOG.warn("Drop audit event {} since the audit log dispatcher is stopped", event);
+      return;
+    }
+    if (queue.offer(event)) {
+      return;
+    }
+
+    switch (queueFullPolicy) {
+      case BLOCK:
+        try {
+          // Check the stopped flag periodically, the queue is not consumed after being stopped.
+          while (!queue.offer(event, POLL_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+            if (stopped) {
+              drop(event);
+              return;
+            }
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          drop(event);
+        }
+        break;
+      case SPILL:
+        metricsSource.recordSpill();
+        write(Collections.singletonList(event));
+        break;
+      case DROP:
+      default:
+        drop(event);
+        break;
+    }
+  }
+
+  /** Stop taking new audit events, write the queued audit events and close the writer. */
+  @Override
+  public void close() throws IOException {
+    stopped = true;
+    try {
+      // The dispatcher thread is not interrupted, the writer may be interrupted in the middle of
+      // writing, for example, an interrupted FileChannel will be closed.
+      dispatcherThread.join(CLOSE_TIMEOUT_MS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (!queue.isEmpty()) {
+      LOG.warn("Drop {} audit events since the audit log dispatcher is closed", queue.size());
+    }
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+    auditLogWriter.close();
+  }
+
+  private void dispatchEvents() {
+    List<Event> batch = new ArrayList<>(batchSize);
+    while (!stopped || !queue.isEmpty()) {
+      try {
+        Event event = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        if (event == null) {
+          continue;
+        }
+
+        batch.add(event);
+        queue.drainTo(batch, batchSize - 1);
+        write(batch);
+      } catch (InterruptedException e) {
+        LOG.warn("Audit log dispatcher thread is interrupted.");
+        break;
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  private void write(List<Event> events) {
+    long startTime = System.nanoTime();
+    for (Event event : events) {
+      try {
+        auditLogWriter.write(event);
+      } catch (Exception e) {
+        LOG.warn("Failed to write audit log {}.", event, e);
+      }
+    }
+    metricsSource.recordWrite(System.nanoTime() - startTime);
+  }
+
+  private void drop(Event event) {
+    metricsSource.recordDrop();
+    long lastLogTime = lastDropLogTime.get();
+    long now = System.currentTimeMillis();
+    if (now - lastLogTime > DROP_LOG_INTERVAL_MS
+        && lastDropLogTime.compareAndSet(lastLogTime, now)) {
+      LOG.warn(
+          "Drop audit event {} since the audit log queue is full, {} audit events dropped in total",
+          event,
+          metricsSource.dropCount());
+    }
+  }
+}
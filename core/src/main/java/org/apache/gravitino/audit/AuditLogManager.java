@@ -21,6 +21,7 @@ package org.apache.gravitino.audit;
 
 import com.google.common.annotations.VisibleForTesting;
 import java.io.IOException;
+import java.util.Locale;
 import java.util.Map;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
@@ -34,7 +35,8 @@ import org.slf4j.LoggerFactory;
 
 /*
  * AuditLogManager is responsible for initializing the audit log writer and formatter,
- * which are used to write metadata audit logs.
+ * which are used to write metadata audit logs. The audit events are written asynchronously
+ * in batches by AuditLogDispatcher.
  * */
 public class AuditLogManager {
 
@@ -42,6 +44,8 @@ public class AuditLogManager {
 
   @VisibleForTesting private AuditLogWriter auditLogWriter;
 
+  private AuditLogDispatcher auditLogDispatcher;
+
   public void init(Config config, EventListenerManager eventBusManager) {
     if (!config.get(Configs.AUDIT_LOG_ENABLED_CONF)) {
       LOG.info("Audit log is not enabled");
@@ -59,6 +63,15 @@ public class AuditLogManager {
             formatter);
     LOG.info("Audit log writer class name:{}", writerClassName);
 
+    auditLogDispatcher =
+        new AuditLogDispatcher(
+            auditLogWriter,
+            config.get(Configs.AUDIT_LOG_QUEUE_CAPACITY),
+            config.get(Configs.AUDIT_LOG_BATCH_SIZE),
+            AuditLogQueueFullPolicy.valueOf(
+                config.get(Configs.AUDIT_LOG_QUEUE_FULL_POLICY).toUpperCase(Locale.ROOT)));
+    auditLogDispatcher.start();
+
     eventBusManager.addEventListener(
         "audit-log",
         new EventListenerPlugin() {
@@ -72,7 +85,7 @@ public class AuditLogManager {
           @Override
           public void stop() throws RuntimeException {
             try {
-              auditLogWriter.close();
+              auditLogDispatcher.close();
             } catch (IOException e) {
               throw new RuntimeException(e);
             }
@@ -80,16 +93,13 @@ public class AuditLogManager {
 
           @Override
           public void onPostEvent(Event event) throws RuntimeException {
-            try {
-              auditLogWriter.write(event);
-            } catch (Exception e) {
-              LOG.warn("Failed to write audit log {}.", event, e);
-            }
+            auditLogDispatcher.dispatch(event);
           }
 
           @Override
           public Mode mode() {
-            return Mode.ASYNC_ISOLATED;
+            // The events are only put into the queue of the dispatcher on the calling thread.
+            return Mode.SYNC;
           }
         });
   }
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.audit;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.MetricsSource;
+
+/** Exposes the state of the audit events buffered and written by {@link AuditLogDispatcher}. */
+public class AuditLogMetricsSource extends MetricsSource {
+
+  private final Counter dropCounter;
+  private final Counter spillCounter;
+  private final Timer writeTimer;
+
+  public AuditLogMetricsSource(BlockingQueue<?> queue) {
+    super(MetricsSource.AUDIT_LOG_METRIC_NAME);
+    registerGauge(MetricNames.AUDIT_LOG_QUEUE_SIZE, queue::size);
+    this.dropCounter = getCounter(MetricNames.AUDIT_LOG_DROP_COUNT);
+    this.spillCounter = getCounter(MetricNames.AUDIT_LOG_SPILL_COUNT);
+    this.writeTimer = getTimer(MetricNames.AUDIT_LOG_WRITE_DURATION);
+  }
+
+  /** Record an audit event that is dropped since the queue is full. */
+  void recordDrop() {
+    dropCounter.inc();
+  }
+
+  /** Record an audit event that is written on the calling thread since the queue is full. */
+  void recordSpill() {
+    spillCounter.inc();
+  }
+
+  /**
+   * Record the time writing a batch of audit events.
+   *
+   * @param writeNanos The writing time in nanoseconds.
+   */
+  void recordWrite(long writeNanos) {
+    writeTimer.update(writeNanos, TimeUnit.NANOSECONDS);
+  }
+
+  long dropCount() {
+    return dropCounter.getCount();
+  }
+}
@@ -20,13 +20,24 @@
 package org.apache.gravitino.audit;
 
 import com.google.common.annotations.VisibleForTesting;
-import java.io.FileOutputStream;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
-import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
 import org.apache.gravitino.exceptions.GravitinoRuntimeException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,6 +45,10 @@ import org.slf4j.LoggerFactory;
 /**
  * DefaultFileAuditWriter is the default implementation of AuditLogWriter, which writes audit logs
  * to a file.
+ *
+ * <p>The audit logs are buffered in memory and flushed to the file every flush interval, the file
+ * is rotated when it exceeds the rotation size or the rotation interval, and the rotated file could
+ * be compressed in the background.
  */
 public class FileAuditWriter implements AuditLogWriter {
   private static final Logger Log = LoggerFactory.getLogger(FileAuditWriter.class);
@@ -41,15 +56,28 @@ public class FileAuditWriter implements AuditLogWriter {
   private static final String AUDIT_LOG_FILE_NAME = "fileName";
   private static final String APPEND = "append";
   private static final String FLUSH_INTERVAL_SECS = "flushIntervalSecs";
+  private static final String ROTATE_SIZE_MB = "rotateSizeMB";
+  private static final String ROTATE_INTERVAL_SECS = "rotateIntervalSecs";
+  private static final String COMPRESS = "compress";
   private static final String LINE_SEPARATOR = System.lineSeparator();
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final DateTimeFormatter ROTATED_FILE_SUFFIX_FORMATTER =
+      DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZoneId.systemDefault());
 
-  @VisibleForTesting Writer outWriter;
+  @VisibleForTesting FileChannel channel;
   @VisibleForTesting String fileName;
+  @VisibleForTesting long rotateSizeBytes;
 
+  private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
   private Formatter formatter;
   private boolean append;
   private int flushIntervalSecs;
-  private Instant nextFlushTime = Instant.now();
+  private long rotateIntervalMs;
+  private boolean compress;
+  // The size of the current file, including the buffered audit logs.
+  private long fileSize;
+  private long nextRotateTime;
+  private ScheduledExecutorService scheduler;
 
   @Override
   public Formatter getFormatter() {
@@ -65,21 +93,49 @@ public class FileAuditWriter implements AuditLogWriter {
             + properties.getOrDefault(AUDIT_LOG_FILE_NAME, "gravitino_audit.log");
     this.append = Boolean.parseBoolean(properties.getOrDefault(APPEND, "true"));
     this.flushIntervalSecs = Integer.parseInt(properties.getOrDefault(FLUSH_INTERVAL_SECS, "10"));
+    this.rotateSizeBytes =
+        Long.parseLong(properties.getOrDefault(ROTATE_SIZE_MB, "0")) * 1024 * 1024;
+    this.rotateIntervalMs =
+        Long.parseLong(properties.getOrDefault(ROTATE_INTERVAL_SECS, "0")) * 1000;
+    this.compress = Boolean.parseBoolean(properties.getOrDefault(COMPRESS, "false"));
     try {
-      OutputStream outputStream = new FileOutputStream(fileName, append);
-      this.outWriter = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+      openFile(append);
     } catch (Exception e) {
       throw new GravitinoRuntimeException(
           e, "Init audit log writer fail, filename is %s", fileName);
     }
+
+    this.scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("audit-log-flusher").build());
+    if (flushIntervalSecs > 0) {
+      scheduler.scheduleWithFixedDelay(
+          this::flush, flushIntervalSecs, flushIntervalSecs, TimeUnit.SECONDS);
+    }
   }
 
   @Override
-  public void doWrite(AuditLog auditLog) {
+  public synchronized void doWrite(AuditLog auditLog) {
     String log = auditLog.toString();
     try {
-      outWriter.write(log + LINE_SEPARATOR);
-      tryFlush();
+      byte[] bytes = (log + LINE_SEPARATOR).getBytes(StandardCharsets.UTF_8);
+      if (shouldRotate(bytes.length)) {
+        rotate();
+      }
+
+      if (bytes.length > buffer.remaining()) {
+        drainBuffer();
+      }
+      if (bytes.length > buffer.capacity()) {
+        writeFully(ByteBuffer.wrap(bytes));
+      } else {
+        buffer.put(bytes);
+      }
+      fileSize += bytes.length;
+
+      if (flushIntervalSecs <= 0) {
+        drainBuffer();
+      }
     } catch (Exception e) {
       Log.warn("Failed to write audit log: {}", log, e);
     }
@@ -87,11 +143,26 @@ public class FileAuditWriter implements AuditLogWriter {
 
   @Override
   public void close() {
-    if (outWriter != null) {
+    if (scheduler != null) {
+      // Wait for the rotated files being compressed.
+      scheduler.shutdown();
       try {
-        outWriter.close();
-      } catch (Exception e) {
-        Log.warn("Failed to close writer", e);
+        if (!scheduler.awaitTermination(10, TimeUnit.SECONDS)) {
+          Log.warn("Failed to wait for the audit log flusher to finish");
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    synchronized (this) {
+      if (channel != null) {
+        try {
+          drainBuffer();
+          channel.close();
+        } catch (Exception e) {
+          Log.warn("Failed to close writer", e);
+        }
       }
     }
   }
@@ -101,21 +172,90 @@ public class FileAuditWriter implements AuditLogWriter {
     return "file";
   }
 
-  private void tryFlush() {
-    Instant now = Instant.now();
-    if (now.isAfter(nextFlushTime)) {
-      nextFlushTime = now.plusSeconds(flushIntervalSecs);
-      doFlush();
-    }
-  }
-
-  private void doFlush() {
-    if (outWriter != null) {
+  /** Write the buffered audit logs to the file. */
+  synchronized void flush() {
+    if (channel != null && channel.isOpen()) {
       try {
-        outWriter.flush();
+        drainBuffer();
       } catch (Exception e) {
         Log.warn("Flush audit log failed,", e);
       }
     }
   }
+
+  private void openFile(boolean append) throws IOException {
+    this.channel =
+        FileChannel.open(
+            Paths.get(fileName),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            append ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING);
+    this.fileSize = channel.size();
+    this.nextRotateTime = System.currentTimeMillis() + rotateIntervalMs;
+  }
+
+  private boolean shouldRotate(int length) {
+    if (fileSize == 0) {
+      return false;
+    }
+    return (rotateSizeBytes > 0 && fileSize + length > rotateSizeBytes)
+        || (rotateIntervalMs > 0 && System.currentTimeMillis() >= nextRotateTime);
+  }
+
+  private void rotate() throws IOException {
+    drainBuffer();
+    channel.close();
+
+    Path rotatedFile = newRotatedFile();
+    try {
+      Files.move(Paths.get(fileName), rotatedFile);
+    } finally {
+      // Keep writing to the current file if it fails to be moved.
+      openFile(true);
+    }
+    Log.info("Rotate audit log file {} to {}", fileName, rotatedFile);
+
+    if (compress) {
+      scheduler.execute(() -> compress(rotatedFile));
+    }
+  }
+
+  private Path newRotatedFile() {
+    String rotatedFileName = fileName + "." + ROTATED_FILE_SUFFIX_FORMATTER.format(Instant.now());
+    Path rotatedFile = Paths.get(rotatedFileName);
+    for (int i = 1; Files.exists(rotatedFile) || Files.exists(compressedFile(rotatedFile)); i++) {
+      rotatedFile = Paths.get(rotatedFileName + "-" + i);
+    }
+    return rotatedFile;
+  }
+
+  private void drainBuffer() throws IOException {
+    buffer.flip();
+    try {
+      writeFully(buffer);
+    } finally {
+      buffer.clear();
+    }
+  }
+
+  private void writeFully(ByteBuffer byteBuffer) throws IOException {
+    while (byteBuffer.hasRemaining()) {
+      channel.write(byteBuffer);
+    }
+  }
+
+  private static Path compressedFile(Path file) {
+    return Paths.get(file + ".gz");
+  }
+
+  private static void compress(Path file) {
+    try {
+      try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(compressedFile(file)))) {
+        Files.copy(file, out);
+      }
+      Files.delete(file);
+    } catch (IOException e) {
+      Log.warn("Failed to compress rotated audit log file {}", file, e);
+    }
+  }
 }
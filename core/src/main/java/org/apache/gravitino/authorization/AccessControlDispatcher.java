@@ -92,6 +92,29 @@ public interface AccessControlDispatcher {
    */
   String[] listUserNames(String metalake) throws NoSuchMetalakeException;
 
+  /**
+   * Lists a page of the users, ordered by name.
+   *
+   * @param metalake The Metalake of the User.
+   * @param startAfter The last username of the previous page, or null for the first page.
+   * @param limit The maximum number of the users in the page.
+   * @return The User list of the page.
+   * @throws NoSuchMetalakeException If the Metalake with the given name does not exist.
+   */
+  User[] listUsers(String metalake, String startAfter, int limit) throws NoSuchMetalakeException;
+
+  /**
+   * Lists a page of the usernames, ordered by name.
+   *
+   * @param metalake The Metalake of the User.
+   * @param startAfter The last username of the previous page, or null for the first page.
+   * @param limit The maximum number of the usernames in the page.
+   * @return The username list of the page.
+   * @throws NoSuchMetalakeException If the Metalake with the given name does not exist.
+   */
+  String[] listUserNames(String metalake, String startAfter, int limit)
+      throws NoSuchMetalakeException;
+
   /**
    * Adds a new Group.
    *
@@ -148,6 +171,28 @@ public interface AccessControlDispatcher {
    */
   String[] listGroupNames(String metalake);
 
+  /**
+   * List a page of the groups, ordered by name.
+   *
+   * @param metalake The Metalake of the Group.
+   * @param startAfter The last group name of the previous page, or null for the first page.
+   * @param limit The maximum number of the groups in the page.
+   * @return The list of groups of the page
+   * @throws NoSuchMetalakeException If the Metalake with the given name does not exist.
+   */
+  Group[] listGroups(String metalake, String startAfter, int limit);
+
+  /**
+   * List a page of the group names, ordered by name.
+   *
+   * @param metalake The Metalake of the Group.
+   * @param startAfter The last group name of the previous page, or null for the first page.
+   * @param limit The maximum number of the group names in the page.
+   * @return The list of group names of the page
+   * @throws NoSuchMetalakeException If the Metalake with the given name does not exist.
+   */
+  String[] listGroupNames(String metalake, String startAfter, int limit);
+
   /**
    * Grant roles to a user.
    *
@@ -268,6 +313,18 @@ public interface AccessControlDispatcher {
    */
   String[] listRoleNames(String metalake) throws NoSuchMetalakeException;
 
+  /**
+   * Lists a page of the role names, ordered by name.
+   *
+   * @param metalake The Metalake of the Role.
+   * @param startAfter The last role name of the previous page, or null for the first page.
+   * @param limit The maximum number of the role names in the page.
+   * @return The role name list of the page.
+   * @throws NoSuchMetalakeException If the Metalake with the given name does not exist.
+   */
+  String[] listRoleNames(String metalake, String startAfter, int limit)
+      throws NoSuchMetalakeException;
+
   /**
    * Lists the role names associated the metadata object.
    *
@@ -75,11 +75,23 @@ public class AccessControlManager implements AccessControlDispatcher {
     return userGroupManager.listUserNames(metalake);
   }
 
+  @Override
+  public String[] listUserNames(String metalake, String startAfter, int limit)
+      throws NoSuchMetalakeException {
+    return userGroupManager.listUserNames(metalake, startAfter, limit);
+  }
+
   @Override
   public User[] listUsers(String metalake) throws NoSuchMetalakeException {
     return userGroupManager.listUsers(metalake);
   }
 
+  @Override
+  public User[] listUsers(String metalake, String startAfter, int limit)
+      throws NoSuchMetalakeException {
+    return userGroupManager.listUsers(metalake, startAfter, limit);
+  }
+
   public Group addGroup(String metalake, String group)
       throws GroupAlreadyExistsException, NoSuchMetalakeException {
     return userGroupManager.addGroup(metalake, group);
@@ -101,11 +113,23 @@ public class AccessControlManager implements AccessControlDispatcher {
     return userGroupManager.listGroups(metalake);
   }
 
+  @Override
+  public Group[] listGroups(String metalake, String startAfter, int limit)
+      throws NoSuchMetalakeException {
+    return userGroupManager.listGroups(metalake, startAfter, limit);
+  }
+
   @Override
   public String[] listGroupNames(String metalake) throws NoSuchMetalakeException {
     return userGroupManager.listGroupNames(metalake);
   }
 
+  @Override
+  public String[] listGroupNames(String metalake, String startAfter, int limit)
+      throws NoSuchMetalakeException {
+    return userGroupManager.listGroupNames(metalake, startAfter, limit);
+  }
+
   @Override
   public User grantRolesToUser(String metalake, List<String> roles, String user)
       throws NoSuchUserException, IllegalRoleException, NoSuchMetalakeException {
@@ -161,6 +185,12 @@ public class AccessControlManager implements AccessControlDispatcher {
     return roleManager.listRoleNames(metalake);
   }
 
+  @Override
+  public String[] listRoleNames(String metalake, String startAfter, int limit)
+      throws NoSuchMetalakeException {
+    return roleManager.listRoleNames(metalake, startAfter, limit);
+  }
+
   @Override
   public String[] listRoleNamesByObject(String metalake, MetadataObject object)
       throws NoSuchMetalakeException, NoSuchMetadataObjectException {
@@ -149,6 +149,21 @@ class RoleManager {
     }
   }
 
+  String[] listRoleNames(String metalake, String startAfter, int limit) {
+    try {
+      checkMetalake(NameIdentifier.of(metalake), store);
+      Namespace namespace = AuthorizationUtils.ofRoleNamespace(metalake);
+      return store
+          .listPage(namespace, RoleEntity.class, Entity.EntityType.ROLE, startAfter, limit)
+          .stream()
+          .map(Role::name)
+          .toArray(String[]::new);
+    } catch (IOException ioe) {
+      LOG.error("Listing role under metalake {} failed due to storage issues", metalake, ioe);
+      throw new RuntimeException(ioe);
+    }
+  }
+
   String[] listRoleNamesByObject(String metalake, MetadataObject object) {
     try {
       checkMetalake(NameIdentifier.of(metalake), store);
@@ -128,6 +128,19 @@ class UserGroupManager {
     return listUsersInternal(metalake, true /* allFields */);
   }
 
+  String[] listUserNames(String metalake, String startAfter, int limit) {
+    return Arrays.stream(listUsersInternal(metalake, startAfter, limit))
+        .map(User::name)
+        .toArray(String[]::new);
+  }
+
+  User[] listUsers(String metalake, String startAfter, int limit) {
+    // The page is selected by the names, then only the users of the page are loaded with roles.
+    return Arrays.stream(listUsersInternal(metalake, startAfter, limit))
+        .map(user -> getUser(metalake, user.name()))
+        .toArray(User[]::new);
+  }
+
   Group addGroup(String metalake, String group) throws GroupAlreadyExistsException {
     try {
       checkMetalake(NameIdentifier.of(metalake), store);
@@ -195,6 +208,19 @@ class UserGroupManager {
         .toArray(String[]::new);
   }
 
+  Group[] listGroups(String metalake, String startAfter, int limit) {
+    // The page is selected by the names, then only the groups of the page are loaded with roles.
+    return Arrays.stream(listGroupInternal(metalake, startAfter, limit))
+        .map(group -> getGroup(metalake, group.name()))
+        .toArray(Group[]::new);
+  }
+
+  String[] listGroupNames(String metalake, String startAfter, int limit) {
+    return Arrays.stream(listGroupInternal(metalake, startAfter, limit))
+        .map(Group::name)
+        .toArray(String[]::new);
+  }
+
   private User[] listUsersInternal(String metalake, boolean allFields) {
     try {
       checkMetalake(NameIdentifier.of(metalake), store);
@@ -227,4 +253,37 @@ class UserGroupManager {
       throw new RuntimeException(ioe);
     }
   }
+
+  private User[] listUsersInternal(String metalake, String startAfter, int limit) {
+    try {
+      checkMetalake(NameIdentifier.of(metalake), store);
+
+      Namespace namespace = AuthorizationUtils.ofUserNamespace(metalake);
+      return store
+          .listPage(namespace, UserEntity.class, Entity.EntityType.USER, startAfter, limit)
+          .toArray(new User[0]);
+    } catch (NoSuchEntityException e) {
+      LOG.error("Metalake {} does not exist", metalake, e);
+      throw new NoSuchMetalakeException(METALAKE_DOES_NOT_EXIST_MSG, metalake);
+    } catch (IOException ioe) {
+      LOG.error("Listing user under metalake {} failed due to storage issues", metalake, ioe);
+      throw new RuntimeException(ioe);
+    }
+  }
+
+  private Group[] listGroupInternal(String metalake, String startAfter, int limit) {
+    try {
+      checkMetalake(NameIdentifier.of(metalake), store);
+      Namespace namespace = AuthorizationUtils.ofGroupNamespace(metalake);
+      return store
+          .listPage(namespace, GroupEntity.class, EntityType.GROUP, startAfter, limit)
+          .toArray(new Group[0]);
+    } catch (NoSuchEntityException e) {
+      LOG.error("Metalake {} does not exist", metalake, e);
+      throw new NoSuchMetalakeException(METALAKE_DOES_NOT_EXIST_MSG, metalake);
+    } catch (IOException ioe) {
+      LOG.error("Listing group under metalake {} failed due to storage issues", metalake, ioe);
+      throw new RuntimeException(ioe);
+    }
+  }
 }
@@ -26,6 +26,7 @@ import static org.apache.gravitino.connector.BaseCatalogPropertiesMetadata.BASIC
 import static org.apache.gravitino.metalake.MetalakeManager.checkMetalake;
 import static org.apache.gravitino.metalake.MetalakeManager.metalakeInUse;
 
+import com.codahale.metrics.Timer;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Scheduler;
@@ -70,6 +71,7 @@ import org.apache.gravitino.Entity;
 import org.apache.gravitino.Entity.EntityType;
 import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.StringIdentifier;
@@ -94,6 +96,7 @@ import org.apache.gravitino.messaging.TopicCatalog;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.CatalogEntity;
 import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.metrics.MetricsSystem;
 import org.apache.gravitino.rel.SupportsPartitions;
 import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.rel.TableCatalog;
@@ -237,10 +240,16 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
 
   @VisibleForTesting final Cache<NameIdentifier, CatalogWrapper> catalogCache;
 
+  // The in-use states of metalakes and catalogs keyed by their identifiers, so that checking them
+  // for every catalog operation doesn't need to load the entities from the store.
+  @VisibleForTesting final Cache<NameIdentifier, Boolean> inUseCache;
+
   private final EntityStore store;
 
   private final IdGenerator idGenerator;
 
+  private final CatalogManagerMetricsSource metricsSource;
+
   /**
    * Constructs a CatalogManager instance.
    *
@@ -270,7 +279,18 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
                             .setDaemon(true)
                             .setNameFormat("catalog-cleaner-%d")
                             .build())))
+            .recordStats()
+            .build();
+    this.inUseCache =
+        Caffeine.newBuilder()
+            .expireAfterWrite(cacheEvictionIntervalInMs, TimeUnit.MILLISECONDS)
             .build();
+
+    this.metricsSource = new CatalogManagerMetricsSource(catalogCache);
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
   }
 
   /**
@@ -280,6 +300,55 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
   @Override
   public void close() {
     catalogCache.invalidateAll();
+    inUseCache.invalidateAll();
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+  }
+
+  /**
+   * Check whether the catalog and the metalake it belongs to are in use. Unlike {@link
+   * #checkCatalogInUse(EntityStore, NameIdentifier)}, the in-use states are kept in memory once
+   * they're loaded, and refreshed when the metalake or the catalog is enabled, disabled, altered or
+   * dropped.
+   *
+   * @param ident The identifier of the catalog to check.
+   * @throws NoSuchMetalakeException If the metalake does not exist.
+   * @throws NoSuchCatalogException If the catalog does not exist.
+   * @throws MetalakeNotInUseException If the metalake is not in use.
+   * @throws CatalogNotInUseException If the catalog is not in use.
+   */
+  public void checkCatalogInUse(NameIdentifier ident)
+      throws NoSuchMetalakeException, NoSuchCatalogException, CatalogNotInUseException,
+          MetalakeNotInUseException {
+    NameIdentifier metalakeIdent = NameIdentifier.of(ident.namespace().levels());
+    if (!inUseCache.get(metalakeIdent, id -> metalakeInUse(store, id))) {
+      throw new MetalakeNotInUseException(
+          "Metalake %s is not in use, please enable it first", metalakeIdent);
+    }
+
+    if (!inUseCache.get(ident, id -> getCatalogInUseValue(store, id))) {
+      throw new CatalogNotInUseException("Catalog %s is not in use, please enable it first", ident);
+    }
+  }
+
+  /**
+   * Invalidate the in-memory in-use states of the metalake and the catalogs in it. It should be
+   * called after the metalake is enabled, disabled, renamed or dropped.
+   *
+   * @param metalakeIdent The identifier of the metalake.
+   */
+  public void invalidateMetalakeInUseState(NameIdentifier metalakeIdent) {
+    inUseCache
+        .asMap()
+        .keySet()
+        .removeIf(
+            ident ->
+                ident.equals(metalakeIdent)
+                    || (ident.namespace().length() == 1
+                        && ident.namespace().level(0).equals(metalakeIdent.name())));
   }
 
   /**
@@ -389,6 +458,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     boolean needClean = true;
     try {
       store.put(e, false /* overwrite */);
+      inUseCache.invalidate(ident);
       CatalogWrapper wrapper = catalogCache.get(ident, id -> createCatalogWrapper(e, mergedConfig));
 
       needClean = false;
@@ -514,6 +584,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
             return newCatalogBuilder.build();
           });
       catalogCache.invalidate(ident);
+      inUseCache.invalidate(ident);
 
     } catch (IOException e) {
       throw new RuntimeException(e);
@@ -546,6 +617,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
             return newCatalogBuilder.build();
           });
       catalogCache.invalidate(ident);
+      inUseCache.invalidate(ident);
 
     } catch (IOException e) {
       throw new RuntimeException(e);
@@ -564,7 +636,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
   @Override
   public Catalog alterCatalog(NameIdentifier ident, CatalogChange... changes)
       throws NoSuchCatalogException, IllegalArgumentException {
-    checkCatalogInUse(store, ident);
+    checkCatalogInUse(ident);
 
     // There could be a race issue that someone is using the catalog from cache while we are
     // updating it.
@@ -609,6 +681,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
 
                 return newCatalogBuilder.build();
               });
+      inUseCache.invalidate(ident);
       return Objects.requireNonNull(
               catalogCache.get(
                   updatedCatalog.nameIdentifier(),
@@ -658,7 +731,9 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
       }
 
       catalogCache.invalidate(ident);
-      return store.delete(ident, EntityType.CATALOG, true);
+      boolean dropped = store.delete(ident, EntityType.CATALOG, true);
+      inUseCache.invalidate(ident);
+      return dropped;
 
     } catch (NoSuchMetalakeException | NoSuchCatalogException ignored) {
       return false;
@@ -844,6 +919,12 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
   }
 
   private IsolatedClassLoader createClassLoader(String provider, Map<String, String> conf) {
+    try (Timer.Context ignored = metricsSource.classLoaderCreationTimer().time()) {
+      return createClassLoaderInternal(provider, conf);
+    }
+  }
+
+  private IsolatedClassLoader createClassLoaderInternal(String provider, Map<String, String> conf) {
     if (config.get(Configs.CATALOG_LOAD_ISOLATED)) {
       String catalogPkgPath = buildPkgPath(conf, provider);
       String catalogConfPath = buildConfPath(conf, provider);
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import com.codahale.metrics.Timer;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.MetricsSource;
+
+/**
+ * Exposes the statistics of the catalog cache in {@link CatalogManager} and the time creating the
+ * class loaders of the catalogs.
+ */
+public class CatalogManagerMetricsSource extends MetricsSource {
+
+  private final Timer classLoaderCreationTimer;
+
+  public CatalogManagerMetricsSource(Cache<?, ?> catalogCache) {
+    super(MetricsSource.CATALOG_MANAGER_METRIC_NAME);
+    registerGauge(MetricNames.CACHE_HIT_COUNT, () -> catalogCache.stats().hitCount());
+    registerGauge(MetricNames.CACHE_MISS_COUNT, () -> catalogCache.stats().missCount());
+    registerGauge(MetricNames.CACHE_EVICTION_COUNT, () -> catalogCache.stats().evictionCount());
+    registerGauge(MetricNames.CACHE_HIT_RATIO, () -> catalogCache.stats().hitRate());
+    registerGauge(MetricNames.CACHE_SIZE, catalogCache::estimatedSize);
+    this.classLoaderCreationTimer =
+        getTimer(MetricNames.CATALOG_MANAGER_CLASSLOADER_CREATION_DURATION);
+  }
+
+  /** @return The timer of the time spent on creating the class loaders of the catalogs. */
+  public Timer classLoaderCreationTimer() {
+    return classLoaderCreationTimer;
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.catalog;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.security.Principal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.utils.PrincipalUtils;
+import org.apache.gravitino.utils.ThrowableFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reconciles the stored columns of the tables with the ones of the underlying catalogs in the
+ * background. A table whose columns are found different on loading is queued only once however many
+ * times it's loaded, and the queued tables are reconciled periodically by a daemon thread, so that
+ * loading a table never waits for the write lock of the table or the write to the store.
+ */
+class ColumnReconciler implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ColumnReconciler.class);
+
+  // The queued tables and the principals who loaded them, the columns are reconciled on behalf of
+  // the principals.
+  private final Map<NameIdentifier, Principal> pendingTables = new ConcurrentHashMap<>();
+
+  private final ThrowableFunction<NameIdentifier, ?> reconcileFunc;
+
+  private final ScheduledThreadPoolExecutor reconciler;
+
+  ColumnReconciler(long intervalMs, ThrowableFunction<NameIdentifier, ?> reconcileFunc) {
+    this.reconcileFunc = reconcileFunc;
+
+    this.reconciler =
+        new ScheduledThreadPoolExecutor(
+            1,
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("table-column-reconciler-%d")
+                .build());
+    reconciler.scheduleWithFixedDelay(
+        this::reconcilePendingTables, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Queues a table to reconcile its columns, it's a no-op if the table is already queued.
+   *
+   * @param ident The identifier of the table.
+   */
+  void submit(NameIdentifier ident) {
+    pendingTables.putIfAbsent(ident, PrincipalUtils.getCurrentPrincipal());
+  }
+
+  @VisibleForTesting
+  void reconcilePendingTables() {
+    for (NameIdentifier ident : Lists.newArrayList(pendingTables.keySet())) {
+      // The table is removed before it's reconciled, so that the drift found by the loads during
+      // the reconciliation queues the table again rather than being lost.
+      Principal principal = pendingTables.remove(ident);
+      if (principal == null) {
+        continue;
+      }
+
+      try {
+        PrincipalUtils.doAs(principal, () -> reconcileFunc.apply(ident));
+      } catch (Exception e) {
+        LOG.warn("Failed to reconcile the columns of table {}", ident, e);
+      }
+    }
+  }
+
+  /**
+   * Stops reconciling the queued tables. The tables not reconciled yet are dropped, their columns
+   * will be found different and queued again when they're loaded next time.
+   */
+  @Override
+  public void close() {
+    reconciler.shutdownNow();
+    pendingTables.clear();
+  }
+
+  @VisibleForTesting
+  int pendingTableCount() {
+    return pendingTables.size();
+  }
+
+  @VisibleForTesting
+  boolean isClosed() {
+    return reconciler.isShutdown();
+  }
+}
@@ -19,7 +19,12 @@
 
 package org.apache.gravitino.catalog;
 
+import java.util.Arrays;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.file.FilesetCatalog;
+import org.apache.gravitino.utils.PageUtil;
 
 /**
  * {@code FilesetDispatcher} interface acts as a specialization of the {@link FilesetCatalog}
@@ -27,4 +32,22 @@ import org.apache.gravitino.file.FilesetCatalog;
  * to dispatching or handling fileset-related events or actions that are not covered by the standard
  * {@code FilesetCatalog} operations.
  */
-public interface FilesetDispatcher extends FilesetCatalog {}
+public interface FilesetDispatcher extends FilesetCatalog {
+
+  /**
+   * List a page of the filesets under a namespace, ordered by name. Only the filesets of the page
+   * are kept while the listed filesets are scanned.
+   *
+   * @param namespace The namespace to list.
+   * @param startAfter The last fileset name of the previous page, or null for the first page.
+   * @param limit The maximum number of the filesets in the page.
+   * @return An array of fileset identifier in the page.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  default NameIdentifier[] listFilesets(Namespace namespace, String startAfter, int limit)
+      throws NoSuchSchemaException {
+    return PageUtil.page(
+            Arrays.asList(listFilesets(namespace)), NameIdentifier::name, startAfter, limit)
+        .toArray(new NameIdentifier[0]);
+  }
+}
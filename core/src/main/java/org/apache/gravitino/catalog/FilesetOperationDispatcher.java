@@ -213,4 +213,13 @@ public class FilesetOperationDispatcher extends OperationDispatcher implements F
         c -> c.doWithFilesetOps(f -> f.getFileLocation(ident, subPath)),
         NonEmptyEntityException.class);
   }
+
+  @Override
+  public String[] getFileLocations(NameIdentifier ident, String... subPaths)
+      throws NoSuchFilesetException {
+    return doWithCatalog(
+        getCatalogIdentifier(ident),
+        c -> c.doWithFilesetOps(f -> f.getFileLocations(ident, subPaths)),
+        NonEmptyEntityException.class);
+  }
 }
@@ -51,6 +51,15 @@ public class SchemaNormalizeDispatcher implements SchemaDispatcher {
     return normalizeCaseSensitive(identifiers);
   }
 
+  @Override
+  public NameIdentifier[] listSchemas(Namespace namespace, String startAfter, int limit)
+      throws NoSuchCatalogException {
+    NameIdentifier[] identifiers = dispatcher.listSchemas(namespace, startAfter, limit);
+    // The constraints of the name spec may be more strict than underlying catalog,
+    // and for compatibility reasons, we only apply case-sensitive capabilities here.
+    return normalizeCaseSensitive(identifiers);
+  }
+
   @Override
   public boolean schemaExists(NameIdentifier ident) {
     // The constraints of the name spec may be more strict than underlying catalog,
@@ -78,6 +78,24 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
         NoSuchCatalogException.class);
   }
 
+  /**
+   * Lists a page of the schemas within the specified namespace, ordered by name.
+   *
+   * @param namespace The namespace in which to list schemas.
+   * @param startAfter The last schema name of the previous page, or null for the first page.
+   * @param limit The maximum number of the schemas in the page.
+   * @return An array of NameIdentifier objects representing the schemas in the page.
+   * @throws NoSuchCatalogException If the catalog namespace does not exist.
+   */
+  @Override
+  public NameIdentifier[] listSchemas(Namespace namespace, String startAfter, int limit)
+      throws NoSuchCatalogException {
+    return doWithCatalog(
+        getCatalogIdentifier(NameIdentifier.of(namespace.levels())),
+        c -> c.doWithSchemaOps(s -> s.listSchemas(namespace, startAfter, limit)),
+        NoSuchCatalogException.class);
+  }
+
   /**
    * Creates a new schema.
    *
@@ -19,7 +19,12 @@
 
 package org.apache.gravitino.catalog;
 
+import java.util.Arrays;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.rel.TableCatalog;
+import org.apache.gravitino.utils.PageUtil;
 
 /**
  * {@code TableDispatcher} interface acts as a specialization of the {@link TableCatalog} interface.
@@ -27,4 +32,22 @@ import org.apache.gravitino.rel.TableCatalog;
  * dispatching or handling table-related events or actions that are not covered by the standard
  * {@code TableCatalog} operations.
  */
-public interface TableDispatcher extends TableCatalog {}
+public interface TableDispatcher extends TableCatalog {
+
+  /**
+   * List a page of the tables under a namespace, ordered by name. Only the tables of the page are
+   * kept while the listed tables are scanned.
+   *
+   * @param namespace The namespace to list.
+   * @param startAfter The last table name of the previous page, or null for the first page.
+   * @param limit The maximum number of the tables in the page.
+   * @return An array of table identifier in the page.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  default NameIdentifier[] listTables(Namespace namespace, String startAfter, int limit)
+      throws NoSuchSchemaException {
+    return PageUtil.page(
+            Arrays.asList(listTables(namespace)), NameIdentifier::name, startAfter, limit)
+        .toArray(new NameIdentifier[0]);
+  }
+}
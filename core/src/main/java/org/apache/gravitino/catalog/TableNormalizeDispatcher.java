@@ -22,6 +22,7 @@ import static org.apache.gravitino.catalog.CapabilityHelpers.applyCapabilities;
 import static org.apache.gravitino.catalog.CapabilityHelpers.applyCaseSensitive;
 import static org.apache.gravitino.catalog.CapabilityHelpers.getCapability;
 
+import java.util.Arrays;
 import java.util.Map;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.gravitino.NameIdentifier;
@@ -63,6 +64,21 @@ public class TableNormalizeDispatcher implements TableDispatcher {
     return dispatcher.loadTable(normalizeCaseSensitive(ident));
   }
 
+  @Override
+  public Table[] loadTables(Namespace namespace, String... names) throws NoSuchSchemaException {
+    // The constraints of the name spec may be more strict than underlying catalog,
+    // and for compatibility reasons, we only apply case-sensitive capabilities here.
+    Namespace caseSensitiveNs = normalizeCaseSensitive(namespace);
+    NameIdentifier[] identifiers =
+        normalizeCaseSensitive(
+            Arrays.stream(names)
+                .map(name -> NameIdentifier.of(caseSensitiveNs, name))
+                .toArray(NameIdentifier[]::new));
+    return dispatcher.loadTables(
+        caseSensitiveNs,
+        Arrays.stream(identifiers).map(NameIdentifier::name).toArray(String[]::new));
+  }
+
   @Override
   public Table createTable(
       NameIdentifier ident,
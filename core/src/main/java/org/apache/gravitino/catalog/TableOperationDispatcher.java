@@ -24,8 +24,11 @@ import static org.apache.gravitino.catalog.PropertiesMetadataHelpers.validatePro
 import static org.apache.gravitino.rel.expressions.transforms.Transforms.EMPTY_TRANSFORM;
 import static org.apache.gravitino.utils.NameIdentifierUtil.getCatalogIdentifier;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Objects;
 import com.google.common.collect.Lists;
+import java.io.Closeable;
+import java.io.IOException;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
@@ -35,6 +38,8 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
@@ -65,10 +70,15 @@ import org.apache.gravitino.utils.PrincipalUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class TableOperationDispatcher extends OperationDispatcher implements TableDispatcher {
+public class TableOperationDispatcher extends OperationDispatcher
+    implements TableDispatcher, Closeable {
 
   private static final Logger LOG = LoggerFactory.getLogger(TableOperationDispatcher.class);
 
+  // The reconciler of the table columns in the background, null if the columns are reconciled
+  // synchronously when loading the tables.
+  @VisibleForTesting final ColumnReconciler columnReconciler;
+
   /**
    * Creates a new TableOperationDispatcher instance.
    *
@@ -78,7 +88,27 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
    */
   public TableOperationDispatcher(
       CatalogManager catalogManager, EntityStore store, IdGenerator idGenerator) {
+    this(catalogManager, store, idGenerator, null);
+  }
+
+  /**
+   * Creates a new TableOperationDispatcher instance.
+   *
+   * @param catalogManager The CatalogManager instance to be used for table operations.
+   * @param store The EntityStore instance to be used for table operations.
+   * @param idGenerator The IdGenerator instance to be used for table operations.
+   * @param config The configuration of the server, the columns are reconciled synchronously when
+   *     loading the tables if it's null.
+   */
+  public TableOperationDispatcher(
+      CatalogManager catalogManager, EntityStore store, IdGenerator idGenerator, Config config) {
     super(catalogManager, store, idGenerator);
+    this.columnReconciler =
+        config != null && config.get(Configs.CATALOG_TABLE_ASYNC_COLUMN_RECONCILE)
+            ? new ColumnReconciler(
+                config.get(Configs.CATALOG_TABLE_COLUMN_RECONCILE_INTERVAL_MS),
+                this::reconcileColumns)
+            : null;
   }
 
   /**
@@ -133,6 +163,51 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
         .withImported(entityCombinedTable.imported());
   }
 
+  /**
+   * Loads multiple tables in a schema. The tables are loaded from the catalog under one read lock
+   * of the schema, and the corresponding entities are fetched from the store with one listing
+   * rather than one lookup per table.
+   *
+   * @param namespace The namespace of the schema containing the tables.
+   * @param names The names of the tables to load, all the tables in the schema are loaded if no
+   *     name is specified.
+   * @return An array of the loaded {@link Table} objects, the tables that don't exist are skipped.
+   * @throws NoSuchSchemaException If the specified schema does not exist.
+   */
+  @Override
+  public Table[] loadTables(Namespace namespace, String... names) throws NoSuchSchemaException {
+    NameIdentifier schemaIdent = NameIdentifier.of(namespace.levels());
+    List<EntityCombinedTable> combinedTables =
+        TreeLockUtils.doWithTreeLock(
+            schemaIdent, LockType.READ, () -> internalLoadTables(namespace, names));
+
+    List<Table> tables = Lists.newArrayListWithCapacity(combinedTables.size());
+    for (EntityCombinedTable combinedTable : combinedTables) {
+      NameIdentifier ident = NameIdentifier.of(namespace, combinedTable.name());
+      if (!combinedTable.imported()) {
+        // The tables not imported yet are loaded one by one to import them, this only happens
+        // when the tables are loaded for the first time.
+        try {
+          tables.add(loadTable(ident));
+        } catch (NoSuchTableException e) {
+          LOG.warn("The table {} is dropped while loading it", ident);
+        }
+        continue;
+      }
+
+      TableEntity updatedEntity = updateColumnsIfNecessaryWhenLoad(ident, combinedTable);
+      tables.add(
+          EntityCombinedTable.of(combinedTable.tableFromCatalog(), updatedEntity)
+              .withHiddenPropertiesSet(
+                  getHiddenPropertyNames(
+                      getCatalogIdentifier(ident),
+                      HasPropertyMetadata::tablePropertiesMetadata,
+                      combinedTable.tableFromCatalog().properties()))
+              .withImported(true));
+    }
+    return tables.toArray(new Table[0]);
+  }
+
   /**
    * Creates a new table in a schema.
    *
@@ -346,6 +421,14 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
         : droppedFromCatalog;
   }
 
+  /** Stops reconciling the table columns in the background if it's enabled. */
+  @Override
+  public void close() {
+    if (columnReconciler != null) {
+      columnReconciler.close();
+    }
+  }
+
   private EntityCombinedTable importTable(NameIdentifier identifier) {
     EntityCombinedTable table = internalLoadTable(identifier);
 
@@ -447,6 +530,59 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
         .withImported(tableEntity != null);
   }
 
+  private List<EntityCombinedTable> internalLoadTables(Namespace namespace, String[] names) {
+    NameIdentifier catalogIdentifier = getCatalogIdentifier(NameIdentifier.of(namespace.levels()));
+    Table[] tables =
+        doWithCatalog(
+            catalogIdentifier,
+            c -> c.doWithTableOps(t -> t.loadTables(namespace, names)),
+            NoSuchSchemaException.class);
+
+    Map<String, TableEntity> tableEntities = listTableEntities(namespace, names);
+    return Arrays.stream(tables)
+        .map(
+            table -> {
+              TableEntity tableEntity = tableEntities.get(table.name());
+              StringIdentifier stringId = getStringIdFromProperties(table.properties());
+              // Same as loading a single table, the entity whose id doesn't match the string
+              // identifier of the table is regarded as not imported.
+              if (stringId != null && tableEntity != null && tableEntity.id() != stringId.id()) {
+                LOG.error(
+                    FormattedErrorMessages.ENTITY_UNMATCHED,
+                    NameIdentifier.of(namespace, table.name()),
+                    tableEntity.id(),
+                    stringId.id());
+                tableEntity = null;
+              }
+
+              EntityCombinedTable combinedTable =
+                  stringId == null
+                      ? EntityCombinedTable.of(table)
+                      : EntityCombinedTable.of(table, tableEntity);
+              return combinedTable.withImported(tableEntity != null);
+            })
+        .collect(Collectors.toList());
+  }
+
+  private Map<String, TableEntity> listTableEntities(Namespace namespace, String[] names) {
+    try {
+      // The entities are listed with all the fields, so the columns are fetched in bulk as well.
+      // Only the requested tables are fetched if the names are specified.
+      List<TableEntity> tableEntities =
+          names.length == 0
+              ? store.list(namespace, TableEntity.class, TABLE)
+              : store.listByNames(namespace, TableEntity.class, TABLE, Arrays.asList(names));
+      return tableEntities.stream()
+          .collect(Collectors.toMap(TableEntity::name, Function.identity()));
+    } catch (NoSuchEntityException e) {
+      // The schema is not imported yet, so none of the tables is imported.
+      return Collections.emptyMap();
+    } catch (Exception e) {
+      LOG.error(FormattedErrorMessages.STORE_OP_FAILURE, "list", namespace, e);
+      throw new RuntimeException("Fail to list the table entities", e);
+    }
+  }
+
   private Table internalCreateTable(
       NameIdentifier ident,
       Column[] columns,
@@ -652,34 +788,77 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
       return combinedTable.tableFromGravitino();
     }
 
+    if (columnReconciler != null) {
+      // Return the stale entity and leave the update to the reconciler, it only affects the audit
+      // info of the returned table since the columns come from the underlying source.
+      columnReconciler.submit(tableIdent);
+      return combinedTable.tableFromGravitino();
+    }
+
     // Update the columns in the Gravitino store
     return TreeLockUtils.doWithTreeLock(
         tableIdent,
         LockType.WRITE,
         () ->
-            operateOnEntity(
+            updateColumnEntities(
                 tableIdent,
-                id ->
-                    store.update(
-                        id,
-                        TableEntity.class,
-                        TABLE,
-                        entity ->
-                            TableEntity.builder()
-                                .withId(entity.id())
-                                .withName(entity.name())
-                                .withNamespace(entity.namespace())
-                                .withColumns(columnsUpdateResult.getRight())
-                                .withAuditInfo(
-                                    AuditInfo.builder()
-                                        .withCreator(entity.auditInfo().creator())
-                                        .withCreateTime(entity.auditInfo().createTime())
-                                        .withLastModifier(
-                                            PrincipalUtils.getCurrentPrincipal().getName())
-                                        .withLastModifiedTime(Instant.now())
-                                        .build())
-                                .build()),
-                "UPDATE",
+                columnsUpdateResult.getRight(),
                 combinedTable.tableFromGravitino().id()));
   }
+
+  private TableEntity reconcileColumns(NameIdentifier tableIdent) throws IOException {
+    // The table is loaded again under the write lock, the one loaded when the drift was found may
+    // be outdated by the alterations made since then.
+    return TreeLockUtils.doWithTreeLock(
+        tableIdent,
+        LockType.WRITE,
+        () -> {
+          TableEntity tableEntity;
+          Table tableFromCatalog;
+          try {
+            tableEntity = store.get(tableIdent, TABLE, TableEntity.class);
+            tableFromCatalog =
+                doWithCatalog(
+                    getCatalogIdentifier(tableIdent),
+                    c -> c.doWithTableOps(t -> t.loadTable(tableIdent)),
+                    NoSuchTableException.class);
+          } catch (NoSuchEntityException | NoSuchTableException e) {
+            LOG.debug("The table {} is dropped before its columns are reconciled", tableIdent);
+            return null;
+          }
+
+          Pair<Boolean, List<ColumnEntity>> columnsUpdateResult =
+              updateColumnsIfNecessary(tableFromCatalog, tableEntity);
+          return columnsUpdateResult.getLeft()
+              ? updateColumnEntities(tableIdent, columnsUpdateResult.getRight(), tableEntity.id())
+              : tableEntity;
+        });
+  }
+
+  private TableEntity updateColumnEntities(
+      NameIdentifier tableIdent, List<ColumnEntity> columns, long tableId) {
+    return operateOnEntity(
+        tableIdent,
+        id ->
+            store.update(
+                id,
+                TableEntity.class,
+                TABLE,
+                entity ->
+                    TableEntity.builder()
+                        .withId(entity.id())
+                        .withName(entity.name())
+                        .withNamespace(entity.namespace())
+                        .withColumns(columns)
+                        .withAuditInfo(
+                            AuditInfo.builder()
+                                .withCreator(entity.auditInfo().creator())
+                                .withCreateTime(entity.auditInfo().createTime())
+                                .withLastModifier(PrincipalUtils.getCurrentPrincipal().getName())
+                                .withLastModifiedTime(Instant.now())
+                                .build())
+                        .build()),
+        "UPDATE",
+        tableId);
+  }
 }
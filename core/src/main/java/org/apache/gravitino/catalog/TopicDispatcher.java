@@ -19,7 +19,12 @@
 
 package org.apache.gravitino.catalog;
 
+import java.util.Arrays;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.messaging.TopicCatalog;
+import org.apache.gravitino.utils.PageUtil;
 
 /**
  * {@code TopicDispatcher} interface acts as a specialization of the {@link TopicCatalog} interface.
@@ -27,4 +32,22 @@ import org.apache.gravitino.messaging.TopicCatalog;
  * dispatching or handling topic-related events or actions that are not covered by the standard
  * {@code TopicCatalog} operations.
  */
-public interface TopicDispatcher extends TopicCatalog {}
+public interface TopicDispatcher extends TopicCatalog {
+
+  /**
+   * List a page of the topics under a namespace, ordered by name. Only the topics of the page are
+   * kept while the listed topics are scanned.
+   *
+   * @param namespace The namespace to list.
+   * @param startAfter The last topic name of the previous page, or null for the first page.
+   * @param limit The maximum number of the topics in the page.
+   * @return An array of topic identifier in the page.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  default NameIdentifier[] listTopics(Namespace namespace, String startAfter, int limit)
+      throws NoSuchSchemaException {
+    return PageUtil.page(
+            Arrays.asList(listTopics(namespace)), NameIdentifier::name, startAfter, limit)
+        .toArray(new NameIdentifier[0]);
+  }
+}
@@ -29,15 +29,19 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import org.apache.gravitino.Audit;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.CatalogProvider;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.annotation.Evolving;
 import org.apache.gravitino.connector.authorization.AuthorizationPlugin;
 import org.apache.gravitino.connector.authorization.AuthorizationProvider;
 import org.apache.gravitino.connector.authorization.BaseAuthorization;
 import org.apache.gravitino.connector.capability.Capability;
 import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.tracing.Tracer;
 import org.apache.gravitino.utils.IsolatedClassLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -74,6 +78,8 @@ public abstract class BaseCatalog<T extends BaseCatalog>
 
   private volatile CatalogOperations ops;
 
+  private CatalogMetricsSource metricsSource;
+
   private volatile Capability capability;
 
   private volatile Map<String, String> properties;
@@ -166,13 +172,17 @@ public abstract class BaseCatalog<T extends BaseCatalog>
               entity != null && conf != null, "entity and conf must be set before calling ops()");
           CatalogOperations newOps = createOps(conf);
           newOps.initialize(conf, entity.toCatalogInfo(), this);
+          ProxyPlugin proxyPlugin = newProxyPlugin(conf).orElse(null);
+          MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+          if (metricsSystem != null) {
+            this.metricsSource =
+                new CatalogMetricsSource(entity.namespace().level(0), entity.name());
+            metricsSystem.register(metricsSource);
+          }
           ops =
-              newProxyPlugin(conf)
-                  .map(
-                      proxyPlugin -> {
-                        return asProxyOps(newOps, proxyPlugin);
-                      })
-                  .orElse(newOps);
+              proxyPlugin == null && metricsSource == null && !Tracer.isEnabled()
+                  ? newOps
+                  : asProxyOps(newOps, proxyPlugin);
         }
       }
     }
@@ -238,6 +248,11 @@ public abstract class BaseCatalog<T extends BaseCatalog>
       ops.close();
       ops = null;
     }
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSource != null && metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+      metricsSource = null;
+    }
     if (authorization != null) {
       authorization.close();
       authorization = null;
@@ -358,7 +373,7 @@ public abstract class BaseCatalog<T extends BaseCatalog>
     return entity.auditInfo();
   }
 
-  private CatalogOperations asProxyOps(CatalogOperations ops, ProxyPlugin plugin) {
-    return OperationsProxy.createProxy(ops, plugin);
+  private CatalogOperations asProxyOps(CatalogOperations ops, @Nullable ProxyPlugin plugin) {
+    return OperationsProxy.createProxy(ops, plugin, metricsSource);
   }
 }
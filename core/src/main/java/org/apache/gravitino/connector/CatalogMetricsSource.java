@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.connector;
+
+import com.codahale.metrics.Timer;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.MetricsSource;
+
+/**
+ * Exposes the latency of the operations of a catalog by method, like {@code
+ * catalog.metalake1.catalog1.loadTable.operation-duration-seconds}.
+ */
+public class CatalogMetricsSource extends MetricsSource {
+
+  public CatalogMetricsSource(String metalake, String catalog) {
+    super(MetricsSource.CATALOG_METRIC_NAME + "." + metalake + "." + catalog);
+  }
+
+  /**
+   * Get the timer of the given method of the catalog operations.
+   *
+   * @param method The name of the method.
+   * @return The timer of the method.
+   */
+  public Timer operationTimer(String method) {
+    return getTimer(method + "." + MetricNames.CATALOG_OPERATION_DURATION);
+  }
+}
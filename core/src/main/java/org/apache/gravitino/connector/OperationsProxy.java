@@ -18,45 +18,108 @@
  */
 package org.apache.gravitino.connector;
 
+import com.codahale.metrics.Timer;
 import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.Collections;
+import javax.annotation.Nullable;
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.gravitino.tracing.Span;
+import org.apache.gravitino.tracing.Tracer;
 import org.apache.gravitino.utils.PrincipalUtils;
 
-/** Proxy wrapper on an operation class to execute operations by impersonating given user */
+/**
+ * Proxy wrapper on an operation class to execute operations by impersonating given user, and to
+ * measure the latency of the operations by method and trace them.
+ */
 public class OperationsProxy<T> implements InvocationHandler {
 
-  private final ProxyPlugin plugin;
+  @Nullable private final ProxyPlugin plugin;
+  @Nullable private final CatalogMetricsSource metricsSource;
   private final T ops;
 
-  private OperationsProxy(ProxyPlugin plugin, T ops) {
+  private OperationsProxy(
+      @Nullable ProxyPlugin plugin, @Nullable CatalogMetricsSource metricsSource, T ops) {
     this.plugin = plugin;
+    this.metricsSource = metricsSource;
     this.ops = ops;
   }
 
   public static <T> T createProxy(T ops, ProxyPlugin plugin) {
+    return createProxy(ops, plugin, null);
+  }
+
+  /**
+   * Create a proxy of the operations.
+   *
+   * @param ops The operations to proxy, the type of CatalogOperations or TableOperations.
+   * @param plugin The plugin to execute the operations by impersonating the current user, or null
+   *     to execute them directly.
+   * @param metricsSource The metrics source to record the latency of the operations, or null to
+   *     not record it.
+   * @param <T> The type of the operations.
+   * @return The proxy of the operations.
+   */
+  public static <T> T createProxy(
+      T ops, @Nullable ProxyPlugin plugin, @Nullable CatalogMetricsSource metricsSource) {
     if (!(ops instanceof CatalogOperations) && !(ops instanceof TableOperations)) {
       throw new IllegalArgumentException(
           "Method only supports the type of CatalogOperations or TableOperations");
     }
-    if (ops instanceof CatalogOperations) {
+    if (plugin != null && ops instanceof CatalogOperations) {
       plugin.bindCatalogOperation((CatalogOperations) ops);
     }
-    return createProxyInternal(ops, plugin, ops.getClass().getInterfaces());
+    // The interfaces implemented by the super classes of the operations are proxied too, so that
+    // the proxy can be cast to any interface the operations support, like SupportsSchemas.
+    Class<?>[] interfaces = ClassUtils.getAllInterfaces(ops.getClass()).toArray(new Class<?>[0]);
+    return createProxyInternal(ops, plugin, metricsSource, interfaces);
   }
 
-  private static <T> T createProxyInternal(T ops, ProxyPlugin plugin, Class<?>[] interfaces) {
+  private static <T> T createProxyInternal(
+      T ops, ProxyPlugin plugin, CatalogMetricsSource metricsSource, Class<?>[] interfaces) {
     return (T)
         Proxy.newProxyInstance(
-            ops.getClass().getClassLoader(), interfaces, new OperationsProxy(plugin, ops));
+            ops.getClass().getClassLoader(),
+            interfaces,
+            new OperationsProxy(plugin, metricsSource, ops));
   }
 
   @Override
   public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-    return plugin.doAs(
-        PrincipalUtils.getCurrentPrincipal(),
-        () -> method.invoke(ops, args),
-        Collections.emptyMap());
+    if (method.getDeclaringClass() == Object.class) {
+      return doInvoke(method, args);
+    }
+
+    try (Span span = Tracer.startSpan(ops.getClass().getSimpleName() + "." + method.getName())) {
+      try {
+        return metricsSource == null ? doInvoke(method, args) : doTimedInvoke(method, args);
+      } catch (Throwable t) {
+        span.recordException(t);
+        throw t;
+      }
+    }
+  }
+
+  private Object doTimedInvoke(Method method, Object[] args) throws Throwable {
+    try (Timer.Context ignored = metricsSource.operationTimer(method.getName()).time()) {
+      return doInvoke(method, args);
+    }
+  }
+
+  private Object doInvoke(Method method, Object[] args) throws Throwable {
+    if (plugin != null) {
+      return plugin.doAs(
+          PrincipalUtils.getCurrentPrincipal(),
+          () -> method.invoke(ops, args),
+          Collections.emptyMap());
+    }
+
+    try {
+      return method.invoke(ops, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
   }
 }
@@ -20,6 +20,7 @@
 
 package org.apache.gravitino.connector;
 
+import java.util.Arrays;
 import java.util.Map;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
@@ -30,6 +31,7 @@ import org.apache.gravitino.exceptions.NoSuchCatalogException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.exceptions.NonEmptySchemaException;
 import org.apache.gravitino.exceptions.SchemaAlreadyExistsException;
+import org.apache.gravitino.utils.PageUtil;
 
 /**
  * The Catalog interface to support schema operations. If the implemented catalog has schema
@@ -51,6 +53,24 @@ public interface SupportsSchemas {
    */
   NameIdentifier[] listSchemas(Namespace namespace) throws NoSuchCatalogException;
 
+  /**
+   * List a page of the schemas under a namespace, ordered by name. The catalogs which can select
+   * the page by themselves should override this method, by default the page is selected from all
+   * the schemas listed by {@link #listSchemas(Namespace)}.
+   *
+   * @param namespace The namespace to list.
+   * @param startAfter The last schema name of the previous page, or null for the first page.
+   * @param limit The maximum number of the schemas in the page.
+   * @return An array of schema identifier in the page.
+   * @throws NoSuchCatalogException If the catalog does not exist.
+   */
+  default NameIdentifier[] listSchemas(Namespace namespace, String startAfter, int limit)
+      throws NoSuchCatalogException {
+    return PageUtil.page(
+            Arrays.asList(listSchemas(namespace)), NameIdentifier::name, startAfter, limit)
+        .toArray(new NameIdentifier[0]);
+  }
+
   /**
    * Check if a schema exists.
    *
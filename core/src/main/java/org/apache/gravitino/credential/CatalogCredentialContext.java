@@ -20,6 +20,7 @@
 package org.apache.gravitino.credential;
 
 import com.google.common.base.Preconditions;
+import java.util.Objects;
 import javax.validation.constraints.NotNull;
 
 /** CatalogCredentialContext is generated when user requesting catalog credentials. */
@@ -35,4 +36,21 @@ public class CatalogCredentialContext implements CredentialContext {
   public String getUserName() {
     return userName;
   }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof CatalogCredentialContext)) {
+      return false;
+    }
+    CatalogCredentialContext that = (CatalogCredentialContext) o;
+    return Objects.equals(userName, that.userName);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(userName);
+  }
 }
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.credential;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.gravitino.credential.CredentialProviderManager.CachedCredential;
+import org.apache.gravitino.credential.CredentialProviderManager.CredentialCacheKey;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.MetricsSource;
+
+/** Exposes the statistics of the credential cache in {@link CredentialProviderManager}. */
+class CredentialCacheMetricsSource extends MetricsSource {
+
+  CredentialCacheMetricsSource(
+      Cache<CredentialCacheKey, CachedCredential> cache, LongAdder refreshCount) {
+    super(MetricsSource.CREDENTIAL_CACHE_METRIC_NAME);
+    registerGauge(MetricNames.CACHE_HIT_COUNT, () -> cache.stats().hitCount());
+    registerGauge(MetricNames.CACHE_MISS_COUNT, () -> cache.stats().missCount());
+    registerGauge(MetricNames.CACHE_EVICTION_COUNT, () -> cache.stats().evictionCount());
+    registerGauge(MetricNames.CACHE_HIT_RATIO, () -> cache.stats().hitRate());
+    registerGauge(MetricNames.CACHE_SIZE, cache::estimatedSize);
+    registerGauge(MetricNames.CACHE_REFRESH_COUNT, refreshCount::sum);
+  }
+}
@@ -19,21 +19,120 @@
 
 package org.apache.gravitino.credential;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import javax.annotation.Nullable;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.metrics.MetricsSystem;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Manages the credential providers of the catalogs.
+ *
+ * <p>The credentials vended by the providers are cached by the catalog and the credential context,
+ * so a credential is reused by the requests of the same user on the same paths. A cached credential
+ * isn't vended within the refresh margin of its expiration, and it's refreshed in the background
+ * when it's accessed within twice the refresh margin of its expiration. The refreshes run in a
+ * small pool of the manager, a credential isn't refreshed in the background if the pool is busy.
+ */
 public class CredentialProviderManager {
 
   private static final Logger LOG = LoggerFactory.getLogger(CredentialProviderManager.class);
+  private static final int REFRESH_THREAD_NUM = 2;
+  private static final int REFRESH_QUEUE_SIZE = 1000;
+
   private Map<String, CredentialProvider> credentialProviders;
 
-  public CredentialProviderManager() {
+  // The cached credentials, it's null if the cache is disabled.
+  @VisibleForTesting final Cache<CredentialCacheKey, CachedCredential> credentialCache;
+  @VisibleForTesting final LongAdder refreshCount = new LongAdder();
+  // Refreshes the cached credentials in the background, it's null if the cache is disabled.
+  @VisibleForTesting final ThreadPoolExecutor refreshExecutor;
+  private final long refreshMarginMs;
+  private CredentialCacheMetricsSource metricsSource;
+
+  /**
+   * Creates a credential provider manager.
+   *
+   * @param cacheMaxSize The max number of the cached credentials, 0 disables the cache.
+   * @param refreshMarginMs The time before the expiration of a credential in milliseconds, within
+   *     which the cached credential is not vended anymore.
+   */
+  public CredentialProviderManager(long cacheMaxSize, long refreshMarginMs) {
+    Preconditions.checkArgument(cacheMaxSize >= 0, "Cache max size should not be negative");
+    Preconditions.checkArgument(refreshMarginMs >= 0, "Refresh margin should not be negative");
     this.credentialProviders = new ConcurrentHashMap<>();
+    this.refreshMarginMs = refreshMarginMs;
+    if (cacheMaxSize == 0) {
+      this.credentialCache = null;
+      this.refreshExecutor = null;
+      return;
+    }
+
+    this.credentialCache =
+        Caffeine.newBuilder()
+            .maximumSize(cacheMaxSize)
+            .expireAfter(
+                new Expiry<CredentialCacheKey, CachedCredential>() {
+                  @Override
+                  public long expireAfterCreate(
+                      CredentialCacheKey key, CachedCredential value, long currentTime) {
+                    return value.expireAfterNanos();
+                  }
+
+                  @Override
+                  public long expireAfterUpdate(
+                      CredentialCacheKey key,
+                      CachedCredential value,
+                      long currentTime,
+                      long currentDuration) {
+                    return value.expireAfterNanos();
+                  }
+
+                  @Override
+                  public long expireAfterRead(
+                      CredentialCacheKey key,
+                      CachedCredential value,
+                      long currentTime,
+                      long currentDuration) {
+                    return currentDuration;
+                  }
+                })
+            .recordStats()
+            .build();
+    this.refreshExecutor =
+        new ThreadPoolExecutor(
+            REFRESH_THREAD_NUM,
+            REFRESH_THREAD_NUM,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(REFRESH_QUEUE_SIZE),
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("credential-refresh-%d")
+                .build(),
+            new ThreadPoolExecutor.AbortPolicy());
+
+    this.metricsSource = new CredentialCacheMetricsSource(credentialCache, refreshCount);
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
   }
 
   public void registerCredentialProvider(
@@ -58,6 +157,9 @@ public class CredentialProviderManager {
           "Unregister catalog:{} credential provider:{} to CredentialProviderManager",
           catalogName,
           credentialProvider.credentialType());
+      if (credentialCache != null) {
+        credentialCache.asMap().keySet().removeIf(key -> key.catalogName.equals(catalogName));
+      }
       try {
         credentialProvider.close();
       } catch (IOException e) {
@@ -66,8 +168,191 @@ public class CredentialProviderManager {
     }
   }
 
+  /**
+   * Replaces the credential provider of the catalog in place, so that there is no moment without a
+   * credential provider, and discards the cached credentials of the catalog. The replaced provider
+   * isn't closed since the requests in flight may still use it.
+   *
+   * @param catalogName The name of the catalog.
+   * @param credentialProvider The new credential provider, or null to remove the current one.
+   * @return The replaced credential provider, or null if the catalog had no credential provider.
+   */
+  @Nullable
+  public CredentialProvider replaceCredentialProvider(
+      String catalogName, @Nullable CredentialProvider credentialProvider) {
+    CredentialProvider replaced =
+        credentialProvider == null
+            ? credentialProviders.remove(catalogName)
+            : credentialProviders.put(catalogName, credentialProvider);
+    if (replaced != null && credentialCache != null) {
+      credentialCache.asMap().keySet().removeIf(key -> key.catalogName.equals(catalogName));
+    }
+    return replaced;
+  }
+
+  /**
+   * Gets the credential provider of the catalog, the credentials it vends are cached if the cache
+   * is enabled.
+   *
+   * @param catalogName The name of the catalog.
+   * @return The credential provider, or null if the catalog has no credential provider.
+   */
   @Nullable
   public CredentialProvider getCredentialProvider(String catalogName) {
-    return credentialProviders.get(catalogName);
+    CredentialProvider credentialProvider = credentialProviders.get(catalogName);
+    if (credentialProvider == null || credentialCache == null) {
+      return credentialProvider;
+    }
+    return new CachedCredentialProvider(catalogName, credentialProvider);
+  }
+
+  public void close() {
+    if (refreshExecutor != null) {
+      // The refreshes in flight are abandoned, the credentials are vended again on demand.
+      refreshExecutor.shutdownNow();
+    }
+    if (credentialCache != null) {
+      credentialCache.invalidateAll();
+    }
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSource != null && metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+  }
+
+  @Nullable
+  private Credential getCredential(
+      String catalogName, CredentialProvider credentialProvider, CredentialContext context) {
+    CredentialCacheKey key = new CredentialCacheKey(catalogName, context);
+    // The concurrent requests of the same key wait for the credential vended by one of them.
+    CachedCredential cached =
+        credentialCache.get(key, k -> loadCredential(credentialProvider, context));
+    if (cached == null) {
+      return null;
+    }
+
+    if (cached.shouldRefresh() && cached.refreshing.compareAndSet(false, true)) {
+      try {
+        refreshExecutor.execute(
+            () -> {
+              try {
+                CachedCredential refreshed = loadCredential(credentialProvider, context);
+                if (refreshed != null) {
+                  credentialCache.asMap().replace(key, cached, refreshed);
+                } else {
+                  credentialCache.asMap().remove(key, cached);
+                }
+              } catch (Exception e) {
+                LOG.warn("Failed to refresh the credential of catalog {}", catalogName, e);
+                cached.refreshing.set(false);
+              }
+            });
+        refreshCount.increment();
+      } catch (RejectedExecutionException e) {
+        // The credential is refreshed by a later access, or vended again once it expires.
+        cached.refreshing.set(false);
+      }
+    }
+    return cached.credential;
+  }
+
+  @Nullable
+  private CachedCredential loadCredential(
+      CredentialProvider credentialProvider, CredentialContext context) {
+    Credential credential = credentialProvider.getCredential(context);
+    return credential == null ? null : new CachedCredential(credential, refreshMarginMs);
+  }
+
+  private final class CachedCredentialProvider implements CredentialProvider {
+
+    private final String catalogName;
+    private final CredentialProvider delegate;
+
+    private CachedCredentialProvider(String catalogName, CredentialProvider delegate) {
+      this.catalogName = catalogName;
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void initialize(Map<String, String> properties) {
+      delegate.initialize(properties);
+    }
+
+    @Override
+    public String credentialType() {
+      return delegate.credentialType();
+    }
+
+    @Nullable
+    @Override
+    public Credential getCredential(CredentialContext context) {
+      return CredentialProviderManager.this.getCredential(catalogName, delegate, context);
+    }
+
+    @Override
+    public void close() throws IOException {
+      delegate.close();
+    }
+  }
+
+  static final class CredentialCacheKey {
+
+    private final String catalogName;
+    private final CredentialContext context;
+
+    private CredentialCacheKey(String catalogName, CredentialContext context) {
+      this.catalogName = catalogName;
+      this.context = context;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof CredentialCacheKey)) {
+        return false;
+      }
+      CredentialCacheKey that = (CredentialCacheKey) o;
+      return Objects.equals(catalogName, that.catalogName)
+          && Objects.equals(context, that.context);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(catalogName, context);
+    }
+  }
+
+  static final class CachedCredential {
+
+    private final Credential credential;
+    // The time in milliseconds when the credential isn't vended anymore, and when it's refreshed.
+    private final long expireTimeMs;
+    private final long refreshTimeMs;
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+    private CachedCredential(Credential credential, long refreshMarginMs) {
+      this.credential = credential;
+      if (credential.expireTimeInMs() <= 0) {
+        this.expireTimeMs = Long.MAX_VALUE;
+        this.refreshTimeMs = Long.MAX_VALUE;
+      } else {
+        this.expireTimeMs = credential.expireTimeInMs() - refreshMarginMs;
+        this.refreshTimeMs = expireTimeMs - refreshMarginMs;
+      }
+    }
+
+    private long expireAfterNanos() {
+      if (expireTimeMs == Long.MAX_VALUE) {
+        return Long.MAX_VALUE;
+      }
+      return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expireTimeMs - System.currentTimeMillis()));
+    }
+
+    private boolean shouldRefresh() {
+      return System.currentTimeMillis() >= refreshTimeMs;
+    }
   }
 }
@@ -78,11 +78,23 @@ public class AccessControlHookDispatcher implements AccessControlDispatcher {
     return dispatcher.listUsers(metalake);
   }
 
+  @Override
+  public User[] listUsers(String metalake, String startAfter, int limit)
+      throws NoSuchMetalakeException {
+    return dispatcher.listUsers(metalake, startAfter, limit);
+  }
+
   @Override
   public String[] listUserNames(String metalake) throws NoSuchMetalakeException {
     return dispatcher.listUserNames(metalake);
   }
 
+  @Override
+  public String[] listUserNames(String metalake, String startAfter, int limit)
+      throws NoSuchMetalakeException {
+    return dispatcher.listUserNames(metalake, startAfter, limit);
+  }
+
   @Override
   public Group addGroup(String metalake, String group)
       throws GroupAlreadyExistsException, NoSuchMetalakeException {
@@ -105,11 +117,23 @@ public class AccessControlHookDispatcher implements AccessControlDispatcher {
     return dispatcher.listGroups(metalake);
   }
 
+  @Override
+  public Group[] listGroups(String metalake, String startAfter, int limit)
+      throws NoSuchMetalakeException {
+    return dispatcher.listGroups(metalake, startAfter, limit);
+  }
+
   @Override
   public String[] listGroupNames(String metalake) throws NoSuchMetalakeException {
     return dispatcher.listGroupNames(metalake);
   }
 
+  @Override
+  public String[] listGroupNames(String metalake, String startAfter, int limit)
+      throws NoSuchMetalakeException {
+    return dispatcher.listGroupNames(metalake, startAfter, limit);
+  }
+
   @Override
   public User grantRolesToUser(String metalake, List<String> roles, String user)
       throws NoSuchUserException, IllegalRoleException, NoSuchMetalakeException {
@@ -180,6 +204,12 @@ public class AccessControlHookDispatcher implements AccessControlDispatcher {
     return dispatcher.listRoleNames(metalake);
   }
 
+  @Override
+  public String[] listRoleNames(String metalake, String startAfter, int limit)
+      throws NoSuchMetalakeException {
+    return dispatcher.listRoleNames(metalake, startAfter, limit);
+  }
+
   @Override
   public String[] listRoleNamesByObject(String metalake, MetadataObject object)
       throws NoSuchMetalakeException, NoSuchMetadataObjectException {
@@ -53,6 +53,12 @@ public class SchemaHookDispatcher implements SchemaDispatcher {
     return dispatcher.listSchemas(namespace);
   }
 
+  @Override
+  public NameIdentifier[] listSchemas(Namespace namespace, String startAfter, int limit)
+      throws NoSuchCatalogException {
+    return dispatcher.listSchemas(namespace, startAfter, limit);
+  }
+
   @Override
   public Schema createSchema(NameIdentifier ident, String comment, Map<String, String> properties)
       throws NoSuchCatalogException, SchemaAlreadyExistsException {
@@ -62,6 +62,11 @@ public class TableHookDispatcher implements TableDispatcher {
     return dispatcher.loadTable(ident);
   }
 
+  @Override
+  public Table[] loadTables(Namespace namespace, String... names) throws NoSuchSchemaException {
+    return dispatcher.loadTables(namespace, names);
+  }
+
   @Override
   public Table createTable(
       NameIdentifier ident,
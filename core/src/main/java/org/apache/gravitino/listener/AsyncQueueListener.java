@@ -21,52 +21,85 @@ package org.apache.gravitino.listener;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
 import org.apache.gravitino.listener.api.event.BaseEvent;
 import org.apache.gravitino.listener.api.event.Event;
 import org.apache.gravitino.listener.api.event.PreEvent;
+import org.apache.gravitino.metrics.MetricsSystem;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * AsyncQueueListener acts as event listener, and internally buffer event to a queue, start a
- * dispatcher thread to dispatch event to the real listeners. For default AsyncQueueListener it may
- * contain multi listeners share with one queue and dispatcher thread. For other
+ * AsyncQueueListener acts as event listener, and internally buffer event to queues, start
+ * dispatcher threads to dispatch event to the real listeners. For default AsyncQueueListener it may
+ * contain multi listeners share with the queues and dispatcher threads. For other
  * AsyncQueueDispatchers, contain only one listener.
+ *
+ * <p>Each dispatcher thread has its own queue, the events are distributed to the queues by the
+ * identifier of the event, so the events of the same metadata object are dispatched in order by the
+ * same thread, while the events of different objects may be dispatched concurrently. The
+ * consecutive post events in a queue are dispatched to the listeners in batches, the dispatcher
+ * thread could wait for a linger time to fill up a batch.
  */
 public class AsyncQueueListener implements EventListenerPlugin {
   private static final Logger LOG = LoggerFactory.getLogger(AsyncQueueListener.class);
   private static final String NAME_PREFIX = "async-queue-listener-";
 
   private final List<EventListenerPlugin> eventListeners;
-  private final BlockingQueue<BaseEvent> queue;
-  private final Thread asyncProcessor;
+  private final List<BlockingQueue<BaseEvent>> queues;
+  private final List<Thread> asyncProcessors;
   private final int dispatcherJoinSeconds;
+  private final int maxBatchSize;
+  private final long batchLingerMs;
   private final AtomicBoolean stopped = new AtomicBoolean(false);
   private final AtomicLong dropEventCounters = new AtomicLong(0);
   private final AtomicLong lastDropEventCounters = new AtomicLong(0);
-  private Instant lastRecordDropEventTime;
+  private Instant lastRecordDropEventTime = Instant.now();
   private final String asyncQueueListenerName;
+  private final AsyncQueueListenerMetricsSource metricsSource;
 
   public AsyncQueueListener(
       List<EventListenerPlugin> listeners,
       String name,
       int queueCapacity,
-      int dispatcherJoinSeconds) {
+      int dispatcherJoinSeconds,
+      int dispatcherThreads,
+      int maxBatchSize,
+      long batchLingerMs) {
+    Preconditions.checkArgument(dispatcherThreads > 0, "dispatcherThreads must be positive");
+    Preconditions.checkArgument(maxBatchSize > 0, "maxBatchSize must be positive");
     this.asyncQueueListenerName = NAME_PREFIX + name;
     this.eventListeners = listeners;
-    this.queue = new LinkedBlockingQueue<>(queueCapacity);
-    this.asyncProcessor = new Thread(() -> processEvents());
     this.dispatcherJoinSeconds = dispatcherJoinSeconds;
-    asyncProcessor.setDaemon(true);
-    asyncProcessor.setName(asyncQueueListenerName);
+    this.maxBatchSize = maxBatchSize;
+    this.batchLingerMs = batchLingerMs;
+
+    // The total capacity of the queues is kept as the configured capacity.
+    int capacityPerQueue = Math.max(1, queueCapacity / dispatcherThreads);
+    this.queues = new ArrayList<>(dispatcherThreads);
+    this.asyncProcessors = new ArrayList<>(dispatcherThreads);
+    for (int i = 0; i < dispatcherThreads; i++) {
+      BlockingQueue<BaseEvent> queue = new LinkedBlockingQueue<>(capacityPerQueue);
+      Thread asyncProcessor = new Thread(() -> processEvents(queue));
+      asyncProcessor.setDaemon(true);
+      asyncProcessor.setName(
+          dispatcherThreads == 1 ? asyncQueueListenerName : asyncQueueListenerName + "-" + i);
+      queues.add(queue);
+      asyncProcessors.add(asyncProcessor);
+    }
+    this.metricsSource = new AsyncQueueListenerMetricsSource(name, this::queueSize);
   }
 
   @Override
@@ -88,18 +121,30 @@ public class AsyncQueueListener implements EventListenerPlugin {
   @Override
   public void start() {
     eventListeners.forEach(listenerPlugin -> listenerPlugin.start());
-    asyncProcessor.start();
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+    asyncProcessors.forEach(Thread::start);
   }
 
   @Override
   public void stop() {
     Preconditions.checkState(!stopped.get(), asyncQueueListenerName + " had already stopped");
     stopped.compareAndSet(false, true);
-    asyncProcessor.interrupt();
-    try {
-      asyncProcessor.join(dispatcherJoinSeconds * 1000L);
-    } catch (InterruptedException e) {
-      LOG.warn("{} interrupt async processor failed.", asyncQueueListenerName, e);
+    asyncProcessors.forEach(Thread::interrupt);
+    // The threads are stopped concurrently, so the total waiting time is bounded by the join time.
+    long deadline = System.currentTimeMillis() + dispatcherJoinSeconds * 1000L;
+    for (Thread asyncProcessor : asyncProcessors) {
+      try {
+        asyncProcessor.join(Math.max(1, deadline - System.currentTimeMillis()));
+      } catch (InterruptedException e) {
+        LOG.warn("{} interrupt async processor failed.", asyncQueueListenerName, e);
+      }
+    }
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
     }
     eventListeners.forEach(listenerPlugin -> listenerPlugin.stop());
   }
@@ -109,22 +154,34 @@ public class AsyncQueueListener implements EventListenerPlugin {
     return this.eventListeners;
   }
 
-  private void processEvents() {
+  @VisibleForTesting
+  AsyncQueueListenerMetricsSource getMetricsSource() {
+    return metricsSource;
+  }
+
+  private long queueSize() {
+    return queues.stream().mapToLong(BlockingQueue::size).sum();
+  }
+
+  private void processEvents(BlockingQueue<BaseEvent> queue) {
+    List<BaseEvent> events = new ArrayList<>(maxBatchSize);
     while (!Thread.currentThread().isInterrupted()) {
       try {
-        BaseEvent baseEvent = queue.take();
-        if (baseEvent instanceof PreEvent) {
-          this.eventListeners.forEach(listener -> listener.onPreEvent((PreEvent) baseEvent));
-        } else if (baseEvent instanceof Event) {
-          this.eventListeners.forEach(listener -> listener.onPostEvent((Event) baseEvent));
-        } else {
-          LOG.warn("Unknown event type: {}", baseEvent.getClass().getSimpleName());
+        events.add(queue.take());
+        queue.drainTo(events, maxBatchSize - 1);
+        if (batchLingerMs > 0) {
+          waitForMoreEvents(queue, events);
         }
+        long startTime = System.nanoTime();
+        dispatchEvents(events);
+        metricsSource.recordProcess(System.nanoTime() - startTime);
       } catch (InterruptedException e) {
         LOG.warn("{} event dispatcher thread is interrupted.", asyncQueueListenerName);
         break;
       } catch (Exception e) {
         LOG.warn("{} throw a exception while processing event", asyncQueueListenerName, e);
+      } finally {
+        events.clear();
       }
     }
 
@@ -136,6 +193,54 @@ public class AsyncQueueListener implements EventListenerPlugin {
     }
   }
 
+  // Wait for the batch to be filled up in the linger time, to deliver fewer and larger batches.
+  private void waitForMoreEvents(BlockingQueue<BaseEvent> queue, List<BaseEvent> events)
+      throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchLingerMs);
+    while (events.size() < maxBatchSize) {
+      long remainingNanos = deadline - System.nanoTime();
+      if (remainingNanos <= 0) {
+        return;
+      }
+
+      BaseEvent event = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+      if (event == null) {
+        return;
+      }
+      events.add(event);
+      queue.drainTo(events, maxBatchSize - events.size());
+    }
+  }
+
+  private void dispatchEvents(List<BaseEvent> events) {
+    List<Event> postEvents = new ArrayList<>(events.size());
+    for (BaseEvent baseEvent : events) {
+      if (baseEvent instanceof Event) {
+        postEvents.add((Event) baseEvent);
+        continue;
+      }
+
+      // Dispatch the post events before the pre event to keep the order.
+      dispatchPostEvents(postEvents);
+      if (baseEvent instanceof PreEvent) {
+        this.eventListeners.forEach(listener -> listener.onPreEvent((PreEvent) baseEvent));
+      } else {
+        LOG.warn("Unknown event type: {}", baseEvent.getClass().getSimpleName());
+      }
+    }
+    dispatchPostEvents(postEvents);
+  }
+
+  private void dispatchPostEvents(List<Event> postEvents) {
+    if (postEvents.isEmpty()) {
+      return;
+    }
+
+    List<Event> batch = ImmutableList.copyOf(postEvents);
+    postEvents.clear();
+    this.eventListeners.forEach(listener -> listener.onPostEvents(batch));
+  }
+
   private void logDropEventsIfNecessary() {
     long currentDropEvents = dropEventCounters.incrementAndGet();
     long lastDropEvents = lastDropEventCounters.get();
@@ -165,10 +270,14 @@ public class AsyncQueueListener implements EventListenerPlugin {
       return;
     }
 
-    if (queue.offer(baseEvent)) {
+    // The events of the same metadata object are put into the same queue to keep their order.
+    NameIdentifier identifier = baseEvent.identifier();
+    int hash = identifier == null ? 0 : identifier.hashCode();
+    if (queues.get(Math.floorMod(hash, queues.size())).offer(baseEvent)) {
       return;
     }
 
+    metricsSource.recordDrop();
     logDropEventsIfNecessary();
   }
 }
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.listener;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.MetricsSource;
+
+/** Exposes the state of the event queues and dispatcher threads of {@link AsyncQueueListener}. */
+public class AsyncQueueListenerMetricsSource extends MetricsSource {
+
+  private final Counter dropCounter;
+  private final Timer processTimer;
+
+  public AsyncQueueListenerMetricsSource(String name, LongSupplier queueSize) {
+    super(MetricsSource.ASYNC_QUEUE_LISTENER_METRIC_NAME + "." + name);
+    registerGauge(MetricNames.EVENT_LISTENER_QUEUE_SIZE, queueSize::getAsLong);
+    this.dropCounter = getCounter(MetricNames.EVENT_LISTENER_DROP_COUNT);
+    this.processTimer = getTimer(MetricNames.EVENT_LISTENER_PROCESS_DURATION);
+  }
+
+  /** Record an event that is dropped since the queue is full. */
+  void recordDrop() {
+    dropCounter.inc();
+  }
+
+  /**
+   * Record the time dispatching a batch of events to the listeners.
+   *
+   * @param processNanos The dispatching time in nanoseconds.
+   */
+  void recordProcess(long processNanos) {
+    processTimer.update(processNanos, TimeUnit.NANOSECONDS);
+  }
+
+  long dropCount() {
+    return dropCounter.getCount();
+  }
+}
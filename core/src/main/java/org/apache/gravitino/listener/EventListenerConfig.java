@@ -49,6 +49,34 @@ class EventListenerConfig extends Config {
           .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
           .createWithDefault(3);
 
+  static final ConfigEntry<Integer> DISPATCHER_THREADS =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_DISPATCHER_THREADS)
+          .doc(
+              "The number of threads dispatching the events of an async queue, the events of the "
+                  + "same metadata object are always dispatched in order by the same thread")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1);
+
+  static final ConfigEntry<Integer> MAX_BATCH_SIZE =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_MAX_BATCH_SIZE)
+          .doc("The maximum number of post events delivered to an async listener in one batch")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100);
+
+  static final ConfigEntry<Long> BATCH_LINGER_MS =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_BATCH_LINGER_MS)
+          .doc(
+              "The maximum time in milliseconds an async dispatcher waits for more events to fill "
+                  + "up a batch, 0 means delivering the events in the queue without waiting")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0L);
+
   EventListenerConfig(Map<String, String> properties) {
     super(false);
     loadFromMap(properties, k -> true);
@@ -55,17 +55,26 @@ public class EventListenerManager {
   @VisibleForTesting static final String GRAVITINO_EVENT_LISTENER_CLASS = "class";
   static final String GRAVITINO_EVENT_LISTENER_QUEUE_CAPACITY = "queueCapacity";
   static final String GRAVITINO_EVENT_LISTENER_DISPATCHER_JOIN_SECONDS = "dispatcherJoinSeconds";
+  static final String GRAVITINO_EVENT_LISTENER_DISPATCHER_THREADS = "dispatcherThreads";
+  static final String GRAVITINO_EVENT_LISTENER_MAX_BATCH_SIZE = "maxBatchSize";
+  static final String GRAVITINO_EVENT_LISTENER_BATCH_LINGER_MS = "batchLingerMs";
   private static final Splitter splitter = Splitter.on(",");
   private static final Joiner DOT = Joiner.on(".");
 
   private int queueCapacity;
   private int dispatcherJoinSeconds;
+  private int dispatcherThreads;
+  private int maxBatchSize;
+  private long batchLingerMs;
   private List<EventListenerPlugin> eventListeners;
 
   public void init(Map<String, String> properties) {
     EventListenerConfig config = new EventListenerConfig(properties);
     this.queueCapacity = config.get(EventListenerConfig.QUEUE_CAPACITY);
     this.dispatcherJoinSeconds = config.get(EventListenerConfig.DISPATCHER_JOIN_SECONDS);
+    this.dispatcherThreads = config.get(EventListenerConfig.DISPATCHER_THREADS);
+    this.maxBatchSize = config.get(EventListenerConfig.MAX_BATCH_SIZE);
+    this.batchLingerMs = config.get(EventListenerConfig.BATCH_LINGER_MS);
 
     String eventListenerNames = config.get(EventListenerConfig.LISTENER_NAMES);
     Map<String, EventListenerPlugin> userEventListenerPlugins =
@@ -121,7 +130,10 @@ public class EventListenerManager {
                           ImmutableList.of(new EventListenerPluginWrapper(listenerName, listener)),
                           listenerName,
                           queueCapacity,
-                          dispatcherJoinSeconds);
+                          dispatcherJoinSeconds,
+                          dispatcherThreads,
+                          maxBatchSize,
+                          batchLingerMs);
                     case ASYNC_SHARED:
                       sharedQueueListeners.add(
                           new EventListenerPluginWrapper(listenerName, listener));
@@ -136,7 +148,13 @@ public class EventListenerManager {
     if (!sharedQueueListeners.isEmpty()) {
       listeners.add(
           new AsyncQueueListener(
-              sharedQueueListeners, "default", queueCapacity, dispatcherJoinSeconds));
+              sharedQueueListeners,
+              "default",
+              queueCapacity,
+              dispatcherJoinSeconds,
+              dispatcherThreads,
+              maxBatchSize,
+              batchLingerMs));
     }
     return listeners;
   }
@@ -20,6 +20,7 @@
 package org.apache.gravitino.listener;
 
 import com.google.common.annotations.VisibleForTesting;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.exceptions.ForbiddenException;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
@@ -37,10 +38,12 @@ public class EventListenerPluginWrapper implements EventListenerPlugin {
   private static final Logger LOG = LoggerFactory.getLogger(EventListenerPluginWrapper.class);
   private String listenerName;
   private EventListenerPlugin userEventListener;
+  private final boolean processEventsInBatch;
 
   public EventListenerPluginWrapper(String listenerName, EventListenerPlugin userEventListener) {
     this.listenerName = listenerName;
     this.userEventListener = userEventListener;
+    this.processEventsInBatch = overridesOnPostEvents(userEventListener);
   }
 
   @Override
@@ -74,6 +77,22 @@ public class EventListenerPluginWrapper implements EventListenerPlugin {
     }
   }
 
+  @Override
+  public void onPostEvents(List<Event> events) {
+    // The events are processed one by one for the listeners not processing them in batch, so that
+    // an event failed to process doesn't drop the rest events of the batch.
+    if (!processEventsInBatch) {
+      events.forEach(this::onPostEvent);
+      return;
+    }
+
+    try {
+      userEventListener.onPostEvents(events);
+    } catch (Exception e) {
+      LOG.warn("Event listener {} process {} events failed,", listenerName, events.size(), e);
+    }
+  }
+
   @Override
   public void onPreEvent(PreEvent preEvent) {
     try {
@@ -99,6 +118,15 @@ public class EventListenerPluginWrapper implements EventListenerPlugin {
     return userEventListener;
   }
 
+  private static boolean overridesOnPostEvents(EventListenerPlugin listener) {
+    try {
+      return listener.getClass().getMethod("onPostEvents", List.class).getDeclaringClass()
+          != EventListenerPlugin.class;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
   private void printExceptionInEventProcess(String listenerName, BaseEvent baseEvent, Exception e) {
     LOG.warn(
         "Event listener {} process event {} failed,",
@@ -148,19 +148,13 @@ public class FilesetEventDispatcher implements FilesetDispatcher {
       throws NoSuchFilesetException {
     try {
       String actualFileLocation = dispatcher.getFileLocation(ident, subPath);
-      // get the audit info from the thread local context
-      ImmutableMap.Builder<String, String> builder = ImmutableMap.builder();
-      CallerContext callerContext = CallerContext.CallerContextHolder.get();
-      if (callerContext != null && callerContext.context() != null) {
-        builder.putAll(callerContext.context());
-      }
       eventBus.dispatchEvent(
           new GetFileLocationEvent(
               PrincipalUtils.getCurrentUserName(),
               ident,
               actualFileLocation,
               subPath,
-              builder.build()));
+              callerContextMap()));
       return actualFileLocation;
     } catch (Exception e) {
       eventBus.dispatchEvent(
@@ -168,4 +162,41 @@ public class FilesetEventDispatcher implements FilesetDispatcher {
       throw e;
     }
   }
+
+  @Override
+  public String[] getFileLocations(NameIdentifier ident, String... subPaths)
+      throws NoSuchFilesetException {
+    try {
+      String[] actualFileLocations = dispatcher.getFileLocations(ident, subPaths);
+      // Every sub path is still audited by its own event, only the call is batched.
+      Map<String, String> contextMap = callerContextMap();
+      for (int i = 0; i < subPaths.length; i++) {
+        eventBus.dispatchEvent(
+            new GetFileLocationEvent(
+                PrincipalUtils.getCurrentUserName(),
+                ident,
+                actualFileLocations[i],
+                subPaths[i],
+                contextMap));
+      }
+      return actualFileLocations;
+    } catch (Exception e) {
+      for (String subPath : subPaths) {
+        eventBus.dispatchEvent(
+            new GetFileLocationFailureEvent(
+                PrincipalUtils.getCurrentUserName(), ident, subPath, e));
+      }
+      throw e;
+    }
+  }
+
+  private Map<String, String> callerContextMap() {
+    // get the audit info from the thread local context
+    ImmutableMap.Builder<String, String> builder = ImmutableMap.builder();
+    CallerContext callerContext = CallerContext.CallerContextHolder.get();
+    if (callerContext != null && callerContext.context() != null) {
+      builder.putAll(callerContext.context());
+    }
+    return builder.build();
+  }
 }
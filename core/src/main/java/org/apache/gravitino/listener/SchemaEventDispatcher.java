@@ -78,6 +78,20 @@ public class SchemaEventDispatcher implements SchemaDispatcher {
     }
   }
 
+  @Override
+  public NameIdentifier[] listSchemas(Namespace namespace, String startAfter, int limit)
+      throws NoSuchCatalogException {
+    try {
+      NameIdentifier[] nameIdentifiers = dispatcher.listSchemas(namespace, startAfter, limit);
+      eventBus.dispatchEvent(new ListSchemaEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      return nameIdentifiers;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListSchemaFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
+      throw e;
+    }
+  }
+
   @Override
   public boolean schemaExists(NameIdentifier ident) {
     return dispatcher.schemaExists(ident);
@@ -98,6 +98,33 @@ public class TableEventDispatcher implements TableDispatcher {
     }
   }
 
+  @Override
+  public Table[] loadTables(Namespace namespace, String... names) throws NoSuchSchemaException {
+    try {
+      Table[] tables = dispatcher.loadTables(namespace, names);
+      for (Table table : tables) {
+        eventBus.dispatchEvent(
+            new LoadTableEvent(
+                PrincipalUtils.getCurrentUserName(),
+                NameIdentifier.of(namespace, table.name()),
+                new TableInfo(table)));
+      }
+      return tables;
+    } catch (Exception e) {
+      if (names.length == 0) {
+        eventBus.dispatchEvent(
+            new ListTableFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
+      } else {
+        for (String name : names) {
+          eventBus.dispatchEvent(
+              new LoadTableFailureEvent(
+                  PrincipalUtils.getCurrentUserName(), NameIdentifier.of(namespace, name), e));
+        }
+      }
+      throw e;
+    }
+  }
+
   @Override
   public Table createTable(
       NameIdentifier ident,
@@ -19,6 +19,7 @@
 
 package org.apache.gravitino.listener.api;
 
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.annotation.DeveloperApi;
 import org.apache.gravitino.exceptions.ForbiddenException;
@@ -108,6 +109,22 @@ public interface EventListenerPlugin {
    */
   default void onPostEvent(Event postEvent) throws RuntimeException {}
 
+  /**
+   * Handle a batch of post-events in the order they are generated.
+   *
+   * <p>The asynchronous dispatchers deliver the post-events taken from the queue together through
+   * this method, the default implementation handles them one by one with {@link
+   * #onPostEvent(Event)}. Listeners that ship the events to external systems could override it to
+   * reduce the remote calls.
+   *
+   * @param postEvents The post events to be processed.
+   * @throws RuntimeException Indicates issues encountered during event processing, this has no
+   *     affect to the operation.
+   */
+  default void onPostEvents(List<Event> postEvents) throws RuntimeException {
+    postEvents.forEach(this::onPostEvent);
+  }
+
   /**
    * Handle pre-events generated before the operation.
    *
@@ -19,22 +19,35 @@
 
 package org.apache.gravitino.lock;
 
+import static org.apache.gravitino.Configs.TREE_LOCK_ACQUIRE_TIMEOUT;
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.time.StopWatch;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.Config;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.MetricsSystem;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,6 +58,10 @@ import org.slf4j.LoggerFactory;
  *
  * <p>It has two main functions: 1. Create the tree lock. 2. Clean up the stale tree lock nodes
  * shared by all tree lock instances.
+ *
+ * <p>The housekeeping doesn't walk the lock tree: the nodes that are no longer referenced are
+ * queued to be evicted in the order they become idle, and the tree locks being acquired or held are
+ * tracked to report long holds and wait-for cycles between threads.
  */
 public class LockManager {
   private static final Logger LOG = LoggerFactory.getLogger(LockManager.class);
@@ -63,6 +80,17 @@ public class LockManager {
   // The interval in seconds to clean up the stale tree lock nodes.
   @VisibleForTesting long cleanTreeNodeIntervalInSecs;
 
+  // The maximum time in milliseconds to wait for a tree lock, non-positive means waiting forever.
+  @VisibleForTesting long lockAcquireTimeoutInMs;
+
+  final TreeLockMetricsSource metricsSource;
+
+  // The nodes whose reference count has dropped to 0, in the order they become idle.
+  private final Queue<TreeLockNode> idleNodes = new ConcurrentLinkedQueue<>();
+
+  // The tree locks that are being acquired or held.
+  @VisibleForTesting final Set<TreeLock> activeTreeLocks = ConcurrentHashMap.newKeySet();
+
   private void initParameters(Config config) {
     long maxNodesInMemory = config.get(TREE_LOCK_MAX_NODE_IN_MEMORY);
     if (maxNodesInMemory <= 0) {
@@ -98,6 +126,7 @@ public class LockManager {
     }
 
     this.cleanTreeNodeIntervalInSecs = cleanIntervalInSecs;
+    this.lockAcquireTimeoutInMs = config.get(TREE_LOCK_ACQUIRE_TIMEOUT);
   }
 
   private void startDeadLockChecker() {
@@ -111,9 +140,9 @@ public class LockManager {
 
     deadLockChecker.scheduleAtFixedRate(
         () -> {
-          LOG.info("Start to check the dead lock...");
-          checkDeadLock(treeLockRootNode);
-          LOG.info("Finish to check the dead lock...");
+          LOG.debug("Start to check the dead lock...");
+          checkDeadLock();
+          LOG.debug("Finish to check the dead lock...");
         },
         0,
         60,
@@ -121,27 +150,96 @@ public class LockManager {
   }
 
   /**
-   * Check the deadlock for the given root node.
+   * Check the tree locks that are being acquired or held, report the ones that have been held for
+   * more than 30 seconds and the threads waiting for each other.
+   */
+  void checkDeadLock() {
+    long now = System.currentTimeMillis();
+    for (TreeLock treeLock : activeTreeLocks) {
+      long lockedTime = treeLock.lockedTime();
+      // If the thread is holding the lock for more than 30 seconds, we will log it.
+      if (lockedTime > 0 && now - lockedTime > 30000) {
+        LOG.warn(
+            "Tree lock {} has been held by thread {} for {} ms",
+            treeLock,
+            treeLock.owner(),
+            now - lockedTime);
+      }
+    }
+
+    List<Thread> cycle = findWaitForCycle(waitForGraph());
+    if (!cycle.isEmpty()) {
+      LOG.error(
+          "Dead lock detected, threads {} are waiting for each other, waiting tree locks: {}",
+          cycle,
+          activeTreeLocks.stream()
+              .filter(l -> l.waitingNode() != null && cycle.contains(l.owner()))
+              .collect(Collectors.toList()));
+    }
+  }
+
+  /**
+   * Build the graph from the threads waiting for tree lock nodes to the threads holding them.
    *
-   * @param node The root node to check.
+   * @return The map from a waiting thread to the threads it's waiting for.
    */
-  void checkDeadLock(TreeLockNode node) {
-    // Check child first
-    node.getAllChildren().forEach(this::checkDeadLock);
-
-    // Check self
-    node.getHoldingThreadTimestamp()
-        .forEach(
-            (threadIdentifier, ts) -> {
-              // If the thread is holding the lock for more than 30 seconds, we will log it.
-              if (System.currentTimeMillis() - ts > 30000) {
-                LOG.warn(
-                    "Dead lock detected for thread with identifier {} on node {}, threads that holding the node: {} ",
-                    threadIdentifier,
-                    node,
-                    node.getHoldingThreadTimestamp());
-              }
-            });
+  @VisibleForTesting
+  Map<Thread, Set<Thread>> waitForGraph() {
+    Map<Thread, Set<Thread>> graph = Maps.newHashMap();
+    for (TreeLock treeLock : activeTreeLocks) {
+      TreeLockNode waitingNode = treeLock.waitingNode();
+      if (waitingNode == null) {
+        continue;
+      }
+
+      Set<Thread> holders =
+          waitingNode.getHoldingThreadTimestamp().keySet().stream()
+              .map(TreeLockNode.ThreadIdentifier::thread)
+              .collect(Collectors.toSet());
+      if (!holders.isEmpty()) {
+        graph.computeIfAbsent(treeLock.owner(), k -> Sets.newHashSet()).addAll(holders);
+      }
+    }
+    return graph;
+  }
+
+  /**
+   * Find a cycle in the wait-for graph of threads.
+   *
+   * @param graph The map from a waiting thread to the threads it's waiting for.
+   * @return The threads in the cycle, or an empty list if there's no cycle.
+   */
+  @VisibleForTesting
+  static List<Thread> findWaitForCycle(Map<Thread, Set<Thread>> graph) {
+    Set<Thread> visited = Sets.newHashSet();
+    for (Thread thread : graph.keySet()) {
+      List<Thread> cycle = findWaitForCycle(thread, graph, visited, Lists.newArrayList());
+      if (!cycle.isEmpty()) {
+        return cycle;
+      }
+    }
+    return Collections.emptyList();
+  }
+
+  private static List<Thread> findWaitForCycle(
+      Thread thread, Map<Thread, Set<Thread>> graph, Set<Thread> visited, List<Thread> path) {
+    int index = path.indexOf(thread);
+    if (index >= 0) {
+      return Lists.newArrayList(path.subList(index, path.size()));
+    }
+    if (!visited.add(thread)) {
+      return Collections.emptyList();
+    }
+
+    path.add(thread);
+    for (Thread holder : graph.getOrDefault(thread, Collections.emptySet())) {
+      List<Thread> cycle = findWaitForCycle(holder, graph, visited, path);
+      if (!cycle.isEmpty()) {
+        return cycle;
+      }
+    }
+    path.remove(path.size() - 1);
+    return Collections.emptyList();
   }
 
   private void startNodeCleaner() {
@@ -162,9 +260,7 @@ public class LockManager {
           if (nodeCount > maxTreeNodeInMemory * 0.5) {
             StopWatch watch = StopWatch.createStarted();
             LOG.trace("Start to clean up the stale tree lock nodes...");
-            treeLockRootNode
-                .getAllChildren()
-                .forEach(child -> evictStaleNodes(child, treeLockRootNode));
+            evictIdleNodes();
             LOG.info(
                 "Finish to clean up the stale tree lock nodes, cost: {}, after clean node count: {}",
                 watch.getTime(),
@@ -187,45 +283,71 @@ public class LockManager {
 
     // Start deadlock checker.
     startDeadLockChecker();
+
+    this.metricsSource = new TreeLockMetricsSource();
+    metricsSource.registerGauge(MetricNames.TREE_LOCK_NODE_NUM, totalNodeCount::get);
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
   }
 
   /**
-   * Evict the stale nodes from the tree lock node.
+   * Get the maximum time in milliseconds to wait for a tree lock.
    *
-   * @param treeNode The tree lock node to evict.
-   * @param parent The parent of the tree lock node.
+   * @return The timeout in milliseconds, a non-positive value means waiting until the lock is
+   *     acquired.
    */
-  @VisibleForTesting
-  void evictStaleNodes(TreeLockNode treeNode, TreeLockNode parent) {
-    // We will not evict the node tree if the total node count is less than the
-    // MIN_TREE_NODE_IN_MEMORY.
-    // Do not need to consider thread-safe issues.
-    if (totalNodeCount.get() < minTreeNodeInMemory) {
-      return;
-    }
+  public long lockAcquireTimeoutInMs() {
+    return lockAcquireTimeoutInMs;
+  }
 
-    // Handle from leaf nodes first.
-    treeNode.getAllChildren().forEach(child -> evictStaleNodes(child, treeNode));
-
-    // Handle self node.
-    if (treeNode.getReference() == 0) {
-      synchronized (parent) {
-        // Once goes here, the parent node has been locked, so the reference of child (treeNode)
-        // could not be changed.
-        if (treeNode.getReference() == 0) {
-          parent.removeChild(treeNode.getName());
-          long leftNodeCount = totalNodeCount.decrementAndGet();
-          if (LOG.isTraceEnabled()) {
-            LOG.trace(
-                "Evict stale tree lock node '{}', current left nodes '{}'",
-                treeNode.getName(),
-                leftNodeCount);
-          }
+  /**
+   * Evict the idle nodes in the order they become idle, until the total node count is less than the
+   * minTreeNodeInMemory. The nodes referenced again after they become idle are skipped, they will
+   * be queued again once they become idle.
+   */
+  @VisibleForTesting
+  void evictIdleNodes() {
+    // Each node is polled at most once if no node becomes idle concurrently, the limit avoids
+    // chasing the nodes that keep being released.
+    long limit = totalNodeCount.get();
+    TreeLockNode node;
+    while (limit-- > 0
+        && totalNodeCount.get() >= minTreeNodeInMemory
+        && (node = idleNodes.poll()) != null) {
+      node.setQueued(false);
+      // Once marked as evicted, the node could not be referenced by any new tree lock, so it's
+      // safe to remove it from the parent.
+      if (node.getReference() == 0 && node.tryEvict()) {
+        TreeLockNode parent = node.getParent();
+        parent.removeChild(node);
+        long leftNodeCount = totalNodeCount.decrementAndGet();
+        if (LOG.isTraceEnabled()) {
+          LOG.trace(
+              "Evict stale tree lock node '{}', current left nodes '{}'",
+              node.getName(),
+              leftNodeCount);
         }
+
+        // The parent can't be evicted while it has children, queue it again in case it's idle.
+        onNodeReleased(parent);
       }
     }
   }
 
+  /**
+   * Called after a reference of the node is released, queue the node to be evicted if it becomes
+   * idle. The root node is never evicted.
+   *
+   * @param node The tree lock node whose reference is released.
+   */
+  void onNodeReleased(TreeLockNode node) {
+    if (node.getParent() != null && node.getReference() == 0 && node.trySetQueued()) {
+      idleNodes.offer(node);
+    }
+  }
+
   /**
    * Create a tree lock with the given identifier.
    *
@@ -246,32 +368,32 @@ public class LockManager {
       // Otherwise, there will be an unexpected result when using NameIdentifier.of("/").
       if (identifier == ROOT) {
         // The lock tree root node
-        return new TreeLock(treeLockNodes, identifier);
+        return new TreeLock(treeLockNodes, identifier, this);
       }
 
       String[] levels = identifier.namespace().levels();
       levels = ArrayUtils.add(levels, identifier.name());
 
-      TreeLockNode child;
       for (String level : levels) {
-        synchronized (lockNode) {
-          Pair<TreeLockNode, Boolean> pair = lockNode.getOrCreateChild(level);
-          child = pair.getKey();
-          // If the child node is newly created, we should increase the total node counts.
-          if (pair.getValue()) {
-            totalNodeCount.incrementAndGet();
-          }
+        // The current node has been referenced, so its children could be got or created without
+        // locking it.
+        Pair<TreeLockNode, Boolean> pair = lockNode.getOrCreateChild(level);
+        TreeLockNode child = pair.getKey();
+        // If the child node is newly created, we should increase the total node counts.
+        if (pair.getValue()) {
+          totalNodeCount.incrementAndGet();
         }
         treeLockNodes.add(child);
         lockNode = child;
       }
 
-      return new TreeLock(treeLockNodes, identifier);
+      return new TreeLock(treeLockNodes, identifier, this);
     } catch (Exception e) {
       LOG.error("Failed to create tree lock {}", identifier, e);
       // Release reference if fails.
       for (TreeLockNode node : treeLockNodes) {
         node.decReference();
+        onNodeReleased(node);
       }
 
       throw e;
@@ -286,6 +408,10 @@ public class LockManager {
     // If the total node count is greater than the max node counts, in case of memory
     // leak and explosion, we should throw an exception.
     long currentNodeCount = totalNodeCount.get();
+    if (currentNodeCount > maxTreeNodeInMemory) {
+      evictIdleNodes();
+      currentNodeCount = totalNodeCount.get();
+    }
     if (currentNodeCount > maxTreeNodeInMemory) {
       throw new IllegalStateException(
           "The total node count '"
@@ -22,6 +22,7 @@ package org.apache.gravitino.lock;
 import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.NameIdentifier;
 import org.slf4j.Logger;
@@ -82,9 +83,18 @@ public class TreeLock {
   private final Deque<Pair<TreeLockNode, LockType>> heldLocks = new ConcurrentLinkedDeque<>();
   private LockType lockType;
 
-  TreeLock(List<TreeLockNode> lockNodes, NameIdentifier identifier) {
+  private final LockManager lockManager;
+
+  // The thread acquiring or holding this tree lock, the time all nodes are locked, and the node the
+  // thread is waiting for. They are used by the LockManager to diagnose long holds and dead locks.
+  private volatile Thread owner;
+  private volatile long lockedTime;
+  private volatile TreeLockNode waitingNode;
+
+  TreeLock(List<TreeLockNode> lockNodes, NameIdentifier identifier, LockManager lockManager) {
     this.lockNodes = lockNodes;
     this.identifier = identifier;
+    this.lockManager = lockManager;
   }
 
   /**
@@ -96,26 +106,25 @@ public class TreeLock {
    */
   public void lock(LockType lockType) {
     this.lockType = lockType;
+    startLocking();
 
     int length = lockNodes.size();
     for (int i = 0; i < length; i++) {
       TreeLockNode treeLockNode = lockNodes.get(i);
       LockType type = i == length - 1 ? lockType : LockType.READ;
       try {
-        treeLockNode.lock(type);
-        heldLocks.push(Pair.of(treeLockNode, type));
-
-        treeLockNode.addHoldingThreadTimestamp(
-            Thread.currentThread(), identifier, System.currentTimeMillis());
-        if (LOG.isTraceEnabled()) {
-          LOG.trace(
-              "Node {} has been lock with '{}' lock, hold by {} with ident '{}' at {}",
-              this,
-              lockType,
-              Thread.currentThread(),
-              identifier,
-              System.currentTimeMillis());
+        // Only measure the contended nodes, recording every acquisition of the root node would
+        // make the metrics a new hotspot.
+        if (treeLockNode.isContended(type)) {
+          waitingNode = treeLockNode;
+          long startNanos = System.nanoTime();
+          treeLockNode.lock(type);
+          waitingNode = null;
+          lockManager.metricsSource.recordWait(i, System.nanoTime() - startNanos);
+        } else {
+          treeLockNode.lock(type);
         }
+        onLocked(treeLockNode, type);
       } catch (Exception e) {
         LOG.error(
             "Failed to lock the treeNode, identifier: {}, node {} of lockNodes: [{}]",
@@ -128,6 +137,78 @@ public class TreeLock {
         throw e;
       }
     }
+    this.lockedTime = System.currentTimeMillis();
+
+    if (LOG.isTraceEnabled()) {
+      LOG.trace(
+          "Locked the tree lock, ident: {}, lockNodes: [{}], lock type: {}",
+          identifier,
+          lockNodes,
+          lockType);
+    }
+  }
+
+  /**
+   * Try to lock the tree lock with the given lock type in the given time. This method locks the
+   * nodes in the same order as {@link #lock(LockType)}. If the nodes are not all locked in time, or
+   * an exception occurs, it will unlock all nodes that have been locked so far and release the
+   * others, and the tree lock can't be locked again.
+   *
+   * @param lockType The lock type to lock the tree lock.
+   * @param timeout The maximum time to wait for the tree lock.
+   * @param unit The time unit of the timeout argument.
+   * @return true if the tree lock is acquired, false if the waiting time elapsed.
+   * @throws InterruptedException If the current thread is interrupted while waiting.
+   */
+  public boolean tryLock(LockType lockType, long timeout, TimeUnit unit)
+      throws InterruptedException {
+    this.lockType = lockType;
+    startLocking();
+
+    long deadlineNanos = System.nanoTime() + unit.toNanos(timeout);
+    int length = lockNodes.size();
+    for (int i = 0; i < length; i++) {
+      TreeLockNode treeLockNode = lockNodes.get(i);
+      LockType type = i == length - 1 ? lockType : LockType.READ;
+      try {
+        boolean contended = treeLockNode.isContended(type);
+        if (contended) {
+          waitingNode = treeLockNode;
+        }
+        long startNanos = System.nanoTime();
+        boolean locked =
+            treeLockNode.tryLock(type, deadlineNanos - startNanos, TimeUnit.NANOSECONDS);
+        waitingNode = null;
+        if (contended || !locked) {
+          lockManager.metricsSource.recordWait(i, System.nanoTime() - startNanos);
+        }
+
+        if (!locked) {
+          LOG.warn(
+              "Failed to lock the tree lock in {} {}, identifier: {}, node {} of lockNodes: [{}]",
+              timeout,
+              unit,
+              identifier,
+              treeLockNode,
+              lockNodes);
+          lockManager.metricsSource.recordTimeout();
+          releaseFrom(i);
+          return false;
+        }
+        onLocked(treeLockNode, type);
+      } catch (Exception e) {
+        LOG.error(
+            "Failed to lock the treeNode, identifier: {}, node {} of lockNodes: [{}]",
+            identifier,
+            treeLockNode,
+            lockNodes,
+            e);
+        waitingNode = null;
+        releaseFrom(i);
+        throw e;
+      }
+    }
+    this.lockedTime = System.currentTimeMillis();
 
     if (LOG.isTraceEnabled()) {
       LOG.trace(
@@ -136,6 +217,41 @@ public class TreeLock {
           lockNodes,
           lockType);
     }
+    return true;
+  }
+
+  private void startLocking() {
+    this.owner = Thread.currentThread();
+    lockManager.activeTreeLocks.add(this);
+  }
+
+  private void onLocked(TreeLockNode treeLockNode, LockType type) {
+    heldLocks.push(Pair.of(treeLockNode, type));
+
+    treeLockNode.addHoldingThreadTimestamp(
+        Thread.currentThread(), identifier, System.currentTimeMillis());
+    if (LOG.isTraceEnabled()) {
+      LOG.trace(
+          "Node {} has been lock with '{}' lock, hold by {} with ident '{}' at {}",
+          this,
+          lockType,
+          Thread.currentThread(),
+          identifier,
+          System.currentTimeMillis());
+    }
+  }
+
+  /**
+   * Unlock the nodes that have been locked and release the references of the nodes from the given
+   * index, which are not locked.
+   */
+  private void releaseFrom(int index) {
+    unlock();
+    for (int i = index; i < lockNodes.size(); i++) {
+      TreeLockNode treeLockNode = lockNodes.get(i);
+      treeLockNode.decReference();
+      lockManager.onNodeReleased(treeLockNode);
+    }
   }
 
   /** Unlock the tree lock. */
@@ -151,6 +267,7 @@ public class TreeLock {
       current.unlock(type);
 
       long holdStartTime = current.removeHoldingThreadTimestamp(Thread.currentThread(), identifier);
+      lockManager.onNodeReleased(current);
       if (LOG.isTraceEnabled()) {
         LOG.trace(
             "Node {} has been unlock with '{}' lock, hold by {} with ident '{}' for {} ms",
@@ -162,6 +279,14 @@ public class TreeLock {
       }
     }
 
+    // The tree lock is unlocked before all the nodes are locked if the locking fails, which is not
+    // a hold.
+    if (lockedTime != 0) {
+      lockManager.metricsSource.recordHold(lockType, System.currentTimeMillis() - lockedTime);
+    }
+    this.lockedTime = 0;
+    lockManager.activeTreeLocks.remove(this);
+
     if (LOG.isTraceEnabled()) {
       LOG.trace(
           "Unlocked the tree lock, identifier: {}, lockNodes: [{}], lock type: {}",
@@ -170,4 +295,22 @@ public class TreeLock {
           lockType);
     }
   }
+
+  Thread owner() {
+    return owner;
+  }
+
+  /** @return The time all nodes are locked, or 0 if the tree lock is not held. */
+  long lockedTime() {
+    return lockedTime;
+  }
+
+  TreeLockNode waitingNode() {
+    return waitingNode;
+  }
+
+  @Override
+  public String toString() {
+    return "TreeLock{identifier=" + identifier + ", lockType=" + lockType + "}";
+  }
 }
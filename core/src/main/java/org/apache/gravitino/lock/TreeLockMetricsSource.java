@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lock;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.MetricsSource;
+
+/**
+ * Exposes the state of the tree locks created by {@link LockManager}, including the time waiting
+ * for the contended tree lock nodes of each level and the time holding the tree locks of each lock
+ * type. Level 0 is the root node, level 1 is the metalake, and so on.
+ */
+public class TreeLockMetricsSource extends MetricsSource {
+
+  // Root, metalake, catalog, schema and the entities under the schema. The nodes deeper than
+  // this are counted into the last level.
+  private static final int MAX_LEVEL = 4;
+
+  private final Timer[] waitTimers = new Timer[MAX_LEVEL + 1];
+  private final Map<LockType, Timer> holdTimers = new EnumMap<>(LockType.class);
+  private final Counter timeoutCounter;
+
+  public TreeLockMetricsSource() {
+    super(MetricsSource.TREE_LOCK_METRIC_NAME);
+    for (int level = 0; level <= MAX_LEVEL; level++) {
+      waitTimers[level] = getTimer("level-" + level + "." + MetricNames.TREE_LOCK_WAIT_DURATION);
+    }
+    for (LockType lockType : LockType.values()) {
+      String type = lockType.name().toLowerCase(Locale.ROOT);
+      holdTimers.put(lockType, getTimer(type + "." + MetricNames.TREE_LOCK_HOLD_DURATION));
+    }
+    this.timeoutCounter = getCounter(MetricNames.TREE_LOCK_TIMEOUT_COUNT);
+  }
+
+  /**
+   * Record the time waiting for a tree lock node.
+   *
+   * @param level The level of the node in the tree, 0 for the root node.
+   * @param waitNanos The waiting time in nanoseconds.
+   */
+  void recordWait(int level, long waitNanos) {
+    waitTimers[Math.min(level, MAX_LEVEL)].update(waitNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Record the time holding a tree lock, from the time all the nodes are locked to the time they're
+   * unlocked.
+   *
+   * @param lockType The lock type of the tree lock.
+   * @param holdMillis The holding time in milliseconds.
+   */
+  void recordHold(LockType lockType, long holdMillis) {
+    holdTimers.get(lockType).update(holdMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /** Record a tree lock that is not acquired in the timeout. */
+  void recordTimeout() {
+    timeoutCounter.inc();
+  }
+}
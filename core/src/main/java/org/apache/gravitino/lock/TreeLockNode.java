@@ -26,6 +26,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.commons.lang3.tuple.Pair;
@@ -39,10 +41,15 @@ import org.slf4j.LoggerFactory;
  *
  * <p>Each node will have a read-write lock to protect the node. The node will also have a map to
  * store the children. For more, please refer to {@link TreeLock}.
+ *
+ * <p>The children are looked up and created without any object lock, a node that is being evicted
+ * is marked by a special reference count so that it can't be referenced again.
  */
 public class TreeLockNode {
   public static final Logger LOG = LoggerFactory.getLogger(TreeLockNode.class);
   private final String name;
+  // The parent of this node, null for the root node.
+  private final TreeLockNode parent;
   private final ReentrantReadWriteLock readWriteLock;
   @VisibleForTesting final Map<String, TreeLockNode> childMap;
 
@@ -50,9 +57,15 @@ public class TreeLockNode {
 
   // The reference count of this node. The reference count is used to track the number of the
   // TreeLocks that are using this node. If the reference count is 0, it means that no TreeLock is
-  // using this node, and this node can be removed from the tree.
+  // using this node, and this node can be removed from the tree. The reference count is set to
+  // EVICTED once the node is chosen to be removed from the tree.
   private final AtomicLong referenceCount = new AtomicLong();
 
+  private static final long EVICTED = Long.MIN_VALUE;
+
+  // Whether this node is in the idle queue of the LockManager.
+  private final AtomicBoolean queued = new AtomicBoolean();
+
   /**
    * The identifier of a thread. This class is used to identify this tree lock node is held by which
    * thread and identifier because one thread can hold multiple tree lock nodes at the same time.
@@ -72,6 +85,10 @@ public class TreeLockNode {
       return new ThreadIdentifier(thread, identifier);
     }
 
+    Thread thread() {
+      return thread;
+    }
+
     @Override
     public boolean equals(Object o) {
       if (this == o) {
@@ -100,7 +117,12 @@ public class TreeLockNode {
   }
 
   protected TreeLockNode(String name) {
+    this(name, null);
+  }
+
+  protected TreeLockNode(String name, TreeLockNode parent) {
     this.name = name;
+    this.parent = parent;
     this.readWriteLock = new ReentrantReadWriteLock();
     this.childMap = new ConcurrentHashMap<>();
   }
@@ -109,6 +131,23 @@ public class TreeLockNode {
     return name;
   }
 
+  TreeLockNode getParent() {
+    return parent;
+  }
+
+  /**
+   * Mark this node as queued to be evicted.
+   *
+   * @return true if the node is marked, false if it's already queued.
+   */
+  boolean trySetQueued() {
+    return queued.compareAndSet(false, true);
+  }
+
+  void setQueued(boolean queued) {
+    this.queued.set(queued);
+  }
+
   Map<ThreadIdentifier, Long> getHoldingThreadTimestamp() {
     return holdingThreadTimestamp;
   }
@@ -125,18 +164,55 @@ public class TreeLockNode {
    * Increase the reference count of this node. The reference count should always be greater than or
    * equal to 0.
    */
-  synchronized void addReference() {
+  void addReference() {
     referenceCount.getAndIncrement();
   }
 
+  /**
+   * Increase the reference count of this node if it's not evicted.
+   *
+   * @return true if the reference count is increased, false if the node has been evicted.
+   */
+  private boolean tryAddReference() {
+    while (true) {
+      long count = referenceCount.get();
+      if (count == EVICTED) {
+        return false;
+      }
+      if (referenceCount.compareAndSet(count, count + 1)) {
+        return true;
+      }
+    }
+  }
+
   /**
    * Decrease the reference count of this node. The reference count should always be greater than or
    * equal to 0.
    */
-  synchronized void decReference() {
+  void decReference() {
     referenceCount.getAndDecrement();
   }
 
+  /**
+   * Mark this node as evicted if it's not referenced by any tree lock and has no children. Once
+   * marked, the node can't be referenced anymore and must be removed from its parent.
+   *
+   * @return true if the node is marked as evicted.
+   */
+  boolean tryEvict() {
+    if (!referenceCount.compareAndSet(0, EVICTED)) {
+      return false;
+    }
+
+    // A child may be added by a tree lock that has released this node before it's marked, keep
+    // this node in the tree to let the child be evicted first.
+    if (!childMap.isEmpty()) {
+      referenceCount.set(0);
+      return false;
+    }
+    return true;
+  }
+
   long getReference() {
     return referenceCount.get();
   }
@@ -155,6 +231,37 @@ public class TreeLockNode {
     }
   }
 
+  /**
+   * Lock the node with the given lock type, waiting up to the given time if the lock is held by
+   * other threads. If this method returns true, it should be followed by {@link #unlock(LockType)}.
+   *
+   * @param lockType The lock type to lock the node.
+   * @param timeout The maximum time to wait for the lock.
+   * @param unit The time unit of the timeout argument.
+   * @return true if the lock is acquired, false if the waiting time elapsed.
+   * @throws InterruptedException If the current thread is interrupted while waiting.
+   */
+  boolean tryLock(LockType lockType, long timeout, TimeUnit unit) throws InterruptedException {
+    if (lockType == LockType.READ) {
+      return readWriteLock.readLock().tryLock(timeout, unit);
+    } else {
+      return readWriteLock.writeLock().tryLock(timeout, unit);
+    }
+  }
+
+  /**
+   * Check whether locking the node with the given lock type may need to wait for other threads.
+   * This is only a hint used to decide whether to measure the time waiting for the lock.
+   *
+   * @param lockType The lock type to lock the node.
+   * @return true if the lock is held or waited by other threads.
+   */
+  boolean isContended(LockType lockType) {
+    return readWriteLock.isWriteLocked()
+        || readWriteLock.hasQueuedThreads()
+        || (lockType == LockType.WRITE && readWriteLock.getReadLockCount() > 0);
+  }
+
   /**
    * Unlock the node with the given lock type. This method should be called after {@link
    * #lock(LockType)}, and the lock type should be the same as the lock type in {@link
@@ -173,30 +280,42 @@ public class TreeLockNode {
   }
 
   /**
-   * Get the tree lock node by the given name. If the node doesn't exist, create a new TreeNode.
+   * Get the tree lock node by the given name and increase its reference count. If the node doesn't
+   * exist, create a new TreeNode.
    *
-   * <p>Note: This method should always be guarded by object lock.
+   * <p>Note: The reference count of this node should be increased before calling this method, so
+   * that this node will not be evicted.
    *
    * @param name The name of a resource such as entity or others.
    * @return A pair of the tree lock node and a boolean value indicating whether the node is newly
    *     created.
    */
   Pair<TreeLockNode, Boolean> getOrCreateChild(String name) {
-    boolean[] newCreated = new boolean[] {false};
-    TreeLockNode childNode =
-        childMap.computeIfAbsent(
-            name,
-            k -> {
-              TreeLockNode newNode = new TreeLockNode(name);
-              if (LOG.isTraceEnabled()) {
-                LOG.trace("Create tree lock node '{}' as a child of '{}'", name, this.name);
-              }
-              newCreated[0] = true;
-              return newNode;
-            });
-
-    childNode.addReference();
-    return Pair.of(childNode, newCreated[0]);
+    while (true) {
+      boolean[] newCreated = new boolean[] {false};
+      // Look up the child first, computeIfAbsent may lock the hash bin even if the child exists.
+      TreeLockNode childNode = childMap.get(name);
+      if (childNode == null) {
+        childNode =
+            childMap.computeIfAbsent(
+                name,
+                k -> {
+                  TreeLockNode newNode = new TreeLockNode(name, this);
+                  if (LOG.isTraceEnabled()) {
+                    LOG.trace("Create tree lock node '{}' as a child of '{}'", name, this.name);
+                  }
+                  newCreated[0] = true;
+                  return newNode;
+                });
+      }
+
+      if (childNode.tryAddReference()) {
+        return Pair.of(childNode, newCreated[0]);
+      }
+
+      // The child is being evicted, it will be removed from the child map soon.
+      Thread.yield();
+    }
   }
 
   /**
@@ -208,21 +327,21 @@ public class TreeLockNode {
    *
    * @return The list of all the children of this node.
    */
-  synchronized List<TreeLockNode> getAllChildren() {
+  List<TreeLockNode> getAllChildren() {
     List<TreeLockNode> children = Lists.newArrayList(childMap.values());
     Collections.shuffle(children);
     return Collections.unmodifiableList(children);
   }
 
   /**
-   * Remove the child node by the given name identifier.
+   * Remove the given child node.
    *
-   * <p>Note: This method should be guarded by object lock.
+   * <p>Note: The child should be marked as evicted by {@link #tryEvict()} before.
    *
-   * @param name The name of a resource such as entity or others.
+   * @param child The child node to remove.
    */
-  void removeChild(String name) {
-    childMap.remove(name);
+  void removeChild(TreeLockNode child) {
+    childMap.remove(child.getName(), child);
   }
 
   @Override
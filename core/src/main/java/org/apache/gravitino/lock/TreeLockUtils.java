@@ -19,8 +19,12 @@
 
 package org.apache.gravitino.lock;
 
+import java.util.concurrent.TimeUnit;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.exceptions.GravitinoRuntimeException;
+import org.apache.gravitino.tracing.Span;
+import org.apache.gravitino.tracing.Tracer;
 import org.apache.gravitino.utils.Executable;
 
 /** Utility class for tree locks. */
@@ -31,7 +35,9 @@ public class TreeLockUtils {
   }
 
   /**
-   * Execute the given executable with the given tree lock.
+   * Execute the given executable with the given tree lock. If the lock acquire timeout of the
+   * {@link LockManager} is set, a {@link GravitinoRuntimeException} will be thrown when the lock is
+   * not acquired in time.
    *
    * @param identifier The identifier of resource path that the lock attempts to lock.
    * @param lockType The type of lock to use.
@@ -43,15 +49,38 @@ public class TreeLockUtils {
    */
   public static <R, E extends Exception> R doWithTreeLock(
       NameIdentifier identifier, LockType lockType, Executable<R, E> executable) throws E {
-    TreeLock lock = GravitinoEnv.getInstance().lockManager().createTreeLock(identifier);
+    LockManager lockManager = GravitinoEnv.getInstance().lockManager();
+    TreeLock lock = lockManager.createTreeLock(identifier);
     try {
-      lock.lock(lockType);
+      try (Span span = Tracer.startSpan("TreeLock.acquire")) {
+        span.setAttribute("lock.identifier", identifier).setAttribute("lock.type", lockType);
+        acquire(lock, identifier, lockType, lockManager.lockAcquireTimeoutInMs());
+      }
       return executable.execute();
     } finally {
       lock.unlock();
     }
   }
 
+  private static void acquire(
+      TreeLock lock, NameIdentifier identifier, LockType lockType, long timeoutInMs) {
+    if (timeoutInMs <= 0) {
+      lock.lock(lockType);
+      return;
+    }
+
+    try {
+      if (!lock.tryLock(lockType, timeoutInMs, TimeUnit.MILLISECONDS)) {
+        throw new GravitinoRuntimeException(
+            "Failed to acquire the %s lock of %s in %d ms", lockType, identifier, timeoutInMs);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new GravitinoRuntimeException(
+          e, "Interrupted while acquiring the %s lock of %s", lockType, identifier);
+    }
+  }
+
   /**
    * Execute the given executable with the root tree lock.
    *
@@ -23,6 +23,7 @@ import com.google.common.collect.Maps;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import lombok.ToString;
 import org.apache.gravitino.Auditable;
 import org.apache.gravitino.Entity;
@@ -49,10 +50,15 @@ public class TableEntity implements Entity, Auditable, HasIdentifier {
 
   private Namespace namespace;
 
-  private List<ColumnEntity> columns;
+  @ToString.Exclude private volatile List<ColumnEntity> columns;
+
+  // Loads the columns when they're accessed for the first time, it's null once the columns are
+  // materialized.
+  @ToString.Exclude private Supplier<List<ColumnEntity>> columnsLoader;
 
   /**
-   * Returns a map of the fields and their corresponding values for this table.
+   * Returns a map of the fields and their corresponding values for this table. The columns are
+   * absent if they're not materialized, this method doesn't load them.
    *
    * @return A map of the fields and values.
    */
@@ -117,10 +123,44 @@ public class TableEntity implements Entity, Auditable, HasIdentifier {
     return namespace;
   }
 
+  /**
+   * Returns the columns of the table, the columns are loaded on the first call if the entity is
+   * built with a columns loader.
+   *
+   * @return The columns of the table.
+   */
   public List<ColumnEntity> columns() {
-    return columns;
+    List<ColumnEntity> materialized = columns;
+    if (materialized == null) {
+      synchronized (this) {
+        if (columns == null) {
+          columns = columnsLoader.get();
+          columnsLoader = null;
+        }
+        materialized = columns;
+      }
+    }
+    return materialized;
+  }
+
+  /**
+   * Returns whether the columns of the table are materialized, that is, whether {@link #columns()}
+   * returns without loading the columns.
+   *
+   * @return True if the columns are materialized, false otherwise.
+   */
+  public boolean columnsMaterialized() {
+    return columns != null;
+  }
+
+  @ToString.Include(name = "columns")
+  private Object columnsToString() {
+    List<ColumnEntity> materialized = columns;
+    return materialized == null ? "<not loaded>" : materialized;
   }
 
+  // The columns are compared only if both sides are materialized, so that the equality never loads
+  // them from the store.
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -135,12 +175,14 @@ public class TableEntity implements Entity, Auditable, HasIdentifier {
         && Objects.equal(name, baseTable.name)
         && Objects.equal(namespace, baseTable.namespace)
         && Objects.equal(auditInfo, baseTable.auditInfo)
-        && Objects.equal(columns, baseTable.columns);
+        && (!columnsMaterialized()
+            || !baseTable.columnsMaterialized()
+            || Objects.equal(columns, baseTable.columns));
   }
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(id, name, auditInfo, columns);
+    return Objects.hashCode(id, name, auditInfo);
   }
 
   public static class Builder {
@@ -173,13 +215,28 @@ public class TableEntity implements Entity, Auditable, HasIdentifier {
 
     public Builder withColumns(List<ColumnEntity> columns) {
       tableEntity.columns = columns;
+      tableEntity.columnsLoader = null;
+      return this;
+    }
+
+    /**
+     * Sets the loader of the columns, the columns are loaded when they're accessed for the first
+     * time rather than when the entity is built. It's useful when the columns are expensive to load
+     * and the callers may not need them.
+     *
+     * @param columnsLoader The loader of the columns.
+     * @return The builder instance.
+     */
+    public Builder withColumnsLoader(Supplier<List<ColumnEntity>> columnsLoader) {
+      tableEntity.columns = null;
+      tableEntity.columnsLoader = columnsLoader;
       return this;
     }
 
     public TableEntity build() {
       tableEntity.validate();
 
-      if (tableEntity.columns == null) {
+      if (tableEntity.columns == null && tableEntity.columnsLoader == null) {
         tableEntity.columns = Collections.emptyList();
       }
 
@@ -26,12 +26,14 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import javax.annotation.Nullable;
 import org.apache.gravitino.Entity.EntityType;
 import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.MetalakeChange;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.catalog.CatalogManager;
 import org.apache.gravitino.exceptions.AlreadyExistsException;
 import org.apache.gravitino.exceptions.MetalakeAlreadyExistsException;
 import org.apache.gravitino.exceptions.MetalakeInUseException;
@@ -60,6 +62,8 @@ public class MetalakeManager implements MetalakeDispatcher {
 
   private final IdGenerator idGenerator;
 
+  @Nullable private final CatalogManager catalogManager;
+
   /**
    * Constructs a MetalakeManager instance.
    *
@@ -67,8 +71,22 @@ public class MetalakeManager implements MetalakeDispatcher {
    * @param idGenerator The IdGenerator to use for generating Metalake identifiers.
    */
   public MetalakeManager(EntityStore store, IdGenerator idGenerator) {
+    this(store, idGenerator, null);
+  }
+
+  /**
+   * Constructs a MetalakeManager instance.
+   *
+   * @param store The EntityStore to use for managing Metalakes.
+   * @param idGenerator The IdGenerator to use for generating Metalake identifiers.
+   * @param catalogManager The CatalogManager which keeps the in-use states of Metalakes in memory,
+   *     it's notified when a Metalake is altered, dropped, enabled or disabled.
+   */
+  public MetalakeManager(
+      EntityStore store, IdGenerator idGenerator, @Nullable CatalogManager catalogManager) {
     this.store = store;
     this.idGenerator = idGenerator;
+    this.catalogManager = catalogManager;
   }
 
   /**
@@ -236,20 +254,23 @@ public class MetalakeManager implements MetalakeDispatcher {
             "Metalake %s is not in use, please enable it first", ident);
       }
 
-      return store.update(
-          ident,
-          BaseMetalake.class,
-          EntityType.METALAKE,
-          metalake -> {
-            BaseMetalake.Builder builder = newMetalakeBuilder(metalake);
-            Map<String, String> newProps =
-                metalake.properties() == null
-                    ? Maps.newHashMap()
-                    : Maps.newHashMap(metalake.properties());
-            builder = updateEntity(builder, newProps, changes);
-
-            return builder.build();
-          });
+      BaseMetalake altered =
+          store.update(
+              ident,
+              BaseMetalake.class,
+              EntityType.METALAKE,
+              metalake -> {
+                BaseMetalake.Builder builder = newMetalakeBuilder(metalake);
+                Map<String, String> newProps =
+                    metalake.properties() == null
+                        ? Maps.newHashMap()
+                        : Maps.newHashMap(metalake.properties());
+                builder = updateEntity(builder, newProps, changes);
+
+                return builder.build();
+              });
+      invalidateInUseState(ident);
+      return altered;
 
     } catch (NoSuchEntityException ne) {
       LOG.warn("Metalake {} does not exist", ident, ne);
@@ -282,7 +303,9 @@ public class MetalakeManager implements MetalakeDispatcher {
             "Metalake %s has catalogs, please drop them first or use force option", ident);
       }
 
-      return store.delete(ident, EntityType.METALAKE, true);
+      boolean dropped = store.delete(ident, EntityType.METALAKE, true);
+      invalidateInUseState(ident);
+      return dropped;
     } catch (NoSuchMetalakeException e) {
       return false;
 
@@ -313,6 +336,7 @@ public class MetalakeManager implements MetalakeDispatcher {
 
               return builder.build();
             });
+        invalidateInUseState(ident);
       }
     } catch (IOException e) {
       throw new RuntimeException(e);
@@ -340,12 +364,19 @@ public class MetalakeManager implements MetalakeDispatcher {
 
               return builder.build();
             });
+        invalidateInUseState(ident);
       }
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
   }
 
+  private void invalidateInUseState(NameIdentifier ident) {
+    if (catalogManager != null) {
+      catalogManager.invalidateMetalakeInUseState(ident);
+    }
+  }
+
   private BaseMetalake.Builder newMetalakeBuilder(BaseMetalake metalake) {
     BaseMetalake.Builder builder =
         BaseMetalake.builder()
@@ -22,6 +22,38 @@ package org.apache.gravitino.metrics;
 public class MetricNames {
   public static final String HTTP_PROCESS_DURATION = "http-request-duration-seconds";
   public static final String SERVER_IDLE_THREAD_NUM = "http-server.idle-thread.num";
+  public static final String CACHE_HIT_COUNT = "hit.count";
+  public static final String CACHE_MISS_COUNT = "miss.count";
+  public static final String CACHE_EVICTION_COUNT = "eviction.count";
+  public static final String CACHE_HIT_RATIO = "hit.ratio";
+  public static final String CACHE_SIZE = "size";
+  public static final String CACHE_REFRESH_COUNT = "refresh.count";
+  public static final String CONNECTION_POOL_ACTIVE_NUM = "active-connection.num";
+  public static final String CONNECTION_POOL_IDLE_NUM = "idle-connection.num";
+  public static final String CONNECTION_POOL_WAITER_NUM = "waiting-thread.num";
+  public static final String CONNECTION_POOL_BORROW_DURATION = "borrow-connection-duration-seconds";
+  public static final String TREE_LOCK_NODE_NUM = "node.num";
+  public static final String TREE_LOCK_WAIT_DURATION = "wait-duration-seconds";
+  public static final String TREE_LOCK_TIMEOUT_COUNT = "timeout.count";
+  public static final String TREE_LOCK_HOLD_DURATION = "hold-duration-seconds";
+  public static final String AUDIT_LOG_QUEUE_SIZE = "queue.size";
+  public static final String AUDIT_LOG_DROP_COUNT = "drop.count";
+  public static final String AUDIT_LOG_SPILL_COUNT = "spill.count";
+  public static final String AUDIT_LOG_WRITE_DURATION = "write-batch-duration-seconds";
+  public static final String EVENT_LISTENER_QUEUE_SIZE = "queue.size";
+  public static final String EVENT_LISTENER_DROP_COUNT = "drop.count";
+  public static final String EVENT_LISTENER_PROCESS_DURATION = "process-batch-duration-seconds";
+  public static final String GARBAGE_COLLECTOR_DELETED_ROW_COUNT = "deleted-row.count";
+  public static final String GARBAGE_COLLECTOR_PENDING_ENTITY_TYPE_NUM = "pending-entity-type.num";
+  public static final String GARBAGE_COLLECTOR_PENDING_ROW_NUM = "pending-row.num";
+  public static final String GARBAGE_COLLECTOR_DELETE_DURATION = "delete-batch-duration-seconds";
+  public static final String ENTITY_STORE_OPERATION_DURATION = "operation-duration-seconds";
+  public static final String CATALOG_MANAGER_CLASSLOADER_CREATION_DURATION =
+      "create-classloader-duration-seconds";
+  public static final String CATALOG_OPERATION_DURATION = "operation-duration-seconds";
+  public static final String ICEBERG_METRICS_QUEUE_SIZE = "queue.size";
+  public static final String ICEBERG_METRICS_DROP_COUNT = "drop.count";
+  public static final String ICEBERG_METRICS_WRITE_DURATION = "write-batch-duration-seconds";
 
   private MetricNames() {}
 }
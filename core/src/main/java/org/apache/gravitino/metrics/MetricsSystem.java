@@ -177,7 +177,15 @@ public class MetricsSystem implements Closeable {
         new MapperConfig(
             MetricsSource.GRAVITINO_SERVER_METRIC_NAME + ".*.*",
             MetricsSource.GRAVITINO_SERVER_METRIC_NAME + "_${1}",
-            ImmutableMap.of("operation", "${0}")));
+            ImmutableMap.of("operation", "${0}")),
+        new MapperConfig(
+            MetricsSource.ENTITY_STORE_METRIC_NAME + ".*.*.*",
+            MetricsSource.ENTITY_STORE_METRIC_NAME + "_${2}",
+            ImmutableMap.of("operation", "${0}", "entity_type", "${1}")),
+        new MapperConfig(
+            MetricsSource.CATALOG_METRIC_NAME + ".*.*.*.*",
+            MetricsSource.CATALOG_METRIC_NAME + "_${3}",
+            ImmutableMap.of("metalake", "${0}", "catalog", "${1}", "operation", "${2}")));
   }
 
   private void registerMetricsToPrometheusRegistry() {
@@ -41,6 +41,20 @@ public abstract class MetricsSource {
   public static final String ICEBERG_REST_SERVER_METRIC_NAME = "iceberg-rest-server";
   public static final String GRAVITINO_SERVER_METRIC_NAME = "gravitino-server";
   public static final String JVM_METRIC_NAME = "jvm";
+  public static final String ENTITY_STORE_CACHE_METRIC_NAME = "entity-store-cache";
+  public static final String ENTITY_STORE_CONNECTION_POOL_METRIC_NAME =
+      "entity-store-connection-pool";
+  public static final String FILESET_LOCATION_CACHE_METRIC_NAME = "fileset-location-cache";
+  public static final String TREE_LOCK_METRIC_NAME = "tree-lock";
+  public static final String AUDIT_LOG_METRIC_NAME = "audit-log";
+  public static final String ASYNC_QUEUE_LISTENER_METRIC_NAME = "async-queue-listener";
+  public static final String ENTITY_STORE_GARBAGE_COLLECTOR_METRIC_NAME =
+      "entity-store-garbage-collector";
+  public static final String ENTITY_STORE_METRIC_NAME = "entity-store";
+  public static final String CATALOG_MANAGER_METRIC_NAME = "catalog-manager";
+  public static final String CATALOG_METRIC_NAME = "catalog";
+  public static final String CREDENTIAL_CACHE_METRIC_NAME = "credential-cache";
+  public static final String ICEBERG_METRICS_STORE_METRIC_NAME = "iceberg-metrics-store";
   private final MetricRegistry metricRegistry;
   private final String metricsSourceName;
   private final int timeSlidingWindowSeconds;
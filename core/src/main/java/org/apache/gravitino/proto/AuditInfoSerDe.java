@@ -23,7 +23,7 @@ import java.util.Optional;
 import org.apache.gravitino.Namespace;
 
 /** A class for serializing and deserializing AuditInfo objects. */
-class AuditInfoSerDe implements ProtoSerDe<org.apache.gravitino.meta.AuditInfo, AuditInfo> {
+public class AuditInfoSerDe implements ProtoSerDe<org.apache.gravitino.meta.AuditInfo, AuditInfo> {
 
   /**
    * Serializes an {@link org.apache.gravitino.meta.AuditInfo} object to a {@link AuditInfo} object.
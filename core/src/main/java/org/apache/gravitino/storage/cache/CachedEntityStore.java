@@ -0,0 +1,281 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.Entity.EntityType;
+import org.apache.gravitino.EntityAlreadyExistsException;
+import org.apache.gravitino.EntitySerDe;
+import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.HasIdentifier;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.SupportsRelationOperations;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.tag.SupportsTagOperations;
+import org.apache.gravitino.utils.Executable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link EntityStore} that keeps the entities read from another entity store in a size-bounded
+ * memory cache, so that repeated reads of unchanged metadata don't reach the underlying storage.
+ *
+ * <p>Every write through this store invalidates the cached entities it may affect: the entity
+ * itself, the entities under it when it's renamed or dropped, and the entities that refer to it by
+ * name, such as the securable objects of roles and the role names of users and groups. The cache is
+ * only filled by reads, so what is cached is always what the underlying store returned.
+ */
+public class CachedEntityStore implements EntityStore {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CachedEntityStore.class);
+
+  // The entity types whose names are referred by the securable objects of roles.
+  private static final Set<EntityType> SECURABLE_ENTITY_TYPES =
+      ImmutableSet.of(
+          EntityType.METALAKE,
+          EntityType.CATALOG,
+          EntityType.SCHEMA,
+          EntityType.TABLE,
+          EntityType.FILESET,
+          EntityType.TOPIC);
+
+  private final EntityStore delegate;
+
+  @VisibleForTesting Cache<EntityCacheKey, Entity> cache;
+
+  private EntityCacheMetricsSource metricsSource;
+
+  public CachedEntityStore(EntityStore delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public void initialize(Config config) throws RuntimeException {
+    delegate.initialize(config);
+
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumWeight(config.get(Configs.ENTITY_STORE_CACHE_MAX_WEIGHT))
+            .weigher((EntityCacheKey k, Entity v) -> weightOf(v))
+            .expireAfterWrite(
+                config.get(Configs.ENTITY_STORE_CACHE_EXPIRATION_MS), TimeUnit.MILLISECONDS)
+            .recordStats()
+            .build();
+
+    this.metricsSource = new EntityCacheMetricsSource(cache);
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+    LOG.info("Entity cache is enabled for entity store {}", delegate.getClass().getSimpleName());
+  }
+
+  @Override
+  public void setSerDe(EntitySerDe entitySerDe) {
+    delegate.setSerDe(entitySerDe);
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> list(
+      Namespace namespace, Class<E> type, EntityType entityType) throws IOException {
+    return delegate.list(namespace, type, entityType);
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> list(
+      Namespace namespace, Class<E> type, EntityType entityType, boolean allFields)
+      throws IOException {
+    return delegate.list(namespace, type, entityType, allFields);
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> listByNames(
+      Namespace namespace, Class<E> type, EntityType entityType, List<String> names)
+      throws IOException {
+    return delegate.listByNames(namespace, type, entityType, names);
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> listPage(
+      Namespace namespace, Class<E> type, EntityType entityType, String startAfter, int limit)
+      throws IOException {
+    return delegate.listPage(namespace, type, entityType, startAfter, limit);
+  }
+
+  @Override
+  public boolean exists(NameIdentifier ident, EntityType entityType) throws IOException {
+    if (cache.getIfPresent(EntityCacheKey.of(ident, entityType)) != null) {
+      return true;
+    }
+    return delegate.exists(ident, entityType);
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> void put(E e, boolean overwritten)
+      throws IOException, EntityAlreadyExistsException {
+    try {
+      delegate.put(e, overwritten);
+    } finally {
+      cache.invalidate(EntityCacheKey.of(e.nameIdentifier(), e.type()));
+    }
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> E update(
+      NameIdentifier ident, Class<E> type, EntityType entityType, Function<E, E> updater)
+      throws IOException, NoSuchEntityException, EntityAlreadyExistsException {
+    E updated = null;
+    try {
+      updated = delegate.update(ident, type, entityType, updater);
+      return updated;
+    } finally {
+      cache.invalidate(EntityCacheKey.of(ident, entityType));
+      if (updated != null && !updated.nameIdentifier().equals(ident)) {
+        // The entity is renamed, the entities under it and the entities referring to it by name
+        // are not reachable by the cached identifiers anymore.
+        cache.invalidate(EntityCacheKey.of(updated.nameIdentifier(), entityType));
+        invalidateReferences(ident, entityType);
+      }
+    }
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> E get(
+      NameIdentifier ident, EntityType entityType, Class<E> e)
+      throws NoSuchEntityException, IOException {
+    try {
+      // The loading is atomic with the invalidation of the same key, so an invalidation issued
+      // after a write will never be overtaken by a concurrent load of the stale entity.
+      return (E)
+          cache.get(
+              EntityCacheKey.of(ident, entityType),
+              key -> {
+                try {
+                  return delegate.get(ident, entityType, e);
+                } catch (IOException ioe) {
+                  throw new UncheckedIOException(ioe);
+                }
+              });
+    } catch (UncheckedIOException uioe) {
+      throw uioe.getCause();
+    }
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> E get(
+      NameIdentifier ident, EntityType entityType, Class<E> e, boolean allFields)
+      throws NoSuchEntityException, IOException {
+    if (allFields) {
+      return get(ident, entityType, e);
+    }
+
+    // A cached entity has all the fields, but an entity without some fields is never cached.
+    E cached = (E) cache.getIfPresent(EntityCacheKey.of(ident, entityType));
+    return cached != null ? cached : delegate.get(ident, entityType, e, false);
+  }
+
+  @Override
+  public boolean delete(NameIdentifier ident, EntityType entityType, boolean cascade)
+      throws IOException {
+    try {
+      return delegate.delete(ident, entityType, cascade);
+    } finally {
+      cache.invalidate(EntityCacheKey.of(ident, entityType));
+      invalidateReferences(ident, entityType);
+    }
+  }
+
+  @Override
+  public <R, E extends Exception> R executeInTransaction(Executable<R, E> executable)
+      throws E, IOException {
+    return delegate.executeInTransaction(executable);
+  }
+
+  @Override
+  public SupportsTagOperations tagOperations() {
+    return delegate.tagOperations();
+  }
+
+  @Override
+  public SupportsRelationOperations relationOperations() {
+    return delegate.relationOperations();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (cache != null) {
+      cache.invalidateAll();
+    }
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSource != null && metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+
+    delegate.close();
+  }
+
+  private void invalidateReferences(NameIdentifier ident, EntityType entityType) {
+    String metalake = entityType == EntityType.METALAKE ? ident.name() : ident.namespace().level(0);
+
+    Predicate<EntityCacheKey> affected = key -> key.isDescendantOf(ident);
+    if (SECURABLE_ENTITY_TYPES.contains(entityType)) {
+      affected = affected.or(key -> key.type() == EntityType.ROLE && inMetalake(key, metalake));
+    } else if (entityType == EntityType.ROLE) {
+      affected =
+          affected.or(
+              key ->
+                  (key.type() == EntityType.USER || key.type() == EntityType.GROUP)
+                      && inMetalake(key, metalake));
+    }
+
+    cache.asMap().keySet().removeIf(affected);
+  }
+
+  private static boolean inMetalake(EntityCacheKey key, String metalake) {
+    Namespace namespace = key.identifier().namespace();
+    return !namespace.isEmpty() && namespace.level(0).equals(metalake);
+  }
+
+  private static int weightOf(Entity entity) {
+    // The columns of a table are materialized here if they're loaded lazily, a cached table is
+    // shared by all the readers, so its columns are loaded only once while it's cached.
+    if (entity instanceof TableEntity && ((TableEntity) entity).columns() != null) {
+      return 1 + ((TableEntity) entity).columns().size();
+    }
+    return 1;
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.cache;
+
+import java.util.Objects;
+import org.apache.gravitino.Entity.EntityType;
+import org.apache.gravitino.NameIdentifier;
+
+/** The key of an entity cached by {@link CachedEntityStore}. */
+public final class EntityCacheKey {
+
+  private final NameIdentifier identifier;
+  private final EntityType type;
+
+  private EntityCacheKey(NameIdentifier identifier, EntityType type) {
+    this.identifier = identifier;
+    this.type = type;
+  }
+
+  /**
+   * Create a cache key for the entity with the given identifier and type.
+   *
+   * @param identifier The name identifier of the entity.
+   * @param type The type of the entity.
+   * @return The cache key.
+   */
+  public static EntityCacheKey of(NameIdentifier identifier, EntityType type) {
+    return new EntityCacheKey(identifier, type);
+  }
+
+  /** @return The name identifier of the entity. */
+  public NameIdentifier identifier() {
+    return identifier;
+  }
+
+  /** @return The type of the entity. */
+  public EntityType type() {
+    return type;
+  }
+
+  /**
+   * Check whether the entity of this key lives under the given identifier, for example a table
+   * lives under its schema, catalog and metalake.
+   *
+   * @param ancestor The identifier of the possible ancestor.
+   * @return True if the entity of this key lives under the ancestor, false otherwise.
+   */
+  public boolean isDescendantOf(NameIdentifier ancestor) {
+    String[] levels = identifier.namespace().levels();
+    String[] ancestorLevels = ancestor.namespace().levels();
+    if (levels.length <= ancestorLevels.length) {
+      return false;
+    }
+
+    for (int i = 0; i < ancestorLevels.length; i++) {
+      if (!levels[i].equals(ancestorLevels[i])) {
+        return false;
+      }
+    }
+    return levels[ancestorLevels.length].equals(ancestor.name());
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof EntityCacheKey)) {
+      return false;
+    }
+    EntityCacheKey that = (EntityCacheKey) o;
+    return Objects.equals(identifier, that.identifier) && type == that.type;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(identifier, type);
+  }
+
+  @Override
+  public String toString() {
+    return type + ":" + identifier;
+  }
+}
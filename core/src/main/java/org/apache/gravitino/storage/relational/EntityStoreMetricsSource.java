@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.storage.relational;
+
+import com.codahale.metrics.Timer;
+import java.util.Locale;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.MetricsSource;
+
+/**
+ * Exposes the latency of the operations of the {@link RelationalEntityStore} by operation and
+ * entity type, like {@code entity-store.get.table.operation-duration-seconds}.
+ */
+public class EntityStoreMetricsSource extends MetricsSource {
+
+  public EntityStoreMetricsSource() {
+    super(MetricsSource.ENTITY_STORE_METRIC_NAME);
+  }
+
+  /**
+   * Get the timer of an operation on the entities of the given type.
+   *
+   * @param operation The name of the operation, like get, list, put, update and delete.
+   * @param entityType The type of the entities.
+   * @return The timer of the operation.
+   */
+  public Timer operationTimer(String operation, Entity.EntityType entityType) {
+    return getTimer(
+        operation
+            + "."
+            + entityType.name().toLowerCase(Locale.ROOT)
+            + "."
+            + MetricNames.ENTITY_STORE_OPERATION_DURATION);
+  }
+}
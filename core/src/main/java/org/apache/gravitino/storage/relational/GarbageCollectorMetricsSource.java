@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.storage.relational;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
+import java.util.function.Supplier;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.MetricsSource;
+
+/** Exposes the progress of the {@link RelationalGarbageCollector}. */
+public class GarbageCollectorMetricsSource extends MetricsSource {
+
+  private final Counter deletedRowCounter;
+  private final Timer deleteTimer;
+
+  public GarbageCollectorMetricsSource(
+      Supplier<Integer> pendingEntityTypeNum, Supplier<Long> pendingRowNum) {
+    super(MetricsSource.ENTITY_STORE_GARBAGE_COLLECTOR_METRIC_NAME);
+    registerGauge(MetricNames.GARBAGE_COLLECTOR_PENDING_ENTITY_TYPE_NUM, pendingEntityTypeNum::get);
+    registerGauge(MetricNames.GARBAGE_COLLECTOR_PENDING_ROW_NUM, pendingRowNum::get);
+    this.deletedRowCounter = getCounter(MetricNames.GARBAGE_COLLECTOR_DELETED_ROW_COUNT);
+    this.deleteTimer = getTimer(MetricNames.GARBAGE_COLLECTOR_DELETE_DURATION);
+  }
+
+  /** @return The counter of the rows deleted by the garbage collector. */
+  public Counter deletedRowCounter() {
+    return deletedRowCounter;
+  }
+
+  /** @return The timer of the time spent on each delete statement of the garbage collector. */
+  public Timer deleteTimer() {
+    return deleteTimer;
+  }
+}
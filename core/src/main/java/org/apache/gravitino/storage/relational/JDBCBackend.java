@@ -19,14 +19,15 @@
 
 package org.apache.gravitino.storage.relational;
 
-import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT;
-
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
@@ -50,7 +51,23 @@ import org.apache.gravitino.meta.TopicEntity;
 import org.apache.gravitino.meta.UserEntity;
 import org.apache.gravitino.storage.relational.converters.SQLExceptionConverterFactory;
 import org.apache.gravitino.storage.relational.database.H2Database;
+import org.apache.gravitino.storage.relational.mapper.CatalogMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.FilesetMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.FilesetVersionMapper;
+import org.apache.gravitino.storage.relational.mapper.GroupMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.MetalakeMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.OwnerMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.RoleMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.SchemaMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.SecurableObjectMapper;
+import org.apache.gravitino.storage.relational.mapper.TableColumnMapper;
+import org.apache.gravitino.storage.relational.mapper.TableMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.TagMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.TagMetadataObjectRelMapper;
+import org.apache.gravitino.storage.relational.mapper.TopicMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.UserMetaMapper;
 import org.apache.gravitino.storage.relational.service.CatalogMetaService;
+import org.apache.gravitino.storage.relational.service.CommonMetaService;
 import org.apache.gravitino.storage.relational.service.FilesetMetaService;
 import org.apache.gravitino.storage.relational.service.GroupMetaService;
 import org.apache.gravitino.storage.relational.service.MetalakeMetaService;
@@ -63,6 +80,8 @@ import org.apache.gravitino.storage.relational.service.TagMetaService;
 import org.apache.gravitino.storage.relational.service.TopicMetaService;
 import org.apache.gravitino.storage.relational.service.UserMetaService;
 import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
+import org.apache.gravitino.storage.relational.utils.EntityFieldCodec;
+import org.apache.gravitino.utils.PageUtil;
 
 /**
  * {@link JDBCBackend} is a jdbc implementation of {@link RelationalBackend} interface. You can use
@@ -85,6 +104,9 @@ public class JDBCBackend implements RelationalBackend {
 
     SqlSessionFactoryHelper.getInstance().init(config);
     SQLExceptionConverterFactory.initConverter(config);
+    CommonMetaService.getInstance().initialize(config);
+    TableColumnMetaService.getInstance().initialize(config);
+    EntityFieldCodec.initialize(config);
   }
 
   @Override
@@ -98,7 +120,7 @@ public class JDBCBackend implements RelationalBackend {
       case SCHEMA:
         return (List<E>) SchemaMetaService.getInstance().listSchemasByNamespace(namespace);
       case TABLE:
-        return (List<E>) TableMetaService.getInstance().listTablesByNamespace(namespace);
+        return (List<E>) TableMetaService.getInstance().listTablesByNamespace(namespace, allFields);
       case FILESET:
         return (List<E>) FilesetMetaService.getInstance().listFilesetsByNamespace(namespace);
       case TOPIC:
@@ -117,10 +139,55 @@ public class JDBCBackend implements RelationalBackend {
     }
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> listPage(
+      Namespace namespace, Entity.EntityType entityType, String startAfter, int limit)
+      throws IOException {
+    switch (entityType) {
+      case SCHEMA:
+        return (List<E>)
+            SchemaMetaService.getInstance().listSchemasByNamespace(namespace, startAfter, limit);
+      case TAG:
+        return (List<E>)
+            TagMetaService.getInstance().listTagsByNamespace(namespace, startAfter, limit);
+      case USER:
+        return (List<E>)
+            UserMetaService.getInstance().listUsersByNamespace(namespace, startAfter, limit);
+      case ROLE:
+        return (List<E>)
+            RoleMetaService.getInstance().listRolesByNamespace(namespace, startAfter, limit);
+      case GROUP:
+        return (List<E>)
+            GroupMetaService.getInstance().listGroupsByNamespace(namespace, startAfter, limit);
+      default:
+        // The other entity types are few per namespace, select the page in memory.
+        return PageUtil.page(
+            this.<E>list(namespace, entityType, false /* allFields */),
+            HasIdentifier::name,
+            startAfter,
+            limit);
+    }
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> listByNames(
+      Namespace namespace, Entity.EntityType entityType, List<String> names) throws IOException {
+    if (entityType == Entity.EntityType.TABLE) {
+      // The table entities carry the columns, so only the requested tables are loaded.
+      return (List<E>)
+          TableMetaService.getInstance().listTablesByNamespaceAndNames(namespace, names);
+    }
+
+    Set<String> nameSet = Sets.newHashSet(names);
+    return this.<E>list(namespace, entityType, true /* allFields */).stream()
+        .filter(e -> nameSet.contains(e.name()))
+        .collect(Collectors.toList());
+  }
+
   @Override
   public boolean exists(NameIdentifier ident, Entity.EntityType entityType) throws IOException {
     try {
-      Entity entity = get(ident, entityType);
+      Entity entity = get(ident, entityType, false /* allFields */);
       return entity != null;
     } catch (NoSuchEntityException ne) {
       return false;
@@ -218,6 +285,16 @@ public class JDBCBackend implements RelationalBackend {
     }
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> E get(
+      NameIdentifier ident, Entity.EntityType entityType, boolean allFields)
+      throws NoSuchEntityException, IOException {
+    if (entityType == Entity.EntityType.TABLE) {
+      return (E) TableMetaService.getInstance().getTableByIdentifier(ident, allFields);
+    }
+    return get(ident, entityType);
+  }
+
   @Override
   public boolean delete(NameIdentifier ident, Entity.EntityType entityType, boolean cascade)
       throws IOException {
@@ -249,52 +326,39 @@ public class JDBCBackend implements RelationalBackend {
   }
 
   @Override
-  public int hardDeleteLegacyData(Entity.EntityType entityType, long legacyTimeline)
+  public int hardDeleteLegacyData(Entity.EntityType entityType, long legacyTimeline, int limit)
       throws IOException {
     switch (entityType) {
       case METALAKE:
         return MetalakeMetaService.getInstance()
-            .deleteMetalakeMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteMetalakeMetasByLegacyTimeline(legacyTimeline, limit);
       case CATALOG:
         return CatalogMetaService.getInstance()
-            .deleteCatalogMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteCatalogMetasByLegacyTimeline(legacyTimeline, limit);
       case SCHEMA:
         return SchemaMetaService.getInstance()
-            .deleteSchemaMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteSchemaMetasByLegacyTimeline(legacyTimeline, limit);
       case TABLE:
         return TableMetaService.getInstance()
-            .deleteTableMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteTableMetasByLegacyTimeline(legacyTimeline, limit);
       case FILESET:
         return FilesetMetaService.getInstance()
-            .deleteFilesetAndVersionMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteFilesetAndVersionMetasByLegacyTimeline(legacyTimeline, limit);
       case TOPIC:
         return TopicMetaService.getInstance()
-            .deleteTopicMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteTopicMetasByLegacyTimeline(legacyTimeline, limit);
       case USER:
-        return UserMetaService.getInstance()
-            .deleteUserMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+        return UserMetaService.getInstance().deleteUserMetasByLegacyTimeline(legacyTimeline, limit);
       case GROUP:
         return GroupMetaService.getInstance()
-            .deleteGroupMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteGroupMetasByLegacyTimeline(legacyTimeline, limit);
       case ROLE:
-        return RoleMetaService.getInstance()
-            .deleteRoleMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+        return RoleMetaService.getInstance().deleteRoleMetasByLegacyTimeline(legacyTimeline, limit);
       case TAG:
-        return TagMetaService.getInstance()
-            .deleteTagMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+        return TagMetaService.getInstance().deleteTagMetasByLegacyTimeline(legacyTimeline, limit);
       case COLUMN:
         return TableColumnMetaService.getInstance()
-            .deleteColumnsByLegacyTimeline(legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteColumnsByLegacyTimeline(legacyTimeline, limit);
       case AUDIT:
         return 0;
         // TODO: Implement hard delete logic for these entity types.
@@ -306,8 +370,68 @@ public class JDBCBackend implements RelationalBackend {
   }
 
   @Override
-  public int deleteOldVersionData(Entity.EntityType entityType, long versionRetentionCount)
+  public long countLegacyData(Entity.EntityType entityType, long legacyTimeline)
       throws IOException {
+    // A relation table is counted with only one of the entity types deleting its legacy data.
+    switch (entityType) {
+      case METALAKE:
+        return countLegacyData(
+            legacyTimeline, MetalakeMetaMapper.TABLE_NAME, OwnerMetaMapper.OWNER_TABLE_NAME);
+      case CATALOG:
+        return countLegacyData(legacyTimeline, CatalogMetaMapper.TABLE_NAME);
+      case SCHEMA:
+        return countLegacyData(legacyTimeline, SchemaMetaMapper.TABLE_NAME);
+      case TABLE:
+        return countLegacyData(legacyTimeline, TableMetaMapper.TABLE_NAME);
+      case FILESET:
+        return countLegacyData(
+            legacyTimeline,
+            FilesetMetaMapper.META_TABLE_NAME,
+            FilesetVersionMapper.VERSION_TABLE_NAME);
+      case TOPIC:
+        return countLegacyData(legacyTimeline, TopicMetaMapper.TABLE_NAME);
+      case USER:
+        return countLegacyData(
+            legacyTimeline,
+            UserMetaMapper.USER_TABLE_NAME,
+            UserMetaMapper.USER_ROLE_RELATION_TABLE_NAME);
+      case GROUP:
+        return countLegacyData(
+            legacyTimeline,
+            GroupMetaMapper.GROUP_TABLE_NAME,
+            GroupMetaMapper.GROUP_ROLE_RELATION_TABLE_NAME);
+      case ROLE:
+        return countLegacyData(
+            legacyTimeline,
+            RoleMetaMapper.ROLE_TABLE_NAME,
+            SecurableObjectMapper.SECURABLE_OBJECT_TABLE_NAME);
+      case TAG:
+        return countLegacyData(
+            legacyTimeline,
+            TagMetaMapper.TAG_TABLE_NAME,
+            TagMetadataObjectRelMapper.TAG_METADATA_OBJECT_RELATION_TABLE_NAME);
+      case COLUMN:
+        return countLegacyData(legacyTimeline, TableColumnMapper.COLUMN_TABLE_NAME);
+      case AUDIT:
+        return 0;
+
+      default:
+        throw new IllegalArgumentException(
+            "Unsupported entity type when countLegacyData: " + entityType);
+    }
+  }
+
+  private static long countLegacyData(long legacyTimeline, String... tableNames) {
+    long count = 0;
+    for (String tableName : tableNames) {
+      count += CommonMetaService.getInstance().countLegacyData(tableName, legacyTimeline);
+    }
+    return count;
+  }
+
+  @Override
+  public int deleteOldVersionData(
+      Entity.EntityType entityType, long versionRetentionCount, int limit) throws IOException {
     switch (entityType) {
       case METALAKE:
       case CATALOG:
@@ -325,8 +449,7 @@ public class JDBCBackend implements RelationalBackend {
 
       case FILESET:
         return FilesetMetaService.getInstance()
-            .deleteFilesetVersionsByRetentionCount(
-                versionRetentionCount, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteFilesetVersionsByRetentionCount(versionRetentionCount, limit);
 
       default:
         throw new IllegalArgumentException(
@@ -336,6 +459,7 @@ public class JDBCBackend implements RelationalBackend {
 
   @Override
   public void close() throws IOException {
+    CommonMetaService.getInstance().close();
     SqlSessionFactoryHelper.getInstance().close();
 
     if (jdbcDatabase != null) {
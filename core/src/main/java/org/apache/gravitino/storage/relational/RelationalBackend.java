@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.util.List;
 import java.util.function.Function;
 import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.HasIdentifier;
@@ -62,6 +63,39 @@ public interface RelationalBackend
       Namespace namespace, Entity.EntityType entityType, boolean allFields)
       throws NoSuchEntityException, IOException;
 
+  /**
+   * Lists the entities with the given names associated with the given parent namespace and
+   * entityType, with all the fields.
+   *
+   * @param namespace The parent namespace of these entities.
+   * @param entityType The type of these entities.
+   * @param names The names of these entities, the names that don't exist are skipped.
+   * @return The list of entities with the given names.
+   * @throws NoSuchEntityException If the corresponding parent entity of these list entities cannot
+   *     be found.
+   * @throws IOException If the store operation fails
+   */
+  <E extends Entity & HasIdentifier> List<E> listByNames(
+      Namespace namespace, Entity.EntityType entityType, List<String> names)
+      throws NoSuchEntityException, IOException;
+
+  /**
+   * Lists a page of the entities associated with the given parent namespace and entityType
+   * ordered by name, without the fields which are costly to fetch.
+   *
+   * @param namespace The parent namespace of these entities.
+   * @param entityType The type of these entities.
+   * @param startAfter The last name of the previous page, or null for the first page.
+   * @param limit The maximum number of the entities in the page.
+   * @return The list of entities in the page.
+   * @throws NoSuchEntityException If the corresponding parent entity of these list entities cannot
+   *     be found.
+   * @throws IOException If the store operation fails
+   */
+  <E extends Entity & HasIdentifier> List<E> listPage(
+      Namespace namespace, Entity.EntityType entityType, String startAfter, int limit)
+      throws NoSuchEntityException, IOException;
+
   /**
    * Checks the entity associated with the given identifier and entityType whether exists.
    *
@@ -108,6 +142,24 @@ public interface RelationalBackend
   <E extends Entity & HasIdentifier> E get(NameIdentifier ident, Entity.EntityType entityType)
       throws IOException;
 
+  /**
+   * Retrieves the entity associated with the identifier and the entity type.
+   *
+   * @param ident The identifier of the entity.
+   * @param entityType The type of the entity.
+   * @param allFields Some fields may have a relatively high acquisition cost, EntityStore provide
+   *     an optional setting to avoid fetching these high-cost fields to improve the performance. If
+   *     true, the method will fetch all the fields, Otherwise, the method will fetch all the fields
+   *     except for high-cost fields.
+   * @return The entity associated with the identifier and the entity type, or null if the key does
+   *     not exist.
+   * @throws IOException If an I/O exception occurs during retrieval.
+   */
+  default <E extends Entity & HasIdentifier> E get(
+      NameIdentifier ident, Entity.EntityType entityType, boolean allFields) throws IOException {
+    return get(ident, entityType);
+  }
+
   /**
    * Soft deletes the entity associated with the identifier and the entity type.
    *
@@ -129,7 +181,35 @@ public interface RelationalBackend
    * @return The count of the deleted data.
    * @throws IOException If the store operation fails
    */
-  int hardDeleteLegacyData(Entity.EntityType entityType, long legacyTimeline) throws IOException;
+  default int hardDeleteLegacyData(Entity.EntityType entityType, long legacyTimeline)
+      throws IOException {
+    return hardDeleteLegacyData(
+        entityType, legacyTimeline, Configs.GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+  }
+
+  /**
+   * Permanently deletes at most the given count of the legacy data that has been marked as deleted
+   * before the given legacy timeline.
+   *
+   * @param entityType The type of the entity.
+   * @param legacyTimeline The time before which the data has been marked as deleted.
+   * @param limit The maximum count of the data to delete in one statement.
+   * @return The count of the deleted data.
+   * @throws IOException If the store operation fails
+   */
+  int hardDeleteLegacyData(Entity.EntityType entityType, long legacyTimeline, int limit)
+      throws IOException;
+
+  /**
+   * Counts the legacy data that has been marked as deleted before the given legacy timeline, which
+   * is deleted by {@link #hardDeleteLegacyData(Entity.EntityType, long, int)}.
+   *
+   * @param entityType The type of the entity.
+   * @param legacyTimeline The time before which the data has been marked as deleted.
+   * @return The count of the legacy data.
+   * @throws IOException If the store operation fails
+   */
+  long countLegacyData(Entity.EntityType entityType, long legacyTimeline) throws IOException;
 
   /**
    * Soft deletes the old version data that is older than or equal to the given version retention
@@ -140,6 +220,22 @@ public interface RelationalBackend
    * @return The count of the deleted data.
    * @throws IOException If the store operation fails
    */
-  int deleteOldVersionData(Entity.EntityType entityType, long versionRetentionCount)
+  default int deleteOldVersionData(Entity.EntityType entityType, long versionRetentionCount)
+      throws IOException {
+    return deleteOldVersionData(
+        entityType, versionRetentionCount, Configs.GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+  }
+
+  /**
+   * Soft deletes at most the given count of the old version data that is older than or equal to the
+   * given version retention count.
+   *
+   * @param entityType The type of the entity.
+   * @param versionRetentionCount The count of versions to retain.
+   * @param limit The maximum count of the data to delete in one statement.
+   * @return The count of the deleted data.
+   * @throws IOException If the store operation fails
+   */
+  int deleteOldVersionData(Entity.EntityType entityType, long versionRetentionCount, int limit)
       throws IOException;
 }
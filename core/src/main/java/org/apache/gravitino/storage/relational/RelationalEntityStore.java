@@ -20,6 +20,7 @@ package org.apache.gravitino.storage.relational;
 
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_STORE;
 
+import com.codahale.metrics.Timer;
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
 import java.util.List;
@@ -30,6 +31,7 @@ import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.EntitySerDe;
 import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
@@ -37,7 +39,10 @@ import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SupportsRelationOperations;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.meta.TagEntity;
+import org.apache.gravitino.metrics.MetricsSystem;
 import org.apache.gravitino.tag.SupportsTagOperations;
+import org.apache.gravitino.tracing.Span;
+import org.apache.gravitino.tracing.Tracer;
 import org.apache.gravitino.utils.Executable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -55,12 +60,18 @@ public class RelationalEntityStore
           Configs.DEFAULT_ENTITY_RELATIONAL_STORE, JDBCBackend.class.getCanonicalName());
   private RelationalBackend backend;
   private RelationalGarbageCollector garbageCollector;
+  private final EntityStoreMetricsSource metricsSource = new EntityStoreMetricsSource();
 
   @Override
   public void initialize(Config config) throws RuntimeException {
     this.backend = createRelationalEntityBackend(config);
     this.garbageCollector = new RelationalGarbageCollector(backend, config);
     this.garbageCollector.start();
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
   }
 
   private static RelationalBackend createRelationalEntityBackend(Config config) {
@@ -81,6 +92,11 @@ public class RelationalEntityStore
     }
   }
 
+  /** @return The garbage collector of the legacy data and the old versions of the entities. */
+  public RelationalGarbageCollector garbageCollector() {
+    return garbageCollector;
+  }
+
   @Override
   public void setSerDe(EntitySerDe entitySerDe) {
     throw new UnsupportedOperationException("Unsupported operation in relational entity store.");
@@ -89,45 +105,98 @@ public class RelationalEntityStore
   @Override
   public <E extends Entity & HasIdentifier> List<E> list(
       Namespace namespace, Class<E> type, Entity.EntityType entityType) throws IOException {
-    return backend.list(namespace, entityType, false);
+    try (Timer.Context ignored = metricsSource.operationTimer("list", entityType).time();
+        Span ignoredSpan = startSpan("list", entityType)) {
+      return backend.list(namespace, entityType, false);
+    }
   }
 
   @Override
   public <E extends Entity & HasIdentifier> List<E> list(
       Namespace namespace, Class<E> type, Entity.EntityType entityType, boolean allFields)
       throws IOException {
-    return backend.list(namespace, entityType, allFields);
+    try (Timer.Context ignored = metricsSource.operationTimer("list", entityType).time();
+        Span ignoredSpan = startSpan("list", entityType)) {
+      return backend.list(namespace, entityType, allFields);
+    }
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> listByNames(
+      Namespace namespace, Class<E> type, Entity.EntityType entityType, List<String> names)
+      throws IOException {
+    try (Timer.Context ignored = metricsSource.operationTimer("list", entityType).time();
+        Span ignoredSpan = startSpan("list", entityType)) {
+      return backend.listByNames(namespace, entityType, names);
+    }
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> listPage(
+      Namespace namespace,
+      Class<E> type,
+      Entity.EntityType entityType,
+      String startAfter,
+      int limit)
+      throws IOException {
+    try (Timer.Context ignored = metricsSource.operationTimer("list", entityType).time();
+        Span ignoredSpan = startSpan("list", entityType)) {
+      return backend.listPage(namespace, entityType, startAfter, limit);
+    }
   }
 
   @Override
   public boolean exists(NameIdentifier ident, Entity.EntityType entityType) throws IOException {
-    return backend.exists(ident, entityType);
+    try (Timer.Context ignored = metricsSource.operationTimer("exists", entityType).time();
+        Span ignoredSpan = startSpan("exists", entityType)) {
+      return backend.exists(ident, entityType);
+    }
   }
 
   @Override
   public <E extends Entity & HasIdentifier> void put(E e, boolean overwritten)
       throws IOException, EntityAlreadyExistsException {
-    backend.insert(e, overwritten);
+    try (Timer.Context ignored = metricsSource.operationTimer("put", e.type()).time();
+        Span ignoredSpan = startSpan("put", e.type())) {
+      backend.insert(e, overwritten);
+    }
   }
 
   @Override
   public <E extends Entity & HasIdentifier> E update(
       NameIdentifier ident, Class<E> type, Entity.EntityType entityType, Function<E, E> updater)
       throws IOException, NoSuchEntityException, EntityAlreadyExistsException {
-    return backend.update(ident, entityType, updater);
+    try (Timer.Context ignored = metricsSource.operationTimer("update", entityType).time();
+        Span ignoredSpan = startSpan("update", entityType)) {
+      return backend.update(ident, entityType, updater);
+    }
   }
 
   @Override
   public <E extends Entity & HasIdentifier> E get(
       NameIdentifier ident, Entity.EntityType entityType, Class<E> e)
       throws NoSuchEntityException, IOException {
-    return backend.get(ident, entityType);
+    try (Timer.Context ignored = metricsSource.operationTimer("get", entityType).time();
+        Span ignoredSpan = startSpan("get", entityType)) {
+      return backend.get(ident, entityType);
+    }
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> E get(
+      NameIdentifier ident, Entity.EntityType entityType, Class<E> e, boolean allFields)
+      throws NoSuchEntityException, IOException {
+    try (Timer.Context ignored = metricsSource.operationTimer("get", entityType).time();
+        Span ignoredSpan = startSpan("get", entityType)) {
+      return backend.get(ident, entityType, allFields);
+    }
   }
 
   @Override
   public boolean delete(NameIdentifier ident, Entity.EntityType entityType, boolean cascade)
       throws IOException {
-    try {
+    try (Timer.Context ignored = metricsSource.operationTimer("delete", entityType).time();
+        Span ignoredSpan = startSpan("delete", entityType)) {
       return backend.delete(ident, entityType, cascade);
     } catch (NoSuchEntityException nse) {
       return false;
@@ -141,6 +210,11 @@ public class RelationalEntityStore
 
   @Override
   public void close() throws IOException {
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+
     garbageCollector.close();
     backend.close();
   }
@@ -204,4 +278,8 @@ public class RelationalEntityStore
       throws IOException {
     backend.insertRelation(relType, srcIdentifier, srcType, dstIdentifier, dstType, true);
   }
+
+  private static Span startSpan(String operation, Entity.EntityType entityType) {
+    return Tracer.startSpan("EntityStore." + operation).setAttribute("entity.type", entityType);
+  }
 }
@@ -19,28 +19,83 @@
 
 package org.apache.gravitino.storage.relational;
 
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_GC_MAX_BATCH_SIZE;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_GC_MAX_DELETES_PER_SECOND;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_GC_PARALLELISM;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_GC_TARGET_BATCH_LATENCY_MS;
 import static org.apache.gravitino.Configs.STORE_DELETE_AFTER_TIME;
 import static org.apache.gravitino.Configs.VERSION_RETENTION_COUNT;
 
+import com.codahale.metrics.Timer;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Entity;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.utils.ThrowableFunction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Physically deletes the legacy data marked as deleted and softly deletes the old versions of the
+ * entities periodically.
+ *
+ * <p>The data of different entity types are collected in parallel by a pool of workers. The rows of
+ * each entity type are deleted in batches, whose size is adapted to the latency of the previous
+ * delete statement, so that one statement neither holds the locks of the tables for long nor wastes
+ * round trips when the store is idle. The total deletion rate can be bounded to protect the online
+ * traffic of the store.
+ *
+ * <p>A run can also be triggered on demand by {@link #trigger()}, only one run is in progress at a
+ * time.
+ */
 public final class RelationalGarbageCollector implements Closeable {
 
   private static final Logger LOG = LoggerFactory.getLogger(RelationalGarbageCollector.class);
+
+  @VisibleForTesting static final int INITIAL_BATCH_SIZE = 100;
+
   private final RelationalBackend backend;
 
   private final long storeDeleteAfterTimeMillis;
   private final long versionRetentionCount;
+  private final int maxBatchSize;
+  private final long targetBatchLatencyMs;
+
+  // Null if the deletion rate is unlimited.
+  private final RateLimiter rateLimiter;
+
+  // The entity types whose garbage is being collected in the current run.
+  private final AtomicInteger pendingEntityTypeNum = new AtomicInteger();
+
+  // The legacy rows counted by the current run and not deleted yet.
+  private final AtomicLong pendingRowNum = new AtomicLong();
+
+  private final AtomicBoolean running = new AtomicBoolean(false);
+  private volatile long lastRunStartTime = 0;
+  private volatile long lastRunEndTime = 0;
+  private volatile long lastRunDeletedRowNum = 0;
+  private final LongAdder runDeletedRowNum = new LongAdder();
+
+  @VisibleForTesting final GarbageCollectorMetricsSource metricsSource;
 
   @VisibleForTesting
   final ScheduledExecutorService garbageCollectorPool =
@@ -53,13 +108,43 @@ public final class RelationalGarbageCollector implements Closeable {
           },
           new ThreadPoolExecutor.AbortPolicy());
 
+  private final ExecutorService garbageCollectorWorkers;
+
   public RelationalGarbageCollector(RelationalBackend backend, Config config) {
     this.backend = backend;
     storeDeleteAfterTimeMillis = config.get(STORE_DELETE_AFTER_TIME);
     versionRetentionCount = config.get(VERSION_RETENTION_COUNT);
+    targetBatchLatencyMs = config.get(ENTITY_RELATIONAL_GC_TARGET_BATCH_LATENCY_MS);
+
+    // A batch is never larger than the rows allowed per second, otherwise one batch would exhaust
+    // the permits of several seconds at once.
+    int configuredMaxBatchSize = config.get(ENTITY_RELATIONAL_GC_MAX_BATCH_SIZE);
+    int maxDeletesPerSecond = config.get(ENTITY_RELATIONAL_GC_MAX_DELETES_PER_SECOND);
+    if (maxDeletesPerSecond > 0) {
+      rateLimiter = RateLimiter.create(maxDeletesPerSecond);
+      maxBatchSize = Math.min(configuredMaxBatchSize, maxDeletesPerSecond);
+    } else {
+      rateLimiter = null;
+      maxBatchSize = configuredMaxBatchSize;
+    }
+
+    garbageCollectorWorkers =
+        Executors.newFixedThreadPool(
+            config.get(ENTITY_RELATIONAL_GC_PARALLELISM),
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("RelationalBackend-Garbage-Collector-Worker-%d")
+                .build());
+    metricsSource =
+        new GarbageCollectorMetricsSource(pendingEntityTypeNum::get, pendingRowNum::get);
   }
 
   public void start() {
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+
     long dateTimelineMinute = storeDeleteAfterTimeMillis / 1000 / 60;
 
     // We will collect garbage every 10 minutes at least. If the dateTimelineMinute is larger than
@@ -68,59 +153,216 @@ public final class RelationalGarbageCollector implements Closeable {
     garbageCollectorPool.scheduleAtFixedRate(this::collectAndClean, 5, frequency, TimeUnit.MINUTES);
   }
 
-  private void collectAndClean() {
+  /**
+   * Triggers a run of the garbage collection in the background, nothing is done if a run is in
+   * progress.
+   *
+   * @return True if a new run is triggered, false if a run is in progress.
+   */
+  public boolean trigger() {
+    if (!running.compareAndSet(false, true)) {
+      return false;
+    }
+
+    try {
+      garbageCollectorPool.execute(this::runCollectAndClean);
+    } catch (RejectedExecutionException e) {
+      running.set(false);
+      throw e;
+    }
+    return true;
+  }
+
+  /** @return Whether a run of the garbage collection is in progress. */
+  public boolean isRunning() {
+    return running.get();
+  }
+
+  /** @return The start time in milliseconds of the last or the current run, 0 if there is none. */
+  public long lastRunStartTime() {
+    return lastRunStartTime;
+  }
+
+  /** @return The end time in milliseconds of the last finished run, 0 if there is none. */
+  public long lastRunEndTime() {
+    return lastRunEndTime;
+  }
+
+  /** @return The count of the rows deleted by the last finished run. */
+  public long lastRunDeletedRowNum() {
+    return lastRunDeletedRowNum;
+  }
+
+  /** @return The count of the legacy rows left to delete in the current run. */
+  public long pendingRowNum() {
+    return pendingRowNum.get();
+  }
+
+  /** @return The count of the entity types left to collect in the current run. */
+  public int pendingEntityTypeNum() {
+    return pendingEntityTypeNum.get();
+  }
+
+  @VisibleForTesting
+  void collectAndClean() {
+    if (!running.compareAndSet(false, true)) {
+      LOG.info("Skip collecting garbage since the last run is still in progress.");
+      return;
+    }
+    runCollectAndClean();
+  }
+
+  private void runCollectAndClean() {
     long threadId = Thread.currentThread().getId();
     LOG.info("Thread {} start to collect garbage...", threadId);
+    lastRunStartTime = System.currentTimeMillis();
+    runDeletedRowNum.reset();
 
     try {
-      LOG.info("Start to collect and delete legacy data by thread {}", threadId);
       long legacyTimeline = System.currentTimeMillis() - storeDeleteAfterTimeMillis;
-      for (Entity.EntityType entityType : Entity.EntityType.values()) {
-        long deletedCount = Long.MAX_VALUE;
-        LOG.info(
-            "Try to physically delete {} legacy data that has been marked deleted before {}",
-            entityType,
-            legacyTimeline);
-        try {
-          while (deletedCount > 0) {
-            deletedCount = backend.hardDeleteLegacyData(entityType, legacyTimeline);
-          }
-        } catch (RuntimeException e) {
-          LOG.error("Failed to physically delete type of " + entityType + "'s legacy data: ", e);
-        }
+      Entity.EntityType[] entityTypes = Entity.EntityType.values();
+      pendingEntityTypeNum.set(entityTypes.length);
+
+      List<Future<?>> futures = new ArrayList<>(entityTypes.length);
+      for (Entity.EntityType entityType : entityTypes) {
+        futures.add(
+            garbageCollectorWorkers.submit(
+                () -> {
+                  try {
+                    collectAndClean(entityType, legacyTimeline);
+                  } finally {
+                    pendingEntityTypeNum.decrementAndGet();
+                  }
+                }));
       }
 
-      LOG.info("Start to collect and delete old version data by thread {}", threadId);
-      for (Entity.EntityType entityType : Entity.EntityType.values()) {
-        long deletedCount = Long.MAX_VALUE;
-        LOG.info(
-            "Try to softly delete {} old version data that has been over retention count {}",
-            entityType,
-            versionRetentionCount);
-        try {
-          while (deletedCount > 0) {
-            deletedCount = backend.deleteOldVersionData(entityType, versionRetentionCount);
-          }
-        } catch (RuntimeException e) {
-          LOG.error("Failed to softly delete type of " + entityType + "'s old version data: ", e);
-        }
+      for (Future<?> future : futures) {
+        future.get();
       }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      LOG.warn("Thread {} is interrupted while collecting garbage.", threadId);
     } catch (Exception e) {
       LOG.error("Thread {} failed to collect and clean garbage.", threadId, e);
     } finally {
+      lastRunDeletedRowNum = runDeletedRowNum.sum();
+      lastRunEndTime = System.currentTimeMillis();
+      running.set(false);
       LOG.info("Thread {} finish to collect garbage.", threadId);
     }
   }
 
+  private void collectAndClean(Entity.EntityType entityType, long legacyTimeline) {
+    LOG.info(
+        "Try to physically delete {} legacy data that has been marked deleted before {}",
+        entityType,
+        legacyTimeline);
+    long pendingRows = countLegacyData(entityType, legacyTimeline);
+    pendingRowNum.addAndGet(pendingRows);
+    LongAdder deletedRows = new LongAdder();
+    try {
+      long deletedCount =
+          deleteInBatches(
+              limit -> {
+                int deleted = backend.hardDeleteLegacyData(entityType, legacyTimeline, limit);
+                deletedRows.add(deleted);
+                pendingRowNum.addAndGet(-deleted);
+                return deleted;
+              });
+      LOG.info("Physically deleted {} rows of {} legacy data", deletedCount, entityType);
+    } catch (Exception e) {
+      LOG.error("Failed to physically delete type of " + entityType + "'s legacy data: ", e);
+    } finally {
+      // The rows left by this run are counted again by the next run.
+      pendingRowNum.addAndGet(deletedRows.sum() - pendingRows);
+    }
+
+    LOG.info(
+        "Try to softly delete {} old version data that has been over retention count {}",
+        entityType,
+        versionRetentionCount);
+    try {
+      long deletedCount =
+          deleteInBatches(
+              limit -> backend.deleteOldVersionData(entityType, versionRetentionCount, limit));
+      LOG.info("Softly deleted {} rows of {} old version data", deletedCount, entityType);
+    } catch (Exception e) {
+      LOG.error("Failed to softly delete type of " + entityType + "'s old version data: ", e);
+    }
+  }
+
+  private long countLegacyData(Entity.EntityType entityType, long legacyTimeline) {
+    try {
+      return backend.countLegacyData(entityType, legacyTimeline);
+    } catch (Exception e) {
+      // The count is only used to report the progress, it doesn't stop the deletion.
+      LOG.warn("Failed to count the legacy data of {}", entityType, e);
+      return 0;
+    }
+  }
+
+  private long deleteInBatches(ThrowableFunction<Integer, Integer> deleteFunc) throws Exception {
+    int batchSize = Math.min(INITIAL_BATCH_SIZE, maxBatchSize);
+    long totalDeleted = 0;
+    while (!Thread.currentThread().isInterrupted()) {
+      int deleted;
+      long startNanos = System.nanoTime();
+      try (Timer.Context ignored = metricsSource.deleteTimer().time()) {
+        deleted = deleteFunc.apply(batchSize);
+      }
+      long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+      if (deleted <= 0) {
+        break;
+      }
+      totalDeleted += deleted;
+      runDeletedRowNum.add(deleted);
+      metricsSource.deletedRowCounter().inc(deleted);
+
+      // The permits are acquired after the deletion since the count of the deleted rows is only
+      // known afterward, the next batch waits for the rows deleted by this one.
+      if (rateLimiter != null) {
+        rateLimiter.acquire(deleted);
+      }
+      batchSize = nextBatchSize(batchSize, elapsedMs, targetBatchLatencyMs, maxBatchSize);
+    }
+    return totalDeleted;
+  }
+
+  /**
+   * Adapts the batch size to the latency of the last batch. The batch size is halved if the last
+   * batch took longer than the target latency, and doubled if it took less than half of the target
+   * latency, within the range from 1 to the maximum batch size.
+   */
+  @VisibleForTesting
+  static int nextBatchSize(int batchSize, long elapsedMs, long targetLatencyMs, int maxBatchSize) {
+    if (elapsedMs > targetLatencyMs) {
+      return Math.max(1, batchSize / 2);
+    } else if (elapsedMs < targetLatencyMs / 2) {
+      return (int) Math.min(maxBatchSize, batchSize * 2L);
+    }
+    return batchSize;
+  }
+
   @Override
   public void close() throws IOException {
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+
     this.garbageCollectorPool.shutdown();
+    this.garbageCollectorWorkers.shutdown();
     try {
       if (!this.garbageCollectorPool.awaitTermination(5, TimeUnit.SECONDS)) {
         this.garbageCollectorPool.shutdownNow();
       }
+      if (!this.garbageCollectorWorkers.awaitTermination(5, TimeUnit.SECONDS)) {
+        this.garbageCollectorWorkers.shutdownNow();
+      }
     } catch (InterruptedException ex) {
       this.garbageCollectorPool.shutdownNow();
+      this.garbageCollectorWorkers.shutdownNow();
       Thread.currentThread().interrupt();
     }
   }
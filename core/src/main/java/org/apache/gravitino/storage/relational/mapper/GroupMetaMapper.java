@@ -55,6 +55,12 @@ public interface GroupMetaMapper {
   @SelectProvider(type = GroupMetaSQLProviderFactory.class, method = "listGroupPOsByMetalake")
   List<GroupPO> listGroupPOsByMetalake(@Param("metalakeName") String metalakeName);
 
+  @SelectProvider(type = GroupMetaSQLProviderFactory.class, method = "listGroupPOsPageByMetalake")
+  List<GroupPO> listGroupPOsPageByMetalake(
+      @Param("metalakeName") String metalakeName,
+      @Param("startAfter") String startAfter,
+      @Param("limit") int limit);
+
   @SelectProvider(
       type = GroupMetaSQLProviderFactory.class,
       method = "listExtendedGroupPOsByMetalakeId")
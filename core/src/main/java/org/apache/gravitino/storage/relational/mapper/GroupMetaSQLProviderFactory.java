@@ -87,6 +87,13 @@ public class GroupMetaSQLProviderFactory {
     return getProvider().listGroupPOsByMetalake(metalakeName);
   }
 
+  public static String listGroupPOsPageByMetalake(
+      @Param("metalakeName") String metalakeName,
+      @Param("startAfter") String startAfter,
+      @Param("limit") int limit) {
+    return getProvider().listGroupPOsPageByMetalake(metalakeName, startAfter, limit);
+  }
+
   public static String listExtendedGroupPOsByMetalakeId(@Param("metalakeId") Long metalakeId) {
     return getProvider().listExtendedGroupPOsByMetalakeId(metalakeId);
   }
@@ -68,6 +68,12 @@ public interface RoleMetaMapper {
   @SelectProvider(type = RoleMetaSQLProviderFactory.class, method = "listRolePOsByMetalake")
   List<RolePO> listRolePOsByMetalake(@Param("metalakeName") String metalakeName);
 
+  @SelectProvider(type = RoleMetaSQLProviderFactory.class, method = "listRolePOsPageByMetalake")
+  List<RolePO> listRolePOsPageByMetalake(
+      @Param("metalakeName") String metalakeName,
+      @Param("startAfter") String startAfter,
+      @Param("limit") int limit);
+
   @InsertProvider(type = RoleMetaSQLProviderFactory.class, method = "insertRoleMeta")
   void insertRoleMeta(@Param("roleMeta") RolePO rolePO);
 
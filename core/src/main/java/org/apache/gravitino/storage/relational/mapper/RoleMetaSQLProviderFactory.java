@@ -76,6 +76,13 @@ public class RoleMetaSQLProviderFactory {
     return getProvider().listRolePOsByMetalake(metalakeName);
   }
 
+  public static String listRolePOsPageByMetalake(
+      @Param("metalakeName") String metalakeName,
+      @Param("startAfter") String startAfter,
+      @Param("limit") int limit) {
+    return getProvider().listRolePOsPageByMetalake(metalakeName, startAfter, limit);
+  }
+
   public static String insertRoleMeta(@Param("roleMeta") RolePO rolePO) {
     return getProvider().insertRoleMeta(rolePO);
   }
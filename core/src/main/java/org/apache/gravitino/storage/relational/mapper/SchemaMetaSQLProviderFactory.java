@@ -54,6 +54,13 @@ public class SchemaMetaSQLProviderFactory {
     return getProvider().listSchemaPOsByCatalogId(catalogId);
   }
 
+  public static String listSchemaPOsPageByCatalogId(
+      @Param("catalogId") Long catalogId,
+      @Param("startAfter") String startAfter,
+      @Param("limit") int limit) {
+    return getProvider().listSchemaPOsPageByCatalogId(catalogId, startAfter, limit);
+  }
+
   public static String selectSchemaIdByCatalogIdAndName(
       @Param("catalogId") Long catalogId, @Param("schemaName") String name) {
     return getProvider().selectSchemaIdByCatalogIdAndName(catalogId, name);
@@ -64,6 +71,13 @@ public class SchemaMetaSQLProviderFactory {
     return getProvider().selectSchemaMetaByCatalogIdAndName(catalogId, name);
   }
 
+  public static String selectNamespaceIdsByName(
+      @Param("metalakeName") String metalakeName,
+      @Param("catalogName") String catalogName,
+      @Param("schemaName") String schemaName) {
+    return getProvider().selectNamespaceIdsByName(metalakeName, catalogName, schemaName);
+  }
+
   public static String selectSchemaMetaById(@Param("schemaId") Long schemaId) {
     return getProvider().selectSchemaMetaById(schemaId);
   }
@@ -36,9 +36,18 @@ public interface TableColumnMapper {
   List<ColumnPO> listColumnPOsByTableIdAndVersion(
       @Param("tableId") Long tableId, @Param("tableVersion") Long tableVersion);
 
+  @SelectProvider(type = TableColumnSQLProviderFactory.class, method = "listColumnPOsBySchemaId")
+  List<ColumnPO> listColumnPOsBySchemaId(@Param("schemaId") Long schemaId);
+
+  @SelectProvider(type = TableColumnSQLProviderFactory.class, method = "listColumnPOsByTableIds")
+  List<ColumnPO> listColumnPOsByTableIds(@Param("tableIds") List<Long> tableIds);
+
   @InsertProvider(type = TableColumnSQLProviderFactory.class, method = "insertColumnPOs")
   void insertColumnPOs(@Param("columnPOs") List<ColumnPO> columnPOs);
 
+  @InsertProvider(type = TableColumnSQLProviderFactory.class, method = "insertColumnPO")
+  void insertColumnPO(@Param("columnPO") ColumnPO columnPO);
+
   @UpdateProvider(type = TableColumnSQLProviderFactory.class, method = "softDeleteColumnsByTableId")
   Integer softDeleteColumnsByTableId(@Param("tableId") Long tableId);
 
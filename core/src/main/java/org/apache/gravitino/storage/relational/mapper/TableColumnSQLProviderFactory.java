@@ -57,10 +57,22 @@ public class TableColumnSQLProviderFactory {
     return getProvider().listColumnPOsByTableIdAndVersion(tableId, tableVersion);
   }
 
+  public static String listColumnPOsBySchemaId(@Param("schemaId") Long schemaId) {
+    return getProvider().listColumnPOsBySchemaId(schemaId);
+  }
+
+  public static String listColumnPOsByTableIds(@Param("tableIds") List<Long> tableIds) {
+    return getProvider().listColumnPOsByTableIds(tableIds);
+  }
+
   public static String insertColumnPOs(@Param("columnPOs") List<ColumnPO> columnPOs) {
     return getProvider().insertColumnPOs(columnPOs);
   }
 
+  public static String insertColumnPO(@Param("columnPO") ColumnPO columnPO) {
+    return getProvider().insertColumnPO(columnPO);
+  }
+
   public static String softDeleteColumnsByTableId(@Param("tableId") Long tableId) {
     return getProvider().softDeleteColumnsByTableId(tableId);
   }
@@ -41,6 +41,12 @@ public interface TableMetaMapper {
   @SelectProvider(type = TableMetaSQLProviderFactory.class, method = "listTablePOsBySchemaId")
   List<TablePO> listTablePOsBySchemaId(@Param("schemaId") Long schemaId);
 
+  @SelectProvider(
+      type = TableMetaSQLProviderFactory.class,
+      method = "listTablePOsBySchemaIdAndNames")
+  List<TablePO> listTablePOsBySchemaIdAndNames(
+      @Param("schemaId") Long schemaId, @Param("tableNames") List<String> tableNames);
+
   @SelectProvider(
       type = TableMetaSQLProviderFactory.class,
       method = "selectTableIdBySchemaIdAndName")
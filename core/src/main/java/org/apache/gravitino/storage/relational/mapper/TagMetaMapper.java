@@ -33,6 +33,12 @@ public interface TagMetaMapper {
   @SelectProvider(type = TagMetaSQLProviderFactory.class, method = "listTagPOsByMetalake")
   List<TagPO> listTagPOsByMetalake(@Param("metalakeName") String metalakeName);
 
+  @SelectProvider(type = TagMetaSQLProviderFactory.class, method = "listTagPOsPageByMetalake")
+  List<TagPO> listTagPOsPageByMetalake(
+      @Param("metalakeName") String metalakeName,
+      @Param("startAfter") String startAfter,
+      @Param("limit") int limit);
+
   @SelectProvider(
       type = TagMetaSQLProviderFactory.class,
       method = "listTagPOsByMetalakeAndTagNames")
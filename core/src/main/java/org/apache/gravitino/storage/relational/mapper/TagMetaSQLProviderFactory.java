@@ -55,6 +55,13 @@ public class TagMetaSQLProviderFactory {
     return getProvider().listTagPOsByMetalake(metalakeName);
   }
 
+  public static String listTagPOsPageByMetalake(
+      @Param("metalakeName") String metalakeName,
+      @Param("startAfter") String startAfter,
+      @Param("limit") int limit) {
+    return getProvider().listTagPOsPageByMetalake(metalakeName, startAfter, limit);
+  }
+
   public static String listTagPOsByMetalakeAndTagNames(
       @Param("metalakeName") String metalakeName, @Param("tagNames") List<String> tagNames) {
     return getProvider().listTagPOsByMetalakeAndTagNames(metalakeName, tagNames);
@@ -58,6 +58,12 @@ public interface UserMetaMapper {
   @SelectProvider(type = UserMetaSQLProviderFactory.class, method = "listUserPOsByMetalake")
   List<UserPO> listUserPOsByMetalake(@Param("metalakeName") String metalakeName);
 
+  @SelectProvider(type = UserMetaSQLProviderFactory.class, method = "listUserPOsPageByMetalake")
+  List<UserPO> listUserPOsPageByMetalake(
+      @Param("metalakeName") String metalakeName,
+      @Param("startAfter") String startAfter,
+      @Param("limit") int limit);
+
   @SelectProvider(
       type = UserMetaSQLProviderFactory.class,
       method = "listExtendedUserPOsByMetalakeId")
@@ -89,6 +89,13 @@ public class UserMetaSQLProviderFactory {
     return getProvider().listUserPOsByMetalake(metalakeName);
   }
 
+  public static String listUserPOsPageByMetalake(
+      @Param("metalakeName") String metalakeName,
+      @Param("startAfter") String startAfter,
+      @Param("limit") int limit) {
+    return getProvider().listUserPOsPageByMetalake(metalakeName, startAfter, limit);
+  }
+
   public static String listExtendedUserPOsByMetalakeId(@Param("metalakeId") Long metalakeId) {
     return getProvider().listExtendedUserPOsByMetalakeId(metalakeId);
   }
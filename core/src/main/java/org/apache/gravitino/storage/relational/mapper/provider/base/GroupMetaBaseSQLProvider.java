@@ -47,6 +47,24 @@ public class GroupMetaBaseSQLProvider {
         + " AND gt.deleted_at = 0 AND mt.deleted_at = 0";
   }
 
+  public String listGroupPOsPageByMetalake(
+      @Param("metalakeName") String metalakeName,
+      @Param("startAfter") String startAfter,
+      @Param("limit") int limit) {
+    return "<script>"
+        + "SELECT gt.group_id as groupId, gt.group_name as groupName, gt.metalake_id as metalakeId,"
+        + " gt.audit_info as auditInfo, gt.current_version as currentVersion, gt.last_version as lastVersion,"
+        + " gt.deleted_at as deletedAt FROM "
+        + GROUP_TABLE_NAME
+        + " gt JOIN "
+        + MetalakeMetaMapper.TABLE_NAME
+        + " mt ON gt.metalake_id = mt.metalake_id WHERE mt.metalake_name = #{metalakeName}"
+        + " AND gt.deleted_at = 0 AND mt.deleted_at = 0"
+        + " <if test='startAfter != null'> AND gt.group_name &gt; #{startAfter}</if>"
+        + " ORDER BY gt.group_name LIMIT #{limit}"
+        + "</script>";
+  }
+
   public String listExtendedGroupPOsByMetalakeId(Long metalakeId) {
     return "SELECT gt.group_id as groupId, gt.group_name as groupName,"
         + " gt.metalake_id as metalakeId,"
@@ -20,6 +20,8 @@ package org.apache.gravitino.storage.relational.mapper.provider.base;
 
 import static org.apache.gravitino.storage.relational.mapper.SchemaMetaMapper.TABLE_NAME;
 
+import org.apache.gravitino.storage.relational.mapper.CatalogMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.MetalakeMetaMapper;
 import org.apache.gravitino.storage.relational.po.SchemaPO;
 import org.apache.ibatis.annotations.Param;
 
@@ -35,6 +37,24 @@ public class SchemaMetaBaseSQLProvider {
         + " WHERE catalog_id = #{catalogId} AND deleted_at = 0";
   }
 
+  public String listSchemaPOsPageByCatalogId(
+      @Param("catalogId") Long catalogId,
+      @Param("startAfter") String startAfter,
+      @Param("limit") int limit) {
+    return "<script>"
+        + "SELECT schema_id as schemaId, schema_name as schemaName,"
+        + " metalake_id as metalakeId, catalog_id as catalogId,"
+        + " schema_comment as schemaComment, properties, audit_info as auditInfo,"
+        + " current_version as currentVersion, last_version as lastVersion,"
+        + " deleted_at as deletedAt"
+        + " FROM "
+        + TABLE_NAME
+        + " WHERE catalog_id = #{catalogId} AND deleted_at = 0"
+        + " <if test='startAfter != null'> AND schema_name &gt; #{startAfter}</if>"
+        + " ORDER BY schema_name LIMIT #{limit}"
+        + "</script>";
+  }
+
   public String selectSchemaIdByCatalogIdAndName(
       @Param("catalogId") Long catalogId, @Param("schemaName") String name) {
     return "SELECT schema_id as schemaId FROM "
@@ -55,6 +75,37 @@ public class SchemaMetaBaseSQLProvider {
         + " WHERE catalog_id = #{catalogId} AND schema_name = #{schemaName} AND deleted_at = 0";
   }
 
+  public String selectNamespaceIdsByName(
+      @Param("metalakeName") String metalakeName,
+      @Param("catalogName") String catalogName,
+      @Param("schemaName") String schemaName) {
+    // The schema is only joined when the namespace has a schema level.
+    if (schemaName == null) {
+      return "SELECT mm.metalake_id as metalakeId, cm.catalog_id as catalogId"
+          + " FROM "
+          + MetalakeMetaMapper.TABLE_NAME
+          + " mm LEFT JOIN "
+          + CatalogMetaMapper.TABLE_NAME
+          + " cm ON mm.metalake_id = cm.metalake_id AND cm.catalog_name = #{catalogName}"
+          + " AND cm.deleted_at = 0"
+          + " WHERE mm.metalake_name = #{metalakeName} AND mm.deleted_at = 0";
+    }
+
+    return "SELECT mm.metalake_id as metalakeId, cm.catalog_id as catalogId,"
+        + " sm.schema_id as schemaId"
+        + " FROM "
+        + MetalakeMetaMapper.TABLE_NAME
+        + " mm LEFT JOIN "
+        + CatalogMetaMapper.TABLE_NAME
+        + " cm ON mm.metalake_id = cm.metalake_id AND cm.catalog_name = #{catalogName}"
+        + " AND cm.deleted_at = 0"
+        + " LEFT JOIN "
+        + TABLE_NAME
+        + " sm ON cm.catalog_id = sm.catalog_id AND sm.schema_name = #{schemaName}"
+        + " AND sm.deleted_at = 0"
+        + " WHERE mm.metalake_name = #{metalakeName} AND mm.deleted_at = 0";
+  }
+
   public String selectSchemaMetaById(@Param("schemaId") Long schemaId) {
     return "SELECT schema_id as schemaId, schema_name as schemaName,"
         + " metalake_id as metalakeId, catalog_id as catalogId,"
@@ -20,6 +20,7 @@ package org.apache.gravitino.storage.relational.mapper.provider.base;
 
 import java.util.List;
 import org.apache.gravitino.storage.relational.mapper.TableColumnMapper;
+import org.apache.gravitino.storage.relational.mapper.TableMetaMapper;
 import org.apache.gravitino.storage.relational.po.ColumnPO;
 import org.apache.ibatis.annotations.Param;
 
@@ -47,6 +48,63 @@ public class TableColumnBaseSQLProvider {
         + " ON t1.column_id = t2.column_id AND t1.table_version = t2.max_table_version";
   }
 
+  public String listColumnPOsBySchemaId(@Param("schemaId") Long schemaId) {
+    return "SELECT t1.column_id AS columnId, t1.column_name AS columnName,"
+        + " t1.column_position AS columnPosition,"
+        + " t1.metalake_id AS metalakeId, t1.catalog_id AS catalogId,"
+        + " t1.schema_id AS schemaId, t1.table_id AS tableId,"
+        + " t1.table_version AS tableVersion, t1.column_type AS columnType,"
+        + " t1.column_comment AS columnComment, t1.column_nullable AS nullable,"
+        + " t1.column_auto_increment AS autoIncrement,"
+        + " t1.column_default_value AS defaultValue, t1.column_op_type AS columnOpType,"
+        + " t1.deleted_at AS deletedAt, t1.audit_info AS auditInfo"
+        + " FROM "
+        + TableColumnMapper.COLUMN_TABLE_NAME
+        + " t1 JOIN ("
+        + " SELECT tc.column_id, MAX(tc.table_version) AS max_table_version"
+        + " FROM "
+        + TableColumnMapper.COLUMN_TABLE_NAME
+        + " tc JOIN "
+        + TableMetaMapper.TABLE_NAME
+        + " tm ON tc.table_id = tm.table_id"
+        + " WHERE tc.schema_id = #{schemaId} AND tc.table_version <= tm.current_version"
+        + " AND tc.deleted_at = 0 AND tm.deleted_at = 0"
+        + " GROUP BY tc.column_id) t2"
+        + " ON t1.column_id = t2.column_id AND t1.table_version = t2.max_table_version";
+  }
+
+  public String listColumnPOsByTableIds(@Param("tableIds") List<Long> tableIds) {
+    return "<script>"
+        + "SELECT t1.column_id AS columnId, t1.column_name AS columnName,"
+        + " t1.column_position AS columnPosition,"
+        + " t1.metalake_id AS metalakeId, t1.catalog_id AS catalogId,"
+        + " t1.schema_id AS schemaId, t1.table_id AS tableId,"
+        + " t1.table_version AS tableVersion, t1.column_type AS columnType,"
+        + " t1.column_comment AS columnComment, t1.column_nullable AS nullable,"
+        + " t1.column_auto_increment AS autoIncrement,"
+        + " t1.column_default_value AS defaultValue, t1.column_op_type AS columnOpType,"
+        + " t1.deleted_at AS deletedAt, t1.audit_info AS auditInfo"
+        + " FROM "
+        + TableColumnMapper.COLUMN_TABLE_NAME
+        + " t1 JOIN ("
+        + " SELECT tc.column_id, MAX(tc.table_version) AS max_table_version"
+        + " FROM "
+        + TableColumnMapper.COLUMN_TABLE_NAME
+        + " tc JOIN "
+        + TableMetaMapper.TABLE_NAME
+        + " tm ON tc.table_id = tm.table_id"
+        + " WHERE tc.table_id IN "
+        + " <foreach"
+        + " item='tableId' index='index' collection='tableIds' open='(' separator=',' close=')'>"
+        + " #{tableId}"
+        + " </foreach>"
+        + " AND tc.table_version <= tm.current_version"
+        + " AND tc.deleted_at = 0 AND tm.deleted_at = 0"
+        + " GROUP BY tc.column_id) t2"
+        + " ON t1.column_id = t2.column_id AND t1.table_version = t2.max_table_version"
+        + "</script>";
+  }
+
   public String insertColumnPOs(@Param("columnPOs") List<ColumnPO> columnPOs) {
     return "<script>"
         + "INSERT INTO "
@@ -65,6 +123,22 @@ public class TableColumnBaseSQLProvider {
         + "</script>";
   }
 
+  public String insertColumnPO(@Param("columnPO") ColumnPO columnPO) {
+    return "INSERT INTO "
+        + TableColumnMapper.COLUMN_TABLE_NAME
+        + "(column_id, column_name, column_position, metalake_id, catalog_id, schema_id,"
+        + " table_id, table_version,"
+        + " column_type, column_comment, column_nullable, column_auto_increment,"
+        + " column_default_value, column_op_type, deleted_at, audit_info)"
+        + " VALUES "
+        + "(#{columnPO.columnId}, #{columnPO.columnName}, #{columnPO.columnPosition},"
+        + " #{columnPO.metalakeId}, #{columnPO.catalogId}, #{columnPO.schemaId},"
+        + " #{columnPO.tableId}, #{columnPO.tableVersion}, #{columnPO.columnType},"
+        + " #{columnPO.columnComment}, #{columnPO.nullable}, #{columnPO.autoIncrement},"
+        + " #{columnPO.defaultValue}, #{columnPO.columnOpType}, #{columnPO.deletedAt},"
+        + " #{columnPO.auditInfo})";
+  }
+
   public String softDeleteColumnsByTableId(@Param("tableId") Long tableId) {
     return "UPDATE "
         + TableColumnMapper.COLUMN_TABLE_NAME
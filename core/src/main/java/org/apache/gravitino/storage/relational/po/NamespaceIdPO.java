@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.po;
+
+import com.google.common.base.Objects;
+
+/**
+ * The ids of the metalake, catalog and schema of a namespace, the ids of the levels that don't
+ * exist are null.
+ */
+public class NamespaceIdPO {
+  private Long metalakeId;
+  private Long catalogId;
+  private Long schemaId;
+
+  public Long getMetalakeId() {
+    return metalakeId;
+  }
+
+  public Long getCatalogId() {
+    return catalogId;
+  }
+
+  public Long getSchemaId() {
+    return schemaId;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof NamespaceIdPO)) return false;
+    NamespaceIdPO that = (NamespaceIdPO) o;
+    return Objects.equal(getMetalakeId(), that.getMetalakeId())
+        && Objects.equal(getCatalogId(), that.getCatalogId())
+        && Objects.equal(getSchemaId(), that.getSchemaId());
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(getMetalakeId(), getCatalogId(), getSchemaId());
+  }
+}
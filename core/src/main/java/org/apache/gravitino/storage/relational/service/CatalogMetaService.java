@@ -183,6 +183,9 @@ public class CatalogMetaService {
     }
 
     if (updateResult > 0) {
+      if (!newEntity.name().equals(catalogName)) {
+        CommonMetaService.getInstance().invalidateEntityIds(identifier);
+      }
       return newEntity;
     } else {
       throw new IOException("Failed to update the entity: " + identifier);
@@ -253,6 +256,7 @@ public class CatalogMetaService {
                       mapper.softDeleteOwnerRelByMetadataObjectIdAndType(
                           catalogId, MetadataObject.Type.CATALOG.name())));
     }
+    CommonMetaService.getInstance().invalidateEntityIds(identifier);
 
     return true;
   }
@@ -19,8 +19,21 @@
 
 package org.apache.gravitino.storage.relational.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.storage.relational.mapper.LegacyDataMapper;
+import org.apache.gravitino.storage.relational.mapper.SchemaMetaMapper;
+import org.apache.gravitino.storage.relational.po.NamespaceIdPO;
+import org.apache.gravitino.storage.relational.utils.SessionUtils;
 
 /** The service class for common metadata operations. */
 public class CommonMetaService {
@@ -30,12 +43,107 @@ public class CommonMetaService {
     return INSTANCE;
   }
 
+  // The ids of metalakes, catalogs and schemas keyed by their namespaces, the id of a name doesn't
+  // change until the entity is renamed or dropped. It's null if the cache is disabled.
+  private volatile Cache<Namespace, Long> idCache;
+
+  private volatile boolean joinedIdQueryEnabled;
+
   private CommonMetaService() {}
 
+  public void initialize(Config config) {
+    if (config.get(Configs.ENTITY_RELATIONAL_ID_CACHE_ENABLED)) {
+      this.idCache =
+          Caffeine.newBuilder()
+              .maximumSize(config.get(Configs.ENTITY_RELATIONAL_ID_CACHE_MAX_SIZE))
+              .expireAfterWrite(
+                  config.get(Configs.ENTITY_RELATIONAL_ID_CACHE_EXPIRATION_MS),
+                  TimeUnit.MILLISECONDS)
+              .build();
+    } else {
+      this.idCache = null;
+    }
+    this.joinedIdQueryEnabled = config.get(Configs.ENTITY_RELATIONAL_JOINED_ID_QUERY_ENABLED);
+  }
+
+  public void close() {
+    Cache<Namespace, Long> cache = idCache;
+    if (cache != null) {
+      cache.invalidateAll();
+    }
+    this.idCache = null;
+  }
+
+  /**
+   * Counts the legacy data of a table, which is marked as deleted before the given legacy timeline
+   * and waits to be deleted physically.
+   *
+   * @param tableName The name of the table.
+   * @param legacyTimeline The time before which the data has been marked as deleted.
+   * @return The count of the legacy data.
+   */
+  public long countLegacyData(String tableName, long legacyTimeline) {
+    return SessionUtils.getWithoutCommit(
+        LegacyDataMapper.class, mapper -> mapper.countLegacyData(tableName, legacyTimeline));
+  }
+
   public Long getParentEntityIdByNamespace(Namespace namespace) {
     Preconditions.checkArgument(
         !namespace.isEmpty() && namespace.levels().length <= 3,
         "Namespace should not be empty and length should be less than or equal to 3.");
+    Cache<Namespace, Long> cache = idCache;
+    // The resolving is atomic with the invalidation of the same namespace, so an invalidation
+    // issued after a rename or drop will never be overtaken by a resolving of the stale id.
+    Long parentEntityId =
+        cache == null
+            ? resolveParentEntityId(namespace)
+            : cache.get(namespace, this::resolveParentEntityId);
+    Preconditions.checkState(
+        parentEntityId != null && parentEntityId > 0,
+        "Parent entity id should not be null and should be greater than 0.");
+    return parentEntityId;
+  }
+
+  /**
+   * Invalidate the cached ids of the entity and the entities under it, it should be called after
+   * the entity is renamed or dropped.
+   *
+   * @param ident The identifier of the renamed or dropped metalake, catalog or schema.
+   */
+  public void invalidateEntityIds(NameIdentifier ident) {
+    Cache<Namespace, Long> cache = idCache;
+    if (cache == null) {
+      return;
+    }
+
+    String[] identLevels = ident.namespace().levels();
+    cache
+        .asMap()
+        .keySet()
+        .removeIf(
+            namespace -> {
+              if (namespace.length() <= identLevels.length) {
+                return false;
+              }
+              for (int i = 0; i < identLevels.length; i++) {
+                if (!namespace.level(i).equals(identLevels[i])) {
+                  return false;
+                }
+              }
+              return namespace.level(identLevels.length).equals(ident.name());
+            });
+  }
+
+  @VisibleForTesting
+  Cache<Namespace, Long> idCache() {
+    return idCache;
+  }
+
+  private Long resolveParentEntityId(Namespace namespace) {
+    if (joinedIdQueryEnabled && namespace.levels().length >= 2) {
+      return resolveParentEntityIdByJoin(namespace);
+    }
+
     Long parentEntityId = null;
     if (namespace.levels().length >= 1) {
       parentEntityId = MetalakeMetaService.getInstance().getMetalakeIdByName(namespace.level(0));
@@ -52,9 +160,42 @@ public class CommonMetaService {
           SchemaMetaService.getInstance()
               .getSchemaIdByCatalogIdAndName(parentEntityId, namespace.level(2));
     }
-    Preconditions.checkState(
-        parentEntityId != null && parentEntityId > 0,
-        "Parent entity id should not be null and should be greater than 0.");
     return parentEntityId;
   }
+
+  private Long resolveParentEntityIdByJoin(Namespace namespace) {
+    String schemaName = namespace.levels().length >= 3 ? namespace.level(2) : null;
+    NamespaceIdPO namespaceIdPO =
+        SessionUtils.getWithoutCommit(
+            SchemaMetaMapper.class,
+            mapper ->
+                mapper.selectNamespaceIdsByName(
+                    namespace.level(0), namespace.level(1), schemaName));
+
+    if (namespaceIdPO == null || namespaceIdPO.getMetalakeId() == null) {
+      throw new NoSuchEntityException(
+          NoSuchEntityException.NO_SUCH_ENTITY_MESSAGE,
+          Entity.EntityType.METALAKE.name().toLowerCase(),
+          namespace.level(0));
+    }
+
+    if (namespaceIdPO.getCatalogId() == null) {
+      throw new NoSuchEntityException(
+          NoSuchEntityException.NO_SUCH_ENTITY_MESSAGE,
+          Entity.EntityType.CATALOG.name().toLowerCase(),
+          namespace.level(1));
+    }
+
+    if (schemaName == null) {
+      return namespaceIdPO.getCatalogId();
+    }
+
+    if (namespaceIdPO.getSchemaId() == null) {
+      throw new NoSuchEntityException(
+          NoSuchEntityException.NO_SUCH_ENTITY_MESSAGE,
+          Entity.EntityType.SCHEMA.name().toLowerCase(),
+          schemaName);
+    }
+    return namespaceIdPO.getSchemaId();
+  }
 }
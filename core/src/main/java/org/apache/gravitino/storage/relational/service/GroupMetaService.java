@@ -281,6 +281,23 @@ public class GroupMetaService {
     }
   }
 
+  public List<GroupEntity> listGroupsByNamespace(
+      Namespace namespace, String startAfter, int limit) {
+    AuthorizationUtils.checkGroupNamespace(namespace);
+    String metalakeName = namespace.level(0);
+
+    List<GroupPO> groupPOs =
+        SessionUtils.getWithoutCommit(
+            GroupMetaMapper.class,
+            mapper -> mapper.listGroupPOsPageByMetalake(metalakeName, startAfter, limit));
+    return groupPOs.stream()
+        .map(
+            po ->
+                POConverters.fromGroupPO(
+                    po, Collections.emptyList(), AuthorizationUtils.ofGroupNamespace(metalakeName)))
+        .collect(Collectors.toList());
+  }
+
   public int deleteGroupMetasByLegacyTimeline(long legacyTimeline, int limit) {
     int[] groupDeletedCount = new int[] {0};
     int[] groupRoleRelDeletedCount = new int[] {0};
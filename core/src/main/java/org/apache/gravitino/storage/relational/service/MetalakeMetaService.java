@@ -164,6 +164,9 @@ public class MetalakeMetaService {
     }
 
     if (updateResult > 0) {
+      if (!newMetalakeEntity.name().equals(ident.name())) {
+        CommonMetaService.getInstance().invalidateEntityIds(ident);
+      }
       return newMetalakeEntity;
     } else {
       throw new IOException("Failed to update the entity: " + ident);
@@ -294,6 +297,7 @@ public class MetalakeMetaService {
                     OwnerMetaMapper.class,
                     mapper -> mapper.softDeleteOwnerRelByMetalakeId(metalakeId)));
       }
+      CommonMetaService.getInstance().invalidateEntityIds(ident);
     }
     return true;
   }
@@ -313,6 +313,23 @@ public class RoleMetaService {
         .collect(Collectors.toList());
   }
 
+  public List<RoleEntity> listRolesByNamespace(Namespace namespace, String startAfter, int limit) {
+    AuthorizationUtils.checkRoleNamespace(namespace);
+    String metalakeName = namespace.level(0);
+
+    List<RolePO> rolePOs =
+        SessionUtils.getWithoutCommit(
+            RoleMetaMapper.class,
+            mapper -> mapper.listRolePOsPageByMetalake(metalakeName, startAfter, limit));
+
+    return rolePOs.stream()
+        .map(
+            po ->
+                POConverters.fromRolePO(
+                    po, Collections.emptyList(), AuthorizationUtils.ofRoleNamespace(metalakeName)))
+        .collect(Collectors.toList());
+  }
+
   public int deleteRoleMetasByLegacyTimeline(long legacyTimeline, int limit) {
     int[] roleDeletedCount = new int[] {0};
     int[] userRoleRelDeletedCount = new int[] {0};
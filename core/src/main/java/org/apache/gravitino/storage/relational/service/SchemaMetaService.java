@@ -116,6 +116,19 @@ public class SchemaMetaService {
     return POConverters.fromSchemaPOs(schemaPOs, namespace);
   }
 
+  public List<SchemaEntity> listSchemasByNamespace(
+      Namespace namespace, String startAfter, int limit) {
+    NamespaceUtil.checkSchema(namespace);
+
+    Long catalogId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
+
+    List<SchemaPO> schemaPOs =
+        SessionUtils.getWithoutCommit(
+            SchemaMetaMapper.class,
+            mapper -> mapper.listSchemaPOsPageByCatalogId(catalogId, startAfter, limit));
+    return POConverters.fromSchemaPOs(schemaPOs, namespace);
+  }
+
   public void insertSchema(SchemaEntity schemaEntity, boolean overwrite) throws IOException {
     try {
       NameIdentifierUtil.checkSchema(schemaEntity.nameIdentifier());
@@ -173,6 +186,9 @@ public class SchemaMetaService {
     }
 
     if (updateResult > 0) {
+      if (!newEntity.name().equals(schemaName)) {
+        CommonMetaService.getInstance().invalidateEntityIds(identifier);
+      }
       return newEntity;
     } else {
       throw new IOException("Failed to update the entity: " + identifier);
@@ -225,7 +241,8 @@ public class SchemaMetaService {
                     NamespaceUtil.ofTable(
                         identifier.namespace().level(0),
                         identifier.namespace().level(1),
-                        schemaName));
+                        schemaName),
+                    false);
         if (!tableEntities.isEmpty()) {
           throw new NonEmptyEntityException(
               "Entity %s has sub-entities, you should remove sub-entities first", identifier);
@@ -253,6 +270,7 @@ public class SchemaMetaService {
                         mapper.softDeleteOwnerRelByMetadataObjectIdAndType(
                             schemaId, MetadataObject.Type.SCHEMA.name())));
       }
+      CommonMetaService.getInstance().invalidateEntityIds(identifier);
     }
     return true;
   }
@@ -25,13 +25,17 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.meta.ColumnEntity;
 import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.storage.relational.JDBCBackend.JDBCBackendType;
 import org.apache.gravitino.storage.relational.mapper.TableColumnMapper;
 import org.apache.gravitino.storage.relational.po.ColumnPO;
 import org.apache.gravitino.storage.relational.po.TablePO;
+import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
 import org.apache.gravitino.storage.relational.utils.POConverters;
 import org.apache.gravitino.storage.relational.utils.SessionUtils;
 
@@ -39,12 +43,20 @@ public class TableColumnMetaService {
 
   private static final TableColumnMetaService INSTANCE = new TableColumnMetaService();
 
+  // The maximum number of columns written by one JDBC batch.
+  private volatile int columnBatchSize =
+      Configs.ENTITY_RELATIONAL_COLUMN_BATCH_SIZE.getDefaultValue();
+
   private TableColumnMetaService() {}
 
   public static TableColumnMetaService getInstance() {
     return INSTANCE;
   }
 
+  public void initialize(Config config) {
+    this.columnBatchSize = config.get(Configs.ENTITY_RELATIONAL_COLUMN_BATCH_SIZE);
+  }
+
   List<ColumnPO> getColumnsByTableIdAndVersion(Long tableId, Long version) {
     List<ColumnPO> columnPOs =
         SessionUtils.getWithoutCommit(
@@ -57,6 +69,28 @@ public class TableColumnMetaService {
         .collect(Collectors.toList());
   }
 
+  Map<Long, List<ColumnPO>> getColumnsBySchemaId(Long schemaId) {
+    List<ColumnPO> columnPOs =
+        SessionUtils.getWithoutCommit(
+            TableColumnMapper.class, mapper -> mapper.listColumnPOsBySchemaId(schemaId));
+
+    // Filter out the deleted columns and group the rest by table
+    return columnPOs.stream()
+        .filter(c -> c.getColumnOpType() != ColumnPO.ColumnOpType.DELETE.value())
+        .collect(Collectors.groupingBy(ColumnPO::getTableId));
+  }
+
+  Map<Long, List<ColumnPO>> getColumnsByTableIds(List<Long> tableIds) {
+    List<ColumnPO> columnPOs =
+        SessionUtils.getWithoutCommit(
+            TableColumnMapper.class, mapper -> mapper.listColumnPOsByTableIds(tableIds));
+
+    // Filter out the deleted columns and group the rest by table
+    return columnPOs.stream()
+        .filter(c -> c.getColumnOpType() != ColumnPO.ColumnOpType.DELETE.value())
+        .collect(Collectors.groupingBy(ColumnPO::getTableId));
+  }
+
   Long getColumnIdByTableIdAndName(Long tableId, String columnName) {
     Long columnId =
         SessionUtils.getWithoutCommit(
@@ -93,8 +127,7 @@ public class TableColumnMetaService {
         POConverters.initializeColumnPOs(tablePO, columnEntities, ColumnPO.ColumnOpType.CREATE);
 
     // insertColumnPOs will be done in insertTable transaction, so we don't do commit here.
-    SessionUtils.doWithoutCommit(
-        TableColumnMapper.class, mapper -> mapper.insertColumnPOs(columnPOs));
+    insertColumnPOsInBatches(columnPOs);
   }
 
   boolean deleteColumnsByTableId(Long tableId) {
@@ -165,7 +198,34 @@ public class TableColumnMetaService {
     }
 
     // updateColumns will be done in updateTable transaction, so we don't do commit here.
-    SessionUtils.doWithoutCommit(
-        TableColumnMapper.class, mapper -> mapper.insertColumnPOs(columnPOsToInsert));
+    insertColumnPOsInBatches(columnPOsToInsert);
+  }
+
+  private void insertColumnPOsInBatches(List<ColumnPO> columnPOs) {
+    if (isMySQLBackend()) {
+      // MySQL Connector/J sends a JDBC batch one statement per round trip unless the JDBC URL sets
+      // rewriteBatchedStatements=true, so the columns are inserted by multi-row statements of at
+      // most columnBatchSize rows instead. All the full chunks share the same statement text.
+      for (List<ColumnPO> chunk : Lists.partition(columnPOs, columnBatchSize)) {
+        SessionUtils.doWithoutCommit(
+            TableColumnMapper.class, mapper -> mapper.insertColumnPOs(chunk));
+      }
+      return;
+    }
+
+    // The columns are inserted one row per statement by JDBC batches, a multi-row statement of a
+    // wide table may exceed the packet size limit of the database, and it's parsed every time as
+    // its text differs with the number of the columns.
+    SessionUtils.doBatchWithoutCommit(
+        TableColumnMapper.class, columnPOs, columnBatchSize, TableColumnMapper::insertColumnPO);
+  }
+
+  private static boolean isMySQLBackend() {
+    String databaseId =
+        SqlSessionFactoryHelper.getInstance()
+            .getSqlSessionFactory()
+            .getConfiguration()
+            .getDatabaseId();
+    return JDBCBackendType.fromString(databaseId) == JDBCBackendType.MYSQL;
   }
 }
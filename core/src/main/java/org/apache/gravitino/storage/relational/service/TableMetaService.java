@@ -20,11 +20,14 @@ package org.apache.gravitino.storage.relational.service;
 
 import com.google.common.base.Preconditions;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.MetadataObject;
@@ -76,20 +79,31 @@ public class TableMetaService {
   }
 
   public TableEntity getTableByIdentifier(NameIdentifier identifier) {
+    return getTableByIdentifier(identifier, true /* allFields */);
+  }
+
+  public TableEntity getTableByIdentifier(NameIdentifier identifier, boolean allFields) {
     NameIdentifierUtil.checkTable(identifier);
 
     Long schemaId =
         CommonMetaService.getInstance().getParentEntityIdByNamespace(identifier.namespace());
 
     TablePO tablePO = getTablePOBySchemaIdAndName(schemaId, identifier.name());
-    List<ColumnPO> columnPOs =
-        TableColumnMetaService.getInstance()
-            .getColumnsByTableIdAndVersion(tablePO.getTableId(), tablePO.getCurrentVersion());
+    if (!allFields) {
+      return POConverters.fromTablePO(tablePO, identifier.namespace());
+    }
 
-    return POConverters.fromTableAndColumnPOs(tablePO, columnPOs, identifier.namespace());
+    // The columns of a wide table are expensive to load, they're loaded when they're accessed for
+    // the first time, many callers only need the id or the audit info of the table.
+    return POConverters.fromTablePOWithColumnsLoader(
+        tablePO,
+        () ->
+            TableColumnMetaService.getInstance()
+                .getColumnsByTableIdAndVersion(tablePO.getTableId(), tablePO.getCurrentVersion()),
+        identifier.namespace());
   }
 
-  public List<TableEntity> listTablesByNamespace(Namespace namespace) {
+  public List<TableEntity> listTablesByNamespace(Namespace namespace, boolean allFields) {
     NamespaceUtil.checkTable(namespace);
 
     Long schemaId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
@@ -98,7 +112,39 @@ public class TableMetaService {
         SessionUtils.getWithoutCommit(
             TableMetaMapper.class, mapper -> mapper.listTablePOsBySchemaId(schemaId));
 
-    return POConverters.fromTablePOs(tablePOs, namespace);
+    if (!allFields) {
+      return POConverters.fromTablePOs(tablePOs, namespace);
+    }
+
+    // Load the columns of all the tables with one query rather than one query per table.
+    Map<Long, List<ColumnPO>> columnPOs =
+        TableColumnMetaService.getInstance().getColumnsBySchemaId(schemaId);
+    return fromTableAndColumnPOs(tablePOs, columnPOs, namespace);
+  }
+
+  public List<TableEntity> listTablesByNamespaceAndNames(
+      Namespace namespace, List<String> tableNames) {
+    NamespaceUtil.checkTable(namespace);
+
+    Long schemaId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
+    if (tableNames.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    List<TablePO> tablePOs =
+        SessionUtils.getWithoutCommit(
+            TableMetaMapper.class,
+            mapper -> mapper.listTablePOsBySchemaIdAndNames(schemaId, tableNames));
+    if (tablePOs.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    // Only the columns of the requested tables are loaded, with one query for all of them.
+    Map<Long, List<ColumnPO>> columnPOs =
+        TableColumnMetaService.getInstance()
+            .getColumnsByTableIds(
+                tablePOs.stream().map(TablePO::getTableId).collect(Collectors.toList()));
+    return fromTableAndColumnPOs(tablePOs, columnPOs, namespace);
   }
 
   public void insertTable(TableEntity tableEntity, boolean overwrite) throws IOException {
@@ -279,4 +325,16 @@ public class TableMetaService {
     }
     return tablePO;
   }
+
+  private List<TableEntity> fromTableAndColumnPOs(
+      List<TablePO> tablePOs, Map<Long, List<ColumnPO>> columnPOs, Namespace namespace) {
+    return tablePOs.stream()
+        .map(
+            po ->
+                POConverters.fromTableAndColumnPOs(
+                    po,
+                    columnPOs.getOrDefault(po.getTableId(), Collections.emptyList()),
+                    namespace))
+        .collect(Collectors.toList());
+  }
 }
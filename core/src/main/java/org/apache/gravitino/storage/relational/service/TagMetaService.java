@@ -67,6 +67,17 @@ public class TagMetaService {
         .collect(Collectors.toList());
   }
 
+  public List<TagEntity> listTagsByNamespace(Namespace ns, String startAfter, int limit) {
+    String metalakeName = ns.level(0);
+    List<TagPO> tagPOs =
+        SessionUtils.getWithoutCommit(
+            TagMetaMapper.class,
+            mapper -> mapper.listTagPOsPageByMetalake(metalakeName, startAfter, limit));
+    return tagPOs.stream()
+        .map(tagPO -> POConverters.fromTagPO(tagPO, ns))
+        .collect(Collectors.toList());
+  }
+
   public TagEntity getTagByIdentifier(NameIdentifier ident) {
     String metalakeName = ident.namespace().level(0);
     TagPO tagPO = getTagPOByMetalakeAndName(metalakeName, ident.name());
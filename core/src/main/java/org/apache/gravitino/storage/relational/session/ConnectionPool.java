@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.session;
+
+import java.io.Closeable;
+import javax.sql.DataSource;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+
+/**
+ * A pool of the JDBC connections used by the relational entity store. The implementation is
+ * specified by {@link Configs#ENTITY_RELATIONAL_CONNECTION_POOL}, it must have a public no-argument
+ * constructor.
+ */
+public interface ConnectionPool extends Closeable {
+
+  /**
+   * Initialize the connection pool with the JDBC connection details and the pool settings.
+   *
+   * @param config The config of the entity store.
+   */
+  void initialize(Config config);
+
+  /** @return The pooled data source. */
+  DataSource dataSource();
+
+  /** @return The number of connections currently borrowed from the pool. */
+  int numActive();
+
+  /** @return The number of connections currently idle in the pool. */
+  int numIdle();
+
+  /** @return The number of threads currently waiting for a connection from the pool. */
+  int numWaiters();
+}
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.session;
+
+import com.codahale.metrics.Timer;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.MetricsSource;
+
+/** Exposes the state of the {@link ConnectionPool} used by the relational entity store. */
+public class ConnectionPoolMetricsSource extends MetricsSource {
+
+  private final Timer borrowTimer;
+
+  public ConnectionPoolMetricsSource(ConnectionPool connectionPool) {
+    super(MetricsSource.ENTITY_STORE_CONNECTION_POOL_METRIC_NAME);
+    registerGauge(MetricNames.CONNECTION_POOL_ACTIVE_NUM, connectionPool::numActive);
+    registerGauge(MetricNames.CONNECTION_POOL_IDLE_NUM, connectionPool::numIdle);
+    registerGauge(MetricNames.CONNECTION_POOL_WAITER_NUM, connectionPool::numWaiters);
+    this.borrowTimer = getTimer(MetricNames.CONNECTION_POOL_BORROW_DURATION);
+  }
+
+  /** @return The timer of the time spent on borrowing connections from the pool. */
+  public Timer borrowTimer() {
+    return borrowTimer;
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.session;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Optional;
+import javax.sql.DataSource;
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.apache.commons.dbcp2.PoolableConnection;
+import org.apache.commons.pool2.impl.BaseObjectPoolConfig;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+
+/** The {@link ConnectionPool} implemented by Apache Commons DBCP, it's the default one. */
+public class DBCPConnectionPool implements ConnectionPool {
+
+  private MonitoredBasicDataSource dataSource;
+
+  @Override
+  @SuppressWarnings("deprecation")
+  public void initialize(Config config) {
+    dataSource = new MonitoredBasicDataSource();
+    dataSource.setUrl(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL));
+    dataSource.setDriverClassName(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER));
+    dataSource.setUsername(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER));
+    dataSource.setPassword(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD));
+    // Close the auto commit, so that we can control the transaction manual commit
+    dataSource.setDefaultAutoCommit(false);
+    dataSource.setMaxWaitMillis(config.get(Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MAX_WAIT_MS));
+    dataSource.setMaxTotal(config.get(Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MAX_TOTAL));
+    dataSource.setMaxIdle(config.get(Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MAX_IDLE));
+    dataSource.setMinIdle(config.get(Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MIN_IDLE));
+    dataSource.setLogAbandoned(true);
+    dataSource.setRemoveAbandonedOnBorrow(true);
+    dataSource.setRemoveAbandonedTimeout(60);
+    dataSource.setTimeBetweenEvictionRunsMillis(
+        config.get(Configs.ENTITY_RELATIONAL_CONNECTION_POOL_EVICTION_INTERVAL_MS));
+    dataSource.setTestOnBorrow(
+        config.get(Configs.ENTITY_RELATIONAL_CONNECTION_POOL_TEST_ON_BORROW));
+    dataSource.setTestWhileIdle(
+        config.get(Configs.ENTITY_RELATIONAL_CONNECTION_POOL_TEST_WHILE_IDLE));
+    Optional<String> validationQuery =
+        config.get(Configs.ENTITY_RELATIONAL_CONNECTION_POOL_VALIDATION_QUERY);
+    if (validationQuery.isPresent()) {
+      dataSource.setValidationQuery(validationQuery.get());
+    }
+    dataSource.setMinEvictableIdleTimeMillis(
+        config.get(Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MIN_EVICTABLE_IDLE_MS));
+    dataSource.setNumTestsPerEvictionRun(BaseObjectPoolConfig.DEFAULT_NUM_TESTS_PER_EVICTION_RUN);
+    dataSource.setTestOnReturn(BaseObjectPoolConfig.DEFAULT_TEST_ON_RETURN);
+    dataSource.setSoftMinEvictableIdleTimeMillis(
+        BaseObjectPoolConfig.DEFAULT_SOFT_MIN_EVICTABLE_IDLE_TIME.toMillis());
+    dataSource.setLifo(BaseObjectPoolConfig.DEFAULT_LIFO);
+    dataSource.setPoolPreparedStatements(
+        config.get(Configs.ENTITY_RELATIONAL_CONNECTION_POOL_CACHE_STATEMENTS));
+    dataSource.setMaxOpenPreparedStatements(
+        config.get(Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MAX_STATEMENTS));
+  }
+
+  @Override
+  public DataSource dataSource() {
+    return dataSource;
+  }
+
+  @Override
+  public int numActive() {
+    return dataSource.getNumActive();
+  }
+
+  @Override
+  public int numIdle() {
+    return dataSource.getNumIdle();
+  }
+
+  @Override
+  public int numWaiters() {
+    return dataSource.getNumWaiters();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (dataSource != null) {
+      try {
+        dataSource.close();
+      } catch (SQLException e) {
+        throw new IOException("Failed to close the connection pool", e);
+      }
+    }
+  }
+
+  /** Exposes the number of threads waiting for a connection of the underlying object pool. */
+  private static class MonitoredBasicDataSource extends BasicDataSource {
+
+    private int getNumWaiters() {
+      GenericObjectPool<PoolableConnection> pool = getConnectionPool();
+      return pool == null ? 0 : pool.getNumWaiters();
+    }
+  }
+}
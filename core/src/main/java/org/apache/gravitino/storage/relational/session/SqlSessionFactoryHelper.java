@@ -20,18 +20,19 @@
 package org.apache.gravitino.storage.relational.session;
 
 import com.google.common.base.Preconditions;
-import java.sql.SQLException;
-import java.time.Duration;
-import org.apache.commons.dbcp2.BasicDataSource;
-import org.apache.commons.pool2.impl.BaseObjectPoolConfig;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.metrics.MetricsSystem;
 import org.apache.gravitino.storage.relational.JDBCBackend.JDBCBackendType;
 import org.apache.gravitino.storage.relational.mapper.CatalogMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.FilesetMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.FilesetVersionMapper;
 import org.apache.gravitino.storage.relational.mapper.GroupMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.GroupRoleRelMapper;
+import org.apache.gravitino.storage.relational.mapper.LegacyDataMapper;
 import org.apache.gravitino.storage.relational.mapper.MetalakeMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.OwnerMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.RoleMetaMapper;
@@ -50,6 +51,8 @@ import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.SqlSessionFactoryBuilder;
 import org.apache.ibatis.transaction.TransactionFactory;
 import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * SqlSessionFactoryHelper maintains the MyBatis's {@link SqlSessionFactory} object, which is used
@@ -57,7 +60,17 @@ import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
  * should be initialized only once.
  */
 public class SqlSessionFactoryHelper {
+  private static final Logger LOG = LoggerFactory.getLogger(SqlSessionFactoryHelper.class);
+
+  // Register ConnectionPool's short name to its full qualified class name in the map. So that user
+  // doesn't need to specify the full qualified class name of the built-in connection pools.
+  public static final ImmutableMap<String, String> CONNECTION_POOLS =
+      ImmutableMap.of(
+          Configs.DEFAULT_RELATIONAL_CONNECTION_POOL, DBCPConnectionPool.class.getCanonicalName());
+
   private static volatile SqlSessionFactory sqlSessionFactory;
+  private static ConnectionPool connectionPool;
+  private static ConnectionPoolMetricsSource metricsSource;
   private static final SqlSessionFactoryHelper INSTANCE = new SqlSessionFactoryHelper();
 
   public static SqlSessionFactoryHelper getInstance() {
@@ -71,38 +84,37 @@ public class SqlSessionFactoryHelper {
    *
    * @param config Config object to get the jdbc connection details from the config.
    */
-  @SuppressWarnings("deprecation")
   public void init(Config config) {
+    // Create the SqlSessionFactory object, it is a singleton object
+    if (sqlSessionFactory == null) {
+      synchronized (SqlSessionFactoryHelper.class) {
+        if (sqlSessionFactory == null) {
+          sqlSessionFactory = createSqlSessionFactory(config);
+        }
+      }
+    }
+  }
+
+  private static SqlSessionFactory createSqlSessionFactory(Config config) {
     // Initialize the data source
-    BasicDataSource dataSource = new BasicDataSource();
     String jdbcUrl = config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL);
     JDBCBackendType jdbcType = JDBCBackendType.fromURI(jdbcUrl);
-    dataSource.setUrl(jdbcUrl);
-    dataSource.setDriverClassName(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER));
-    dataSource.setUsername(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER));
-    dataSource.setPassword(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD));
-    // Close the auto commit, so that we can control the transaction manual commit
-    dataSource.setDefaultAutoCommit(false);
-    dataSource.setMaxWaitMillis(1000L);
-    dataSource.setMaxTotal(20);
-    dataSource.setMaxIdle(5);
-    dataSource.setMinIdle(0);
-    dataSource.setLogAbandoned(true);
-    dataSource.setRemoveAbandonedOnBorrow(true);
-    dataSource.setRemoveAbandonedTimeout(60);
-    dataSource.setTimeBetweenEvictionRunsMillis(Duration.ofMillis(10 * 60 * 1000L).toMillis());
-    dataSource.setTestOnBorrow(BaseObjectPoolConfig.DEFAULT_TEST_ON_BORROW);
-    dataSource.setTestWhileIdle(BaseObjectPoolConfig.DEFAULT_TEST_WHILE_IDLE);
-    dataSource.setMinEvictableIdleTimeMillis(1000);
-    dataSource.setNumTestsPerEvictionRun(BaseObjectPoolConfig.DEFAULT_NUM_TESTS_PER_EVICTION_RUN);
-    dataSource.setTestOnReturn(BaseObjectPoolConfig.DEFAULT_TEST_ON_RETURN);
-    dataSource.setSoftMinEvictableIdleTimeMillis(
-        BaseObjectPoolConfig.DEFAULT_SOFT_MIN_EVICTABLE_IDLE_TIME.toMillis());
-    dataSource.setLifo(BaseObjectPoolConfig.DEFAULT_LIFO);
+    connectionPool = createConnectionPool(config);
+    connectionPool.initialize(config);
+
+    metricsSource = new ConnectionPoolMetricsSource(connectionPool);
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
 
     // Create the transaction factory and env
     TransactionFactory transactionFactory = new JdbcTransactionFactory();
-    Environment environment = new Environment("development", transactionFactory, dataSource);
+    Environment environment =
+        new Environment(
+            "development",
+            transactionFactory,
+            new TimedDataSource(connectionPool.dataSource(), metricsSource.borrowTimer()));
 
     // Initialize the configuration
     Configuration configuration = new Configuration(environment);
@@ -124,14 +136,19 @@ public class SqlSessionFactoryHelper {
     configuration.addMapper(TagMetaMapper.class);
     configuration.addMapper(TagMetadataObjectRelMapper.class);
     configuration.addMapper(OwnerMetaMapper.class);
+    configuration.addMapper(LegacyDataMapper.class);
 
-    // Create the SqlSessionFactory object, it is a singleton object
-    if (sqlSessionFactory == null) {
-      synchronized (SqlSessionFactoryHelper.class) {
-        if (sqlSessionFactory == null) {
-          sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
-        }
-      }
+    return new SqlSessionFactoryBuilder().build(configuration);
+  }
+
+  private static ConnectionPool createConnectionPool(Config config) {
+    String name = config.get(Configs.ENTITY_RELATIONAL_CONNECTION_POOL);
+    String className = CONNECTION_POOLS.getOrDefault(name, name);
+    try {
+      return (ConnectionPool) Class.forName(className).getDeclaredConstructor().newInstance();
+    } catch (Exception e) {
+      LOG.error("Failed to create the connection pool by name {}.", name, e);
+      throw new RuntimeException("Failed to create the connection pool: " + name, e);
     }
   }
 
@@ -144,14 +161,17 @@ public class SqlSessionFactoryHelper {
     if (sqlSessionFactory != null) {
       synchronized (SqlSessionFactoryHelper.class) {
         if (sqlSessionFactory != null) {
+          MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+          if (metricsSystem != null) {
+            metricsSystem.unregister(metricsSource);
+          }
           try {
-            BasicDataSource dataSource =
-                (BasicDataSource)
-                    sqlSessionFactory.getConfiguration().getEnvironment().getDataSource();
-            dataSource.close();
-          } catch (SQLException e) {
+            connectionPool.close();
+          } catch (IOException e) {
             // silently ignore the error report
           }
+          connectionPool = null;
+          metricsSource = null;
           sqlSessionFactory = null;
         }
       }
@@ -20,6 +20,7 @@
 package org.apache.gravitino.storage.relational.session;
 
 import com.google.common.annotations.VisibleForTesting;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.TransactionIsolationLevel;
 
@@ -57,6 +58,22 @@ public final class SqlSessions {
     return sqlSession;
   }
 
+  /**
+   * Open a SqlSession object of the batch executor on the connection of the SqlSession object of
+   * the thread, so the statements executed by it belong to the same transaction, and are committed
+   * or rolled back with the SqlSession object of the thread.
+   *
+   * <p>The batch SqlSession object must not be closed, which closes the shared connection. The
+   * statements of it are closed when they're flushed by {@link SqlSession#flushStatements()}.
+   *
+   * @return SqlSession object of the batch executor.
+   */
+  public static SqlSession openBatchSqlSession() {
+    return SqlSessionFactoryHelper.getInstance()
+        .getSqlSessionFactory()
+        .openSession(ExecutorType.BATCH, getSqlSession().getConnection());
+  }
+
   /**
    * Commit the SqlSession object and close it. It also removes the SqlSession object from the
    * thread local storage.
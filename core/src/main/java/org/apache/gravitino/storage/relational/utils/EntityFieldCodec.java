@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.storage.relational.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.json.JsonUtils;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.SchemaVersion;
+import org.apache.gravitino.proto.AuditInfoSerDe;
+import org.apache.gravitino.proto.Properties;
+
+/**
+ * Encodes the properties, audit info and schema version of the entities into the text columns of
+ * the relational entity store, and decodes them back.
+ *
+ * <p>The fields are encoded as JSON by default. With the binary encoding, a field is encoded as its
+ * protobuf message in Base64 with a {@code pb1:} prefix marking the version of the layout, which is
+ * much cheaper to parse than JSON. The decoding recognizes both layouts no matter which encoding is
+ * configured, so the encoding can be switched on a running store, the existing rows are re-encoded
+ * when they're written next time.
+ */
+public class EntityFieldCodec {
+
+  /** The encodings of the entity fields. */
+  public enum Encoding {
+    /** The fields are encoded as JSON strings. */
+    JSON,
+    /** The fields are encoded as Base64 strings of the protobuf messages. */
+    BINARY
+  }
+
+  // The prefix of the fields in the version 1 binary layout. A JSON string never starts with it.
+  @VisibleForTesting static final String BINARY_PREFIX = "pb1:";
+
+  private static final AuditInfoSerDe AUDIT_INFO_SERDE = new AuditInfoSerDe();
+
+  private static volatile Encoding encoding = Encoding.JSON;
+
+  private EntityFieldCodec() {}
+
+  public static void initialize(Config config) {
+    String value = config.get(Configs.ENTITY_RELATIONAL_FIELD_ENCODING);
+    encoding = Encoding.valueOf(value.toUpperCase(Locale.ROOT));
+  }
+
+  @VisibleForTesting
+  static void setEncoding(Encoding newEncoding) {
+    encoding = newEncoding;
+  }
+
+  public static String writeProperties(Map<String, String> properties)
+      throws JsonProcessingException {
+    // Protobuf maps don't accept null keys or values, such properties are kept in JSON.
+    if (encoding == Encoding.BINARY
+        && properties != null
+        && properties.entrySet().stream()
+            .noneMatch(e -> e.getKey() == null || e.getValue() == null)) {
+      return toBinary(Properties.newBuilder().putAllEntries(properties).build());
+    }
+    return JsonUtils.anyFieldMapper().writeValueAsString(properties);
+  }
+
+  public static Map<String, String> readProperties(String value) throws JsonProcessingException {
+    if (isBinary(value)) {
+      try {
+        return new HashMap<>(Properties.parseFrom(fromBinary(value)).getEntriesMap());
+      } catch (InvalidProtocolBufferException e) {
+        throw new RuntimeException("Failed to deserialize binary properties:", e);
+      }
+    }
+    return JsonUtils.anyFieldMapper().readValue(value, Map.class);
+  }
+
+  public static String writeAuditInfo(AuditInfo auditInfo) throws JsonProcessingException {
+    if (encoding == Encoding.BINARY && auditInfo != null) {
+      return toBinary(AUDIT_INFO_SERDE.serialize(auditInfo));
+    }
+    return JsonUtils.anyFieldMapper().writeValueAsString(auditInfo);
+  }
+
+  public static AuditInfo readAuditInfo(String value) throws JsonProcessingException {
+    if (isBinary(value)) {
+      try {
+        return AUDIT_INFO_SERDE.deserialize(
+            org.apache.gravitino.proto.AuditInfo.parseFrom(fromBinary(value)), null);
+      } catch (InvalidProtocolBufferException e) {
+        throw new RuntimeException("Failed to deserialize binary audit info:", e);
+      }
+    }
+    return JsonUtils.anyFieldMapper().readValue(value, AuditInfo.class);
+  }
+
+  public static String writeSchemaVersion(SchemaVersion version) throws JsonProcessingException {
+    if (encoding == Encoding.BINARY && version != null) {
+      return toBinary(
+          org.apache.gravitino.proto.SchemaVersion.newBuilder()
+              .setMajorNumber(version.getMajorVersion())
+              .setMinorNumber(version.getMinorVersion())
+              .build());
+    }
+    return JsonUtils.anyFieldMapper().writeValueAsString(version);
+  }
+
+  public static SchemaVersion readSchemaVersion(String value) throws JsonProcessingException {
+    if (isBinary(value)) {
+      try {
+        org.apache.gravitino.proto.SchemaVersion version =
+            org.apache.gravitino.proto.SchemaVersion.parseFrom(fromBinary(value));
+        return SchemaVersion.forValues(version.getMajorNumber(), version.getMinorNumber());
+      } catch (InvalidProtocolBufferException e) {
+        throw new RuntimeException("Failed to deserialize binary schema version:", e);
+      }
+    }
+    return JsonUtils.anyFieldMapper().readValue(value, SchemaVersion.class);
+  }
+
+  private static boolean isBinary(String value) {
+    return value != null && value.startsWith(BINARY_PREFIX);
+  }
+
+  private static String toBinary(Message message) {
+    return BINARY_PREFIX + Base64.getEncoder().encodeToString(message.toByteArray());
+  }
+
+  private static byte[] fromBinary(String value) {
+    return Base64.getDecoder().decode(value.substring(BINARY_PREFIX.length()));
+  }
+}
@@ -26,6 +26,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
@@ -47,7 +48,6 @@ import org.apache.gravitino.meta.FilesetEntity;
 import org.apache.gravitino.meta.GroupEntity;
 import org.apache.gravitino.meta.RoleEntity;
 import org.apache.gravitino.meta.SchemaEntity;
-import org.apache.gravitino.meta.SchemaVersion;
 import org.apache.gravitino.meta.TableEntity;
 import org.apache.gravitino.meta.TagEntity;
 import org.apache.gravitino.meta.TopicEntity;
@@ -95,10 +95,9 @@ public class POConverters {
           .withMetalakeId(baseMetalake.id())
           .withMetalakeName(baseMetalake.name())
           .withMetalakeComment(baseMetalake.comment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(baseMetalake.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(baseMetalake.auditInfo()))
-          .withSchemaVersion(
-              JsonUtils.anyFieldMapper().writeValueAsString(baseMetalake.getVersion()))
+          .withProperties(EntityFieldCodec.writeProperties(baseMetalake.properties()))
+          .withAuditInfo(EntityFieldCodec.writeAuditInfo(baseMetalake.auditInfo()))
+          .withSchemaVersion(EntityFieldCodec.writeSchemaVersion(baseMetalake.getVersion()))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -125,10 +124,9 @@ public class POConverters {
           .withMetalakeId(newMetalake.id())
           .withMetalakeName(newMetalake.name())
           .withMetalakeComment(newMetalake.comment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(newMetalake.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newMetalake.auditInfo()))
-          .withSchemaVersion(
-              JsonUtils.anyFieldMapper().writeValueAsString(newMetalake.getVersion()))
+          .withProperties(EntityFieldCodec.writeProperties(newMetalake.properties()))
+          .withAuditInfo(EntityFieldCodec.writeAuditInfo(newMetalake.auditInfo()))
+          .withSchemaVersion(EntityFieldCodec.writeSchemaVersion(newMetalake.getVersion()))
           .withCurrentVersion(nextVersion)
           .withLastVersion(nextVersion)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -150,13 +148,9 @@ public class POConverters {
           .withId(metalakePO.getMetalakeId())
           .withName(metalakePO.getMetalakeName())
           .withComment(metalakePO.getMetalakeComment())
-          .withProperties(
-              JsonUtils.anyFieldMapper().readValue(metalakePO.getProperties(), Map.class))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(metalakePO.getAuditInfo(), AuditInfo.class))
-          .withVersion(
-              JsonUtils.anyFieldMapper()
-                  .readValue(metalakePO.getSchemaVersion(), SchemaVersion.class))
+          .withProperties(EntityFieldCodec.readProperties(metalakePO.getProperties()))
+          .withAuditInfo(EntityFieldCodec.readAuditInfo(metalakePO.getAuditInfo()))
+          .withVersion(EntityFieldCodec.readSchemaVersion(metalakePO.getSchemaVersion()))
           .build();
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize json object:", e);
@@ -189,9 +183,8 @@ public class POConverters {
           .withType(catalogEntity.getType().name())
           .withProvider(catalogEntity.getProvider())
           .withCatalogComment(catalogEntity.getComment())
-          .withProperties(
-              JsonUtils.anyFieldMapper().writeValueAsString(catalogEntity.getProperties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(catalogEntity.auditInfo()))
+          .withProperties(EntityFieldCodec.writeProperties(catalogEntity.getProperties()))
+          .withAuditInfo(EntityFieldCodec.writeAuditInfo(catalogEntity.auditInfo()))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -221,8 +214,8 @@ public class POConverters {
           .withType(newCatalog.getType().name())
           .withProvider(newCatalog.getProvider())
           .withCatalogComment(newCatalog.getComment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(newCatalog.getProperties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newCatalog.auditInfo()))
+          .withProperties(EntityFieldCodec.writeProperties(newCatalog.getProperties()))
+          .withAuditInfo(EntityFieldCodec.writeAuditInfo(newCatalog.auditInfo()))
           .withCurrentVersion(nextVersion)
           .withLastVersion(nextVersion)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -248,10 +241,8 @@ public class POConverters {
           .withType(Catalog.Type.valueOf(catalogPO.getType()))
           .withProvider(catalogPO.getProvider())
           .withComment(catalogPO.getCatalogComment())
-          .withProperties(
-              JsonUtils.anyFieldMapper().readValue(catalogPO.getProperties(), Map.class))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(catalogPO.getAuditInfo(), AuditInfo.class))
+          .withProperties(EntityFieldCodec.readProperties(catalogPO.getProperties()))
+          .withAuditInfo(EntityFieldCodec.readAuditInfo(catalogPO.getAuditInfo()))
           .build();
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize json object:", e);
@@ -285,8 +276,8 @@ public class POConverters {
           .withSchemaId(schemaEntity.id())
           .withSchemaName(schemaEntity.name())
           .withSchemaComment(schemaEntity.comment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(schemaEntity.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(schemaEntity.auditInfo()))
+          .withProperties(EntityFieldCodec.writeProperties(schemaEntity.properties()))
+          .withAuditInfo(EntityFieldCodec.writeAuditInfo(schemaEntity.auditInfo()))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -314,8 +305,8 @@ public class POConverters {
           .withMetalakeId(oldSchemaPO.getMetalakeId())
           .withCatalogId(oldSchemaPO.getCatalogId())
           .withSchemaComment(newSchema.comment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(newSchema.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newSchema.auditInfo()))
+          .withProperties(EntityFieldCodec.writeProperties(newSchema.properties()))
+          .withAuditInfo(EntityFieldCodec.writeAuditInfo(newSchema.auditInfo()))
           .withCurrentVersion(nextVersion)
           .withLastVersion(nextVersion)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -339,9 +330,8 @@ public class POConverters {
           .withName(schemaPO.getSchemaName())
           .withNamespace(namespace)
           .withComment(schemaPO.getSchemaComment())
-          .withProperties(JsonUtils.anyFieldMapper().readValue(schemaPO.getProperties(), Map.class))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(schemaPO.getAuditInfo(), AuditInfo.class))
+          .withProperties(EntityFieldCodec.readProperties(schemaPO.getProperties()))
+          .withAuditInfo(EntityFieldCodec.readAuditInfo(schemaPO.getAuditInfo()))
           .build();
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize json object:", e);
@@ -373,7 +363,7 @@ public class POConverters {
       return builder
           .withTableId(tableEntity.id())
           .withTableName(tableEntity.name())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(tableEntity.auditInfo()))
+          .withAuditInfo(EntityFieldCodec.writeAuditInfo(tableEntity.auditInfo()))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -410,7 +400,7 @@ public class POConverters {
           .withMetalakeId(oldTablePO.getMetalakeId())
           .withCatalogId(oldTablePO.getCatalogId())
           .withSchemaId(oldTablePO.getSchemaId())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newTable.auditInfo()))
+          .withAuditInfo(EntityFieldCodec.writeAuditInfo(newTable.auditInfo()))
           .withCurrentVersion(currentVersion)
           .withLastVersion(lastVersion)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -439,8 +429,30 @@ public class POConverters {
           .withName(tablePO.getTableName())
           .withNamespace(namespace)
           .withColumns(fromColumnPOs(columnPOs))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(tablePO.getAuditInfo(), AuditInfo.class))
+          .withAuditInfo(EntityFieldCodec.readAuditInfo(tablePO.getAuditInfo()))
+          .build();
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException("Failed to deserialize json object:", e);
+    }
+  }
+
+  /**
+   * Convert {@link TablePO} to {@link TableEntity} whose columns are loaded on the first access.
+   *
+   * @param tablePO TablePO object to be converted
+   * @param columnPOsLoader the loader of the ColumnPO objects of the table
+   * @param namespace Namespace object to be associated with the table
+   * @return TableEntity object from TablePO object
+   */
+  public static TableEntity fromTablePOWithColumnsLoader(
+      TablePO tablePO, Supplier<List<ColumnPO>> columnPOsLoader, Namespace namespace) {
+    try {
+      return TableEntity.builder()
+          .withId(tablePO.getTableId())
+          .withName(tablePO.getTableName())
+          .withNamespace(namespace)
+          .withColumnsLoader(() -> fromColumnPOs(columnPOsLoader.get()))
+          .withAuditInfo(EntityFieldCodec.readAuditInfo(tablePO.getAuditInfo()))
           .build();
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize json object:", e);
@@ -465,8 +477,7 @@ public class POConverters {
                       (FunctionArg)
                           JsonUtils.anyFieldMapper()
                               .readValue(columnPO.getDefaultValue(), Expression.class)))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(columnPO.getAuditInfo(), AuditInfo.class))
+          .withAuditInfo(EntityFieldCodec.readAuditInfo(columnPO.getAuditInfo()))
           .build();
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize json object:", e);
@@ -501,7 +512,7 @@ public class POConverters {
                   : JsonUtils.anyFieldMapper()
                       .writeValueAsString(DTOConverters.toFunctionArg(columnEntity.defaultValue())))
           .withColumnOpType(opType.value())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(columnEntity.auditInfo()))
+          .withAuditInfo(EntityFieldCodec.writeAuditInfo(columnEntity.auditInfo()))
           .withDeletedAt(DEFAULT_DELETED_AT)
           .build();
     } catch (JsonProcessingException e) {
@@ -547,15 +558,14 @@ public class POConverters {
               .withVersion(INIT_VERSION)
               .withFilesetComment(filesetEntity.comment())
               .withStorageLocation(filesetEntity.storageLocation())
-              .withProperties(
-                  JsonUtils.anyFieldMapper().writeValueAsString(filesetEntity.properties()))
+              .withProperties(EntityFieldCodec.writeProperties(filesetEntity.properties()))
               .withDeletedAt(DEFAULT_DELETED_AT)
               .build();
       return builder
           .withFilesetId(filesetEntity.id())
           .withFilesetName(filesetEntity.name())
           .withType(filesetEntity.filesetType().name())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(filesetEntity.auditInfo()))
+          .withAuditInfo(EntityFieldCodec.writeAuditInfo(filesetEntity.auditInfo()))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -592,8 +602,7 @@ public class POConverters {
                 .withVersion(currentVersion)
                 .withFilesetComment(newFileset.comment())
                 .withStorageLocation(newFileset.storageLocation())
-                .withProperties(
-                    JsonUtils.anyFieldMapper().writeValueAsString(newFileset.properties()))
+                .withProperties(EntityFieldCodec.writeProperties(newFileset.properties()))
                 .withDeletedAt(DEFAULT_DELETED_AT)
                 .build();
       } else {
@@ -607,7 +616,7 @@ public class POConverters {
           .withCatalogId(oldFilesetPO.getCatalogId())
           .withSchemaId(oldFilesetPO.getSchemaId())
           .withType(newFileset.filesetType().name())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newFileset.auditInfo()))
+          .withAuditInfo(EntityFieldCodec.writeAuditInfo(newFileset.auditInfo()))
           .withCurrentVersion(currentVersion)
           .withLastVersion(lastVersion)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -628,7 +637,7 @@ public class POConverters {
 
     try {
       Map<String, String> oldProperties =
-          JsonUtils.anyFieldMapper().readValue(oldFilesetVersionPO.getProperties(), Map.class);
+          EntityFieldCodec.readProperties(oldFilesetVersionPO.getProperties());
       if (oldProperties == null) {
         return newFileset.properties() != null;
       }
@@ -655,10 +664,8 @@ public class POConverters {
           .withFilesetType(Fileset.Type.valueOf(filesetPO.getType()))
           .withStorageLocation(filesetPO.getFilesetVersionPO().getStorageLocation())
           .withProperties(
-              JsonUtils.anyFieldMapper()
-                  .readValue(filesetPO.getFilesetVersionPO().getProperties(), Map.class))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(filesetPO.getAuditInfo(), AuditInfo.class))
+              EntityFieldCodec.readProperties(filesetPO.getFilesetVersionPO().getProperties()))
+          .withAuditInfo(EntityFieldCodec.readAuditInfo(filesetPO.getAuditInfo()))
           .build();
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize json object:", e);
@@ -672,9 +679,8 @@ public class POConverters {
           .withName(topicPO.getTopicName())
           .withNamespace(namespace)
           .withComment(topicPO.getComment())
-          .withProperties(JsonUtils.anyFieldMapper().readValue(topicPO.getProperties(), Map.class))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(topicPO.getAuditInfo(), AuditInfo.class))
+          .withProperties(EntityFieldCodec.readProperties(topicPO.getProperties()))
+          .withAuditInfo(EntityFieldCodec.readAuditInfo(topicPO.getAuditInfo()))
           .build();
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize json object:", e);
@@ -708,8 +714,8 @@ public class POConverters {
           .withTopicId(topicEntity.id())
           .withTopicName(topicEntity.name())
           .withComment(topicEntity.comment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(topicEntity.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(topicEntity.auditInfo()))
+          .withProperties(EntityFieldCodec.writeProperties(topicEntity.properties()))
+          .withAuditInfo(EntityFieldCodec.writeAuditInfo(topicEntity.auditInfo()))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -731,8 +737,8 @@ public class POConverters {
           .withCatalogId(oldTopicPO.getCatalogId())
           .withSchemaId(oldTopicPO.getSchemaId())
           .withComment(newEntity.comment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(newEntity.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newEntity.auditInfo()))
+          .withProperties(EntityFieldCodec.writeProperties(newEntity.properties()))
+          .withAuditInfo(EntityFieldCodec.writeAuditInfo(newEntity.auditInfo()))
           .withCurrentVersion(nextVersion)
           .withLastVersion(nextVersion)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -753,7 +759,7 @@ public class POConverters {
       return builder
           .withUserId(userEntity.id())
           .withUserName(userEntity.name())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(userEntity.auditInfo()))
+          .withAuditInfo(EntityFieldCodec.writeAuditInfo(userEntity.auditInfo()))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -780,7 +786,7 @@ public class POConverters {
           .withUserId(oldUserPO.getUserId())
           .withUserName(newUser.name())
           .withMetalakeId(oldUserPO.getMetalakeId())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newUser.auditInfo()))
+          .withAuditInfo(EntityFieldCodec.writeAuditInfo(newUser.auditInfo()))
           .withCurrentVersion(nextVersion)
           .withLastVersion(nextVersion)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -809,8 +815,7 @@ public class POConverters {
               .withId(userPO.getUserId())
               .withName(userPO.getUserName())
               .withNamespace(namespace)
-              .withAuditInfo(
-                  JsonUtils.anyFieldMapper().readValue(userPO.getAuditInfo(), AuditInfo.class));
+              .withAuditInfo(EntityFieldCodec.readAuditInfo(userPO.getAuditInfo()));
       if (!roleNames.isEmpty()) {
         builder.withRoleNames(roleNames);
       }
@@ -837,8 +842,7 @@ public class POConverters {
               .withId(userPO.getUserId())
               .withName(userPO.getUserName())
               .withNamespace(namespace)
-              .withAuditInfo(
-                  JsonUtils.anyFieldMapper().readValue(userPO.getAuditInfo(), AuditInfo.class));
+              .withAuditInfo(EntityFieldCodec.readAuditInfo(userPO.getAuditInfo()));
       if (StringUtils.isNotBlank(userPO.getRoleNames())) {
         List<String> roleNamesFromJson =
             JsonUtils.anyFieldMapper().readValue(userPO.getRoleNames(), List.class);
@@ -893,8 +897,7 @@ public class POConverters {
               .withId(groupPO.getGroupId())
               .withName(groupPO.getGroupName())
               .withNamespace(namespace)
-              .withAuditInfo(
-                  JsonUtils.anyFieldMapper().readValue(groupPO.getAuditInfo(), AuditInfo.class));
+              .withAuditInfo(EntityFieldCodec.readAuditInfo(groupPO.getAuditInfo()));
       if (!roleNames.isEmpty()) {
         builder.withRoleNames(roleNames);
       }
@@ -921,8 +924,7 @@ public class POConverters {
               .withId(groupPO.getGroupId())
               .withName(groupPO.getGroupName())
               .withNamespace(namespace)
-              .withAuditInfo(
-                  JsonUtils.anyFieldMapper().readValue(groupPO.getAuditInfo(), AuditInfo.class));
+              .withAuditInfo(EntityFieldCodec.readAuditInfo(groupPO.getAuditInfo()));
 
       if (StringUtils.isNotBlank(groupPO.getRoleNames())) {
         List<String> roleNamesFromJson =
@@ -974,8 +976,7 @@ public class POConverters {
             UserRoleRelPO.builder()
                 .withUserId(userEntity.id())
                 .withRoleId(roleId)
-                .withAuditInfo(
-                    JsonUtils.anyFieldMapper().writeValueAsString(userEntity.auditInfo()))
+                .withAuditInfo(EntityFieldCodec.writeAuditInfo(userEntity.auditInfo()))
                 .withCurrentVersion(INIT_VERSION)
                 .withLastVersion(INIT_VERSION)
                 .withDeletedAt(DEFAULT_DELETED_AT)
@@ -999,8 +1000,8 @@ public class POConverters {
       return builder
           .withRoleId(roleEntity.id())
           .withRoleName(roleEntity.name())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(roleEntity.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(roleEntity.auditInfo()))
+          .withProperties(EntityFieldCodec.writeProperties(roleEntity.properties()))
+          .withAuditInfo(EntityFieldCodec.writeAuditInfo(roleEntity.auditInfo()))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -1022,7 +1023,7 @@ public class POConverters {
       return builder
           .withGroupId(groupEntity.id())
           .withGroupName(groupEntity.name())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(groupEntity.auditInfo()))
+          .withAuditInfo(EntityFieldCodec.writeAuditInfo(groupEntity.auditInfo()))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -1049,7 +1050,7 @@ public class POConverters {
           .withGroupId(oldGroupPO.getGroupId())
           .withGroupName(newGroup.name())
           .withMetalakeId(oldGroupPO.getMetalakeId())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newGroup.auditInfo()))
+          .withAuditInfo(EntityFieldCodec.writeAuditInfo(newGroup.auditInfo()))
           .withCurrentVersion(nextVersion)
           .withLastVersion(nextVersion)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -1075,8 +1076,7 @@ public class POConverters {
             GroupRoleRelPO.builder()
                 .withGroupId(groupEntity.id())
                 .withRoleId(roleId)
-                .withAuditInfo(
-                    JsonUtils.anyFieldMapper().writeValueAsString(groupEntity.auditInfo()))
+                .withAuditInfo(EntityFieldCodec.writeAuditInfo(groupEntity.auditInfo()))
                 .withCurrentVersion(INIT_VERSION)
                 .withLastVersion(INIT_VERSION)
                 .withDeletedAt(DEFAULT_DELETED_AT)
@@ -1120,10 +1120,9 @@ public class POConverters {
           .withId(rolePO.getRoleId())
           .withName(rolePO.getRoleName())
           .withNamespace(namespace)
-          .withProperties(JsonUtils.anyFieldMapper().readValue(rolePO.getProperties(), Map.class))
+          .withProperties(EntityFieldCodec.readProperties(rolePO.getProperties()))
           .withSecurableObjects(securableObjects)
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(rolePO.getAuditInfo(), AuditInfo.class))
+          .withAuditInfo(EntityFieldCodec.readAuditInfo(rolePO.getAuditInfo()))
           .build();
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize json object:", e);
@@ -1171,8 +1170,8 @@ public class POConverters {
           .withRoleId(oldRolePO.getRoleId())
           .withRoleName(newRole.name())
           .withMetalakeId(oldRolePO.getMetalakeId())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(newRole.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newRole.auditInfo()))
+          .withProperties(EntityFieldCodec.writeProperties(newRole.properties()))
+          .withAuditInfo(EntityFieldCodec.writeAuditInfo(newRole.auditInfo()))
           .withCurrentVersion(nextVersion)
           .withLastVersion(nextVersion)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -1189,9 +1188,8 @@ public class POConverters {
           .withName(tagPO.getTagName())
           .withNamespace(namespace)
           .withComment(tagPO.getComment())
-          .withProperties(JsonUtils.anyFieldMapper().readValue(tagPO.getProperties(), Map.class))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(tagPO.getAuditInfo(), AuditInfo.class))
+          .withProperties(EntityFieldCodec.readProperties(tagPO.getProperties()))
+          .withAuditInfo(EntityFieldCodec.readAuditInfo(tagPO.getAuditInfo()))
           .build();
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize json object:", e);
@@ -1204,8 +1202,8 @@ public class POConverters {
           .withTagId(tagEntity.id())
           .withTagName(tagEntity.name())
           .withComment(tagEntity.comment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(tagEntity.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(tagEntity.auditInfo()))
+          .withProperties(EntityFieldCodec.writeProperties(tagEntity.properties()))
+          .withAuditInfo(EntityFieldCodec.writeAuditInfo(tagEntity.auditInfo()))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -1226,8 +1224,8 @@ public class POConverters {
           .withTagName(newEntity.name())
           .withMetalakeId(oldTagPO.getMetalakeId())
           .withComment(newEntity.comment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(newEntity.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newEntity.auditInfo()))
+          .withProperties(EntityFieldCodec.writeProperties(newEntity.properties()))
+          .withAuditInfo(EntityFieldCodec.writeAuditInfo(newEntity.auditInfo()))
           .withCurrentVersion(nextVersion)
           .withLastVersion(nextVersion)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -1250,7 +1248,7 @@ public class POConverters {
           .withTagId(tagId)
           .withMetadataObjectId(metadataObjectId)
           .withMetadataObjectType(metadataObjectType)
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(auditInfo))
+          .withAuditInfo(EntityFieldCodec.writeAuditInfo(auditInfo))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -1278,7 +1276,7 @@ public class POConverters {
           .withOwnerType(ownerType)
           .withMetadataObjectId(metadataObjectId)
           .withMetadataObjectType(metadataObjectType)
-          .withAuditIfo(JsonUtils.anyFieldMapper().writeValueAsString(auditInfo))
+          .withAuditIfo(EntityFieldCodec.writeAuditInfo(auditInfo))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeleteAt(DEFAULT_DELETED_AT)
@@ -20,6 +20,8 @@
 package org.apache.gravitino.storage.relational.utils;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import org.apache.gravitino.storage.relational.session.SqlSessions;
@@ -105,6 +107,33 @@ public class SessionUtils {
     consumer.accept(mapper);
   }
 
+  /**
+   * This method is used to perform a database operation for each of the items by JDBC batches
+   * without a commit, so that the items are written by a reused prepared statement in a few round
+   * trips, rather than by a huge statement with a row per item. The operations are in the
+   * transaction of the SqlSession of the thread. If the operation fails, will throw a
+   * RuntimeException.
+   *
+   * @param mapperClazz mapper class to be used for the operation
+   * @param items the items to perform the operation for
+   * @param batchSize the maximum number of operations executed by one batch
+   * @param consumer the operation to be performed with the mapper for an item
+   * @param <T> the type of the mapper
+   * @param <R> the type of the items
+   */
+  public static <T, R> void doBatchWithoutCommit(
+      Class<T> mapperClazz, List<R> items, int batchSize, BiConsumer<T, R> consumer) {
+    SqlSession batchSession = SqlSessions.openBatchSqlSession();
+    T mapper = batchSession.getMapper(mapperClazz);
+    for (int i = 0; i < items.size(); i++) {
+      consumer.accept(mapper, items.get(i));
+      if ((i + 1) % batchSize == 0) {
+        batchSession.flushStatements();
+      }
+    }
+    batchSession.flushStatements();
+  }
+
   /**
    * This method is used to perform a database operation without a commit and fetch the result. If
    * the operation fails, will throw a RuntimeException.
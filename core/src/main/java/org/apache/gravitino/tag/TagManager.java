@@ -107,6 +107,36 @@ public class TagManager {
         });
   }
 
+  public String[] listTags(String metalake, String startAfter, int limit) {
+    return Arrays.stream(listTagsInfo(metalake, startAfter, limit))
+        .map(Tag::name)
+        .toArray(String[]::new);
+  }
+
+  public Tag[] listTagsInfo(String metalake, String startAfter, int limit) {
+    return TreeLockUtils.doWithTreeLock(
+        NameIdentifier.of(ofTagNamespace(metalake).levels()),
+        LockType.READ,
+        () -> {
+          checkMetalake(NameIdentifier.of(metalake), entityStore);
+
+          try {
+            return entityStore
+                .listPage(
+                    ofTagNamespace(metalake),
+                    TagEntity.class,
+                    Entity.EntityType.TAG,
+                    startAfter,
+                    limit)
+                .stream()
+                .toArray(Tag[]::new);
+          } catch (IOException ioe) {
+            LOG.error("Failed to list tags under metalake {}", metalake, ioe);
+            throw new RuntimeException(ioe);
+          }
+        });
+  }
+
   public Tag createTag(String metalake, String name, String comment, Map<String, String> properties)
       throws TagAlreadyExistsException {
     Map<String, String> tagProperties = properties == null ? Collections.emptyMap() : properties;
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.tracing;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.json.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link SpanExporter} appending the finished spans to a file under the log directory, one JSON
+ * object per line. The fields are named after the span model of OpenTelemetry, like {@code
+ * traceId}, {@code spanId}, {@code parentSpanId} and {@code startTimeUnixNano}, so that the file
+ * can be converted and imported into the tracing systems.
+ */
+public class FileSpanExporter implements SpanExporter {
+
+  private static final Logger LOG = LoggerFactory.getLogger(FileSpanExporter.class);
+
+  @VisibleForTesting String fileName;
+  private BufferedWriter writer;
+
+  @Override
+  public void initialize(Config config) {
+    this.fileName =
+        System.getProperty("gravitino.log.path") + "/" + config.get(Configs.TRACING_FILE_NAME);
+    try {
+      this.writer =
+          Files.newBufferedWriter(
+              Paths.get(fileName),
+              StandardCharsets.UTF_8,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.APPEND);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to open the trace file " + fileName, e);
+    }
+  }
+
+  @Override
+  public synchronized void export(Span span) {
+    try {
+      writer.write(JsonUtils.anyFieldMapper().writeValueAsString(toJson(span)));
+      writer.newLine();
+      writer.flush();
+    } catch (IOException e) {
+      LOG.warn("Failed to write the span {} to the trace file {}", span.name(), fileName, e);
+    }
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (writer != null) {
+      writer.close();
+      writer = null;
+    }
+  }
+
+  @VisibleForTesting
+  static Map<String, Object> toJson(Span span) {
+    Map<String, Object> json = new LinkedHashMap<>();
+    json.put("traceId", span.traceId());
+    json.put("spanId", span.spanId());
+    json.put("parentSpanId", span.parentSpanId());
+    json.put("name", span.name());
+    json.put("startTimeUnixNano", span.startEpochNanos());
+    json.put("endTimeUnixNano", span.startEpochNanos() + span.durationNanos());
+    json.put("attributes", span.attributes());
+    json.put("status", span.isError() ? "ERROR" : "OK");
+    return json;
+  }
+}
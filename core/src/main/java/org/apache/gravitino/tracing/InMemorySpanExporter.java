@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.tracing;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.apache.gravitino.Config;
+
+/** A {@link SpanExporter} keeping the finished spans in memory, it's mainly used for tests. */
+public class InMemorySpanExporter implements SpanExporter {
+
+  private final ConcurrentLinkedQueue<Span> finishedSpans = new ConcurrentLinkedQueue<>();
+
+  @Override
+  public void initialize(Config config) {}
+
+  @Override
+  public void export(Span span) {
+    finishedSpans.add(span);
+  }
+
+  /** @return The spans finished so far, in the order they're finished. */
+  public List<Span> finishedSpans() {
+    return ImmutableList.copyOf(finishedSpans);
+  }
+
+  /** Clear the spans finished so far. */
+  public void reset() {
+    finishedSpans.clear();
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.tracing;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+
+/**
+ * A timed operation of a traced request, following the span model of OpenTelemetry. A span is
+ * created by {@link Tracer#startSpan(String)} and becomes the current span of the thread until it's
+ * closed, the spans created in the meantime are its children.
+ *
+ * <p>A request not sampled gets a non-recording root span, which only keeps the decision for the
+ * spans started in the request, and they are the no-op span. The methods of both do nothing, so the
+ * instrumented code doesn't need to check whether the tracing is enabled.
+ */
+public final class Span implements AutoCloseable {
+
+  static final Span NOOP = new Span();
+
+  private final String traceId;
+  private final String spanId;
+  @Nullable private final String parentSpanId;
+  private final String name;
+  private final long startEpochNanos;
+  private final long startNanos;
+
+  // The current span of the thread when this span is started, which is restored when it's closed.
+  @Nullable private final Span previous;
+
+  private final boolean recording;
+  private final Map<String, String> attributes;
+  private volatile long durationNanos = -1;
+  private volatile boolean error;
+
+  private Span() {
+    this.traceId = "";
+    this.spanId = "";
+    this.parentSpanId = null;
+    this.name = "";
+    this.startEpochNanos = 0;
+    this.startNanos = 0;
+    this.previous = null;
+    this.recording = false;
+    this.attributes = Collections.emptyMap();
+  }
+
+  Span(String traceId, String spanId, @Nullable Span parent, String name, @Nullable Span previous) {
+    this.traceId = traceId;
+    this.spanId = spanId;
+    this.parentSpanId = parent == null ? null : parent.spanId;
+    this.name = name;
+    this.startEpochNanos = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+    this.startNanos = System.nanoTime();
+    this.previous = previous;
+    this.recording = true;
+    this.attributes = Collections.synchronizedMap(new LinkedHashMap<>());
+  }
+
+  /**
+   * Create the root span of a request not sampled, which becomes the current span of the thread
+   * like a recording span, so that the spans started in the request are not sampled again.
+   *
+   * @return The non-recording span.
+   */
+  static Span notSampled() {
+    return new Span();
+  }
+
+  /**
+   * Set an attribute of the span.
+   *
+   * @param key The key of the attribute.
+   * @param value The value of the attribute.
+   * @return This span.
+   */
+  public Span setAttribute(String key, Object value) {
+    if (recording) {
+      attributes.put(key, String.valueOf(value));
+    }
+    return this;
+  }
+
+  /**
+   * Mark the span as failed by the given exception.
+   *
+   * @param throwable The exception failing the operation of the span.
+   * @return This span.
+   */
+  public Span recordException(Throwable throwable) {
+    if (recording) {
+      this.error = true;
+      attributes.put("exception.type", throwable.getClass().getName());
+    }
+    return this;
+  }
+
+  /** @return Whether the span is sampled and recorded, false for the no-op span. */
+  public boolean isRecording() {
+    return recording;
+  }
+
+  /** End the span and export it, the span started before it becomes the current span again. */
+  @Override
+  public void close() {
+    if (this == NOOP || durationNanos >= 0) {
+      return;
+    }
+    this.durationNanos = recording ? System.nanoTime() - startNanos : 0;
+    Tracer.onEnd(this);
+  }
+
+  /** @return The id of the trace, 32 hex characters. */
+  public String traceId() {
+    return traceId;
+  }
+
+  /** @return The id of the span, 16 hex characters. */
+  public String spanId() {
+    return spanId;
+  }
+
+  /** @return The id of the parent span, or null if it's the root span of the trace. */
+  @Nullable
+  public String parentSpanId() {
+    return parentSpanId;
+  }
+
+  /** @return The name of the span. */
+  public String name() {
+    return name;
+  }
+
+  /** @return The attributes of the span. */
+  public Map<String, String> attributes() {
+    synchronized (attributes) {
+      return ImmutableMap.copyOf(attributes);
+    }
+  }
+
+  /** @return The start time of the span in nanoseconds since the epoch. */
+  public long startEpochNanos() {
+    return startEpochNanos;
+  }
+
+  /** @return The duration of the span in nanoseconds, or -1 if it's not ended. */
+  public long durationNanos() {
+    return durationNanos;
+  }
+
+  /** @return Whether the operation of the span failed. */
+  public boolean isError() {
+    return error;
+  }
+
+  @Nullable
+  Span previous() {
+    return previous;
+  }
+
+  @Override
+  public String toString() {
+    return "Span{name=" + name + ", traceId=" + traceId + ", spanId=" + spanId + "}";
+  }
+}
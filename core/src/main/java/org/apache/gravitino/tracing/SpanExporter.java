@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.tracing;
+
+import java.io.Closeable;
+import java.io.IOException;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+
+/**
+ * Exports the finished spans of {@link Tracer}. The implementation is specified by {@link
+ * Configs#TRACING_EXPORTER}, it must have a public no-argument constructor.
+ *
+ * <p>The spans are exported on the threads finishing them, so the implementation must be thread
+ * safe and should not block for long.
+ */
+public interface SpanExporter extends Closeable {
+
+  /**
+   * Initialize the exporter.
+   *
+   * @param config The config of the server.
+   */
+  void initialize(Config config);
+
+  /**
+   * Export a finished span.
+   *
+   * @param span The finished span.
+   */
+  void export(Span span);
+
+  @Override
+  default void close() throws IOException {}
+}
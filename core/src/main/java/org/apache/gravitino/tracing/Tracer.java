@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.tracing;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A lightweight tracer of the requests served by the server. A request is sampled when its root
+ * span is started, by the ratio of {@link Configs#TRACING_SAMPLE_RATE}, the spans started in a
+ * sampled request are recorded and exported by the {@link SpanExporter}. The root span of the
+ * others is a non-recording span kept as the current span, so the spans started in them are the
+ * no-op span instead of being sampled again, which costs only a thread local lookup.
+ *
+ * <p>The current span is kept in a thread local of this class, which is shared by the class loaders
+ * of the catalogs, so the spans started by the catalogs on the thread serving a request belong to
+ * the trace of the request. The tasks handed over to other threads can be wrapped by {@link
+ * #wrap(Runnable)} or {@link #wrap(Callable)} to stay in the trace.
+ */
+public final class Tracer {
+
+  private static final Logger LOG = LoggerFactory.getLogger(Tracer.class);
+
+  // Register SpanExporter's short names to their full qualified class names in the map. So that
+  // user doesn't need to specify the full qualified class name of the built-in exporters.
+  public static final ImmutableMap<String, String> SPAN_EXPORTERS =
+      ImmutableMap.of(
+          "file", FileSpanExporter.class.getCanonicalName(),
+          "memory", InMemorySpanExporter.class.getCanonicalName());
+
+  private static final ThreadLocal<Span> CURRENT_SPAN = new ThreadLocal<>();
+
+  private static volatile double sampleRate = 0;
+  private static volatile SpanExporter exporter;
+
+  private Tracer() {}
+
+  /**
+   * Initialize the tracer, the tracing is disabled if the sample rate is 0.
+   *
+   * @param config The config of the server.
+   */
+  public static synchronized void initialize(Config config) {
+    double rate = config.get(Configs.TRACING_SAMPLE_RATE);
+    if (rate <= 0) {
+      return;
+    }
+
+    String name = config.get(Configs.TRACING_EXPORTER);
+    String className = SPAN_EXPORTERS.getOrDefault(name, name);
+    SpanExporter spanExporter;
+    try {
+      spanExporter = (SpanExporter) Class.forName(className).getDeclaredConstructor().newInstance();
+    } catch (Exception e) {
+      LOG.error("Failed to create the span exporter by name {}.", name, e);
+      throw new RuntimeException("Failed to create the span exporter: " + name, e);
+    }
+    spanExporter.initialize(config);
+
+    setUp(rate, spanExporter);
+    LOG.info("Tracing is enabled with sample rate {} and exporter {}", rate, name);
+  }
+
+  /** @return Whether the tracing is enabled. */
+  public static boolean isEnabled() {
+    return sampleRate > 0;
+  }
+
+  /**
+   * Start a span, which becomes the current span of the thread until it's closed. The span is the
+   * child of the current span if there is one, otherwise it's the root span of a new trace, which
+   * is sampled by the sample rate.
+   *
+   * @param name The name of the span.
+   * @return The started span, or a non-recording span if the request is not sampled.
+   */
+  public static Span startSpan(String name) {
+    Span parent = CURRENT_SPAN.get();
+    if (parent == null) {
+      double rate = sampleRate;
+      if (rate <= 0) {
+        return Span.NOOP;
+      }
+
+      if (ThreadLocalRandom.current().nextDouble() >= rate) {
+        // Keep the decision in the thread, so the nested spans of the request are not sampled.
+        Span notSampled = Span.notSampled();
+        CURRENT_SPAN.set(notSampled);
+        return notSampled;
+      }
+    } else if (!parent.isRecording()) {
+      return Span.NOOP;
+    }
+
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    String traceId =
+        parent == null
+            ? String.format("%016x%016x", random.nextLong(), random.nextLong())
+            : parent.traceId();
+    Span span = new Span(traceId, String.format("%016x", random.nextLong()), parent, name, parent);
+    CURRENT_SPAN.set(span);
+    return span;
+  }
+
+  /** @return The current span of the thread, or the no-op span if there is none. */
+  public static Span currentSpan() {
+    Span span = CURRENT_SPAN.get();
+    return span == null ? Span.NOOP : span;
+  }
+
+  /**
+   * Wrap a task to run it in the trace of the current thread, so that the spans started by the task
+   * on another thread are the children of the current span.
+   *
+   * @param task The task to wrap.
+   * @return The wrapped task, or the task itself if there is no current span.
+   */
+  public static Runnable wrap(Runnable task) {
+    Span span = CURRENT_SPAN.get();
+    if (span == null) {
+      return task;
+    }
+
+    return () -> {
+      Span previous = CURRENT_SPAN.get();
+      CURRENT_SPAN.set(span);
+      try {
+        task.run();
+      } finally {
+        restore(previous);
+      }
+    };
+  }
+
+  /**
+   * Wrap a task to run it in the trace of the current thread, so that the spans started by the task
+   * on another thread are the children of the current span.
+   *
+   * @param task The task to wrap.
+   * @param <T> The type of the result of the task.
+   * @return The wrapped task, or the task itself if there is no current span.
+   */
+  public static <T> Callable<T> wrap(Callable<T> task) {
+    Span span = CURRENT_SPAN.get();
+    if (span == null) {
+      return task;
+    }
+
+    return () -> {
+      Span previous = CURRENT_SPAN.get();
+      CURRENT_SPAN.set(span);
+      try {
+        return task.call();
+      } finally {
+        restore(previous);
+      }
+    };
+  }
+
+  /**
+   * Wrap an implementation of an interface to start a span for every method call, named by the
+   * simple class name of the implementation and the method name, like {@code
+   * TableOperationDispatcher.loadTable}. The implementation is returned as is if the tracing is
+   * disabled, so that it costs nothing.
+   *
+   * @param iface The interface to trace.
+   * @param target The implementation of the interface.
+   * @param <T> The type of the interface.
+   * @return The traced implementation.
+   */
+  public static <T> T traced(Class<T> iface, T target) {
+    if (!isEnabled()) {
+      return target;
+    }
+
+    return iface.cast(
+        Proxy.newProxyInstance(
+            iface.getClassLoader(),
+            new Class<?>[] {iface},
+            new TracingInvocationHandler(target, target.getClass().getSimpleName())));
+  }
+
+  /** Close the exporter and disable the tracing. */
+  public static synchronized void close() {
+    sampleRate = 0;
+    if (exporter != null) {
+      try {
+        exporter.close();
+      } catch (IOException e) {
+        LOG.warn("Failed to close the span exporter", e);
+      }
+      exporter = null;
+    }
+  }
+
+  @VisibleForTesting
+  static synchronized void setUp(double rate, SpanExporter spanExporter) {
+    close();
+    exporter = spanExporter;
+    sampleRate = rate;
+  }
+
+  static void onEnd(Span span) {
+    if (CURRENT_SPAN.get() == span) {
+      restore(span.previous());
+    }
+
+    SpanExporter spanExporter = exporter;
+    if (spanExporter != null && span.isRecording()) {
+      try {
+        spanExporter.export(span);
+      } catch (RuntimeException e) {
+        LOG.warn("Failed to export the span {}", span, e);
+      }
+    }
+  }
+
+  private static void restore(Span span) {
+    if (span == null) {
+      CURRENT_SPAN.remove();
+    } else {
+      CURRENT_SPAN.set(span);
+    }
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.tracing;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/** Starts a span for every method call of the wrapped object, see {@link Tracer#traced}. */
+class TracingInvocationHandler implements InvocationHandler {
+
+  private final Object target;
+  private final String spanNamePrefix;
+
+  TracingInvocationHandler(Object target, String spanNamePrefix) {
+    this.target = target;
+    this.spanNamePrefix = spanNamePrefix;
+  }
+
+  @Override
+  public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+    if (method.getDeclaringClass() == Object.class) {
+      return invokeTarget(method, args);
+    }
+
+    try (Span span = Tracer.startSpan(spanNamePrefix + "." + method.getName())) {
+      try {
+        return invokeTarget(method, args);
+      } catch (Throwable t) {
+        span.recordException(t);
+        throw t;
+      }
+    }
+  }
+
+  private Object invokeTarget(Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.utils;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+/**
+ * Selects a page of the listed entities. A page holds the entities ordered by name which follow
+ * the last name of the previous page, so it's resumed after that name even if the entities are
+ * created or dropped in between.
+ */
+public class PageUtil {
+
+  private PageUtil() {}
+
+  /**
+   * Selects the page of the items whose names follow the given name. Only the items of the page
+   * are kept while the items are scanned, so the items aren't copied and sorted as a whole.
+   *
+   * @param items The items to select the page from, in any order.
+   * @param nameFn The function to get the name of an item.
+   * @param startAfter The last name of the previous page, or null for the first page.
+   * @param limit The maximum number of the items in the page.
+   * @param <T> The type of the items.
+   * @return The items of the page, ordered by name.
+   */
+  public static <T> List<T> page(
+      Iterable<T> items, Function<T, String> nameFn, String startAfter, int limit) {
+    Preconditions.checkArgument(limit > 0, "limit must be positive, but got %s", limit);
+
+    Comparator<T> byName = Comparator.comparing(nameFn);
+    // The last item of the page is on the top, it's replaced once a smaller one is found.
+    PriorityQueue<T> selected = new PriorityQueue<>(byName.reversed());
+    for (T item : items) {
+      String name = nameFn.apply(item);
+      if (startAfter != null && name.compareTo(startAfter) <= 0) {
+        continue;
+      }
+
+      if (selected.size() < limit) {
+        selected.add(item);
+      } else if (name.compareTo(nameFn.apply(selected.peek())) < 0) {
+        selected.poll();
+        selected.add(item);
+      }
+    }
+
+    List<T> page = new ArrayList<>(selected);
+    page.sort(byName);
+    return page;
+  }
+}
@@ -22,14 +22,22 @@ package org.apache.gravitino.audit;
 import static org.apache.gravitino.audit.AuditLog.Operation;
 import static org.apache.gravitino.audit.AuditLog.Status;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.Uninterruptibles;
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
 import org.apache.gravitino.NameIdentifier;
@@ -96,6 +104,11 @@ public class TestAuditManager {
     // dispatch success event
     DummyEvent dummyEvent = mockDummyEvent();
     eventBus.dispatchEvent(dummyEvent);
+    // dispatch fail event
+    DummyFailEvent dummyFailEvent = mockDummyFailEvent();
+    eventBus.dispatchEvent(dummyFailEvent);
+    // write the queued audit events
+    eventListenerManager.stop();
 
     Assertions.assertInstanceOf(DummyAuditWriter.class, auditLogManager.getAuditLogWriter());
     Assertions.assertInstanceOf(
@@ -114,9 +127,6 @@ public class TestAuditManager {
     Assertions.assertEquals(formattedAuditLog.timestamp(), dummyEvent.eventTime());
     Assertions.assertEquals(formattedAuditLog, dummyAuditWriter.getAuditLogs().get(0));
 
-    // dispatch fail event
-    DummyFailEvent dummyFailEvent = mockDummyFailEvent();
-    eventBus.dispatchEvent(dummyFailEvent);
     DummyAuditLog formattedFailAuditLog = formatter.format(dummyFailEvent);
     Assertions.assertEquals(formattedFailAuditLog, dummyAuditWriter.getAuditLogs().get(1));
     Assertions.assertEquals(formattedFailAuditLog.operation(), Operation.UNKNOWN_OPERATION);
@@ -134,17 +144,13 @@ public class TestAuditManager {
     AuditLogManager auditLogManager = mockAuditLogManager(config, eventListenerManager);
     EventBus eventBus = eventListenerManager.createEventBus();
     eventBus.dispatchEvent(dummyEvent);
+    eventListenerManager.stop();
     Assertions.assertInstanceOf(FileAuditWriter.class, auditLogManager.getAuditLogWriter());
     Assertions.assertInstanceOf(
         SimpleFormatter.class, (auditLogManager.getAuditLogWriter()).getFormatter());
 
     FileAuditWriter fileAuditWriter = (FileAuditWriter) auditLogManager.getAuditLogWriter();
     String fileName = fileAuditWriter.fileName;
-    try {
-      fileAuditWriter.outWriter.flush();
-    } catch (IOException e) {
-      throw new RuntimeException(e);
-    }
 
     String auditLog = readAuditLog(fileName);
     Formatter formatter = fileAuditWriter.getFormatter();
@@ -171,17 +177,87 @@ public class TestAuditManager {
       eventBus.dispatchEvent(dummyEvent);
     }
 
+    eventListenerManager.stop();
     FileAuditWriter fileAuditWriter = (FileAuditWriter) auditLogManager.getAuditLogWriter();
     String fileName = fileAuditWriter.fileName;
-    try {
-      fileAuditWriter.outWriter.flush();
-    } catch (IOException e) {
-      throw new RuntimeException(e);
-    }
     long auditSize = getAuditSize(fileName);
     Assertions.assertEquals(EVENT_NUM, auditSize);
   }
 
+  @Test
+  public void testDropAuditEventsWhenQueueFull() throws IOException {
+    CountDownLatch writeLatch = new CountDownLatch(1);
+    DummyAuditWriter auditWriter =
+        new DummyAuditWriter() {
+          @Override
+          public void doWrite(AuditLog auditLog) {
+            Uninterruptibles.awaitUninterruptibly(writeLatch);
+            super.doWrite(auditLog);
+          }
+        };
+    auditWriter.init(new DummyAuditFormatter(), Collections.emptyMap());
+    AuditLogDispatcher dispatcher =
+        new AuditLogDispatcher(auditWriter, 1, 1, AuditLogQueueFullPolicy.DROP);
+    dispatcher.start();
+
+    for (int i = 0; i < 10; i++) {
+      dispatcher.dispatch(mockDummyEvent());
+    }
+    // At most one event is being written and one event is in the queue.
+    Assertions.assertTrue(dispatcher.metricsSource.dropCount() >= 8);
+
+    writeLatch.countDown();
+    dispatcher.close();
+    Assertions.assertEquals(
+        10, auditWriter.getAuditLogs().size() + dispatcher.metricsSource.dropCount());
+  }
+
+  @Test
+  public void testRotateAuditLog() throws IOException {
+    String fileName = "rotate_audit.log";
+    FileAuditWriter fileAuditWriter = new FileAuditWriter();
+    fileAuditWriter.init(
+        new SimpleFormatter(),
+        ImmutableMap.of("fileName", fileName, "flushIntervalSecs", "0", "compress", "true"));
+    // Rotate the file before writing each audit log except the first one.
+    fileAuditWriter.rotateSizeBytes = 1;
+
+    Formatter formatter = fileAuditWriter.getFormatter();
+    DummyEvent dummyEvent = mockDummyEvent();
+    for (int i = 0; i < 3; i++) {
+      fileAuditWriter.write(dummyEvent);
+    }
+    fileAuditWriter.close();
+
+    String auditLog = formatter.format(dummyEvent).toString();
+    Assertions.assertEquals(auditLog, readAuditLog(fileAuditWriter.fileName));
+    List<Path> rotatedFiles;
+    try (Stream<Path> files = Files.list(logPath.getParent())) {
+      rotatedFiles =
+          files
+              .filter(file -> file.getFileName().toString().startsWith(fileName + "."))
+              .collect(Collectors.toList());
+    }
+    try {
+      Assertions.assertEquals(2, rotatedFiles.size());
+      for (Path rotatedFile : rotatedFiles) {
+        Assertions.assertTrue(rotatedFile.toString().endsWith(".gz"));
+        try (BufferedReader reader =
+            new BufferedReader(
+                new InputStreamReader(
+                    new GZIPInputStream(Files.newInputStream(rotatedFile)),
+                    StandardCharsets.UTF_8))) {
+          Assertions.assertEquals(auditLog, reader.readLine());
+        }
+      }
+    } finally {
+      for (Path rotatedFile : rotatedFiles) {
+        Files.delete(rotatedFile);
+      }
+      Files.delete(Paths.get(fileAuditWriter.fileName));
+    }
+  }
+
   @AfterEach
   public void cleanup() {
     try {
@@ -20,13 +20,36 @@ package org.apache.gravitino.authorization;
 
 import static org.apache.gravitino.Configs.CATALOG_CACHE_EVICTION_INTERVAL_MS;
 import static org.apache.gravitino.Configs.DEFAULT_ENTITY_RELATIONAL_STORE;
+import static org.apache.gravitino.Configs.DEFAULT_RELATIONAL_CONNECTION_POOL;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_COLUMN_BATCH_SIZE;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_CACHE_STATEMENTS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_EVICTION_INTERVAL_MS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MAX_IDLE;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MAX_STATEMENTS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MAX_TOTAL;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MAX_WAIT_MS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MIN_EVICTABLE_IDLE_MS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MIN_IDLE;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_TEST_ON_BORROW;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_TEST_WHILE_IDLE;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_VALIDATION_QUERY;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_FIELD_ENCODING;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_GC_MAX_BATCH_SIZE;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_GC_MAX_DELETES_PER_SECOND;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_GC_PARALLELISM;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_GC_TARGET_BATCH_LATENCY_MS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_ID_CACHE_ENABLED;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JOINED_ID_QUERY_ENABLED;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_STORE;
 import static org.apache.gravitino.Configs.ENTITY_STORE;
+import static org.apache.gravitino.Configs.ENTITY_STORE_CACHE_ENABLED;
 import static org.apache.gravitino.Configs.RELATIONAL_ENTITY_STORE;
 import static org.apache.gravitino.Configs.STORE_DELETE_AFTER_TIME;
 import static org.apache.gravitino.Configs.STORE_TRANSACTION_MAX_SKEW_TIME;
+import static org.apache.gravitino.Configs.TREE_LOCK_ACQUIRE_TIMEOUT;
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
@@ -37,6 +60,7 @@ import java.io.File;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.Collections;
+import java.util.Optional;
 import java.util.UUID;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.reflect.FieldUtils;
@@ -90,10 +114,35 @@ public class TestOwnerManager {
     dbDir.mkdirs();
 
     Mockito.when(config.get(ENTITY_STORE)).thenReturn(RELATIONAL_ENTITY_STORE);
+    Mockito.when(config.get(ENTITY_STORE_CACHE_ENABLED)).thenReturn(false);
     Mockito.when(config.get(ENTITY_RELATIONAL_STORE)).thenReturn(DEFAULT_ENTITY_RELATIONAL_STORE);
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_URL))
         .thenReturn(String.format("jdbc:h2:file:%s;DB_CLOSE_DELAY=-1;MODE=MYSQL", DB_DIR));
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER)).thenReturn("org.h2.Driver");
+    Mockito.when(config.get(ENTITY_RELATIONAL_FIELD_ENCODING)).thenReturn("json");
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL))
+        .thenReturn(DEFAULT_RELATIONAL_CONNECTION_POOL);
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_MAX_WAIT_MS)).thenReturn(1000L);
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_MAX_TOTAL)).thenReturn(20);
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_MAX_IDLE)).thenReturn(5);
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_MIN_IDLE)).thenReturn(0);
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_EVICTION_INTERVAL_MS))
+        .thenReturn(10 * 60 * 1000L);
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_TEST_ON_BORROW)).thenReturn(false);
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_TEST_WHILE_IDLE)).thenReturn(false);
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_VALIDATION_QUERY))
+        .thenReturn(Optional.empty());
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_MIN_EVICTABLE_IDLE_MS))
+        .thenReturn(1000L);
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_CACHE_STATEMENTS)).thenReturn(false);
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_MAX_STATEMENTS)).thenReturn(-1);
+    Mockito.when(config.get(ENTITY_RELATIONAL_ID_CACHE_ENABLED)).thenReturn(false);
+    Mockito.when(config.get(ENTITY_RELATIONAL_JOINED_ID_QUERY_ENABLED)).thenReturn(false);
+    Mockito.when(config.get(ENTITY_RELATIONAL_COLUMN_BATCH_SIZE)).thenReturn(1000);
+    Mockito.when(config.get(ENTITY_RELATIONAL_GC_PARALLELISM)).thenReturn(2);
+    Mockito.when(config.get(ENTITY_RELATIONAL_GC_MAX_BATCH_SIZE)).thenReturn(1000);
+    Mockito.when(config.get(ENTITY_RELATIONAL_GC_TARGET_BATCH_LATENCY_MS)).thenReturn(500L);
+    Mockito.when(config.get(ENTITY_RELATIONAL_GC_MAX_DELETES_PER_SECOND)).thenReturn(0);
     Mockito.when(config.get(STORE_TRANSACTION_MAX_SKEW_TIME)).thenReturn(1000L);
     Mockito.when(config.get(STORE_DELETE_AFTER_TIME)).thenReturn(20 * 60 * 1000L);
     Mockito.when(config.get(VERSION_RETENTION_COUNT)).thenReturn(1L);
@@ -102,6 +151,7 @@ public class TestOwnerManager {
     Mockito.doReturn(100000L).when(config).get(TREE_LOCK_MAX_NODE_IN_MEMORY);
     Mockito.doReturn(1000L).when(config).get(TREE_LOCK_MIN_NODE_IN_MEMORY);
     Mockito.doReturn(36000L).when(config).get(TREE_LOCK_CLEAN_INTERVAL);
+    Mockito.doReturn(0L).when(config).get(TREE_LOCK_ACQUIRE_TIMEOUT);
 
     FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", new LockManager(config), true);
     FieldUtils.writeField(GravitinoEnv.getInstance(), "catalogManager", catalogManager, true);
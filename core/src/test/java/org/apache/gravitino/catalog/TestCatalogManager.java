@@ -36,6 +36,7 @@ import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.exceptions.CatalogAlreadyExistsException;
 import org.apache.gravitino.exceptions.CatalogInUseException;
+import org.apache.gravitino.exceptions.CatalogNotInUseException;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
 import org.apache.gravitino.exceptions.NoSuchMetalakeException;
 import org.apache.gravitino.meta.AuditInfo;
@@ -473,6 +474,41 @@ public class TestCatalogManager {
     Assertions.assertNull(catalogManager.catalogCache.getIfPresent(ident));
   }
 
+  @Test
+  void testCheckCatalogInUse() {
+    NameIdentifier ident = NameIdentifier.of("metalake", "test51");
+    NameIdentifier metalakeIdent = NameIdentifier.of("metalake");
+    Map<String, String> props =
+        ImmutableMap.of("provider", "test", "key1", "value1", "key2", "value2");
+
+    catalogManager.createCatalog(ident, Catalog.Type.RELATIONAL, provider, "comment", props);
+    Assertions.assertDoesNotThrow(() -> catalogManager.checkCatalogInUse(ident));
+    Assertions.assertEquals(Boolean.TRUE, catalogManager.inUseCache.getIfPresent(metalakeIdent));
+    Assertions.assertEquals(Boolean.TRUE, catalogManager.inUseCache.getIfPresent(ident));
+
+    // Disable operation will refresh the in-use state
+    catalogManager.disableCatalog(ident);
+    Assertions.assertNull(catalogManager.inUseCache.getIfPresent(ident));
+    Exception exception =
+        Assertions.assertThrows(
+            CatalogNotInUseException.class, () -> catalogManager.checkCatalogInUse(ident));
+    Assertions.assertTrue(exception.getMessage().contains("Catalog metalake.test51 is not in use"));
+    Assertions.assertEquals(Boolean.FALSE, catalogManager.inUseCache.getIfPresent(ident));
+
+    catalogManager.enableCatalog(ident);
+    Assertions.assertDoesNotThrow(() -> catalogManager.checkCatalogInUse(ident));
+
+    catalogManager.invalidateMetalakeInUseState(metalakeIdent);
+    Assertions.assertNull(catalogManager.inUseCache.getIfPresent(metalakeIdent));
+    Assertions.assertNull(catalogManager.inUseCache.getIfPresent(ident));
+
+    // Drop operation will refresh the in-use state
+    catalogManager.disableCatalog(ident);
+    catalogManager.dropCatalog(ident);
+    Assertions.assertThrows(
+        NoSuchCatalogException.class, () -> catalogManager.checkCatalogInUse(ident));
+  }
+
   @Test
   void testAlterMutableProperties() {
     NameIdentifier ident = NameIdentifier.of("metalake", "test41");
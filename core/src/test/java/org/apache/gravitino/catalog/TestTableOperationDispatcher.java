@@ -18,6 +18,9 @@
  */
 package org.apache.gravitino.catalog;
 
+import static org.apache.gravitino.Configs.CATALOG_TABLE_ASYNC_COLUMN_RECONCILE;
+import static org.apache.gravitino.Configs.CATALOG_TABLE_COLUMN_RECONCILE_INTERVAL_MS;
+import static org.apache.gravitino.Configs.TREE_LOCK_ACQUIRE_TIMEOUT;
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
@@ -31,9 +34,12 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Sets;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.Arrays;
@@ -84,6 +90,7 @@ public class TestTableOperationDispatcher extends TestOperationDispatcher {
     doReturn(100000L).when(config).get(TREE_LOCK_MAX_NODE_IN_MEMORY);
     doReturn(1000L).when(config).get(TREE_LOCK_MIN_NODE_IN_MEMORY);
     doReturn(36000L).when(config).get(TREE_LOCK_CLEAN_INTERVAL);
+    doReturn(0L).when(config).get(TREE_LOCK_ACQUIRE_TIMEOUT);
     FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", new LockManager(config), true);
     FieldUtils.writeField(
         GravitinoEnv.getInstance(), "schemaDispatcher", schemaOperationDispatcher, true);
@@ -256,6 +263,62 @@ public class TestTableOperationDispatcher extends TestOperationDispatcher {
     Assertions.assertEquals("test", loadedTable4.auditInfo().creator());
   }
 
+  @Test
+  public void testCreateAndLoadTables() throws IOException {
+    Namespace tableNs = Namespace.of(metalake, catalog, "schema52");
+    Map<String, String> props = ImmutableMap.of("k1", "v1", "k2", "v2");
+    schemaOperationDispatcher.createSchema(NameIdentifier.of(tableNs.levels()), "comment", props);
+
+    Column[] columns =
+        new Column[] {
+          TestColumn.builder()
+              .withName("col1")
+              .withPosition(0)
+              .withType(Types.StringType.get())
+              .build()
+        };
+    NameIdentifier tableIdent1 = NameIdentifier.of(tableNs, "table12");
+    NameIdentifier tableIdent2 = NameIdentifier.of(tableNs, "table13");
+    Table table1 =
+        tableOperationDispatcher.createTable(
+            tableIdent1, columns, "comment", props, new Transform[0]);
+    tableOperationDispatcher.createTable(tableIdent2, columns, "comment", props, new Transform[0]);
+
+    // The entities are listed in bulk instead of being got one by one
+    reset(entityStore);
+    Table[] tables = tableOperationDispatcher.loadTables(tableNs);
+    Assertions.assertEquals(2, tables.length);
+    Assertions.assertEquals(
+        Sets.newHashSet("table12", "table13"),
+        Arrays.stream(tables).map(Table::name).collect(Collectors.toSet()));
+    for (Table table : tables) {
+      Assertions.assertArrayEquals(table1.columns(), table.columns());
+      // Audit info is gotten from the entity store
+      Assertions.assertEquals(AuthConstants.ANONYMOUS_USER, table.auditInfo().creator());
+    }
+    verify(entityStore, never()).get(any(), eq(TABLE), any());
+
+    // The tables that don't exist are skipped, only the requested entities are listed
+    reset(entityStore);
+    Table[] tables1 = tableOperationDispatcher.loadTables(tableNs, "table13", "not_exist");
+    Assertions.assertEquals(1, tables1.length);
+    Assertions.assertEquals("table13", tables1[0].name());
+    verify(entityStore)
+        .listByNames(
+            eq(tableNs),
+            eq(TableEntity.class),
+            eq(TABLE),
+            eq(Arrays.asList("table13", "not_exist")));
+
+    // The table not imported is imported when loading
+    entityStore.delete(tableIdent1, TABLE);
+    Table[] tables2 = tableOperationDispatcher.loadTables(tableNs, "table12");
+    Assertions.assertEquals(1, tables2.length);
+    Assertions.assertTrue(entityStore.exists(tableIdent1, TABLE));
+    // Audit info is gotten from the catalog, not from the entity store
+    Assertions.assertEquals("test", tables2[0].auditInfo().creator());
+  }
+
   @Test
   public void testCreateAndAlterTable() throws IOException {
     Namespace tableNs = Namespace.of(metalake, catalog, "schema61");
@@ -779,6 +842,78 @@ public class TestTableOperationDispatcher extends TestOperationDispatcher {
     testColumnAndColumnEntities(expectedColumns8, tableEntity8.columns());
   }
 
+  @Test
+  public void testAsyncReconcileColumnsWhenLoad() throws IOException {
+    Namespace tableNs = Namespace.of(metalake, catalog, "schema92");
+    Map<String, String> props = ImmutableMap.of("k1", "v1", "k2", "v2");
+    schemaOperationDispatcher.createSchema(NameIdentifier.of(tableNs.levels()), "comment", props);
+
+    NameIdentifier tableIdent = NameIdentifier.of(tableNs, "table42");
+    Column[] columns =
+        new Column[] {
+          TestColumn.builder()
+              .withName("col1")
+              .withPosition(0)
+              .withType(Types.StringType.get())
+              .withComment("comment1")
+              .withNullable(true)
+              .withAutoIncrement(true)
+              .withDefaultValue(Literals.stringLiteral("1"))
+              .build(),
+          TestColumn.builder()
+              .withName("col2")
+              .withPosition(1)
+              .withType(Types.StringType.get())
+              .withComment("comment2")
+              .withNullable(false)
+              .withAutoIncrement(false)
+              .withDefaultValue(Literals.stringLiteral("2"))
+              .build()
+        };
+    tableOperationDispatcher.createTable(tableIdent, columns, "comment", props, new Transform[0]);
+
+    Config config = mock(Config.class);
+    doReturn(true).when(config).get(CATALOG_TABLE_ASYNC_COLUMN_RECONCILE);
+    // Never reconcile in the background, the reconciliation is triggered by the test.
+    doReturn(3600000L).when(config).get(CATALOG_TABLE_COLUMN_RECONCILE_INTERVAL_MS);
+    TableOperationDispatcher asyncDispatcher =
+        new TableOperationDispatcher(catalogManager, entityStore, idGenerator, config);
+
+    TestCatalog testCatalog =
+        (TestCatalog) catalogManager.loadCatalog(NameIdentifier.of(metalake, catalog));
+    TestCatalogOperations testCatalogOperations = (TestCatalogOperations) testCatalog.ops();
+    Table alteredTable =
+        testCatalogOperations.alterTable(
+            tableIdent, TableChange.renameColumn(new String[] {"col1"}, "col3"));
+
+    // The loaded columns come from the underlying source, but the stored ones are not updated
+    // until the table is reconciled, and the table is queued only once.
+    for (int i = 0; i < 3; i++) {
+      testColumns(alteredTable.columns(), asyncDispatcher.loadTable(tableIdent).columns());
+    }
+    testColumnAndColumnEntities(
+        columns, entityStore.get(tableIdent, TABLE, TableEntity.class).columns());
+    Assertions.assertEquals(1, asyncDispatcher.columnReconciler.pendingTableCount());
+
+    asyncDispatcher.columnReconciler.reconcilePendingTables();
+    Assertions.assertEquals(0, asyncDispatcher.columnReconciler.pendingTableCount());
+    testColumnAndColumnEntities(
+        alteredTable.columns(), entityStore.get(tableIdent, TABLE, TableEntity.class).columns());
+
+    // The table dropped before it's reconciled is skipped.
+    testCatalogOperations.alterTable(
+        tableIdent, TableChange.deleteColumn(new String[] {"col2"}, true));
+    asyncDispatcher.loadTable(tableIdent);
+    Assertions.assertEquals(1, asyncDispatcher.columnReconciler.pendingTableCount());
+    Assertions.assertTrue(tableOperationDispatcher.dropTable(tableIdent));
+    Assertions.assertDoesNotThrow(() -> asyncDispatcher.columnReconciler.reconcilePendingTables());
+    Assertions.assertEquals(0, asyncDispatcher.columnReconciler.pendingTableCount());
+    Assertions.assertFalse(entityStore.exists(tableIdent, TABLE));
+
+    asyncDispatcher.close();
+    Assertions.assertTrue(asyncDispatcher.columnReconciler.isClosed());
+  }
+
   @Test
   public void testCreateAndDropTableWithColumn() throws IOException {
     Namespace tableNs = Namespace.of(metalake, catalog, "schema111");
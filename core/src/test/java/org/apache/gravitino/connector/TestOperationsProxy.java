@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.connector;
+
+import com.google.common.collect.Maps;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.exceptions.NoSuchTableException;
+import org.apache.gravitino.rel.TableCatalog;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestOperationsProxy {
+
+  @Test
+  public void testRecordOperationLatency() {
+    CatalogMetricsSource metricsSource = new CatalogMetricsSource("metalake", "catalog");
+    CatalogOperations ops =
+        OperationsProxy.createProxy(
+            new TestCatalogOperations(Maps.newHashMap()), null, metricsSource);
+
+    TableCatalog tableCatalog = (TableCatalog) ops;
+    Assertions.assertEquals(0, tableCatalog.listTables(Namespace.of("m", "c", "s")).length);
+    // The exception thrown by the operations is rethrown as is, rather than wrapped by the proxy.
+    Assertions.assertThrows(
+        NoSuchTableException.class,
+        () -> tableCatalog.loadTable(NameIdentifier.of("m", "c", "s", "t")));
+
+    Assertions.assertEquals(1, metricsSource.operationTimer("listTables").getCount());
+    Assertions.assertEquals(1, metricsSource.operationTimer("loadTable").getCount());
+    Assertions.assertEquals("catalog.metalake.catalog", metricsSource.getMetricsSourceName());
+  }
+}
@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.credential;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestCredentialProviderManager {
+
+  private static final String CATALOG_NAME = "catalog";
+
+  @Test
+  public void testCredentialCache() {
+    FakeCredentialProvider credentialProvider = new FakeCredentialProvider(3600000L);
+    CredentialProviderManager manager = new CredentialProviderManager(100, 1000);
+    manager.registerCredentialProvider(CATALOG_NAME, credentialProvider);
+
+    try {
+      CredentialProvider cachedProvider = manager.getCredentialProvider(CATALOG_NAME);
+      Credential credential = cachedProvider.getCredential(context("user", "path"));
+      Assertions.assertSame(credential, cachedProvider.getCredential(context("user", "path")));
+      Assertions.assertEquals(1, credentialProvider.vendCount.get());
+      Assertions.assertEquals(1, manager.credentialCache.stats().hitCount());
+      Assertions.assertEquals(1, manager.credentialCache.stats().missCount());
+
+      // The credentials of other users or other paths are vended separately
+      Assertions.assertNotSame(credential, cachedProvider.getCredential(context("user1", "path")));
+      Assertions.assertNotSame(credential, cachedProvider.getCredential(context("user", "path1")));
+      Assertions.assertEquals(3, credentialProvider.vendCount.get());
+
+      // The cached credentials are dropped with the credential provider
+      manager.unregisterCredentialProvider(CATALOG_NAME);
+      Assertions.assertEquals(0, manager.credentialCache.asMap().size());
+      Assertions.assertNull(manager.getCredentialProvider(CATALOG_NAME));
+    } finally {
+      manager.close();
+    }
+  }
+
+  @Test
+  public void testReplaceCredentialProvider() {
+    FakeCredentialProvider credentialProvider = new FakeCredentialProvider(3600000L);
+    CredentialProviderManager manager = new CredentialProviderManager(100, 1000);
+    manager.registerCredentialProvider(CATALOG_NAME, credentialProvider);
+
+    try {
+      Credential credential =
+          manager.getCredentialProvider(CATALOG_NAME).getCredential(context("user", "path"));
+
+      // The catalog always has a credential provider, the cached credentials of the replaced one
+      // are dropped
+      FakeCredentialProvider newCredentialProvider = new FakeCredentialProvider(3600000L);
+      Assertions.assertSame(
+          credentialProvider,
+          manager.replaceCredentialProvider(CATALOG_NAME, newCredentialProvider));
+      Assertions.assertEquals(0, manager.credentialCache.asMap().size());
+      Assertions.assertNotSame(
+          credential,
+          manager.getCredentialProvider(CATALOG_NAME).getCredential(context("user", "path")));
+      Assertions.assertEquals(1, newCredentialProvider.vendCount.get());
+
+      Assertions.assertSame(
+          newCredentialProvider, manager.replaceCredentialProvider(CATALOG_NAME, null));
+      Assertions.assertNull(manager.getCredentialProvider(CATALOG_NAME));
+    } finally {
+      manager.close();
+    }
+  }
+
+  @Test
+  public void testRefreshCredentialBeforeExpiration() throws Exception {
+    // The credential isn't vended 1s before its expiration, and it's refreshed 2s before its
+    // expiration, so it's refreshed 0.5s after it's vended.
+    FakeCredentialProvider credentialProvider = new FakeCredentialProvider(2500L);
+    CredentialProviderManager manager = new CredentialProviderManager(100, 1000);
+    manager.registerCredentialProvider(CATALOG_NAME, credentialProvider);
+
+    try {
+      CredentialProvider cachedProvider = manager.getCredentialProvider(CATALOG_NAME);
+      Credential credential = cachedProvider.getCredential(context("user", "path"));
+      Assertions.assertSame(credential, cachedProvider.getCredential(context("user", "path")));
+
+      Credential refreshed = credential;
+      for (int i = 0; i < 500 && refreshed == credential; i++) {
+        Thread.sleep(10);
+        refreshed = cachedProvider.getCredential(context("user", "path"));
+      }
+      Assertions.assertNotSame(credential, refreshed);
+      Assertions.assertTrue(manager.refreshCount.sum() >= 1);
+    } finally {
+      manager.close();
+    }
+    // The refresh threads don't outlive the manager.
+    Assertions.assertTrue(manager.refreshExecutor.isShutdown());
+  }
+
+  @Test
+  public void testConcurrentCacheMissesAreCoalesced() throws Exception {
+    FakeCredentialProvider credentialProvider = new FakeCredentialProvider(3600000L);
+    credentialProvider.vendDelayMs = 100;
+    CredentialProviderManager manager = new CredentialProviderManager(100, 1000);
+    manager.registerCredentialProvider(CATALOG_NAME, credentialProvider);
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      CredentialProvider cachedProvider = manager.getCredentialProvider(CATALOG_NAME);
+      List<Future<Credential>> futures = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        futures.add(executor.submit(() -> cachedProvider.getCredential(context("user", "path"))));
+      }
+
+      Credential credential = futures.get(0).get();
+      for (Future<Credential> future : futures) {
+        Assertions.assertSame(credential, future.get());
+      }
+      Assertions.assertEquals(1, credentialProvider.vendCount.get());
+    } finally {
+      executor.shutdownNow();
+      manager.close();
+    }
+  }
+
+  @Test
+  public void testDisableCredentialCache() {
+    FakeCredentialProvider credentialProvider = new FakeCredentialProvider(3600000L);
+    CredentialProviderManager manager = new CredentialProviderManager(0, 1000);
+    manager.registerCredentialProvider(CATALOG_NAME, credentialProvider);
+
+    try {
+      Assertions.assertSame(credentialProvider, manager.getCredentialProvider(CATALOG_NAME));
+      Assertions.assertNotSame(
+          credentialProvider.getCredential(context("user", "path")),
+          credentialProvider.getCredential(context("user", "path")));
+    } finally {
+      manager.close();
+    }
+  }
+
+  private static PathBasedCredentialContext context(String userName, String path) {
+    return new PathBasedCredentialContext(userName, ImmutableSet.of(path), ImmutableSet.of());
+  }
+
+  private static class FakeCredentialProvider implements CredentialProvider {
+
+    private final long expireInMs;
+    private final AtomicInteger vendCount = new AtomicInteger();
+    private volatile long vendDelayMs = 0;
+
+    private FakeCredentialProvider(long expireInMs) {
+      this.expireInMs = expireInMs;
+    }
+
+    @Override
+    public void initialize(Map<String, String> properties) {}
+
+    @Override
+    public String credentialType() {
+      return "fake";
+    }
+
+    @Override
+    public Credential getCredential(CredentialContext context) {
+      vendCount.incrementAndGet();
+      if (vendDelayMs > 0) {
+        try {
+          Thread.sleep(vendDelayMs);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+
+      long expireTimeInMs = System.currentTimeMillis() + expireInMs;
+      return new Credential() {
+        @Override
+        public String credentialType() {
+          return "fake";
+        }
+
+        @Override
+        public long expireTimeInMs() {
+          return expireTimeInMs;
+        }
+
+        @Override
+        public Map<String, String> credentialInfo() {
+          return ImmutableMap.of("user", context.getUserName());
+        }
+      };
+    }
+
+    @Override
+    public void close() {}
+  }
+}
@@ -19,11 +19,15 @@
 
 package org.apache.gravitino.listener;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.exceptions.ForbiddenException;
@@ -32,6 +36,7 @@ import org.apache.gravitino.listener.DummyEventListener.DummyAsyncIsolatedEventL
 import org.apache.gravitino.listener.api.EventListenerPlugin;
 import org.apache.gravitino.listener.api.event.Event;
 import org.apache.gravitino.listener.api.event.PreEvent;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -225,6 +230,107 @@ public class TestEventListenerManager {
     eventListenerManager.stop();
   }
 
+  @Test
+  void testMultiThreadsAsyncListener() {
+    Map<String, String> properties = new HashMap<>();
+    properties.put(EventListenerManager.GRAVITINO_EVENT_LISTENER_NAMES, "ordered");
+    properties.put(
+        "ordered." + EventListenerManager.GRAVITINO_EVENT_LISTENER_CLASS,
+        OrderRecordingEventListener.class.getName());
+    properties.put(EventListenerManager.GRAVITINO_EVENT_LISTENER_QUEUE_CAPACITY, "10000");
+    properties.put(EventListenerManager.GRAVITINO_EVENT_LISTENER_DISPATCHER_THREADS, "4");
+
+    EventListenerManager eventListenerManager = new EventListenerManager();
+    eventListenerManager.init(properties);
+    eventListenerManager.start();
+    EventBus eventBus = eventListenerManager.createEventBus();
+
+    int eventNum = 1000;
+    for (int i = 0; i < eventNum; i++) {
+      eventBus.dispatchEvent(
+          new DummyPostEvent(String.valueOf(i), NameIdentifier.of("a", "b" + i % 10)));
+    }
+
+    AsyncQueueListener asyncQueueListener =
+        (AsyncQueueListener) eventBus.getEventListeners().get(0);
+    OrderRecordingEventListener listener =
+        (OrderRecordingEventListener)
+            ((EventListenerPluginWrapper) asyncQueueListener.getEventListeners().get(0))
+                .getUserEventListener();
+    Awaitility.await()
+        .atMost(20, TimeUnit.SECONDS)
+        .pollInterval(10, TimeUnit.MILLISECONDS)
+        .until(() -> listener.eventNum() == eventNum);
+    Assertions.assertEquals(0, asyncQueueListener.getMetricsSource().dropCount());
+
+    // The events of the same object are processed in the order they are dispatched.
+    Assertions.assertEquals(10, listener.events.size());
+    listener.events.forEach(
+        (identifier, events) -> {
+          List<Integer> sequences =
+              events.stream().map(e -> Integer.parseInt(e.user())).collect(Collectors.toList());
+          Assertions.assertEquals(
+              sequences.stream().sorted().collect(Collectors.toList()), sequences);
+        });
+
+    eventListenerManager.stop();
+  }
+
+  @Test
+  void testBatchAsyncListener() {
+    Map<String, String> properties = new HashMap<>();
+    properties.put(EventListenerManager.GRAVITINO_EVENT_LISTENER_NAMES, "batch");
+    properties.put(
+        "batch." + EventListenerManager.GRAVITINO_EVENT_LISTENER_CLASS,
+        OrderRecordingEventListener.class.getName());
+    properties.put(EventListenerManager.GRAVITINO_EVENT_LISTENER_MAX_BATCH_SIZE, "5");
+    // The batches are filled up before the linger time runs out.
+    properties.put(EventListenerManager.GRAVITINO_EVENT_LISTENER_BATCH_LINGER_MS, "10000");
+
+    EventListenerManager eventListenerManager = new EventListenerManager();
+    eventListenerManager.init(properties);
+    eventListenerManager.start();
+    EventBus eventBus = eventListenerManager.createEventBus();
+    for (int i = 0; i < 10; i++) {
+      eventBus.dispatchEvent(DUMMY_POST_EVENT_INSTANCE);
+    }
+
+    AsyncQueueListener asyncQueueListener =
+        (AsyncQueueListener) eventBus.getEventListeners().get(0);
+    OrderRecordingEventListener listener =
+        (OrderRecordingEventListener)
+            ((EventListenerPluginWrapper) asyncQueueListener.getEventListeners().get(0))
+                .getUserEventListener();
+    Awaitility.await()
+        .atMost(20, TimeUnit.SECONDS)
+        .pollInterval(10, TimeUnit.MILLISECONDS)
+        .until(() -> listener.eventNum() == 10);
+    Assertions.assertEquals(ImmutableList.of(5, 5), listener.batchSizes);
+
+    eventListenerManager.stop();
+  }
+
+  @Test
+  void testPostEventsFailureIsolated() {
+    DummyPostEvent event1 = new DummyPostEvent("user", NameIdentifier.of("a", "b1"));
+    DummyPostEvent event2 = new DummyPostEvent("user", NameIdentifier.of("a", "b2"));
+    DummyPostEvent event3 = new DummyPostEvent("user", NameIdentifier.of("a", "b3"));
+    DummyAsyncEventListener listener =
+        new DummyAsyncEventListener() {
+          @Override
+          public void onPostEvent(Event event) {
+            if (event.identifier().equals(event2.identifier())) {
+              throw new RuntimeException("Failed to process " + event.identifier());
+            }
+            super.onPostEvent(event);
+          }
+        };
+
+    EventListenerPluginWrapper wrapper = new EventListenerPluginWrapper("async", listener);
+    wrapper.onPostEvents(ImmutableList.of(event1, event2, event3));
+    Assertions.assertEquals(ImmutableList.of(event1, event3), listener.getPostEvents());
+  }
+
   @Test
   void testForbiddenPreEvent() {
     String sync1 = "sync1";
@@ -244,6 +350,39 @@ public class TestEventListenerManager {
     eventListenerManager.stop();
   }
 
+  public static class OrderRecordingEventListener implements EventListenerPlugin {
+    private final Map<NameIdentifier, List<Event>> events = new ConcurrentHashMap<>();
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void init(Map<String, String> properties) {}
+
+    @Override
+    public void start() {}
+
+    @Override
+    public void stop() {}
+
+    @Override
+    public void onPostEvents(List<Event> postEvents) {
+      batchSizes.add(postEvents.size());
+      postEvents.forEach(
+          event ->
+              events
+                  .computeIfAbsent(event.identifier(), k -> new CopyOnWriteArrayList<>())
+                  .add(event));
+    }
+
+    @Override
+    public Mode mode() {
+      return Mode.ASYNC_SHARED;
+    }
+
+    int eventNum() {
+      return events.values().stream().mapToInt(List::size).sum();
+    }
+  }
+
   private Map<String, String> createIsolatedAsyncEventListenerConfig(String async1, String async2) {
     Map<String, String> config = new HashMap<>();
 
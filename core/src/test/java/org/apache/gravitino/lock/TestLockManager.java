@@ -19,16 +19,20 @@
 
 package org.apache.gravitino.lock;
 
+import static org.apache.gravitino.Configs.TREE_LOCK_ACQUIRE_TIMEOUT;
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.Set;
 import java.util.concurrent.CompletionService;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
@@ -72,6 +76,7 @@ public class TestLockManager {
     Mockito.when(config.get(TREE_LOCK_MAX_NODE_IN_MEMORY)).thenReturn(100000L);
     Mockito.when(config.get(TREE_LOCK_MIN_NODE_IN_MEMORY)).thenReturn(1000L);
     Mockito.when(config.get(TREE_LOCK_CLEAN_INTERVAL)).thenReturn(60L);
+    Mockito.when(config.get(TREE_LOCK_ACQUIRE_TIMEOUT)).thenReturn(0L);
     return config;
   }
 
@@ -256,13 +261,7 @@ public class TestLockManager {
       }
     }
 
-    lockManager
-        .treeLockRootNode
-        .getAllChildren()
-        .forEach(
-            child -> {
-              lockManager.evictStaleNodes(child, lockManager.treeLockRootNode);
-            });
+    lockManager.evictIdleNodes();
 
     Assertions.assertFalse(lockManager.treeLockRootNode.getAllChildren().isEmpty());
 
@@ -310,20 +309,14 @@ public class TestLockManager {
     for (int i = 0; i < 5; i++) {
       service.submit(
           () -> {
-            lockManager
-                .treeLockRootNode
-                .getAllChildren()
-                .forEach(
-                    child -> {
-                      while (!futures.stream().allMatch(Future::isDone)) {
-                        try {
-                          lockManager.evictStaleNodes(child, lockManager.treeLockRootNode);
-                          Thread.sleep(1);
-                        } catch (Exception e) {
-                          // Ignore
-                        }
-                      }
-                    });
+            while (!futures.stream().allMatch(Future::isDone)) {
+              try {
+                lockManager.evictIdleNodes();
+                Thread.sleep(1);
+              } catch (Exception e) {
+                // Ignore
+              }
+            }
             return 0;
           });
     }
@@ -412,6 +405,151 @@ public class TestLockManager {
     }
   }
 
+  @Test
+  void testTryLockTimeout() throws Exception {
+    LockManager lockManager = new LockManager(getConfig());
+    NameIdentifier identifier = NameIdentifier.of("a", "b", "c", "d");
+    TreeLock holder = lockManager.createTreeLock(identifier);
+    holder.lock(LockType.WRITE);
+
+    CompletionService<Integer> service = createCompletionService();
+    try {
+      service.submit(
+          () -> {
+            TreeLock lock = lockManager.createTreeLock(identifier);
+            Assertions.assertFalse(lock.tryLock(LockType.READ, 100, TimeUnit.MILLISECONDS));
+            // Unlocking a tree lock that failed to lock is a no-op.
+            lock.unlock();
+
+            TreeLock sibling = lockManager.createTreeLock(NameIdentifier.of("a", "b", "c", "e"));
+            Assertions.assertTrue(sibling.tryLock(LockType.WRITE, 100, TimeUnit.MILLISECONDS));
+            sibling.unlock();
+            return 0;
+          });
+      service.take().get();
+    } finally {
+      holder.unlock();
+    }
+
+    // The references of the nodes that are not locked are released too.
+    checkReferenceCount(lockManager.treeLockRootNode);
+
+    TreeLock lock = lockManager.createTreeLock(identifier);
+    Assertions.assertTrue(lock.tryLock(LockType.WRITE, 100, TimeUnit.MILLISECONDS));
+    lock.unlock();
+    checkReferenceCount(lockManager.treeLockRootNode);
+  }
+
+  @Test
+  void testEvictNodeWithChildren() {
+    LockManager lockManager = new LockManager(getConfig());
+    TreeLock lock = lockManager.createTreeLock(NameIdentifier.of("a", "b"));
+    lock.lock(LockType.READ);
+    lock.unlock();
+
+    TreeLockNode nodeA = lockManager.treeLockRootNode.childMap.get("a");
+    Assertions.assertEquals(0, nodeA.getReference());
+    // A node with children will not be evicted even if it's not referenced.
+    Assertions.assertFalse(nodeA.tryEvict());
+    Assertions.assertEquals(0, nodeA.getReference());
+
+    TreeLockNode nodeB = nodeA.childMap.get("b");
+    Assertions.assertTrue(nodeB.tryEvict());
+    Assertions.assertFalse(nodeB.tryEvict());
+    nodeA.removeChild(nodeB);
+    Assertions.assertTrue(nodeA.tryEvict());
+  }
+
+  @Test
+  void testEvictIdleNodes() {
+    LockManager lockManager = new LockManager(getConfig());
+    lockManager.minTreeNodeInMemory = 1;
+    TreeLock lock = lockManager.createTreeLock(NameIdentifier.of("a", "b", "c"));
+    lock.lock(LockType.READ);
+
+    TreeLock held = lockManager.createTreeLock(NameIdentifier.of("a", "d"));
+    held.lock(LockType.WRITE);
+    lock.unlock();
+    Assertions.assertEquals(5, lockManager.totalNodeCount.get());
+
+    // Only the idle nodes are evicted, the nodes of the held lock are kept.
+    lockManager.evictIdleNodes();
+    Assertions.assertEquals(3, lockManager.totalNodeCount.get());
+    TreeLockNode nodeA = lockManager.treeLockRootNode.childMap.get("a");
+    Assertions.assertEquals(Sets.newHashSet("d"), nodeA.childMap.keySet());
+
+    // The parent is evicted after its last child is evicted.
+    held.unlock();
+    lockManager.evictIdleNodes();
+    Assertions.assertEquals(1, lockManager.totalNodeCount.get());
+    Assertions.assertTrue(lockManager.treeLockRootNode.childMap.isEmpty());
+    checkReferenceCount(lockManager.treeLockRootNode);
+  }
+
+  @Test
+  void testDetectWaitForCycle() throws Exception {
+    LockManager lockManager = new LockManager(getConfig());
+    NameIdentifier ident1 = NameIdentifier.of("a", "b", "c", "d1");
+    NameIdentifier ident2 = NameIdentifier.of("a", "b", "c", "d2");
+    CountDownLatch bothLocked = new CountDownLatch(2);
+
+    CompletionService<Integer> service = createCompletionService();
+    for (NameIdentifier[] idents : new NameIdentifier[][] {{ident1, ident2}, {ident2, ident1}}) {
+      service.submit(
+          () -> {
+            TreeLock first = lockManager.createTreeLock(idents[0]);
+            first.lock(LockType.WRITE);
+            try {
+              bothLocked.countDown();
+              bothLocked.await();
+              // Each thread waits for the lock held by the other one until timeout.
+              TreeLock second = lockManager.createTreeLock(idents[1]);
+              Assertions.assertFalse(second.tryLock(LockType.WRITE, 3, TimeUnit.SECONDS));
+            } finally {
+              first.unlock();
+            }
+            return 0;
+          });
+    }
+
+    bothLocked.await();
+    List<Thread> cycle = Collections.emptyList();
+    for (int i = 0; i < 100 && cycle.isEmpty(); i++) {
+      Thread.sleep(10);
+      cycle = LockManager.findWaitForCycle(lockManager.waitForGraph());
+    }
+    Assertions.assertEquals(2, cycle.size());
+    lockManager.checkDeadLock();
+
+    for (int i = 0; i < 2; i++) {
+      service.take().get();
+    }
+    Assertions.assertTrue(lockManager.activeTreeLocks.isEmpty());
+    Assertions.assertTrue(lockManager.waitForGraph().isEmpty());
+    checkReferenceCount(lockManager.treeLockRootNode);
+  }
+
+  @Test
+  void testFindWaitForCycle() {
+    Thread t1 = new Thread(() -> {});
+    Thread t2 = new Thread(() -> {});
+    Thread t3 = new Thread(() -> {});
+
+    Map<Thread, Set<Thread>> graph = Maps.newHashMap();
+    graph.put(t1, Sets.newHashSet(t2));
+    graph.put(t2, Sets.newHashSet(t3));
+    Assertions.assertTrue(LockManager.findWaitForCycle(graph).isEmpty());
+
+    graph.put(t3, Sets.newHashSet(t1));
+    Assertions.assertEquals(
+        Sets.newHashSet(t1, t2, t3), Sets.newHashSet(LockManager.findWaitForCycle(graph)));
+
+    // A thread waiting for the write lock of a node it holds the read lock of.
+    Map<Thread, Set<Thread>> selfGraph = Maps.newHashMap();
+    selfGraph.put(t1, Sets.newHashSet(t1));
+    Assertions.assertEquals(Collections.singletonList(t1), LockManager.findWaitForCycle(selfGraph));
+  }
+
   @Test
   void testConcurrentWrite() throws InterruptedException {
     LockManager lockManager = new LockManager(getConfig());
@@ -495,10 +633,7 @@ public class TestLockManager {
     Assertions.assertEquals(10 * 1000 * 4 + 1, lockManager.totalNodeCount.get());
 
     // Pay attention to the lockCleaner thread.
-    lockManager
-        .treeLockRootNode
-        .getAllChildren()
-        .forEach(node -> lockManager.evictStaleNodes(node, lockManager.treeLockRootNode));
+    lockManager.evictIdleNodes();
     Assertions.assertTrue(lockManager.totalNodeCount.get() > 1);
     Assertions.assertTrue(lockManager.totalNodeCount.get() < lockManager.maxTreeNodeInMemory);
   }
@@ -653,7 +788,7 @@ public class TestLockManager {
     service.submit(
         () -> {
           for (int i = 0; i < 1000; i++) {
-            lockManager.checkDeadLock(lockManager.treeLockRootNode);
+            lockManager.checkDeadLock();
           }
           return 0;
         });
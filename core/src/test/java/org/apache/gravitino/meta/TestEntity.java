@@ -21,7 +21,9 @@ package org.apache.gravitino.meta;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import java.time.Instant;
+import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.Field;
 import org.apache.gravitino.authorization.Privileges;
@@ -157,6 +159,42 @@ public class TestEntity {
     Assertions.assertEquals(auditInfo, fields.get(TableEntity.AUDIT_INFO));
   }
 
+  @Test
+  public void testTableColumnsLoadedLazily() {
+    AtomicInteger loads = new AtomicInteger();
+    TableEntity lazyTable =
+        TableEntity.builder()
+            .withId(tableId)
+            .withName(tableName)
+            .withAuditInfo(auditInfo)
+            .withColumnsLoader(
+                () -> {
+                  loads.incrementAndGet();
+                  return Collections.emptyList();
+                })
+            .build();
+    TableEntity table =
+        TableEntity.builder()
+            .withId(tableId)
+            .withName(tableName)
+            .withAuditInfo(auditInfo)
+            .withColumns(Collections.emptyList())
+            .build();
+
+    // Neither the fields, the equality, the hash code nor the string loads the columns.
+    Assertions.assertNull(lazyTable.fields().get(TableEntity.COLUMNS));
+    Assertions.assertEquals(table, lazyTable);
+    Assertions.assertEquals(table.hashCode(), lazyTable.hashCode());
+    Assertions.assertTrue(lazyTable.toString().contains("columns=<not loaded>"));
+    Assertions.assertFalse(lazyTable.columnsMaterialized());
+    Assertions.assertEquals(0, loads.get());
+
+    Assertions.assertEquals(Collections.emptyList(), lazyTable.columns());
+    Assertions.assertTrue(lazyTable.columnsMaterialized());
+    Assertions.assertEquals(1, loads.get());
+    Assertions.assertTrue(lazyTable.toString().contains("columns=[]"));
+  }
+
   @Test
   public void testFile() {
     FilesetEntity testFile =
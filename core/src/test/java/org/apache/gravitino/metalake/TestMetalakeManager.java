@@ -30,6 +30,7 @@ import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.UserPrincipal;
 import org.apache.gravitino.auth.AuthConstants;
+import org.apache.gravitino.catalog.CatalogManager;
 import org.apache.gravitino.exceptions.MetalakeAlreadyExistsException;
 import org.apache.gravitino.exceptions.NoSuchMetalakeException;
 import org.apache.gravitino.meta.BaseMetalake;
@@ -40,6 +41,7 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
 public class TestMetalakeManager {
 
@@ -196,6 +198,29 @@ public class TestMetalakeManager {
     Assertions.assertFalse(dropped1, "metalake should be non-existent");
   }
 
+  @Test
+  public void testRefreshInUseStateOfCatalogManager() {
+    CatalogManager catalogManager = Mockito.mock(CatalogManager.class);
+    MetalakeManager manager =
+        new MetalakeManager(entityStore, new RandomIdGenerator(), catalogManager);
+    NameIdentifier ident = NameIdentifier.of("test51");
+
+    manager.createMetalake(ident, "comment", ImmutableMap.of());
+    manager.disableMetalake(ident);
+    Mockito.verify(catalogManager, Mockito.times(1)).invalidateMetalakeInUseState(ident);
+
+    manager.enableMetalake(ident);
+    Mockito.verify(catalogManager, Mockito.times(2)).invalidateMetalakeInUseState(ident);
+
+    manager.alterMetalake(ident, MetalakeChange.rename("test52"));
+    Mockito.verify(catalogManager, Mockito.times(3)).invalidateMetalakeInUseState(ident);
+
+    NameIdentifier renamed = NameIdentifier.of("test52");
+    manager.disableMetalake(renamed);
+    manager.dropMetalake(renamed);
+    Mockito.verify(catalogManager, Mockito.times(2)).invalidateMetalakeInUseState(renamed);
+  }
+
   private void testProperties(Map<String, String> expectedProps, Map<String, String> testProps) {
     expectedProps.forEach(
         (k, v) -> {
@@ -79,5 +79,33 @@ public class TestExtractMetricNameAndLabel {
             + "_"
             + Collector.sanitizeMetricName(MetricNames.HTTP_PROCESS_DURATION),
         ImmutableMap.of("operation", "update-table"));
+
+    checkResult(
+        MetricsSource.ENTITY_STORE_METRIC_NAME
+            + ".get.table."
+            + MetricNames.ENTITY_STORE_OPERATION_DURATION,
+        Collector.sanitizeMetricName(MetricsSource.ENTITY_STORE_METRIC_NAME)
+            + "_"
+            + Collector.sanitizeMetricName(MetricNames.ENTITY_STORE_OPERATION_DURATION),
+        ImmutableMap.of("operation", "get", "entity_type", "table"));
+
+    checkResult(
+        MetricsSource.CATALOG_METRIC_NAME
+            + ".metalake1.catalog1.loadTable."
+            + MetricNames.CATALOG_OPERATION_DURATION,
+        Collector.sanitizeMetricName(MetricsSource.CATALOG_METRIC_NAME)
+            + "_"
+            + Collector.sanitizeMetricName(MetricNames.CATALOG_OPERATION_DURATION),
+        ImmutableMap.of("metalake", "metalake1", "catalog", "catalog1", "operation", "loadTable"));
+
+    // The sources without mapping rules keep their full names.
+    checkResult(
+        MetricsSource.ENTITY_STORE_CACHE_METRIC_NAME + "." + MetricNames.CACHE_HIT_COUNT,
+        "entity_store_cache_hit_count",
+        ImmutableMap.of());
+    checkResult(
+        MetricsSource.TREE_LOCK_METRIC_NAME + ".read." + MetricNames.TREE_LOCK_HOLD_DURATION,
+        "tree_lock_read_hold_duration_seconds",
+        ImmutableMap.of());
   }
 }
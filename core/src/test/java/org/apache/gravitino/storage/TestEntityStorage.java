@@ -20,13 +20,35 @@
 package org.apache.gravitino.storage;
 
 import static org.apache.gravitino.Configs.DEFAULT_ENTITY_RELATIONAL_STORE;
+import static org.apache.gravitino.Configs.DEFAULT_RELATIONAL_CONNECTION_POOL;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_COLUMN_BATCH_SIZE;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_CACHE_STATEMENTS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_EVICTION_INTERVAL_MS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MAX_IDLE;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MAX_STATEMENTS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MAX_TOTAL;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MAX_WAIT_MS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MIN_EVICTABLE_IDLE_MS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MIN_IDLE;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_TEST_ON_BORROW;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_TEST_WHILE_IDLE;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_VALIDATION_QUERY;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_FIELD_ENCODING;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_GC_MAX_BATCH_SIZE;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_GC_MAX_DELETES_PER_SECOND;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_GC_PARALLELISM;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_GC_TARGET_BATCH_LATENCY_MS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_ID_CACHE_ENABLED;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PATH;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JOINED_ID_QUERY_ENABLED;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_STORE;
 import static org.apache.gravitino.Configs.ENTITY_STORE;
+import static org.apache.gravitino.Configs.ENTITY_STORE_CACHE_ENABLED;
 import static org.apache.gravitino.Configs.RELATIONAL_ENTITY_STORE;
 import static org.apache.gravitino.Configs.STORE_DELETE_AFTER_TIME;
 import static org.apache.gravitino.Configs.VERSION_RETENTION_COUNT;
@@ -43,8 +65,11 @@ import java.sql.Statement;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.reflect.FieldUtils;
@@ -126,8 +151,33 @@ public class TestEntityStorage {
     }
     dir.mkdirs();
     Mockito.when(config.get(ENTITY_STORE)).thenReturn(RELATIONAL_ENTITY_STORE);
+    Mockito.when(config.get(ENTITY_STORE_CACHE_ENABLED)).thenReturn(false);
     Mockito.when(config.get(ENTITY_RELATIONAL_STORE)).thenReturn(DEFAULT_ENTITY_RELATIONAL_STORE);
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_PATH)).thenReturn(DB_DIR);
+    Mockito.when(config.get(ENTITY_RELATIONAL_FIELD_ENCODING)).thenReturn("json");
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL))
+        .thenReturn(DEFAULT_RELATIONAL_CONNECTION_POOL);
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_MAX_WAIT_MS)).thenReturn(1000L);
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_MAX_TOTAL)).thenReturn(20);
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_MAX_IDLE)).thenReturn(5);
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_MIN_IDLE)).thenReturn(0);
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_EVICTION_INTERVAL_MS))
+        .thenReturn(10 * 60 * 1000L);
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_TEST_ON_BORROW)).thenReturn(false);
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_TEST_WHILE_IDLE)).thenReturn(false);
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_VALIDATION_QUERY))
+        .thenReturn(Optional.empty());
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_MIN_EVICTABLE_IDLE_MS))
+        .thenReturn(1000L);
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_CACHE_STATEMENTS)).thenReturn(false);
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_MAX_STATEMENTS)).thenReturn(-1);
+    Mockito.when(config.get(ENTITY_RELATIONAL_ID_CACHE_ENABLED)).thenReturn(false);
+    Mockito.when(config.get(ENTITY_RELATIONAL_JOINED_ID_QUERY_ENABLED)).thenReturn(false);
+    Mockito.when(config.get(ENTITY_RELATIONAL_COLUMN_BATCH_SIZE)).thenReturn(1000);
+    Mockito.when(config.get(ENTITY_RELATIONAL_GC_PARALLELISM)).thenReturn(2);
+    Mockito.when(config.get(ENTITY_RELATIONAL_GC_MAX_BATCH_SIZE)).thenReturn(1000);
+    Mockito.when(config.get(ENTITY_RELATIONAL_GC_TARGET_BATCH_LATENCY_MS)).thenReturn(500L);
+    Mockito.when(config.get(ENTITY_RELATIONAL_GC_MAX_DELETES_PER_SECOND)).thenReturn(0);
     Mockito.when(config.get(STORE_DELETE_AFTER_TIME)).thenReturn(20 * 60 * 1000L);
     Mockito.when(config.get(VERSION_RETENTION_COUNT)).thenReturn(1L);
     BaseIT baseIT = new BaseIT();
@@ -2246,6 +2296,78 @@ public class TestEntityStorage {
     deleteResult.forEach(p -> Assertions.assertTrue(p.getRight().getRight() > 0));
   }
 
+  @ParameterizedTest
+  @MethodSource("storageProvider")
+  void testWideTable(String type) throws IOException {
+    Config config = Mockito.mock(Config.class);
+    init(type, config);
+    // The columns are written by many batches, and by multi-row statements on MySQL
+    Mockito.when(config.get(ENTITY_RELATIONAL_COLUMN_BATCH_SIZE)).thenReturn(100);
+
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+
+    try (EntityStore store = EntityStoreFactory.createEntityStore(config)) {
+      store.initialize(config);
+
+      store.put(createBaseMakeLake(1L, "metalake", auditInfo));
+      store.put(createCatalog(1L, Namespace.of("metalake"), "catalog", auditInfo));
+      store.put(createSchemaEntity(1L, Namespace.of("metalake", "catalog"), "schema1", auditInfo));
+
+      List<ColumnEntity> columns = Lists.newArrayList();
+      for (int i = 0; i < 2345; i++) {
+        columns.add(
+            createColumnEntity(
+                RandomIdGenerator.INSTANCE.nextId(),
+                "column" + i,
+                i,
+                Types.StringType.get(),
+                auditInfo));
+      }
+      TableEntity table =
+          createTableEntityWithColumns(
+              1L, Namespace.of("metalake", "catalog", "schema1"), "table1", auditInfo, columns);
+      store.put(table);
+
+      TableEntity loadedTable =
+          store.get(table.nameIdentifier(), EntityType.TABLE, TableEntity.class);
+      Assertions.assertEquals(columnNames(columns), columnNames(loadedTable.columns()));
+
+      // Drop the last columns and add new ones, only the changed columns are written
+      List<ColumnEntity> updatedColumns = Lists.newArrayList(columns.subList(0, 2000));
+      for (int i = 2000; i < 2250; i++) {
+        updatedColumns.add(
+            createColumnEntity(
+                RandomIdGenerator.INSTANCE.nextId(),
+                "new_column" + i,
+                i,
+                Types.IntegerType.get(),
+                auditInfo));
+      }
+      TableEntity updatedTable =
+          createTableEntityWithColumns(
+              1L,
+              Namespace.of("metalake", "catalog", "schema1"),
+              "table1",
+              auditInfo,
+              updatedColumns);
+      store.update(
+          table.nameIdentifier(), TableEntity.class, EntityType.TABLE, old -> updatedTable);
+
+      loadedTable = store.get(table.nameIdentifier(), EntityType.TABLE, TableEntity.class);
+      Assertions.assertEquals(columnNames(updatedColumns), columnNames(loadedTable.columns()));
+
+      destroy(type);
+    }
+  }
+
+  private static List<String> columnNames(List<ColumnEntity> columns) {
+    return columns.stream()
+        .sorted(Comparator.comparingInt(ColumnEntity::position))
+        .map(ColumnEntity::name)
+        .collect(Collectors.toList());
+  }
+
   @ParameterizedTest
   @MethodSource("storageProvider")
   void testOptimizedDeleteForKv(String type) throws IOException {
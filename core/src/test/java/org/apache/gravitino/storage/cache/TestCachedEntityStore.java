@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.cache;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.collect.Lists;
+import java.io.IOException;
+import java.time.Instant;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity.EntityType;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.TestCatalog;
+import org.apache.gravitino.authorization.AuthorizationUtils;
+import org.apache.gravitino.authorization.Privileges;
+import org.apache.gravitino.authorization.SecurableObjects;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.meta.RoleEntity;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.storage.memory.TestMemoryEntityStore.InMemoryEntityStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestCachedEntityStore {
+
+  private static final AuditInfo AUDIT_INFO =
+      AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+
+  private InMemoryEntityStore backend;
+  private CachedEntityStore store;
+
+  @BeforeEach
+  public void setUp() {
+    Config config = Mockito.mock(Config.class);
+    Mockito.when(config.get(Configs.ENTITY_STORE_CACHE_MAX_WEIGHT)).thenReturn(100L);
+    Mockito.when(config.get(Configs.ENTITY_STORE_CACHE_EXPIRATION_MS)).thenReturn(60_000L);
+
+    backend = Mockito.spy(new InMemoryEntityStore());
+    store = new CachedEntityStore(backend);
+    store.initialize(config);
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    store.close();
+  }
+
+  @Test
+  public void testGetIsServedFromCache() throws IOException {
+    CatalogEntity catalog = catalog("catalog");
+    store.put(catalog);
+    Mockito.clearInvocations(backend);
+
+    for (int i = 0; i < 3; i++) {
+      Assertions.assertEquals(
+          catalog, store.get(catalog.nameIdentifier(), EntityType.CATALOG, CatalogEntity.class));
+    }
+    verify(backend, times(1)).get(eq(catalog.nameIdentifier()), eq(EntityType.CATALOG), any());
+    Assertions.assertEquals(2, store.cache.stats().hitCount());
+    Assertions.assertEquals(1, store.cache.stats().missCount());
+    Assertions.assertTrue(store.exists(catalog.nameIdentifier(), EntityType.CATALOG));
+    verify(backend, Mockito.never()).exists(any(), any());
+
+    NameIdentifier missing = NameIdentifier.of("metalake", "missing");
+    Assertions.assertThrows(
+        NoSuchEntityException.class,
+        () -> store.get(missing, EntityType.CATALOG, CatalogEntity.class));
+    Assertions.assertNull(store.cache.getIfPresent(EntityCacheKey.of(missing, EntityType.CATALOG)));
+  }
+
+  @Test
+  public void testUpdateInvalidatesRenamedEntityAndDescendants() throws IOException {
+    CatalogEntity catalog = catalog("catalog");
+    SchemaEntity schema = schema("catalog", "schema");
+    store.put(catalog);
+    store.put(schema);
+    store.get(catalog.nameIdentifier(), EntityType.CATALOG, CatalogEntity.class);
+    store.get(schema.nameIdentifier(), EntityType.SCHEMA, SchemaEntity.class);
+
+    store.update(
+        catalog.nameIdentifier(), CatalogEntity.class, EntityType.CATALOG, e -> catalog("renamed"));
+    // The in-memory store only renames the entity itself, drop the stale child like a relational
+    // store would stop resolving it.
+    backend.delete(schema.nameIdentifier(), EntityType.SCHEMA);
+
+    Assertions.assertThrows(
+        NoSuchEntityException.class,
+        () -> store.get(catalog.nameIdentifier(), EntityType.CATALOG, CatalogEntity.class));
+    Assertions.assertThrows(
+        NoSuchEntityException.class,
+        () -> store.get(schema.nameIdentifier(), EntityType.SCHEMA, SchemaEntity.class));
+    Assertions.assertEquals(
+        "renamed",
+        store
+            .get(NameIdentifier.of("metalake", "renamed"), EntityType.CATALOG, CatalogEntity.class)
+            .name());
+  }
+
+  @Test
+  public void testDeleteInvalidatesDescendantsAndRoles() throws IOException {
+    CatalogEntity catalog = catalog("catalog");
+    SchemaEntity schema = schema("catalog", "schema");
+    RoleEntity role =
+        RoleEntity.builder()
+            .withId(3L)
+            .withName("role")
+            .withNamespace(AuthorizationUtils.ofRoleNamespace("metalake"))
+            .withAuditInfo(AUDIT_INFO)
+            .withSecurableObjects(
+                Lists.newArrayList(
+                    SecurableObjects.ofCatalog(
+                        "catalog", Lists.newArrayList(Privileges.UseCatalog.allow()))))
+            .build();
+    store.put(catalog);
+    store.put(schema);
+    store.put(role);
+    store.get(schema.nameIdentifier(), EntityType.SCHEMA, SchemaEntity.class);
+    store.get(role.nameIdentifier(), EntityType.ROLE, RoleEntity.class);
+    Assertions.assertEquals(2, store.cache.estimatedSize());
+
+    store.delete(catalog.nameIdentifier(), EntityType.CATALOG, true);
+
+    Assertions.assertNull(
+        store.cache.getIfPresent(EntityCacheKey.of(schema.nameIdentifier(), EntityType.SCHEMA)));
+    Assertions.assertNull(
+        store.cache.getIfPresent(EntityCacheKey.of(role.nameIdentifier(), EntityType.ROLE)));
+  }
+
+  @Test
+  public void testCacheKeyDescendant() {
+    EntityCacheKey table =
+        EntityCacheKey.of(NameIdentifier.of("m", "c", "s", "t"), EntityType.TABLE);
+    Assertions.assertTrue(table.isDescendantOf(NameIdentifier.of("m")));
+    Assertions.assertTrue(table.isDescendantOf(NameIdentifier.of("m", "c")));
+    Assertions.assertTrue(table.isDescendantOf(NameIdentifier.of("m", "c", "s")));
+    Assertions.assertFalse(table.isDescendantOf(NameIdentifier.of("m", "c", "s", "t")));
+    Assertions.assertFalse(table.isDescendantOf(NameIdentifier.of("m", "c1")));
+    Assertions.assertFalse(table.isDescendantOf(NameIdentifier.of("m1")));
+  }
+
+  private static CatalogEntity catalog(String name) {
+    return CatalogEntity.builder()
+        .withId(1L)
+        .withName(name)
+        .withNamespace(Namespace.of("metalake"))
+        .withType(TestCatalog.Type.RELATIONAL)
+        .withProvider("test")
+        .withAuditInfo(AUDIT_INFO)
+        .build();
+  }
+
+  private static SchemaEntity schema(String catalog, String name) {
+    return SchemaEntity.builder()
+        .withId(2L)
+        .withName(name)
+        .withNamespace(Namespace.of("metalake", catalog))
+        .withAuditInfo(AUDIT_INFO)
+        .build();
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.storage.relational;
+
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_GC_MAX_BATCH_SIZE;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_GC_MAX_DELETES_PER_SECOND;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_GC_PARALLELISM;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_GC_TARGET_BATCH_LATENCY_MS;
+import static org.apache.gravitino.Configs.STORE_DELETE_AFTER_TIME;
+import static org.apache.gravitino.Configs.VERSION_RETENTION_COUNT;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.metrics.MetricNames;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestRelationalGarbageCollector {
+
+  @Test
+  public void testNextBatchSize() {
+    // Fast batches grow the batch size up to the maximum one.
+    Assertions.assertEquals(200, RelationalGarbageCollector.nextBatchSize(100, 10, 500, 1000));
+    Assertions.assertEquals(1000, RelationalGarbageCollector.nextBatchSize(800, 10, 500, 1000));
+    // Slow batches shrink the batch size down to 1.
+    Assertions.assertEquals(50, RelationalGarbageCollector.nextBatchSize(100, 600, 500, 1000));
+    Assertions.assertEquals(1, RelationalGarbageCollector.nextBatchSize(1, 600, 500, 1000));
+    // The batches around the target latency keep the batch size.
+    Assertions.assertEquals(100, RelationalGarbageCollector.nextBatchSize(100, 300, 500, 1000));
+  }
+
+  @Test
+  public void testCollectAndCleanInBatches() throws IOException {
+    Config config = Mockito.mock(Config.class);
+    Mockito.when(config.get(STORE_DELETE_AFTER_TIME)).thenReturn(20 * 60 * 1000L);
+    Mockito.when(config.get(VERSION_RETENTION_COUNT)).thenReturn(1L);
+    Mockito.when(config.get(ENTITY_RELATIONAL_GC_PARALLELISM)).thenReturn(4);
+    Mockito.when(config.get(ENTITY_RELATIONAL_GC_MAX_BATCH_SIZE)).thenReturn(1000);
+    Mockito.when(config.get(ENTITY_RELATIONAL_GC_TARGET_BATCH_LATENCY_MS)).thenReturn(60_000L);
+    Mockito.when(config.get(ENTITY_RELATIONAL_GC_MAX_DELETES_PER_SECOND)).thenReturn(0);
+
+    AtomicInteger legacyTables = new AtomicInteger(1000);
+    AtomicInteger oldFilesetVersions = new AtomicInteger(50);
+    RelationalBackend backend = Mockito.mock(RelationalBackend.class);
+    Mockito.when(backend.hardDeleteLegacyData(eq(Entity.EntityType.TABLE), anyLong(), anyInt()))
+        .thenAnswer(invocation -> takeAtMost(legacyTables, invocation.getArgument(2)));
+    Mockito.when(backend.deleteOldVersionData(eq(Entity.EntityType.FILESET), eq(1L), anyInt()))
+        .thenAnswer(invocation -> takeAtMost(oldFilesetVersions, invocation.getArgument(2)));
+
+    try (RelationalGarbageCollector garbageCollector =
+        new RelationalGarbageCollector(backend, config)) {
+      garbageCollector.collectAndClean();
+
+      Assertions.assertEquals(0, legacyTables.get());
+      Assertions.assertEquals(0, oldFilesetVersions.get());
+      Assertions.assertEquals(1050, garbageCollector.metricsSource.deletedRowCounter().getCount());
+      // The batches are fast, so the batch size grows from 100 to 200 and 400 and so on.
+      Mockito.verify(backend)
+          .hardDeleteLegacyData(eq(Entity.EntityType.TABLE), anyLong(), eq(100));
+      Mockito.verify(backend)
+          .hardDeleteLegacyData(eq(Entity.EntityType.TABLE), anyLong(), eq(200));
+      Mockito.verify(backend)
+          .hardDeleteLegacyData(eq(Entity.EntityType.TABLE), anyLong(), eq(400));
+      Assertions.assertEquals(
+          0,
+          garbageCollector
+              .metricsSource
+              .getMetricRegistry()
+              .getGauges()
+              .get(MetricNames.GARBAGE_COLLECTOR_PENDING_ENTITY_TYPE_NUM)
+              .getValue());
+    }
+  }
+
+  @Test
+  public void testTriggerAndInspectRun() throws Exception {
+    Config config = Mockito.mock(Config.class);
+    Mockito.when(config.get(STORE_DELETE_AFTER_TIME)).thenReturn(20 * 60 * 1000L);
+    Mockito.when(config.get(VERSION_RETENTION_COUNT)).thenReturn(1L);
+    Mockito.when(config.get(ENTITY_RELATIONAL_GC_PARALLELISM)).thenReturn(4);
+    Mockito.when(config.get(ENTITY_RELATIONAL_GC_MAX_BATCH_SIZE)).thenReturn(1000);
+    Mockito.when(config.get(ENTITY_RELATIONAL_GC_TARGET_BATCH_LATENCY_MS)).thenReturn(60_000L);
+    Mockito.when(config.get(ENTITY_RELATIONAL_GC_MAX_DELETES_PER_SECOND)).thenReturn(0);
+
+    AtomicInteger legacyTables = new AtomicInteger(300);
+    CountDownLatch firstBatchDeleted = new CountDownLatch(1);
+    CountDownLatch resume = new CountDownLatch(1);
+    RelationalBackend backend = Mockito.mock(RelationalBackend.class);
+    Mockito.when(backend.countLegacyData(eq(Entity.EntityType.TABLE), anyLong()))
+        .thenAnswer(invocation -> (long) legacyTables.get());
+    Mockito.when(backend.hardDeleteLegacyData(eq(Entity.EntityType.TABLE), anyLong(), anyInt()))
+        .thenAnswer(
+            invocation -> {
+              int deleted = takeAtMost(legacyTables, invocation.getArgument(2));
+              if (firstBatchDeleted.getCount() > 0) {
+                firstBatchDeleted.countDown();
+                resume.await();
+              }
+              return deleted;
+            });
+
+    try (RelationalGarbageCollector garbageCollector =
+        new RelationalGarbageCollector(backend, config)) {
+      Assertions.assertFalse(garbageCollector.isRunning());
+      Assertions.assertTrue(garbageCollector.trigger());
+      Assertions.assertTrue(firstBatchDeleted.await(10, TimeUnit.SECONDS));
+
+      // Only one run is in progress at a time.
+      Assertions.assertTrue(garbageCollector.isRunning());
+      Assertions.assertFalse(garbageCollector.trigger());
+      Assertions.assertTrue(garbageCollector.lastRunStartTime() > 0);
+      // The first batch of 100 rows is not accounted yet.
+      Assertions.assertEquals(300, garbageCollector.pendingRowNum());
+
+      resume.countDown();
+      long deadline = System.currentTimeMillis() + 10_000;
+      while (garbageCollector.isRunning() && System.currentTimeMillis() < deadline) {
+        Thread.sleep(10);
+      }
+
+      Assertions.assertFalse(garbageCollector.isRunning());
+      Assertions.assertEquals(0, garbageCollector.pendingRowNum());
+      Assertions.assertEquals(300, garbageCollector.lastRunDeletedRowNum());
+      Assertions.assertTrue(
+          garbageCollector.lastRunEndTime() >= garbageCollector.lastRunStartTime());
+      Assertions.assertEquals(
+          0L,
+          garbageCollector
+              .metricsSource
+              .getMetricRegistry()
+              .getGauges()
+              .get(MetricNames.GARBAGE_COLLECTOR_PENDING_ROW_NUM)
+              .getValue());
+    }
+  }
+
+  private static int takeAtMost(AtomicInteger remaining, int limit) {
+    int taken = Math.min(remaining.get(), limit);
+    remaining.addAndGet(-taken);
+    return taken;
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.service;
+
+import java.io.IOException;
+import java.time.Instant;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.BaseMetalake;
+import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.storage.relational.TestJDBCBackend;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mockito;
+
+public class TestCommonMetaService extends TestJDBCBackend {
+
+  private static final String METALAKE_NAME = "metalake_for_common_meta_test";
+
+  private final AuditInfo auditInfo =
+      AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+
+  @AfterEach
+  public void resetCommonMetaService() {
+    // Tables are truncated directly between tests, so the cached ids must not outlive a test.
+    CommonMetaService.getInstance().close();
+    initializeCommonMetaService(false, false);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  public void testGetParentEntityIdByNamespace(boolean joinedIdQueryEnabled) throws IOException {
+    initializeCommonMetaService(true, joinedIdQueryEnabled);
+    CommonMetaService service = CommonMetaService.getInstance();
+    BaseMetalake metalake = createAndInsertMetalake(METALAKE_NAME);
+    CatalogEntity catalog = createAndInsertCatalog(METALAKE_NAME, "catalog");
+    SchemaEntity schema = createAndInsertSchema(METALAKE_NAME, "catalog", "schema");
+
+    Assertions.assertEquals(
+        metalake.id(), service.getParentEntityIdByNamespace(Namespace.of(METALAKE_NAME)));
+    Assertions.assertEquals(
+        catalog.id(), service.getParentEntityIdByNamespace(Namespace.of(METALAKE_NAME, "catalog")));
+    Assertions.assertEquals(
+        schema.id(),
+        service.getParentEntityIdByNamespace(Namespace.of(METALAKE_NAME, "catalog", "schema")));
+    Assertions.assertEquals(3, service.idCache().estimatedSize());
+
+    NoSuchEntityException exception =
+        Assertions.assertThrows(
+            NoSuchEntityException.class,
+            () -> service.getParentEntityIdByNamespace(Namespace.of(METALAKE_NAME, "missing")));
+    Assertions.assertTrue(exception.getMessage().contains("missing"));
+    Assertions.assertThrows(
+        NoSuchEntityException.class,
+        () ->
+            service.getParentEntityIdByNamespace(
+                Namespace.of(METALAKE_NAME, "catalog", "missing")));
+    Assertions.assertThrows(
+        NoSuchEntityException.class,
+        () -> service.getParentEntityIdByNamespace(Namespace.of("missing", "catalog")));
+    // Missing entities are not cached.
+    Assertions.assertEquals(3, service.idCache().estimatedSize());
+  }
+
+  @Test
+  public void testRenameAndDeleteInvalidateCachedIds() throws IOException {
+    initializeCommonMetaService(true, true);
+    CommonMetaService service = CommonMetaService.getInstance();
+    createAndInsertMetalake(METALAKE_NAME);
+    CatalogEntity catalog = createAndInsertCatalog(METALAKE_NAME, "catalog");
+    createAndInsertCatalog(METALAKE_NAME, "catalog2");
+    SchemaEntity schema = createAndInsertSchema(METALAKE_NAME, "catalog", "schema");
+
+    Namespace schemaNamespace = Namespace.of(METALAKE_NAME, "catalog", "schema");
+    Namespace catalog2Namespace = Namespace.of(METALAKE_NAME, "catalog2");
+    Assertions.assertEquals(schema.id(), service.getParentEntityIdByNamespace(schemaNamespace));
+    service.getParentEntityIdByNamespace(catalog2Namespace);
+
+    backend.update(
+        NameIdentifier.of(METALAKE_NAME, "catalog"),
+        Entity.EntityType.CATALOG,
+        e -> createCatalog(catalog.id(), Namespace.of(METALAKE_NAME), "renamed", auditInfo));
+    Assertions.assertNull(service.idCache().getIfPresent(schemaNamespace));
+    Assertions.assertNull(service.idCache().getIfPresent(Namespace.of(METALAKE_NAME, "catalog")));
+    Assertions.assertNotNull(service.idCache().getIfPresent(catalog2Namespace));
+    Assertions.assertThrows(
+        NoSuchEntityException.class, () -> service.getParentEntityIdByNamespace(schemaNamespace));
+    Assertions.assertEquals(
+        schema.id(),
+        service.getParentEntityIdByNamespace(Namespace.of(METALAKE_NAME, "renamed", "schema")));
+
+    backend.delete(NameIdentifier.of(METALAKE_NAME, "catalog2"), Entity.EntityType.CATALOG, true);
+    Assertions.assertNull(service.idCache().getIfPresent(catalog2Namespace));
+    Assertions.assertThrows(
+        NoSuchEntityException.class, () -> service.getParentEntityIdByNamespace(catalog2Namespace));
+
+    backend.delete(NameIdentifier.of(METALAKE_NAME), Entity.EntityType.METALAKE, true);
+    Assertions.assertEquals(0, service.idCache().estimatedSize());
+  }
+
+  @Test
+  public void testCacheDisabled() throws IOException {
+    initializeCommonMetaService(false, false);
+    CommonMetaService service = CommonMetaService.getInstance();
+    BaseMetalake metalake = createAndInsertMetalake(METALAKE_NAME);
+
+    Assertions.assertNull(service.idCache());
+    Assertions.assertEquals(
+        metalake.id(), service.getParentEntityIdByNamespace(Namespace.of(METALAKE_NAME)));
+  }
+
+  private void initializeCommonMetaService(boolean idCacheEnabled, boolean joinedIdQueryEnabled) {
+    Config config = Mockito.mock(Config.class);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_ID_CACHE_ENABLED)).thenReturn(idCacheEnabled);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_ID_CACHE_MAX_SIZE)).thenReturn(100L);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_ID_CACHE_EXPIRATION_MS))
+        .thenReturn(60_000L);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_JOINED_ID_QUERY_ENABLED))
+        .thenReturn(joinedIdQueryEnabled);
+    CommonMetaService.getInstance().initialize(config);
+  }
+
+  private BaseMetalake createAndInsertMetalake(String name) throws IOException {
+    BaseMetalake metalake =
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), name, auditInfo);
+    backend.insert(metalake, false);
+    return metalake;
+  }
+
+  private CatalogEntity createAndInsertCatalog(String metalakeName, String name)
+      throws IOException {
+    CatalogEntity catalog =
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(), Namespace.of(metalakeName), name, auditInfo);
+    backend.insert(catalog, false);
+    return catalog;
+  }
+
+  private SchemaEntity createAndInsertSchema(String metalakeName, String catalogName, String name)
+      throws IOException {
+    SchemaEntity schema =
+        createSchemaEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            Namespace.of(metalakeName, catalogName),
+            name,
+            auditInfo);
+    backend.insert(schema, false);
+    return schema;
+  }
+}
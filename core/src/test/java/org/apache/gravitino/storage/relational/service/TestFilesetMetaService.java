@@ -32,6 +32,7 @@ import java.time.Instant;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -115,6 +116,27 @@ public class TestFilesetMetaService {
         .thenReturn("com.mysql.cj.jdbc.Driver");
     Mockito.when(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER)).thenReturn("root");
     Mockito.when(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD)).thenReturn("root");
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_CONNECTION_POOL))
+        .thenReturn(Configs.DEFAULT_RELATIONAL_CONNECTION_POOL);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MAX_WAIT_MS))
+        .thenReturn(1000L);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MAX_TOTAL)).thenReturn(20);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MAX_IDLE)).thenReturn(5);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MIN_IDLE)).thenReturn(0);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_CONNECTION_POOL_EVICTION_INTERVAL_MS))
+        .thenReturn(10 * 60 * 1000L);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_CONNECTION_POOL_TEST_ON_BORROW))
+        .thenReturn(false);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_CONNECTION_POOL_TEST_WHILE_IDLE))
+        .thenReturn(false);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_CONNECTION_POOL_VALIDATION_QUERY))
+        .thenReturn(Optional.empty());
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MIN_EVICTABLE_IDLE_MS))
+        .thenReturn(1000L);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_CONNECTION_POOL_CACHE_STATEMENTS))
+        .thenReturn(false);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MAX_STATEMENTS))
+        .thenReturn(-1);
 
     SqlSessionFactoryHelper.getInstance().init(config);
   }
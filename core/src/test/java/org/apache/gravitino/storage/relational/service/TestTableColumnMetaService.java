@@ -150,6 +150,130 @@ public class TestTableColumnMetaService extends TestJDBCBackend {
     compareTwoColumns(createdTable3.columns(), retrievedTable3.columns());
   }
 
+  @Test
+  public void testListTablesWithColumns() throws IOException {
+    String catalogName = "catalog1";
+    String schemaName = "schema1";
+    createParentEntities(METALAKE_NAME, catalogName, schemaName);
+    Namespace tableNs = Namespace.of(METALAKE_NAME, catalogName, schemaName);
+
+    ColumnEntity column1 =
+        ColumnEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName("column1")
+            .withPosition(0)
+            .withComment("comment1")
+            .withDataType(Types.IntegerType.get())
+            .withNullable(true)
+            .withAutoIncrement(false)
+            .withDefaultValue(Literals.integerLiteral(1))
+            .withAuditInfo(auditInfo)
+            .build();
+    ColumnEntity column2 =
+        ColumnEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName("column2")
+            .withPosition(1)
+            .withComment("comment2")
+            .withDataType(Types.StringType.get())
+            .withNullable(false)
+            .withAutoIncrement(false)
+            .withDefaultValue(Literals.stringLiteral("1"))
+            .withAuditInfo(auditInfo)
+            .build();
+    TableEntity table1 =
+        TableEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName("table1")
+            .withNamespace(tableNs)
+            .withColumns(Lists.newArrayList(column1, column2))
+            .withAuditInfo(auditInfo)
+            .build();
+    TableEntity table2 =
+        createTableEntity(RandomIdGenerator.INSTANCE.nextId(), tableNs, "table2", auditInfo);
+    TableMetaService.getInstance().insertTable(table1, false);
+    TableMetaService.getInstance().insertTable(table2, false);
+
+    // Drop a column of the table, the columns of the old version should not be listed
+    TableEntity updatedTable1 =
+        TableEntity.builder()
+            .withId(table1.id())
+            .withName(table1.name())
+            .withNamespace(tableNs)
+            .withColumns(Lists.newArrayList(column1))
+            .withAuditInfo(auditInfo)
+            .build();
+    TableMetaService.getInstance().updateTable(table1.nameIdentifier(), old -> updatedTable1);
+
+    Map<String, TableEntity> tables =
+        TableMetaService.getInstance().listTablesByNamespace(tableNs, true).stream()
+            .collect(Collectors.toMap(TableEntity::name, Function.identity()));
+    Assertions.assertEquals(2, tables.size());
+    compareTwoColumns(updatedTable1.columns(), tables.get("table1").columns());
+    Assertions.assertTrue(tables.get("table2").columns().isEmpty());
+
+    // The columns are not fetched if not all the fields are required
+    TableMetaService.getInstance()
+        .listTablesByNamespace(tableNs, false)
+        .forEach(table -> Assertions.assertTrue(table.columns().isEmpty()));
+
+    // Only the requested tables are listed, the names that don't exist are skipped
+    List<TableEntity> tablesByNames =
+        TableMetaService.getInstance()
+            .listTablesByNamespaceAndNames(tableNs, Lists.newArrayList("table1", "not_exist"));
+    Assertions.assertEquals(1, tablesByNames.size());
+    Assertions.assertEquals("table1", tablesByNames.get(0).name());
+    compareTwoColumns(updatedTable1.columns(), tablesByNames.get(0).columns());
+    Assertions.assertTrue(
+        TableMetaService.getInstance()
+            .listTablesByNamespaceAndNames(tableNs, Lists.newArrayList("not_exist"))
+            .isEmpty());
+  }
+
+  @Test
+  public void testGetTableWithColumnsLazily() throws IOException {
+    String catalogName = "catalog1";
+    String schemaName = "schema1";
+    createParentEntities(METALAKE_NAME, catalogName, schemaName);
+
+    ColumnEntity column1 =
+        ColumnEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName("column1")
+            .withPosition(0)
+            .withComment("comment1")
+            .withDataType(Types.IntegerType.get())
+            .withNullable(true)
+            .withAutoIncrement(false)
+            .withDefaultValue(Literals.integerLiteral(1))
+            .withAuditInfo(auditInfo)
+            .build();
+    TableEntity table =
+        TableEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName("table1")
+            .withNamespace(Namespace.of(METALAKE_NAME, catalogName, schemaName))
+            .withColumns(Lists.newArrayList(column1))
+            .withAuditInfo(auditInfo)
+            .build();
+    TableMetaService.getInstance().insertTable(table, false);
+
+    // The columns are loaded when they're accessed for the first time
+    TableEntity retrievedTable =
+        TableMetaService.getInstance().getTableByIdentifier(table.nameIdentifier());
+    Assertions.assertEquals(table.id(), retrievedTable.id());
+    Assertions.assertFalse(retrievedTable.columnsMaterialized());
+    compareTwoColumns(table.columns(), retrievedTable.columns());
+    Assertions.assertTrue(retrievedTable.columnsMaterialized());
+
+    // The columns are not fetched if not all the fields are required
+    TableEntity tableWithoutColumns =
+        TableMetaService.getInstance().getTableByIdentifier(table.nameIdentifier(), false);
+    Assertions.assertEquals(table.id(), tableWithoutColumns.id());
+    Assertions.assertEquals(table.auditInfo(), tableWithoutColumns.auditInfo());
+    Assertions.assertTrue(tableWithoutColumns.columns().isEmpty());
+  }
+
   @Test
   public void testUpdateTable() throws IOException {
     String catalogName = "catalog1";
@@ -421,6 +545,80 @@ public class TestTableColumnMetaService extends TestJDBCBackend {
         () -> TableMetaService.getInstance().getTableByIdentifier(retrievedTable.nameIdentifier()));
   }
 
+  @Test
+  public void testInsertAndUpdateWideTable() throws IOException {
+    String catalogName = "catalog1";
+    String schemaName = "schema1";
+    createParentEntities(METALAKE_NAME, catalogName, schemaName);
+
+    // The columns are more than two batches
+    List<ColumnEntity> columns = Lists.newArrayList();
+    for (int i = 0; i < 2345; i++) {
+      columns.add(
+          ColumnEntity.builder()
+              .withId(RandomIdGenerator.INSTANCE.nextId())
+              .withName("column" + i)
+              .withPosition(i)
+              .withComment("comment" + i)
+              .withDataType(Types.IntegerType.get())
+              .withNullable(true)
+              .withAutoIncrement(false)
+              .withDefaultValue(Literals.integerLiteral(i))
+              .withAuditInfo(auditInfo)
+              .build());
+    }
+    TableEntity table =
+        TableEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName("table1")
+            .withNamespace(Namespace.of(METALAKE_NAME, catalogName, schemaName))
+            .withColumns(columns)
+            .withAuditInfo(auditInfo)
+            .build();
+    TableMetaService.getInstance().insertTable(table, false);
+
+    TableEntity retrievedTable =
+        TableMetaService.getInstance().getTableByIdentifier(table.nameIdentifier());
+    compareTwoColumns(table.columns(), retrievedTable.columns());
+
+    // Only the changed column is written by the update
+    ColumnEntity column = columns.get(1234);
+    ColumnEntity updatedColumn =
+        ColumnEntity.builder()
+            .withId(column.id())
+            .withName(column.name())
+            .withPosition(column.position())
+            .withComment("updated comment")
+            .withDataType(column.dataType())
+            .withNullable(column.nullable())
+            .withAutoIncrement(column.autoIncrement())
+            .withDefaultValue(column.defaultValue())
+            .withAuditInfo(auditInfo)
+            .build();
+    List<ColumnEntity> updatedColumns = Lists.newArrayList(columns);
+    updatedColumns.set(1234, updatedColumn);
+    TableEntity updatedTable =
+        TableEntity.builder()
+            .withId(table.id())
+            .withName(table.name())
+            .withNamespace(table.namespace())
+            .withColumns(updatedColumns)
+            .withAuditInfo(auditInfo)
+            .build();
+    TableMetaService.getInstance().updateTable(table.nameIdentifier(), oldTable -> updatedTable);
+
+    retrievedTable = TableMetaService.getInstance().getTableByIdentifier(table.nameIdentifier());
+    compareTwoColumns(updatedTable.columns(), retrievedTable.columns());
+    Assertions.assertEquals(
+        ColumnPO.ColumnOpType.UPDATE.value(),
+        TableColumnMetaService.getInstance().getColumnPOById(column.id()).getColumnOpType());
+    Assertions.assertEquals(
+        ColumnPO.ColumnOpType.CREATE.value(),
+        TableColumnMetaService.getInstance()
+            .getColumnPOById(columns.get(0).id())
+            .getColumnOpType());
+  }
+
   @Test
   public void testGetColumnIdAndPO() throws IOException {
     String catalogName = "catalog1";
@@ -19,6 +19,7 @@
 package org.apache.gravitino.storage.relational.service;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.List;
@@ -151,6 +152,17 @@ public class TestTagMetaService extends TestJDBCBackend {
     Assertions.assertEquals(2, tagEntities.size());
     Assertions.assertTrue(tagEntities.contains(tagEntity1));
     Assertions.assertTrue(tagEntities.contains(tagEntity2));
+
+    // List the tags page by page
+    List<TagEntity> page1 =
+        tagMetaService.listTagsByNamespace(TagManager.ofTagNamespace(metalakeName), null, 1);
+    Assertions.assertEquals(Lists.newArrayList(tagEntity1), page1);
+    List<TagEntity> page2 =
+        tagMetaService.listTagsByNamespace(TagManager.ofTagNamespace(metalakeName), "tag1", 2);
+    Assertions.assertEquals(Lists.newArrayList(tagEntity2), page2);
+    List<TagEntity> page3 =
+        tagMetaService.listTagsByNamespace(TagManager.ofTagNamespace(metalakeName), "tag2", 1);
+    Assertions.assertTrue(page3.isEmpty());
   }
 
   @Test
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.session;
+
+import static org.apache.gravitino.Configs.DEFAULT_RELATIONAL_CONNECTION_POOL;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_CACHE_STATEMENTS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_EVICTION_INTERVAL_MS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MAX_IDLE;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MAX_STATEMENTS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MAX_TOTAL;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MAX_WAIT_MS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MIN_EVICTABLE_IDLE_MS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_MIN_IDLE;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_TEST_ON_BORROW;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_TEST_WHILE_IDLE;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CONNECTION_POOL_VALIDATION_QUERY;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER;
+
+import com.codahale.metrics.Timer;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.apache.gravitino.Config;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestDBCPConnectionPool {
+
+  private DBCPConnectionPool connectionPool;
+
+  @BeforeEach
+  public void setUp() {
+    Config config = Mockito.mock(Config.class);
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_URL))
+        .thenReturn(
+            String.format(
+                "jdbc:h2:mem:%s;DB_CLOSE_DELAY=-1;MODE=MYSQL", UUID.randomUUID().toString()));
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_USER)).thenReturn("root");
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD)).thenReturn("123");
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER)).thenReturn("org.h2.Driver");
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL))
+        .thenReturn(DEFAULT_RELATIONAL_CONNECTION_POOL);
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_MIN_IDLE)).thenReturn(0);
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_EVICTION_INTERVAL_MS))
+        .thenReturn(10 * 60 * 1000L);
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_TEST_ON_BORROW)).thenReturn(false);
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_TEST_WHILE_IDLE)).thenReturn(false);
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_MIN_EVICTABLE_IDLE_MS))
+        .thenReturn(1000L);
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_MAX_STATEMENTS)).thenReturn(-1);
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_MAX_TOTAL)).thenReturn(2);
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_MAX_IDLE)).thenReturn(2);
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_MAX_WAIT_MS)).thenReturn(100L);
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_CACHE_STATEMENTS)).thenReturn(true);
+    Mockito.when(config.get(ENTITY_RELATIONAL_CONNECTION_POOL_VALIDATION_QUERY))
+        .thenReturn(Optional.of("SELECT 1"));
+
+    connectionPool = new DBCPConnectionPool();
+    connectionPool.initialize(config);
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    connectionPool.close();
+  }
+
+  @Test
+  public void testInitialize() throws SQLException {
+    BasicDataSource dataSource = connectionPool.dataSource().unwrap(BasicDataSource.class);
+    Assertions.assertEquals(2, dataSource.getMaxTotal());
+    Assertions.assertEquals(2, dataSource.getMaxIdle());
+    // The unmocked configs fall back to their default values.
+    Assertions.assertEquals(0, dataSource.getMinIdle());
+    Assertions.assertEquals(Duration.ofMillis(100L), dataSource.getMaxWaitDuration());
+    Assertions.assertTrue(dataSource.isPoolPreparedStatements());
+    Assertions.assertEquals("SELECT 1", dataSource.getValidationQuery());
+    Assertions.assertFalse(dataSource.getDefaultAutoCommit());
+  }
+
+  @Test
+  public void testPoolState() throws SQLException {
+    Timer timer = new Timer();
+    TimedDataSource dataSource = new TimedDataSource(connectionPool.dataSource(), timer);
+
+    try (Connection connection = dataSource.getConnection()) {
+      Assertions.assertNotNull(connection);
+      Assertions.assertEquals(1, connectionPool.numActive());
+      Assertions.assertEquals(0, connectionPool.numWaiters());
+    }
+    Assertions.assertEquals(0, connectionPool.numActive());
+    Assertions.assertEquals(1, connectionPool.numIdle());
+    Assertions.assertEquals(1, timer.getCount());
+
+    // All the connections are borrowed, the next borrowing times out after the max wait time.
+    try (Connection ignored1 = dataSource.getConnection();
+        Connection ignored2 = dataSource.getConnection()) {
+      Assertions.assertEquals(2, connectionPool.numActive());
+      Assertions.assertThrows(SQLException.class, dataSource::getConnection);
+    }
+    Assertions.assertEquals(4, timer.getCount());
+  }
+}
@@ -20,7 +20,9 @@
 package org.apache.gravitino.storage.relational.utils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.collect.ImmutableMap;
@@ -552,6 +554,38 @@ public class TestPOConverters {
     }
   }
 
+  @Test
+  public void testBinaryFieldEncoding() throws JsonProcessingException {
+    BaseMetalake metalake = createMetalake(1L, "test", "this is test");
+    MetalakePO jsonPO = POConverters.initializeMetalakePOWithVersion(metalake);
+
+    EntityFieldCodec.setEncoding(EntityFieldCodec.Encoding.BINARY);
+    try {
+      MetalakePO binaryPO = POConverters.initializeMetalakePOWithVersion(metalake);
+      assertTrue(binaryPO.getProperties().startsWith(EntityFieldCodec.BINARY_PREFIX));
+      assertTrue(binaryPO.getAuditInfo().startsWith(EntityFieldCodec.BINARY_PREFIX));
+      assertTrue(binaryPO.getSchemaVersion().startsWith(EntityFieldCodec.BINARY_PREFIX));
+      assertTrue(binaryPO.getAuditInfo().length() < jsonPO.getAuditInfo().length());
+
+      // The fields in both encodings are readable whichever encoding is used to write.
+      for (MetalakePO metalakePO : Arrays.asList(jsonPO, binaryPO)) {
+        BaseMetalake convertedMetalake = POConverters.fromMetalakePO(metalakePO);
+        assertEquals(metalake.properties(), convertedMetalake.properties());
+        assertEquals(metalake.auditInfo(), convertedMetalake.auditInfo());
+        assertEquals(metalake.getVersion(), convertedMetalake.getVersion());
+      }
+
+      // The properties with null values can't be encoded in binary, they're kept in JSON.
+      Map<String, String> properties = new HashMap<>();
+      properties.put("key", null);
+      String encodedProperties = EntityFieldCodec.writeProperties(properties);
+      assertFalse(encodedProperties.startsWith(EntityFieldCodec.BINARY_PREFIX));
+      assertEquals(properties, EntityFieldCodec.readProperties(encodedProperties));
+    } finally {
+      EntityFieldCodec.setEncoding(EntityFieldCodec.Encoding.JSON);
+    }
+  }
+
   @Test
   public void testInitMetalakePOVersion() {
     BaseMetalake metalake = createMetalake(1L, "test", "this is test");
@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.tracing;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestTracer {
+
+  interface Operations {
+    String load(String name);
+  }
+
+  private InMemorySpanExporter exporter;
+
+  @BeforeEach
+  public void setUp() {
+    exporter = new InMemorySpanExporter();
+    Tracer.setUp(1.0, exporter);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    Tracer.close();
+  }
+
+  @Test
+  public void testChildSpans() {
+    try (Span root = Tracer.startSpan("root")) {
+      Assertions.assertTrue(root.isRecording());
+      Assertions.assertSame(root, Tracer.currentSpan());
+      try (Span child = Tracer.startSpan("child")) {
+        child.setAttribute("key", 1);
+        Assertions.assertSame(child, Tracer.currentSpan());
+      }
+      Assertions.assertSame(root, Tracer.currentSpan());
+    }
+    Assertions.assertFalse(Tracer.currentSpan().isRecording());
+
+    List<Span> spans = exporter.finishedSpans();
+    Assertions.assertEquals(2, spans.size());
+    Span child = spans.get(0);
+    Span root = spans.get(1);
+    Assertions.assertEquals("child", child.name());
+    Assertions.assertEquals(root.traceId(), child.traceId());
+    Assertions.assertEquals(root.spanId(), child.parentSpanId());
+    Assertions.assertNull(root.parentSpanId());
+    Assertions.assertEquals(32, root.traceId().length());
+    Assertions.assertEquals("1", child.attributes().get("key"));
+    Assertions.assertTrue(root.durationNanos() >= child.durationNanos());
+  }
+
+  @Test
+  public void testNotSampled() {
+    Tracer.setUp(0, exporter);
+    Assertions.assertFalse(Tracer.isEnabled());
+
+    try (Span span = Tracer.startSpan("root")) {
+      Assertions.assertFalse(span.isRecording());
+      span.setAttribute("key", "value");
+      Assertions.assertTrue(span.attributes().isEmpty());
+    }
+    Assertions.assertTrue(exporter.finishedSpans().isEmpty());
+
+    Operations ops = name -> name;
+    Assertions.assertSame(ops, Tracer.traced(Operations.class, ops));
+  }
+
+  @Test
+  public void testNestedSpansFollowRootSampling() {
+    Tracer.setUp(0.5, exporter);
+
+    for (int i = 0; i < 1000; i++) {
+      try (Span root = Tracer.startSpan("root")) {
+        try (Span child = Tracer.startSpan("child")) {
+          Assertions.assertEquals(root.isRecording(), child.isRecording());
+        }
+        Assertions.assertSame(root, Tracer.currentSpan());
+      }
+      Assertions.assertFalse(Tracer.currentSpan().isRecording());
+    }
+
+    // A child span is exported only with its root span, never alone.
+    List<Span> spans = exporter.finishedSpans();
+    Set<String> rootSpanIds =
+        spans.stream()
+            .filter(span -> span.name().equals("root"))
+            .map(Span::spanId)
+            .collect(Collectors.toSet());
+    List<Span> childSpans =
+        spans.stream().filter(span -> span.name().equals("child")).collect(Collectors.toList());
+    Assertions.assertFalse(rootSpanIds.isEmpty());
+    Assertions.assertEquals(rootSpanIds.size(), childSpans.size());
+    childSpans.forEach(child -> Assertions.assertTrue(rootSpanIds.contains(child.parentSpanId())));
+  }
+
+  @Test
+  public void testTracedProxy() {
+    Operations ops =
+        name -> {
+          if (name.isEmpty()) {
+            throw new NoSuchEntityException("Entity %s does not exist", name);
+          }
+          return name;
+        };
+    Operations traced = Tracer.traced(Operations.class, ops);
+
+    try (Span ignored = Tracer.startSpan("root")) {
+      Assertions.assertEquals("table", traced.load("table"));
+      Assertions.assertThrows(NoSuchEntityException.class, () -> traced.load(""));
+    }
+
+    List<Span> spans = exporter.finishedSpans();
+    Assertions.assertEquals(3, spans.size());
+    Assertions.assertTrue(spans.get(0).name().endsWith(".load"));
+    Assertions.assertFalse(spans.get(0).isError());
+    Assertions.assertTrue(spans.get(1).isError());
+    Assertions.assertEquals(
+        NoSuchEntityException.class.getName(), spans.get(1).attributes().get("exception.type"));
+    Assertions.assertEquals(spans.get(2).spanId(), spans.get(1).parentSpanId());
+  }
+
+  @Test
+  public void testWrapTask() throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try (Span root = Tracer.startSpan("root")) {
+      Callable<String> task =
+          () -> {
+            try (Span span = Tracer.startSpan("task")) {
+              span.setAttribute("identifier", NameIdentifier.of("metalake", "catalog"));
+              return span.parentSpanId();
+            }
+          };
+      Assertions.assertEquals(root.spanId(), executor.submit(Tracer.wrap(task)).get());
+      Assertions.assertNull(executor.submit(task).get());
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // The span of the unwrapped task is the root of another trace.
+    Assertions.assertEquals(3, exporter.finishedSpans().size());
+  }
+
+  @Test
+  public void testSpanToJson() {
+    try (Span span = Tracer.startSpan("root")) {
+      span.setAttribute("http.status_code", 200);
+    }
+
+    Span span = exporter.finishedSpans().get(0);
+    Map<String, Object> json = FileSpanExporter.toJson(span);
+    Assertions.assertEquals("root", json.get("name"));
+    Assertions.assertEquals("OK", json.get("status"));
+    Assertions.assertEquals(
+        span.startEpochNanos() + span.durationNanos(), json.get("endTimeUnixNano"));
+    Assertions.assertEquals(ImmutableMap.of("http.status_code", "200"), json.get("attributes"));
+  }
+}
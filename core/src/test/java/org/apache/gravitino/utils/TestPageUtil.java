@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.utils;
+
+import com.google.common.collect.Lists;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestPageUtil {
+
+  @Test
+  public void testPage() {
+    List<String> names = Lists.newArrayList("d", "b", "e", "a", "c");
+
+    Assertions.assertEquals(
+        Lists.newArrayList("a", "b"), PageUtil.page(names, Function.identity(), null, 2));
+    Assertions.assertEquals(
+        Lists.newArrayList("c", "d"), PageUtil.page(names, Function.identity(), "b", 2));
+    Assertions.assertEquals(
+        Lists.newArrayList("e"), PageUtil.page(names, Function.identity(), "d", 2));
+    Assertions.assertEquals(
+        Collections.emptyList(), PageUtil.page(names, Function.identity(), "e", 2));
+
+    // The page is resumed after the name even if it doesn't exist anymore
+    Assertions.assertEquals(
+        Lists.newArrayList("c", "d", "e"),
+        PageUtil.page(names, Function.identity(), "bb", Integer.MAX_VALUE));
+  }
+
+  @Test
+  public void testIllegalLimit() {
+    List<String> names = Lists.newArrayList("a");
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> PageUtil.page(names, Function.identity(), null, 0));
+  }
+}
@@ -23,6 +23,7 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.util.List;
 import org.apache.commons.compress.utils.Lists;
+import org.apache.hadoop.security.UserGroupInformation;
 import org.apache.iceberg.hive.HiveCatalog;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,6 +38,9 @@ public class ClosableHiveCatalog extends HiveCatalog implements Closeable {
 
   private final List<Closeable> resources = Lists.newArrayList();
 
+  // The Kerberos user of the catalog, it's null if the catalog uses the simple authentication.
+  private UserGroupInformation kerberosUser;
+
   public ClosableHiveCatalog() {
     super();
   }
@@ -45,6 +49,14 @@ public class ClosableHiveCatalog extends HiveCatalog implements Closeable {
     resources.add(resource);
   }
 
+  public UserGroupInformation getKerberosUser() {
+    return kerberosUser;
+  }
+
+  public void setKerberosUser(UserGroupInformation kerberosUser) {
+    this.kerberosUser = kerberosUser;
+  }
+
   @Override
   public void close() throws IOException {
     // Do clean up work here. We need a mechanism to close the HiveCatalog; however, HiveCatalog
@@ -190,6 +190,42 @@ public class IcebergConfig extends Config implements OverwriteDefaultConfig {
           .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
           .createWithDefault(1000);
 
+  public static final ConfigEntry<Integer> ICEBERG_METRICS_BATCH_SIZE =
+      new ConfigBuilder(IcebergConstants.ICEBERG_METRICS_BATCH_SIZE)
+          .doc("The max number of Iceberg metrics written to the metrics store in a batch")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100);
+
+  public static final ConfigEntry<String> ICEBERG_METRICS_STORE_JDBC_URL =
+      new ConfigBuilder(IcebergConstants.ICEBERG_METRICS_STORE_JDBC_URL)
+          .doc("The JDBC URL of the database to save Iceberg metrics for the jdbc metrics store")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .stringConf()
+          .create();
+
+  public static final ConfigEntry<String> ICEBERG_METRICS_STORE_JDBC_USER =
+      new ConfigBuilder(IcebergConstants.ICEBERG_METRICS_STORE_JDBC_USER)
+          .doc("The user of the database to save Iceberg metrics for the jdbc metrics store")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .stringConf()
+          .create();
+
+  public static final ConfigEntry<String> ICEBERG_METRICS_STORE_JDBC_PASSWORD =
+      new ConfigBuilder(IcebergConstants.ICEBERG_METRICS_STORE_JDBC_PASSWORD)
+          .doc("The password of the database to save Iceberg metrics for the jdbc metrics store")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .stringConf()
+          .create();
+
+  public static final ConfigEntry<String> ICEBERG_METRICS_STORE_JDBC_DRIVER =
+      new ConfigBuilder(IcebergConstants.ICEBERG_METRICS_STORE_JDBC_DRIVER)
+          .doc("The JDBC driver class of the database to save Iceberg metrics")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .stringConf()
+          .create();
+
   public static final ConfigEntry<String> CATALOG_BACKEND_NAME =
       new ConfigBuilder(IcebergConstants.CATALOG_BACKEND_NAME)
           .doc("The catalog name for Iceberg catalog backend")
@@ -204,6 +240,67 @@ public class IcebergConfig extends Config implements OverwriteDefaultConfig {
           .longConf()
           .createWithDefault(3600000L);
 
+  public static final ConfigEntry<Long> ICEBERG_REST_CATALOG_CACHE_REFRESH_INTERVAL =
+      new ConfigBuilder(IcebergConstants.ICEBERG_REST_CATALOG_CACHE_REFRESH_INTERVAL)
+          .doc(
+              "The interval to check the configuration of a cached catalog in the background, the "
+                  + "catalog is recreated only if its configuration is changed")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(300000L);
+
+  public static final ConfigEntry<Boolean> ICEBERG_REST_CATALOG_CACHE_WARM_UP_ENABLED =
+      new ConfigBuilder(IcebergConstants.ICEBERG_REST_CATALOG_CACHE_WARM_UP_ENABLED)
+          .doc("Whether to create the catalogs provided by the catalog config provider at startup")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Long> CREDENTIAL_CACHE_MAX_SIZE =
+      new ConfigBuilder(IcebergConstants.CREDENTIAL_CACHE_MAX_SIZE)
+          .doc("The max number of the cached credentials vended to clients, 0 disables the cache")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(10000L);
+
+  public static final ConfigEntry<Long> CREDENTIAL_CACHE_REFRESH_MARGIN_MS =
+      new ConfigBuilder(IcebergConstants.CREDENTIAL_CACHE_REFRESH_MARGIN_MS)
+          .doc(
+              "The time before the expiration of a cached credential in milliseconds, within "
+                  + "which the credential is not vended anymore, the credential is refreshed in "
+                  + "the background within twice the time before its expiration")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(300000L);
+
+  public static final ConfigEntry<Boolean> TABLE_METADATA_CACHE_ENABLED =
+      new ConfigBuilder(IcebergConstants.TABLE_METADATA_CACHE_ENABLED)
+          .doc(
+              "Whether to cache the metadata of the loaded tables, a cached table is validated "
+                  + "against the current metadata location of the table before it's returned")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Long> TABLE_METADATA_CACHE_MAX_SIZE =
+      new ConfigBuilder(IcebergConstants.TABLE_METADATA_CACHE_MAX_SIZE)
+          .doc("The maximum number of tables whose metadata is cached")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000L);
+
+  public static final ConfigEntry<Long> TABLE_METADATA_CACHE_EXPIRE_MS =
+      new ConfigBuilder(IcebergConstants.TABLE_METADATA_CACHE_EXPIRE_MS)
+          .doc("The time in milliseconds after which the metadata of a table not loaded expires")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(3600000L);
+
   public static final ConfigEntry<String> ICEBERG_REST_CATALOG_CONFIG_PROVIDER =
       new ConfigBuilder(IcebergConstants.ICEBERG_REST_CATALOG_CONFIG_PROVIDER)
           .doc(
@@ -19,14 +19,17 @@
 
 package org.apache.gravitino.iceberg.common.authentication.kerberos;
 
-import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.security.Principal;
 import java.security.PrivilegedExceptionAction;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
 import net.sf.cglib.proxy.Enhancer;
 import net.sf.cglib.proxy.MethodInterceptor;
 import net.sf.cglib.proxy.MethodProxy;
+import org.apache.gravitino.iceberg.common.ClosableHiveCatalog;
 import org.apache.gravitino.iceberg.common.utils.IcebergHiveCachedClientPool;
 import org.apache.gravitino.utils.PrincipalUtils;
 import org.apache.hadoop.hive.metastore.IMetaStoreClient;
@@ -43,6 +46,10 @@ import org.apache.thrift.TException;
  */
 public class HiveBackendProxy implements MethodInterceptor {
 
+  // The principal of the request. The catalog operations run as the Kerberos user of the catalog,
+  // whose subject replaces the one of the request, so the principal is kept here before that.
+  private static final ThreadLocal<Principal> REQUEST_PRINCIPAL = new ThreadLocal<>();
+
   private final HiveCatalog target;
   private final String kerberosRealm;
   private final UserGroupInformation proxyUser;
@@ -50,21 +57,21 @@ public class HiveBackendProxy implements MethodInterceptor {
   private final ClientPool<IMetaStoreClient, TException> newClientPool;
 
   public HiveBackendProxy(
-      Map<String, String> properties, HiveCatalog target, String kerberosRealm) {
+      Map<String, String> properties,
+      HiveCatalog target,
+      String kerberosRealm,
+      UserGroupInformation proxyUser) {
     this.target = target;
     this.properties = properties;
     this.kerberosRealm = kerberosRealm;
+    this.proxyUser = proxyUser;
     try {
-      proxyUser = UserGroupInformation.getCurrentUser();
-
       // Replace the original client pool with IcebergHiveCachedClientPool. Why do we need to do
       // this? Because the original client pool in Iceberg uses a fixed username to create the
       // client pool, and it will not work with kerberos authentication. We need to create a new
       // client pool with the current user. For more, please see CachedClientPool#clientPool and
       // notice the value of `key`
       this.newClientPool = resetIcebergHiveClientPool();
-    } catch (IOException e) {
-      throw new RuntimeException("Failed to get current user", e);
     } catch (IllegalAccessException | NoSuchFieldException e) {
       throw new RuntimeException("Failed to reset IcebergHiveClientPool", e);
     }
@@ -73,8 +80,16 @@ public class HiveBackendProxy implements MethodInterceptor {
   @Override
   public Object intercept(Object o, Method method, Object[] objects, MethodProxy methodProxy)
       throws Throwable {
+    // The methods of ClosableHiveCatalog only manage the local resources of the catalog.
+    if (method.getDeclaringClass() == ClosableHiveCatalog.class) {
+      return methodProxy.invoke(target, objects);
+    }
 
-    String proxyKerberosPrincipalName = PrincipalUtils.getCurrentPrincipal().getName();
+    String requestUserName =
+        Optional.ofNullable(REQUEST_PRINCIPAL.get())
+            .orElseGet(PrincipalUtils::getCurrentPrincipal)
+            .getName();
+    String proxyKerberosPrincipalName = requestUserName;
     if (!proxyKerberosPrincipalName.contains("@")) {
       proxyKerberosPrincipalName =
           String.format("%s@%s", proxyKerberosPrincipalName, kerberosRealm);
@@ -84,10 +99,13 @@ public class HiveBackendProxy implements MethodInterceptor {
         UserGroupInformation.createProxyUser(proxyKerberosPrincipalName, proxyUser);
 
     String token =
-        newClientPool.run(
-            client ->
-                client.getDelegationToken(
-                    PrincipalUtils.getCurrentPrincipal().getName(), proxyUser.getShortUserName()));
+        proxyUser.doAs(
+            (PrivilegedExceptionAction<String>)
+                () ->
+                    newClientPool.run(
+                        client ->
+                            client.getDelegationToken(
+                                requestUserName, proxyUser.getShortUserName())));
 
     Token<DelegationTokenIdentifier> delegationToken = new Token<>();
     delegationToken.decodeFromUrlString(token);
@@ -107,6 +125,27 @@ public class HiveBackendProxy implements MethodInterceptor {
             });
   }
 
+  /**
+   * Runs the action with the principal of the current request, which is used to impersonate the
+   * request user even if the action runs as another user.
+   *
+   * @param action The action to run.
+   * @param <T> The type of the result.
+   * @return The result of the action.
+   */
+  public static <T> T withRequestPrincipal(Supplier<T> action) {
+    if (REQUEST_PRINCIPAL.get() != null) {
+      return action.get();
+    }
+
+    REQUEST_PRINCIPAL.set(PrincipalUtils.getCurrentPrincipal());
+    try {
+      return action.get();
+    } finally {
+      REQUEST_PRINCIPAL.remove();
+    }
+  }
+
   private ClientPool<IMetaStoreClient, TException> resetIcebergHiveClientPool()
       throws IllegalAccessException, NoSuchFieldException {
     final Field m = HiveCatalog.class.getDeclaredField("clients");
@@ -41,6 +41,7 @@ public class KerberosClient implements Closeable {
   private final Map<String, String> conf;
   private final Configuration hadoopConf;
   private String realm;
+  private UserGroupInformation loginUser;
 
   public KerberosClient(Map<String, String> conf, Configuration hadoopConf) {
     this.conf = conf;
@@ -58,6 +59,10 @@ public class KerberosClient implements Closeable {
     return realm;
   }
 
+  public UserGroupInformation getLoginUser() {
+    return loginUser;
+  }
+
   public void login(String keytabFilePath) throws IOException {
     KerberosConfig kerberosConfig = new KerberosConfig(conf);
 
@@ -70,10 +75,10 @@ public class KerberosClient implements Closeable {
     Preconditions.checkArgument(
         principalComponents.size() == 2, "The principal has the wrong format");
 
-    // Login
-    UserGroupInformation.setConfiguration(hadoopConf);
-    UserGroupInformation.loginUserFromKeytab(catalogPrincipal, keytabFilePath);
-    UserGroupInformation kerberosLoginUgi = UserGroupInformation.getCurrentUser();
+    // Login, the user is only used by this catalog, the login user of the process isn't changed.
+    enableKerberos(hadoopConf);
+    UserGroupInformation kerberosLoginUgi =
+        UserGroupInformation.loginUserFromKeytabAndReturnUGI(catalogPrincipal, keytabFilePath);
 
     // Refresh the cache if it's out of date.
     int checkInterval = kerberosConfig.getCheckIntervalSec();
@@ -90,6 +95,19 @@ public class KerberosClient implements Closeable {
         TimeUnit.SECONDS);
 
     this.realm = principalComponents.get(1);
+    this.loginUser = kerberosLoginUgi;
+  }
+
+  // UserGroupInformation keeps one authentication method for the whole process, so Kerberos is
+  // enabled only once by the first Kerberos catalog. The login user of the process is initialized
+  // before that, so it's still the simple user and it isn't logged in with Kerberos later.
+  private static void enableKerberos(Configuration hadoopConf) throws IOException {
+    synchronized (UserGroupInformation.class) {
+      if (!UserGroupInformation.isSecurityEnabled()) {
+        UserGroupInformation.getLoginUser();
+        UserGroupInformation.setConfiguration(hadoopConf);
+      }
+    }
   }
 
   public File saveKeyTabFileFromUri(Long catalogId) throws IOException {
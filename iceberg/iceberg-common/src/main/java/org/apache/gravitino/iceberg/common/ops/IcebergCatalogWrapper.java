@@ -18,25 +18,37 @@
  */
 package org.apache.gravitino.iceberg.common.ops;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.security.PrivilegedExceptionAction;
 import java.sql.Driver;
 import java.sql.DriverManager;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergConstants;
+import org.apache.gravitino.iceberg.common.ClosableHiveCatalog;
 import org.apache.gravitino.iceberg.common.IcebergCatalogBackend;
 import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.apache.gravitino.iceberg.common.authentication.kerberos.HiveBackendProxy;
 import org.apache.gravitino.iceberg.common.utils.IcebergCatalogUtil;
 import org.apache.gravitino.utils.IsolatedClassLoader;
 import org.apache.gravitino.utils.MapUtils;
-import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.security.UserGroupInformation;
+import org.apache.iceberg.BaseTable;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.TableOperations;
 import org.apache.iceberg.Transaction;
 import org.apache.iceberg.catalog.Catalog;
 import org.apache.iceberg.catalog.Namespace;
@@ -70,7 +82,14 @@ public class IcebergCatalogWrapper implements AutoCloseable {
   private final IcebergCatalogBackend catalogBackend;
   private String catalogUri = null;
   private Map<String, String> catalogConfigToClients;
-  private Map<String, String> catalogPropertiesMap;
+  // The user to run the catalog operations as, it's the Kerberos user of the catalog if it uses the
+  // Kerberos authentication, otherwise the simple user of the process.
+  private final UserGroupInformation catalogUser;
+
+  // The tables loaded from the catalog backend, it's null if the cache is disabled. A cached table
+  // is refreshed by its table operations before it's returned, which only checks the current
+  // metadata location of the table, and reads the metadata file again only if it's changed.
+  private final Cache<TableIdentifier, CachedTable> tableCache;
   private static final Set<String> catalogPropertiesToClientKeys =
       ImmutableSet.of(
           IcebergConstants.IO_IMPL,
@@ -98,7 +117,67 @@ public class IcebergCatalogWrapper implements AutoCloseable {
             icebergConfig.getIcebergCatalogProperties(),
             key -> catalogPropertiesToClientKeys.contains(key));
 
-    this.catalogPropertiesMap = icebergConfig.getIcebergCatalogProperties();
+    this.catalogUser = createCatalogUser(catalog);
+
+    if (icebergConfig.get(IcebergConfig.TABLE_METADATA_CACHE_ENABLED)) {
+      this.tableCache =
+          Caffeine.newBuilder()
+              .maximumSize(icebergConfig.get(IcebergConfig.TABLE_METADATA_CACHE_MAX_SIZE))
+              .expireAfterAccess(
+                  icebergConfig.get(IcebergConfig.TABLE_METADATA_CACHE_EXPIRE_MS),
+                  TimeUnit.MILLISECONDS)
+              .build();
+    } else {
+      this.tableCache = null;
+    }
+  }
+
+  private static UserGroupInformation createCatalogUser(Catalog catalog) {
+    if (catalog instanceof ClosableHiveCatalog) {
+      UserGroupInformation kerberosUser = ((ClosableHiveCatalog) catalog).getKerberosUser();
+      if (kerberosUser != null) {
+        return kerberosUser;
+      }
+    }
+
+    // The user is created once for the catalog, as the Hadoop file systems are cached by the user.
+    try {
+      return UserGroupInformation.createRemoteUser(
+          UserGroupInformation.getLoginUser().getShortUserName());
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to get the login user", e);
+    }
+  }
+
+  /**
+   * Runs the action as the user of the catalog. The authentication of each catalog is scoped to
+   * its own user, so the catalogs with different authentication methods don't share the global
+   * UserGroupInformation state.
+   *
+   * @param action The action to run.
+   * @param <T> The type of the result.
+   * @return The result of the action.
+   */
+  public <T> T doAs(Supplier<T> action) {
+    return HiveBackendProxy.withRequestPrincipal(
+        () -> {
+          try {
+            return catalogUser.doAs((PrivilegedExceptionAction<T>) action::get);
+          } catch (IOException e) {
+            throw new RuntimeException("Failed to run the catalog operation", e);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while running the catalog operation", e);
+          }
+        });
+  }
+
+  private void runAs(Runnable action) {
+    doAs(
+        () -> {
+          action.run();
+          return null;
+        });
   }
 
   private void validateNamespace(Optional<Namespace> namespace) {
@@ -121,129 +200,181 @@ public class IcebergCatalogWrapper implements AutoCloseable {
 
   public CreateNamespaceResponse createNamespace(CreateNamespaceRequest request) {
     validateNamespace(Optional.of(request.namespace()));
-    return CatalogHandlers.createNamespace(asNamespaceCatalog, request);
+    return doAs(() -> CatalogHandlers.createNamespace(asNamespaceCatalog, request));
   }
 
   public void dropNamespace(Namespace namespace) {
     validateNamespace(Optional.of(namespace));
-    CatalogHandlers.dropNamespace(asNamespaceCatalog, namespace);
+    runAs(() -> CatalogHandlers.dropNamespace(asNamespaceCatalog, namespace));
   }
 
   public GetNamespaceResponse loadNamespace(Namespace namespace) {
     validateNamespace(Optional.of(namespace));
-    return CatalogHandlers.loadNamespace(asNamespaceCatalog, namespace);
+    return doAs(() -> CatalogHandlers.loadNamespace(asNamespaceCatalog, namespace));
   }
 
   public ListNamespacesResponse listNamespace(Namespace parent) {
     validateNamespace(Optional.empty());
-    return CatalogHandlers.listNamespaces(asNamespaceCatalog, parent);
+    return doAs(() -> CatalogHandlers.listNamespaces(asNamespaceCatalog, parent));
   }
 
   public UpdateNamespacePropertiesResponse updateNamespaceProperties(
       Namespace namespace, UpdateNamespacePropertiesRequest updateNamespacePropertiesRequest) {
     validateNamespace(Optional.of(namespace));
-    return CatalogHandlers.updateNamespaceProperties(
-        asNamespaceCatalog, namespace, updateNamespacePropertiesRequest);
+    return doAs(
+        () ->
+            CatalogHandlers.updateNamespaceProperties(
+                asNamespaceCatalog, namespace, updateNamespacePropertiesRequest));
   }
 
   public LoadTableResponse registerTable(Namespace namespace, RegisterTableRequest request) {
-    return CatalogHandlers.registerTable(catalog, namespace, request);
-  }
-
-  /**
-   * Reload hadoop configuration, this is useful when the hadoop configuration UserGroupInformation
-   * is shared by multiple threads. UserGroupInformation#authenticationMethod was first initialized
-   * in KerberosClient, however, when switching to iceberg-rest thread,
-   * UserGroupInformation#authenticationMethod will be reset to the default value; we need to
-   * reinitialize it again.
-   */
-  public void reloadHadoopConf() {
-    Configuration configuration = new Configuration();
-    this.catalogPropertiesMap.forEach(configuration::set);
-    UserGroupInformation.setConfiguration(configuration);
+    invalidateTable(TableIdentifier.of(namespace, request.name()));
+    return doAs(() -> CatalogHandlers.registerTable(catalog, namespace, request));
   }
 
   public LoadTableResponse createTable(Namespace namespace, CreateTableRequest request) {
     request.validate();
+    invalidateTable(TableIdentifier.of(namespace, request.name()));
     if (request.stageCreate()) {
-      return injectTableConfig(() -> CatalogHandlers.stageTableCreate(catalog, namespace, request));
+      return doAs(
+          () ->
+              injectTableConfig(
+                  () -> CatalogHandlers.stageTableCreate(catalog, namespace, request)));
     }
-    return injectTableConfig(() -> CatalogHandlers.createTable(catalog, namespace, request));
+    return doAs(
+        () -> injectTableConfig(() -> CatalogHandlers.createTable(catalog, namespace, request)));
   }
 
   public void dropTable(TableIdentifier tableIdentifier) {
-    CatalogHandlers.dropTable(catalog, tableIdentifier);
+    try {
+      runAs(() -> CatalogHandlers.dropTable(catalog, tableIdentifier));
+    } finally {
+      invalidateTable(tableIdentifier);
+    }
   }
 
   public void purgeTable(TableIdentifier tableIdentifier) {
-    CatalogHandlers.purgeTable(catalog, tableIdentifier);
+    try {
+      runAs(() -> CatalogHandlers.purgeTable(catalog, tableIdentifier));
+    } finally {
+      invalidateTable(tableIdentifier);
+    }
   }
 
   public LoadTableResponse loadTable(TableIdentifier tableIdentifier) {
-    return injectTableConfig(() -> CatalogHandlers.loadTable(catalog, tableIdentifier));
+    return doAs(() -> loadTableInternal(tableIdentifier));
+  }
+
+  private LoadTableResponse loadTableInternal(TableIdentifier tableIdentifier) {
+    if (tableCache == null) {
+      return injectTableConfig(() -> CatalogHandlers.loadTable(catalog, tableIdentifier));
+    }
+
+    CachedTable cachedTable = tableCache.getIfPresent(tableIdentifier);
+    if (cachedTable != null) {
+      try {
+        return cachedTable.refresh();
+      } catch (RuntimeException e) {
+        // The table may be dropped or renamed by others, load it again to report the right error.
+        tableCache.invalidate(tableIdentifier);
+      }
+    }
+
+    Table table = catalog.loadTable(tableIdentifier);
+    if (!(table instanceof BaseTable)) {
+      // Only the tables are cached, the others like the metadata tables are rejected here.
+      return injectTableConfig(() -> CatalogHandlers.loadTable(catalog, tableIdentifier));
+    }
+    cachedTable = new CachedTable(((BaseTable) table).operations());
+    tableCache.put(tableIdentifier, cachedTable);
+    return cachedTable.response;
   }
 
   public boolean tableExists(TableIdentifier tableIdentifier) {
-    return catalog.tableExists(tableIdentifier);
+    return doAs(() -> catalog.tableExists(tableIdentifier));
   }
 
   public ListTablesResponse listTable(Namespace namespace) {
-    return CatalogHandlers.listTables(catalog, namespace);
+    return doAs(() -> CatalogHandlers.listTables(catalog, namespace));
   }
 
   public void renameTable(RenameTableRequest renameTableRequest) {
-    CatalogHandlers.renameTable(catalog, renameTableRequest);
+    try {
+      runAs(() -> CatalogHandlers.renameTable(catalog, renameTableRequest));
+    } finally {
+      invalidateTable(renameTableRequest.source());
+      invalidateTable(renameTableRequest.destination());
+    }
   }
 
   public LoadTableResponse updateTable(
       TableIdentifier tableIdentifier, UpdateTableRequest updateTableRequest) {
-    return CatalogHandlers.updateTable(catalog, tableIdentifier, updateTableRequest);
+    try {
+      return doAs(() -> CatalogHandlers.updateTable(catalog, tableIdentifier, updateTableRequest));
+    } finally {
+      invalidateTable(tableIdentifier);
+    }
   }
 
   public LoadTableResponse updateTable(IcebergTableChange icebergTableChange) {
     Transaction transaction = icebergTableChange.getTransaction();
-    transaction.commitTransaction();
+    try {
+      runAs(transaction::commitTransaction);
+    } finally {
+      invalidateTable(icebergTableChange.getTableIdentifier());
+    }
     return loadTable(icebergTableChange.getTableIdentifier());
   }
 
   public LoadViewResponse createView(Namespace namespace, CreateViewRequest request) {
     request.validate();
-    return CatalogHandlers.createView(getViewCatalog(), namespace, request);
+    return doAs(() -> CatalogHandlers.createView(getViewCatalog(), namespace, request));
   }
 
   public LoadViewResponse updateView(TableIdentifier viewIdentifier, UpdateTableRequest request) {
     request.validate();
-    return CatalogHandlers.updateView(getViewCatalog(), viewIdentifier, request);
+    return doAs(() -> CatalogHandlers.updateView(getViewCatalog(), viewIdentifier, request));
   }
 
   public LoadViewResponse loadView(TableIdentifier viewIdentifier) {
-    return CatalogHandlers.loadView(getViewCatalog(), viewIdentifier);
+    return doAs(() -> CatalogHandlers.loadView(getViewCatalog(), viewIdentifier));
   }
 
   public void dropView(TableIdentifier viewIdentifier) {
-    CatalogHandlers.dropView(getViewCatalog(), viewIdentifier);
+    runAs(() -> CatalogHandlers.dropView(getViewCatalog(), viewIdentifier));
   }
 
   public void renameView(RenameTableRequest request) {
     request.validate();
-    CatalogHandlers.renameView(getViewCatalog(), request);
+    runAs(() -> CatalogHandlers.renameView(getViewCatalog(), request));
   }
 
   public boolean existView(TableIdentifier viewIdentifier) {
-    return getViewCatalog().viewExists(viewIdentifier);
+    return doAs(() -> getViewCatalog().viewExists(viewIdentifier));
   }
 
   public ListTablesResponse listView(Namespace namespace) {
-    return CatalogHandlers.listViews(getViewCatalog(), namespace);
+    return doAs(() -> CatalogHandlers.listViews(getViewCatalog(), namespace));
   }
 
   @Override
   public void close() throws Exception {
+    if (tableCache != null) {
+      tableCache.invalidateAll();
+    }
+
     if (catalog instanceof AutoCloseable) {
       // JdbcCatalog and WrappedHiveCatalog need close.
       ((AutoCloseable) catalog).close();
     }
 
+    // The Hadoop file systems are cached by the user of the catalog, which is never used again.
+    try {
+      FileSystem.closeAllForUGI(catalogUser);
+    } catch (IOException e) {
+      LOG.warn("Failed to close the file systems of the catalog user {}", catalogUser, e);
+    }
+
     // Because each catalog in Gravitino has its own classloader, after a catalog is no longer used
     // for a long time or dropped, the instance of classloader needs to be released. In order to
     // let JVM GC remove the classloader, we need to release the resources of the classloader. The
@@ -308,6 +439,38 @@ public class IcebergCatalogWrapper implements AutoCloseable {
     return catalogConfigToClients;
   }
 
+  private void invalidateTable(TableIdentifier tableIdentifier) {
+    if (tableCache != null) {
+      tableCache.invalidate(tableIdentifier);
+    }
+  }
+
+  /** A table in the table cache, with the response of loading it from the current metadata. */
+  private final class CachedTable {
+
+    private final TableOperations operations;
+    private volatile LoadTableResponse response;
+
+    private CachedTable(TableOperations operations) {
+      this.operations = operations;
+      this.response = toResponse(operations.current());
+    }
+
+    private synchronized LoadTableResponse refresh() {
+      TableMetadata metadata = operations.refresh();
+      if (!Objects.equals(
+          metadata.metadataFileLocation(), response.tableMetadata().metadataFileLocation())) {
+        this.response = toResponse(metadata);
+      }
+      return response;
+    }
+
+    private LoadTableResponse toResponse(TableMetadata metadata) {
+      return injectTableConfig(
+          () -> LoadTableResponse.builder().withTableMetadata(metadata).build());
+    }
+  }
+
   @Getter
   @Setter
   public static final class IcebergTableChange {
@@ -83,9 +83,14 @@ public class IcebergCatalogUtil {
 
       KerberosClient kerberosClient = initKerberosAndReturnClient(properties, hdfsConfiguration);
       hiveCatalog.addResource(kerberosClient);
+      hiveCatalog.setKerberosUser(kerberosClient.getLoginUser());
       if (authenticationConfig.isImpersonationEnabled()) {
         HiveBackendProxy proxyHiveCatalog =
-            new HiveBackendProxy(resultProperties, hiveCatalog, kerberosClient.getRealm());
+            new HiveBackendProxy(
+                resultProperties,
+                hiveCatalog,
+                kerberosClient.getRealm(),
+                kerberosClient.getLoginUser());
         return proxyHiveCatalog.getProxy();
       }
 
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.common.ops;
+
+import com.google.common.collect.ImmutableMap;
+import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergConstants;
+import org.apache.gravitino.iceberg.common.IcebergCatalogBackend;
+import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.catalog.Namespace;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.exceptions.NoSuchTableException;
+import org.apache.iceberg.rest.requests.CreateNamespaceRequest;
+import org.apache.iceberg.rest.requests.CreateTableRequest;
+import org.apache.iceberg.rest.requests.RenameTableRequest;
+import org.apache.iceberg.rest.responses.LoadTableResponse;
+import org.apache.iceberg.types.Types;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestIcebergCatalogWrapper {
+
+  private static final Schema SCHEMA =
+      new Schema(Types.NestedField.of(1, false, "id", Types.LongType.get()));
+
+  @Test
+  public void testTableMetadataCache() throws Exception {
+    IcebergConfig config =
+        new IcebergConfig(
+            ImmutableMap.of(
+                IcebergConstants.CATALOG_BACKEND,
+                IcebergCatalogBackend.MEMORY.name(),
+                IcebergConstants.TABLE_METADATA_CACHE_ENABLED,
+                "true"));
+    Namespace namespace = Namespace.of("db");
+    TableIdentifier identifier = TableIdentifier.of(namespace, "table");
+
+    try (IcebergCatalogWrapper wrapper = new IcebergCatalogWrapper(config)) {
+      wrapper.createNamespace(CreateNamespaceRequest.builder().withNamespace(namespace).build());
+      wrapper.createTable(
+          namespace, CreateTableRequest.builder().withName("table").withSchema(SCHEMA).build());
+
+      // The unchanged table is served from the cache
+      LoadTableResponse response = wrapper.loadTable(identifier);
+      Assertions.assertSame(response, wrapper.loadTable(identifier));
+
+      // The table changed by others is loaded again as its metadata location is changed
+      wrapper.getCatalog().loadTable(identifier).updateProperties().set("key", "value").commit();
+      LoadTableResponse changedResponse = wrapper.loadTable(identifier);
+      Assertions.assertNotEquals(
+          response.tableMetadata().metadataFileLocation(),
+          changedResponse.tableMetadata().metadataFileLocation());
+      Assertions.assertEquals("value", changedResponse.tableMetadata().property("key", null));
+
+      TableIdentifier newIdentifier = TableIdentifier.of(namespace, "new_table");
+      wrapper.renameTable(
+          RenameTableRequest.builder()
+              .withSource(identifier)
+              .withDestination(newIdentifier)
+              .build());
+      Assertions.assertThrows(NoSuchTableException.class, () -> wrapper.loadTable(identifier));
+
+      wrapper.dropTable(newIdentifier);
+      Assertions.assertThrows(NoSuchTableException.class, () -> wrapper.loadTable(newIdentifier));
+    }
+  }
+}
@@ -18,13 +18,19 @@
  */
 package org.apache.gravitino.iceberg.service;
 
-import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.github.benmanes.caffeine.cache.Scheduler;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import org.apache.commons.lang3.StringUtils;
@@ -40,38 +46,69 @@ import org.slf4j.LoggerFactory;
 public class IcebergCatalogWrapperManager implements AutoCloseable {
   public static final Logger LOG = LoggerFactory.getLogger(IcebergCatalogWrapperManager.class);
 
-  private final Cache<String, IcebergCatalogWrapper> icebergCatalogWrapperCache;
+  // The delay to close a catalog wrapper or a credential provider replaced by the one of the
+  // changed configuration, the operations in flight may still use the replaced one.
+  private static final long REPLACED_RESOURCE_CLOSE_DELAY_MS = 60000L;
+
+  private final LoadingCache<String, CachedCatalogWrapper> icebergCatalogWrapperCache;
 
   private final IcebergConfigProvider configProvider;
 
+  private final ScheduledThreadPoolExecutor catalogWrapperExecutor;
+
+  // The replaced catalog wrappers and credential providers waiting for the delay to be closed.
+  private final Set<AutoCloseable> replacedResources = ConcurrentHashMap.newKeySet();
+
   private CredentialProviderManager credentialProviderManager;
 
   public IcebergCatalogWrapperManager(
       Map<String, String> properties, IcebergConfigProvider configProvider) {
-    this.credentialProviderManager = new CredentialProviderManager();
+    IcebergConfig icebergConfig = new IcebergConfig(properties);
+    this.credentialProviderManager =
+        new CredentialProviderManager(
+            icebergConfig.get(IcebergConfig.CREDENTIAL_CACHE_MAX_SIZE),
+            icebergConfig.get(IcebergConfig.CREDENTIAL_CACHE_REFRESH_MARGIN_MS));
     this.configProvider = configProvider;
+    this.catalogWrapperExecutor =
+        new ScheduledThreadPoolExecutor(
+            1,
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("iceberg-catalog-wrapper-cleaner-%d")
+                .build());
+
+    // A catalog wrapper is only evicted if it's not accessed for the eviction interval, the one in
+    // use is refreshed in the background instead, and it's only recreated if the configuration of
+    // the catalog is changed.
     this.icebergCatalogWrapperCache =
         Caffeine.newBuilder()
-            .expireAfterWrite(
-                (new IcebergConfig(properties))
-                    .get(IcebergConfig.ICEBERG_REST_CATALOG_CACHE_EVICTION_INTERVAL),
+            .expireAfterAccess(
+                icebergConfig.get(IcebergConfig.ICEBERG_REST_CATALOG_CACHE_EVICTION_INTERVAL),
+                TimeUnit.MILLISECONDS)
+            .refreshAfterWrite(
+                icebergConfig.get(IcebergConfig.ICEBERG_REST_CATALOG_CACHE_REFRESH_INTERVAL),
                 TimeUnit.MILLISECONDS)
             .removalListener(
-                (k, v, c) -> {
-                  String catalogName = (String) k;
-                  LOG.info("Remove IcebergCatalogWrapper cache {}.", catalogName);
-                  closeIcebergCatalogWrapper((IcebergCatalogWrapper) v);
-                  credentialProviderManager.unregisterCredentialProvider(catalogName);
-                })
-            .scheduler(
-                Scheduler.forScheduledExecutorService(
-                    new ScheduledThreadPoolExecutor(
-                        1,
-                        new ThreadFactoryBuilder()
-                            .setDaemon(true)
-                            .setNameFormat("iceberg-catalog-wrapper-cleaner-%d")
-                            .build())))
-            .build();
+                (String k, CachedCatalogWrapper v, RemovalCause c) ->
+                    onCatalogWrapperRemoval(k, v, c))
+            .scheduler(Scheduler.forScheduledExecutorService(catalogWrapperExecutor))
+            .build(
+                new CacheLoader<String, CachedCatalogWrapper>() {
+                  @Override
+                  public CachedCatalogWrapper load(String catalogName) {
+                    return createCatalogWrapper(catalogName, getCatalogConfig(catalogName));
+                  }
+
+                  @Override
+                  public CachedCatalogWrapper reload(
+                      String catalogName, CachedCatalogWrapper oldValue) {
+                    return reloadCatalogWrapper(catalogName, oldValue);
+                  }
+                });
+
+    if (icebergConfig.get(IcebergConfig.ICEBERG_REST_CATALOG_CACHE_WARM_UP_ENABLED)) {
+      warmUpCatalogWrappers();
+    }
   }
 
   /**
@@ -85,12 +122,7 @@ public class IcebergCatalogWrapperManager implements AutoCloseable {
   }
 
   public IcebergCatalogWrapper getCatalogWrapper(String catalogName) {
-    IcebergCatalogWrapper catalogWrapper =
-        icebergCatalogWrapperCache.get(catalogName, k -> createCatalogWrapper(catalogName));
-    // Reload conf to reset UserGroupInformation or icebergTableOps will always use
-    // Simple auth.
-    catalogWrapper.reloadHadoopConf();
-    return catalogWrapper;
+    return icebergCatalogWrapperCache.get(catalogName).catalogWrapper;
   }
 
   public CredentialProvider getCredentialProvider(String catalogName) {
@@ -102,33 +134,134 @@ public class IcebergCatalogWrapperManager implements AutoCloseable {
     return new IcebergCatalogWrapper(icebergConfig);
   }
 
-  private IcebergCatalogWrapper createCatalogWrapper(String catalogName) {
+  private IcebergConfig getCatalogConfig(String catalogName) {
     Optional<IcebergConfig> icebergConfig = configProvider.getIcebergCatalogConfig(catalogName);
     if (!icebergConfig.isPresent()) {
       throw new RuntimeException("Couldn't find Iceberg configuration for " + catalogName);
     }
+    return icebergConfig.get();
+  }
 
-    IcebergConfig config = icebergConfig.get();
+  private CachedCatalogWrapper createCatalogWrapper(String catalogName, IcebergConfig config) {
     String credentialProviderType = config.get(IcebergConfig.CREDENTIAL_PROVIDER_TYPE);
+    CredentialProvider credentialProvider = null;
     if (StringUtils.isNotBlank(credentialProviderType)) {
-      CredentialProvider credentialProvider =
+      credentialProvider =
           CredentialProviderFactory.create(credentialProviderType, config.getAllConfig());
-      credentialProviderManager.registerCredentialProvider(catalogName, credentialProvider);
     }
 
-    return createIcebergCatalogWrapper(icebergConfig.get());
+    IcebergCatalogWrapper catalogWrapper = createIcebergCatalogWrapper(config);
+
+    // Replace the credential provider of the catalog if it's recreated for the changed
+    // configuration.
+    CredentialProvider replacedCredentialProvider =
+        credentialProviderManager.replaceCredentialProvider(catalogName, credentialProvider);
+    if (replacedCredentialProvider != null) {
+      closeAfterDelay(replacedCredentialProvider);
+    }
+    return new CachedCatalogWrapper(config.getAllConfig(), catalogWrapper);
   }
 
-  private void closeIcebergCatalogWrapper(IcebergCatalogWrapper catalogWrapper) {
+  private CachedCatalogWrapper reloadCatalogWrapper(
+      String catalogName, CachedCatalogWrapper cachedCatalogWrapper) {
+    Optional<IcebergConfig> icebergConfig = configProvider.getIcebergCatalogConfig(catalogName);
+    if (!icebergConfig.isPresent()) {
+      // The catalog wrapper is removed from the cache.
+      LOG.info("Couldn't find Iceberg configuration for {}, remove it from cache.", catalogName);
+      return null;
+    }
+
+    if (cachedCatalogWrapper.catalogConfig.equals(icebergConfig.get().getAllConfig())) {
+      return cachedCatalogWrapper;
+    }
+
+    LOG.info(
+        "Iceberg configuration for {} is changed, recreate its IcebergCatalogWrapper.",
+        catalogName);
+    return createCatalogWrapper(catalogName, icebergConfig.get());
+  }
+
+  private void onCatalogWrapperRemoval(
+      String catalogName, CachedCatalogWrapper cachedCatalogWrapper, RemovalCause cause) {
+    if (cause == RemovalCause.REPLACED) {
+      // The catalog wrapper is refreshed, it's kept in the cache if the configuration isn't
+      // changed, otherwise it's closed after the operations in flight are done.
+      if (icebergCatalogWrapperCache.asMap().get(catalogName) != cachedCatalogWrapper) {
+        closeAfterDelay(cachedCatalogWrapper.catalogWrapper);
+      }
+      return;
+    }
+
+    LOG.info("Remove IcebergCatalogWrapper cache {}.", catalogName);
+    closeIcebergResource(cachedCatalogWrapper.catalogWrapper);
+    credentialProviderManager.unregisterCredentialProvider(catalogName);
+  }
+
+  private void warmUpCatalogWrappers() {
+    // The warm-up is best-effort, the catalog wrappers not created here are created on demand.
+    List<String> catalogNames;
+    try {
+      catalogNames = configProvider.getCatalogNames();
+    } catch (Exception e) {
+      LOG.warn("Failed to get the catalog names to create IcebergCatalogWrapper in advance.", e);
+      return;
+    }
+
+    for (String catalogName : catalogNames) {
+      try {
+        getCatalogWrapper(catalogName);
+        LOG.info("Created IcebergCatalogWrapper for {} in advance.", catalogName);
+      } catch (Exception e) {
+        LOG.warn("Failed to create IcebergCatalogWrapper for {} in advance.", catalogName, e);
+      }
+    }
+  }
+
+  private void closeAfterDelay(AutoCloseable resource) {
+    replacedResources.add(resource);
+    try {
+      catalogWrapperExecutor.schedule(
+          () -> closeReplacedResource(resource),
+          REPLACED_RESOURCE_CLOSE_DELAY_MS,
+          TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      // The manager is closed, no operation uses the replaced resource anymore.
+      closeReplacedResource(resource);
+    }
+  }
+
+  private void closeReplacedResource(AutoCloseable resource) {
+    // The resource is closed either after the delay or on closing the manager, but only once.
+    if (replacedResources.remove(resource)) {
+      closeIcebergResource(resource);
+    }
+  }
+
+  private void closeIcebergResource(AutoCloseable resource) {
     try {
-      catalogWrapper.close();
+      resource.close();
     } catch (Exception ex) {
-      LOG.warn("Close Iceberg table catalog wrapper fail: {}, {}", catalogWrapper, ex);
+      LOG.warn("Close Iceberg resource fail: {}, {}", resource, ex);
     }
   }
 
   @Override
   public void close() throws Exception {
     icebergCatalogWrapperCache.invalidateAll();
+    catalogWrapperExecutor.shutdownNow();
+    replacedResources.forEach(this::closeReplacedResource);
+    credentialProviderManager.close();
+  }
+
+  private static final class CachedCatalogWrapper {
+
+    private final Map<String, String> catalogConfig;
+    private final IcebergCatalogWrapper catalogWrapper;
+
+    private CachedCatalogWrapper(
+        Map<String, String> catalogConfig, IcebergCatalogWrapper catalogWrapper) {
+      this.catalogConfig = catalogConfig;
+      this.catalogWrapper = catalogWrapper;
+    }
   }
 }
@@ -26,6 +26,7 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.stream.Stream;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
@@ -44,6 +45,18 @@ public class IcebergRestUtils {
     return Response.status(Response.Status.OK).entity(t).type(MediaType.APPLICATION_JSON).build();
   }
 
+  public static <T> Response ok(T t, EntityTag entityTag) {
+    return Response.status(Response.Status.OK)
+        .entity(t)
+        .type(MediaType.APPLICATION_JSON)
+        .tag(entityTag)
+        .build();
+  }
+
+  public static Response notModified(EntityTag entityTag) {
+    return Response.notModified(entityTag).build();
+  }
+
   public static Response okWithoutContent() {
     return Response.status(Response.Status.OK).build();
   }
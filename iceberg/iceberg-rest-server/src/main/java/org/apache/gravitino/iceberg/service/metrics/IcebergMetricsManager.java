@@ -23,15 +23,20 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.iceberg.common.IcebergConfig;
 import org.apache.gravitino.iceberg.common.ops.IcebergCatalogWrapper;
 import org.apache.gravitino.iceberg.service.IcebergRestUtils;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.metrics.MetricsReport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,13 +50,17 @@ public class IcebergMetricsManager {
   private static final ImmutableMap<String, String> ICEBERG_METRICS_STORE_NAMES =
       ImmutableMap.of(
           DummyMetricsStore.ICEBERG_METRICS_STORE_DUMMY_NAME,
-          DummyMetricsStore.class.getCanonicalName());
+          DummyMetricsStore.class.getCanonicalName(),
+          JdbcMetricsStore.ICEBERG_METRICS_STORE_JDBC_NAME,
+          JdbcMetricsStore.class.getCanonicalName());
 
   private final IcebergMetricsFormatter icebergMetricsFormatter;
   private final IcebergMetricsStore icebergMetricsStore;
   private final int retainDays;
+  private final int batchSize;
 
-  private BlockingQueue<MetricsReport> queue;
+  private BlockingQueue<TableMetricsReport> queue;
+  private IcebergMetricsStoreMetricsSource metricsSource;
   private Thread metricsWriterThread;
   private volatile boolean isClosed = false;
   private Optional<ScheduledExecutorService> metricsCleanerExecutor = Optional.empty();
@@ -83,12 +92,19 @@ public class IcebergMetricsManager {
 
     int queueCapacity = icebergConfig.get(IcebergConfig.ICEBERG_METRICS_QUEUE_CAPACITY);
     queue = new LinkedBlockingQueue(queueCapacity);
+    batchSize = icebergConfig.get(IcebergConfig.ICEBERG_METRICS_BATCH_SIZE);
+    metricsSource = new IcebergMetricsStoreMetricsSource(queue);
     metricsWriterThread = new Thread(() -> writeMetrics());
     metricsWriterThread.setName("Iceberg-metrics-writer");
     metricsWriterThread.setDaemon(true);
   }
 
   public void start() {
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+
     metricsWriterThread.start();
     metricsCleanerExecutor.ifPresent(
         executorService ->
@@ -109,20 +125,56 @@ public class IcebergMetricsManager {
                 TimeUnit.HOURS));
   }
 
-  public void recordMetric(MetricsReport metricsReport) {
+  /**
+   * Record a metrics report asynchronously, the report is dropped if the manager is closed or the
+   * queue is full.
+   *
+   * @param catalogName the catalog the report is reported to
+   * @param tableIdentifier the table the report is reported to
+   * @param metricsReport the metrics report
+   */
+  public void recordMetric(
+      String catalogName, TableIdentifier tableIdentifier, MetricsReport metricsReport) {
     if (isClosed) {
+      metricsSource.recordDrop();
       logMetrics("Drop Iceberg metrics because Iceberg Metrics Manager is closed.", metricsReport);
       return;
     }
-    if (queue.offer(metricsReport) == false) {
+    if (queue.offer(new TableMetricsReport(catalogName, tableIdentifier, metricsReport))
+        == false) {
+      metricsSource.recordDrop();
       logMetrics("Drop Iceberg metrics because metrics queue is full.", metricsReport);
     }
   }
 
+  /**
+   * Get the aggregated statistics of the scan reports of a table from the metrics store.
+   *
+   * @param catalogName the catalog the scan reports are reported to
+   * @param tableIdentifier the table the scan reports are reported to
+   * @param startTime the scan reports recorded before this time are not aggregated
+   * @return the aggregated statistics of the scan reports
+   * @throws IOException if the metrics store failed to query the reports
+   */
+  public IcebergScanStatistics getScanStatistics(
+      String catalogName, TableIdentifier tableIdentifier, Instant startTime) throws IOException {
+    return icebergMetricsStore.getScanStatistics(catalogName, tableIdentifier, startTime);
+  }
+
   public void close() {
     isClosed = true;
     metricsCleanerExecutor.ifPresent(executorService -> executorService.shutdownNow());
 
+    // Stop the writer before closing the store, so no batch is written to a closed store.
+    if (metricsWriterThread != null) {
+      metricsWriterThread.interrupt();
+      try {
+        metricsWriterThread.join();
+      } catch (InterruptedException e) {
+        LOG.warn("Iceberg metrics manager is interrupted while join metrics writer thread.");
+      }
+    }
+
     if (icebergMetricsStore != null) {
       try {
         icebergMetricsStore.close();
@@ -131,13 +183,9 @@ public class IcebergMetricsManager {
       }
     }
 
-    if (metricsWriterThread != null) {
-      metricsWriterThread.interrupt();
-      try {
-        metricsWriterThread.join();
-      } catch (InterruptedException e) {
-        LOG.warn("Iceberg metrics manager is interrupted while join metrics writer thread.");
-      }
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
     }
   }
 
@@ -146,23 +194,32 @@ public class IcebergMetricsManager {
     return icebergMetricsStore;
   }
 
+  @VisibleForTesting
+  IcebergMetricsStoreMetricsSource getMetricsSource() {
+    return metricsSource;
+  }
+
   private void writeMetrics() {
+    List<TableMetricsReport> batch = new ArrayList<>(batchSize);
     while (Thread.currentThread().isInterrupted() == false) {
-      MetricsReport metricsReport;
       try {
-        metricsReport = queue.take();
+        batch.add(queue.take());
       } catch (InterruptedException e) {
         LOG.warn("Iceberg Metrics writer thread is interrupted.");
         break;
       }
-      if (metricsReport != null) {
-        doRecordMetric(metricsReport);
-      }
+      // Drain the reports accumulated while the last batch was written, so the store could write
+      // them together instead of one by one.
+      queue.drainTo(batch, batchSize - 1);
+      doRecordMetrics(batch);
+      batch.clear();
     }
 
-    MetricsReport metricsReport = queue.poll();
+    TableMetricsReport metricsReport = queue.poll();
     while (metricsReport != null) {
-      logMetrics("Drop Iceberg metrics because it's time to close metrics store.", metricsReport);
+      logMetrics(
+          "Drop Iceberg metrics because it's time to close metrics store.",
+          metricsReport.metricsReport());
       metricsReport = queue.poll();
     }
   }
@@ -188,11 +245,16 @@ public class IcebergMetricsManager {
     LOG.info("{} {}.", message, icebergMetricsFormatter.toPrintableString(metricsReport));
   }
 
-  private void doRecordMetric(MetricsReport metricsReport) {
+  private void doRecordMetrics(List<TableMetricsReport> metricsReports) {
+    long startTime = System.nanoTime();
     try {
-      icebergMetricsStore.recordMetric(metricsReport);
+      icebergMetricsStore.recordMetrics(metricsReports);
     } catch (Exception e) {
-      LOG.warn("Write Iceberg metrics failed.", e);
+      // The reports of a failed batch are not retried, they're lost as the dropped ones.
+      metricsSource.recordDrops(metricsReports.size());
+      LOG.warn("Write {} Iceberg metrics failed.", metricsReports.size(), e);
+    } finally {
+      metricsSource.recordWrite(System.nanoTime() - startTime);
     }
   }
 }
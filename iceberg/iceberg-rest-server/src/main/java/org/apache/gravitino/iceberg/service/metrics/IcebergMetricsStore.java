@@ -20,7 +20,9 @@ package org.apache.gravitino.iceberg.service.metrics;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
+import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.metrics.MetricsReport;
 
 /** A store API to save Apache Iceberg metrics. */
@@ -42,6 +44,34 @@ public interface IcebergMetricsStore {
    */
   void recordMetric(MetricsReport metricsReport) throws IOException;
 
+  /**
+   * Record a batch of metrics reports with the catalogs and the tables they're reported to, the
+   * store could override it to write the reports together.
+   *
+   * @param metricsReports the metrics to be saved
+   * @throws IOException if IO error happens
+   */
+  default void recordMetrics(List<TableMetricsReport> metricsReports) throws IOException {
+    for (TableMetricsReport metricsReport : metricsReports) {
+      recordMetric(metricsReport.metricsReport());
+    }
+  }
+
+  /**
+   * Get the aggregated statistics of the scan reports of a table.
+   *
+   * @param catalogName the catalog the scan reports are reported to
+   * @param tableIdentifier the table the scan reports are reported to
+   * @param startTime the scan reports recorded before this time are not aggregated
+   * @return the aggregated statistics of the scan reports
+   * @throws IOException if IO error happens
+   */
+  default IcebergScanStatistics getScanStatistics(
+      String catalogName, TableIdentifier tableIdentifier, Instant startTime) throws IOException {
+    throw new UnsupportedOperationException(
+        getClass().getSimpleName() + " doesn't support querying Iceberg metrics");
+  }
+
   /**
    * Clean the expired Iceberg metrics
    *
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.service.metrics;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.MetricsSource;
+
+/** Exposes the Iceberg metrics buffered and written by {@link IcebergMetricsManager}. */
+public class IcebergMetricsStoreMetricsSource extends MetricsSource {
+
+  private final Counter dropCounter;
+  private final Timer writeTimer;
+
+  public IcebergMetricsStoreMetricsSource(BlockingQueue<?> queue) {
+    super(MetricsSource.ICEBERG_METRICS_STORE_METRIC_NAME);
+    registerGauge(MetricNames.ICEBERG_METRICS_QUEUE_SIZE, queue::size);
+    this.dropCounter = getCounter(MetricNames.ICEBERG_METRICS_DROP_COUNT);
+    this.writeTimer = getTimer(MetricNames.ICEBERG_METRICS_WRITE_DURATION);
+  }
+
+  /** Record an Iceberg metrics report that is dropped. */
+  void recordDrop() {
+    dropCounter.inc();
+  }
+
+  /**
+   * Record the Iceberg metrics reports that are dropped together, like a batch failed to write.
+   *
+   * @param count The count of the dropped reports.
+   */
+  void recordDrops(int count) {
+    dropCounter.inc(count);
+  }
+
+  /**
+   * Record the time writing a batch of Iceberg metrics reports.
+   *
+   * @param writeNanos The writing time in nanoseconds.
+   */
+  void recordWrite(long writeNanos) {
+    writeTimer.update(writeNanos, TimeUnit.NANOSECONDS);
+  }
+
+  long dropCount() {
+    return dropCounter.getCount();
+  }
+}
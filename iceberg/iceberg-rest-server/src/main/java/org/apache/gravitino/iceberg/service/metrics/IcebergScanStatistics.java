@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.service.metrics;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/** The aggregated statistics of the Iceberg scan reports of a table. */
+public class IcebergScanStatistics {
+
+  @JsonProperty("catalog-name")
+  private final String catalogName;
+
+  @JsonProperty("table-name")
+  private final String tableName;
+
+  @JsonProperty("scan-count")
+  private final long scanCount;
+
+  @JsonProperty("avg-planning-duration-ms")
+  private final double avgPlanningDurationMs;
+
+  @JsonProperty("max-planning-duration-ms")
+  private final long maxPlanningDurationMs;
+
+  @JsonProperty("result-data-files")
+  private final long resultDataFiles;
+
+  @JsonProperty("total-file-size-in-bytes")
+  private final long totalFileSizeInBytes;
+
+  public IcebergScanStatistics(
+      String catalogName,
+      String tableName,
+      long scanCount,
+      double avgPlanningDurationMs,
+      long maxPlanningDurationMs,
+      long resultDataFiles,
+      long totalFileSizeInBytes) {
+    this.catalogName = catalogName;
+    this.tableName = tableName;
+    this.scanCount = scanCount;
+    this.avgPlanningDurationMs = avgPlanningDurationMs;
+    this.maxPlanningDurationMs = maxPlanningDurationMs;
+    this.resultDataFiles = resultDataFiles;
+    this.totalFileSizeInBytes = totalFileSizeInBytes;
+  }
+
+  public String catalogName() {
+    return catalogName;
+  }
+
+  public String tableName() {
+    return tableName;
+  }
+
+  public long scanCount() {
+    return scanCount;
+  }
+
+  public double avgPlanningDurationMs() {
+    return avgPlanningDurationMs;
+  }
+
+  public long maxPlanningDurationMs() {
+    return maxPlanningDurationMs;
+  }
+
+  public long resultDataFiles() {
+    return resultDataFiles;
+  }
+
+  public long totalFileSizeInBytes() {
+    return totalFileSizeInBytes;
+  }
+}
@@ -0,0 +1,326 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.service.metrics;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergConstants;
+import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.metrics.CommitMetricsResult;
+import org.apache.iceberg.metrics.CommitReport;
+import org.apache.iceberg.metrics.CounterResult;
+import org.apache.iceberg.metrics.MetricsReport;
+import org.apache.iceberg.metrics.ScanMetricsResult;
+import org.apache.iceberg.metrics.ScanReport;
+import org.apache.iceberg.metrics.TimerResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Saves Iceberg metrics to a database by JDBC, like H2, MySQL and PostgreSQL.
+ *
+ * <p>The scan and commit reports are saved to one table, with the catalog and the table they're
+ * reported to, the columns to aggregate the reports and the whole report in JSON. The table is
+ * created with the indexes on the report time and on the catalog and the table if it doesn't exist.
+ * The reports are written in batches, with the connections borrowed from a pool.
+ */
+public class JdbcMetricsStore implements IcebergMetricsStore {
+  public static final String ICEBERG_METRICS_STORE_JDBC_NAME = "jdbc";
+
+  private static final Logger LOG = LoggerFactory.getLogger(JdbcMetricsStore.class);
+
+  @VisibleForTesting static final String TABLE_NAME = "iceberg_metrics_report";
+  private static final String SCAN_REPORT = "scan";
+  private static final String COMMIT_REPORT = "commit";
+
+  private static final String INSERT_SQL =
+      "INSERT INTO "
+          + TABLE_NAME
+          + " (report_time, report_type, catalog_name, table_name, snapshot_id, duration_ms,"
+          + " data_files, file_size_bytes, report) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  // Matches the prefix of the table index, so only the reports of the table are scanned.
+  private static final String SCAN_STATISTICS_SQL =
+      "SELECT COUNT(*), AVG(duration_ms), MAX(duration_ms), SUM(data_files), SUM(file_size_bytes)"
+          + " FROM "
+          + TABLE_NAME
+          + " WHERE catalog_name = ? AND table_name = ? AND report_type = ?"
+          + " AND report_time >= ?";
+
+  private static final String CLEAN_SQL = "DELETE FROM " + TABLE_NAME + " WHERE report_time < ?";
+
+  private final IcebergMetricsFormatter icebergMetricsFormatter = new IcebergMetricsFormatter();
+  private BasicDataSource dataSource;
+
+  @Override
+  public void init(Map<String, String> properties) throws IOException {
+    IcebergConfig icebergConfig = new IcebergConfig(properties);
+    String jdbcUrl = icebergConfig.get(IcebergConfig.ICEBERG_METRICS_STORE_JDBC_URL);
+    Preconditions.checkArgument(
+        StringUtils.isNotBlank(jdbcUrl),
+        IcebergConstants.ICEBERG_METRICS_STORE_JDBC_URL + " is blank");
+
+    String driverClassName = icebergConfig.get(IcebergConfig.ICEBERG_METRICS_STORE_JDBC_DRIVER);
+    if (StringUtils.isNotBlank(driverClassName)) {
+      try {
+        Class.forName(driverClassName);
+      } catch (ClassNotFoundException e) {
+        throw new IllegalArgumentException("Couldn't load jdbc driver " + driverClassName, e);
+      }
+    }
+
+    this.dataSource = new BasicDataSource();
+    dataSource.setUrl(jdbcUrl);
+    if (StringUtils.isNotBlank(driverClassName)) {
+      dataSource.setDriverClassName(driverClassName);
+    }
+    dataSource.setUsername(icebergConfig.get(IcebergConfig.ICEBERG_METRICS_STORE_JDBC_USER));
+    dataSource.setPassword(icebergConfig.get(IcebergConfig.ICEBERG_METRICS_STORE_JDBC_PASSWORD));
+    // The same statements are executed for every batch and query.
+    dataSource.setPoolPreparedStatements(true);
+
+    try (Connection connection = dataSource.getConnection()) {
+      createTableIfNotExists(connection);
+    } catch (SQLException e) {
+      throw new IOException("Failed to create the table to save Iceberg metrics", e);
+    }
+  }
+
+  @Override
+  public void recordMetric(MetricsReport metricsReport) throws IOException {
+    // The report recorded without the catalog and the table is saved with the table name in the
+    // report, and it's not aggregated with the reports of any table.
+    recordMetrics(Collections.singletonList(new TableMetricsReport(null, null, metricsReport)));
+  }
+
+  @Override
+  public void recordMetrics(List<TableMetricsReport> metricsReports) throws IOException {
+    long reportTime = System.currentTimeMillis();
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setAutoCommit(false);
+      try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+        for (TableMetricsReport metricsReport : metricsReports) {
+          if (bindReport(statement, reportTime, metricsReport)) {
+            statement.addBatch();
+          } else {
+            LOG.warn(
+                "Skip unsupported Iceberg metrics {}.",
+                metricsReport.metricsReport().getClass().getName());
+          }
+        }
+        statement.executeBatch();
+        connection.commit();
+      } catch (SQLException e) {
+        connection.rollback();
+        throw e;
+      }
+    } catch (SQLException e) {
+      throw new IOException("Failed to write Iceberg metrics", e);
+    }
+  }
+
+  @Override
+  public IcebergScanStatistics getScanStatistics(
+      String catalogName, TableIdentifier tableIdentifier, Instant startTime) throws IOException {
+    String tableName = tableIdentifier.toString();
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement = connection.prepareStatement(SCAN_STATISTICS_SQL)) {
+      statement.setString(1, catalogName);
+      statement.setString(2, tableName);
+      statement.setString(3, SCAN_REPORT);
+      statement.setLong(4, startTime.toEpochMilli());
+      try (ResultSet resultSet = statement.executeQuery()) {
+        resultSet.next();
+        return new IcebergScanStatistics(
+            catalogName,
+            tableName,
+            resultSet.getLong(1),
+            resultSet.getDouble(2),
+            resultSet.getLong(3),
+            resultSet.getLong(4),
+            resultSet.getLong(5));
+      }
+    } catch (SQLException e) {
+      throw new IOException(
+          "Failed to query Iceberg metrics of " + tableName + " in catalog " + catalogName, e);
+    }
+  }
+
+  @Override
+  public void clean(Instant expireTime) throws IOException {
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement = connection.prepareStatement(CLEAN_SQL)) {
+      statement.setLong(1, expireTime.toEpochMilli());
+      int deletedRows = statement.executeUpdate();
+      LOG.info("Cleaned {} Iceberg metrics before {}.", deletedRows, expireTime);
+    } catch (SQLException e) {
+      throw new IOException("Failed to clean Iceberg metrics", e);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (dataSource != null) {
+      try {
+        dataSource.close();
+      } catch (SQLException e) {
+        throw new IOException("Failed to close the connection pool of Iceberg metrics store", e);
+      }
+    }
+  }
+
+  private static void createTableIfNotExists(Connection connection) throws SQLException {
+    DatabaseMetaData metaData = connection.getMetaData();
+    if (tableExists(metaData)) {
+      return;
+    }
+
+    try (Statement statement = connection.createStatement()) {
+      statement.executeUpdate(
+          "CREATE TABLE "
+              + TABLE_NAME
+              + " (report_time BIGINT NOT NULL,"
+              + " report_type VARCHAR(16) NOT NULL,"
+              + " catalog_name VARCHAR(128) NOT NULL,"
+              + " table_name VARCHAR(512) NOT NULL,"
+              + " snapshot_id BIGINT,"
+              + " duration_ms BIGINT,"
+              + " data_files BIGINT,"
+              + " file_size_bytes BIGINT,"
+              + " report "
+              + reportColumnType(metaData)
+              + " NOT NULL)");
+      // The expired reports are cleaned by the report time, and the reports of a table are
+      // aggregated by the catalog, the table name and the report type in a time range.
+      statement.executeUpdate(
+          "CREATE INDEX " + TABLE_NAME + "_time_idx ON " + TABLE_NAME + " (report_time)");
+      statement.executeUpdate(
+          "CREATE INDEX "
+              + TABLE_NAME
+              + "_table_idx ON "
+              + TABLE_NAME
+              + " (catalog_name, table_name, report_type, report_time)");
+    }
+    LOG.info("Created table {} to save Iceberg metrics.", TABLE_NAME);
+  }
+
+  // The TEXT of MySQL holds at most 64KB, which is exceeded by the reports of a table with many
+  // columns, while the TEXT of the other databases is unbounded.
+  @VisibleForTesting
+  static String reportColumnType(DatabaseMetaData metaData) throws SQLException {
+    String productName = metaData.getDatabaseProductName().toLowerCase(Locale.ROOT);
+    return productName.contains("mysql") || productName.contains("mariadb")
+        ? "MEDIUMTEXT"
+        : "TEXT";
+  }
+
+  private static boolean tableExists(DatabaseMetaData metaData) throws SQLException {
+    // The table name may be stored in upper case or lower case, depending on the database.
+    for (String tableName : new String[] {TABLE_NAME, TABLE_NAME.toUpperCase(Locale.ROOT)}) {
+      try (ResultSet resultSet = metaData.getTables(null, null, tableName, null)) {
+        if (resultSet.next()) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private boolean bindReport(
+      PreparedStatement statement, long reportTime, TableMetricsReport tableMetricsReport)
+      throws SQLException {
+    MetricsReport metricsReport = tableMetricsReport.metricsReport();
+    String reportType;
+    String tableName;
+    long snapshotId;
+    Long durationMs;
+    Long dataFiles;
+    Long fileSizeBytes;
+    if (metricsReport instanceof ScanReport) {
+      ScanReport scanReport = (ScanReport) metricsReport;
+      ScanMetricsResult scanMetrics = scanReport.scanMetrics();
+      reportType = SCAN_REPORT;
+      tableName = scanReport.tableName();
+      snapshotId = scanReport.snapshotId();
+      durationMs = scanMetrics == null ? null : durationMs(scanMetrics.totalPlanningDuration());
+      dataFiles = scanMetrics == null ? null : value(scanMetrics.resultDataFiles());
+      fileSizeBytes = scanMetrics == null ? null : value(scanMetrics.totalFileSizeInBytes());
+    } else if (metricsReport instanceof CommitReport) {
+      CommitReport commitReport = (CommitReport) metricsReport;
+      CommitMetricsResult commitMetrics = commitReport.commitMetrics();
+      reportType = COMMIT_REPORT;
+      tableName = commitReport.tableName();
+      snapshotId = commitReport.snapshotId();
+      durationMs = commitMetrics == null ? null : durationMs(commitMetrics.totalDuration());
+      dataFiles = commitMetrics == null ? null : value(commitMetrics.addedDataFiles());
+      fileSizeBytes = commitMetrics == null ? null : value(commitMetrics.addedFilesSizeInBytes());
+    } else {
+      return false;
+    }
+
+    statement.setLong(1, reportTime);
+    statement.setString(2, reportType);
+    statement.setString(
+        3, tableMetricsReport.catalogName() == null ? "" : tableMetricsReport.catalogName());
+    statement.setString(
+        4,
+        tableMetricsReport.tableIdentifier() == null
+            ? tableName
+            : tableMetricsReport.tableIdentifier().toString());
+    statement.setLong(5, snapshotId);
+    setNullableLong(statement, 6, durationMs);
+    setNullableLong(statement, 7, dataFiles);
+    setNullableLong(statement, 8, fileSizeBytes);
+    statement.setString(9, icebergMetricsFormatter.toPrintableString(metricsReport));
+    return true;
+  }
+
+  private static Long durationMs(TimerResult timerResult) {
+    return timerResult == null ? null : timerResult.totalDuration().toMillis();
+  }
+
+  private static Long value(CounterResult counterResult) {
+    return counterResult == null ? null : counterResult.value();
+  }
+
+  private static void setNullableLong(PreparedStatement statement, int index, Long value)
+      throws SQLException {
+    if (value == null) {
+      statement.setNull(index, Types.BIGINT);
+    } else {
+      statement.setLong(index, value);
+    }
+  }
+}
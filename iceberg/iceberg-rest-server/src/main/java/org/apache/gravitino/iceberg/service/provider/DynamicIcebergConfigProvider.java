@@ -20,8 +20,11 @@ package org.apache.gravitino.iceberg.service.provider;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergConstants;
@@ -38,6 +41,8 @@ import org.apache.gravitino.iceberg.common.IcebergConfig;
  * <p>The catalogName is iceberg_catalog
  */
 public class DynamicIcebergConfigProvider implements IcebergConfigProvider {
+  private static final String ICEBERG_CATALOG_PROVIDER = "lakehouse-iceberg";
+
   private String gravitinoMetalake;
 
   private GravitinoAdminClient client;
@@ -72,7 +77,7 @@ public class DynamicIcebergConfigProvider implements IcebergConfigProvider {
     }
 
     Preconditions.checkArgument(
-        "lakehouse-iceberg".equals(catalog.provider()),
+        ICEBERG_CATALOG_PROVIDER.equals(catalog.provider()),
         String.format("%s.%s is not iceberg catalog", gravitinoMetalake, catalogName));
 
     Map<String, String> properties =
@@ -80,6 +85,14 @@ public class DynamicIcebergConfigProvider implements IcebergConfigProvider {
     return Optional.of(new IcebergConfig(properties));
   }
 
+  @Override
+  public List<String> getCatalogNames() {
+    return Arrays.stream(client.loadMetalake(gravitinoMetalake).listCatalogsInfo())
+        .filter(catalog -> ICEBERG_CATALOG_PROVIDER.equals(catalog.provider()))
+        .map(Catalog::name)
+        .collect(Collectors.toList());
+  }
+
   @VisibleForTesting
   void setClient(GravitinoAdminClient client) {
     this.client = client;
@@ -19,6 +19,8 @@
 package org.apache.gravitino.iceberg.service.provider;
 
 import java.io.Closeable;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergConstants;
@@ -46,6 +48,17 @@ public interface IcebergConfigProvider extends Closeable {
    */
   Optional<IcebergConfig> getIcebergCatalogConfig(String catalogName);
 
+  /**
+   * Get the names of all the Iceberg catalogs that could be provided, the catalogs are warmed up by
+   * these names if enabled. The default implementation returns an empty list, so no catalog is
+   * warmed up.
+   *
+   * @return the names of Iceberg catalogs.
+   */
+  default List<String> getCatalogNames() {
+    return Collections.emptyList();
+  }
+
   /**
    * Get metalake name.
    *
@@ -19,6 +19,8 @@
 package org.apache.gravitino.iceberg.service.provider;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -67,6 +69,11 @@ public class StaticIcebergConfigProvider implements IcebergConfigProvider {
     return Optional.ofNullable(catalogConfigs.get(catalogName));
   }
 
+  @Override
+  public List<String> getCatalogNames() {
+    return ImmutableList.copyOf(catalogConfigs.keySet());
+  }
+
   @Override
   public void close() {}
 
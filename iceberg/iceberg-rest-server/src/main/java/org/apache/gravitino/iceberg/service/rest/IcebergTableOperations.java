@@ -23,6 +23,10 @@ import com.codahale.metrics.annotation.Timed;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Map;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
@@ -39,6 +43,8 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import org.apache.commons.lang3.StringUtils;
@@ -53,6 +59,7 @@ import org.apache.gravitino.iceberg.service.IcebergRequestContext;
 import org.apache.gravitino.iceberg.service.IcebergRestUtils;
 import org.apache.gravitino.iceberg.service.dispatcher.IcebergTableOperationDispatcher;
 import org.apache.gravitino.iceberg.service.metrics.IcebergMetricsManager;
+import org.apache.gravitino.iceberg.service.metrics.IcebergScanStatistics;
 import org.apache.gravitino.metrics.MetricNames;
 import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.catalog.TableIdentifier;
@@ -204,7 +211,8 @@ public class IcebergTableOperations {
       @PathParam("namespace") String namespace,
       @PathParam("table") String table,
       @DefaultValue("all") @QueryParam("snapshots") String snapshots,
-      @HeaderParam(X_ICEBERG_ACCESS_DELEGATION) String accessDelegation) {
+      @HeaderParam(X_ICEBERG_ACCESS_DELEGATION) String accessDelegation,
+      @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
     String catalogName = IcebergRestUtils.getCatalogName(prefix);
     Namespace icebergNS = RESTUtil.decodeNamespace(namespace);
     boolean isCredentialVending = isCredentialVending(accessDelegation);
@@ -224,9 +232,17 @@ public class IcebergTableOperations {
     if (isCredentialVending) {
       return IcebergRestUtils.ok(
           injectCredentialConfig(catalogName, tableIdentifier, loadTableResponse));
-    } else {
+    }
+
+    // The credentials vended may expire, so only the responses without credentials are tagged.
+    EntityTag entityTag = tableEntityTag(loadTableResponse.tableMetadata().metadataFileLocation());
+    if (entityTag == null) {
       return IcebergRestUtils.ok(loadTableResponse);
     }
+    if (matchEntityTag(ifNoneMatch, entityTag)) {
+      return IcebergRestUtils.notModified(entityTag);
+    }
+    return IcebergRestUtils.ok(loadTableResponse, entityTag);
   }
 
   @HEAD
@@ -265,10 +281,37 @@ public class IcebergTableOperations {
       @PathParam("namespace") String namespace,
       @PathParam("table") String table,
       ReportMetricsRequest request) {
-    icebergMetricsManager.recordMetric(request.report());
+    String catalogName = IcebergRestUtils.getCatalogName(prefix);
+    TableIdentifier tableIdentifier =
+        TableIdentifier.of(RESTUtil.decodeNamespace(namespace), table);
+    icebergMetricsManager.recordMetric(catalogName, tableIdentifier, request.report());
     return IcebergRestUtils.noContent();
   }
 
+  @GET
+  @Path("{table}/metrics")
+  @Produces(MediaType.APPLICATION_JSON)
+  @Timed(name = "get-table-metrics." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "get-table-metrics", absolute = true)
+  public Response getTableMetrics(
+      @PathParam("prefix") String prefix,
+      @PathParam("namespace") String namespace,
+      @PathParam("table") String table,
+      @DefaultValue("0") @QueryParam("since") long since) {
+    String catalogName = IcebergRestUtils.getCatalogName(prefix);
+    TableIdentifier tableIdentifier =
+        TableIdentifier.of(RESTUtil.decodeNamespace(namespace), table);
+    try {
+      IcebergScanStatistics scanStatistics =
+          icebergMetricsManager.getScanStatistics(
+              catalogName, tableIdentifier, Instant.ofEpochMilli(since));
+      return IcebergRestUtils.ok(scanStatistics);
+    } catch (IOException e) {
+      throw new ServiceUnavailableException(
+          e, "Failed to query Iceberg metrics of %s in catalog %s", tableIdentifier, catalogName);
+    }
+  }
+
   private String SerializeUpdateTableRequest(UpdateTableRequest updateTableRequest) {
     try {
       return icebergObjectMapper.writeValueAsString(updateTableRequest);
@@ -309,6 +352,30 @@ public class IcebergTableOperations {
         .build();
   }
 
+  // A table is changed by writing a new metadata file, so the location of the current metadata
+  // file identifies the version of the table.
+  @VisibleForTesting
+  static EntityTag tableEntityTag(String metadataLocation) {
+    if (metadataLocation == null) {
+      return null;
+    }
+    return new EntityTag(
+        Hashing.sha256().hashString(metadataLocation, StandardCharsets.UTF_8).toString());
+  }
+
+  private static boolean matchEntityTag(String ifNoneMatch, EntityTag entityTag) {
+    if (StringUtils.isBlank(ifNoneMatch)) {
+      return false;
+    }
+    for (String value : ifNoneMatch.split(",")) {
+      String tag = StringUtils.removeStart(value.trim(), "W/");
+      if ("*".equals(tag) || tag.equals("\"" + entityTag.getValue() + "\"")) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   private boolean isCredentialVending(String accessDelegation) {
     if (StringUtils.isBlank(accessDelegation)) {
       return false;
@@ -18,19 +18,29 @@
  */
 package org.apache.gravitino.iceberg.service;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergConstants;
+import org.apache.gravitino.iceberg.common.IcebergConfig;
 import org.apache.gravitino.iceberg.common.ops.IcebergCatalogWrapper;
 import org.apache.gravitino.iceberg.service.provider.IcebergConfigProvider;
 import org.apache.gravitino.iceberg.service.provider.IcebergConfigProviderFactory;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mockito;
 
 public class TestIcebergCatalogWrapperManager {
 
   private static final String DEFAULT_CATALOG = "memory";
+  private static final String CATALOG_NAME = "catalog";
 
   @ParameterizedTest
   @ValueSource(strings = {"", "hello/", "\\\n\t\\\'/", "\u0024/", "\100/", "[_~/"})
@@ -64,4 +74,95 @@ public class TestIcebergCatalogWrapperManager {
 
     Assertions.assertThrowsExactly(IllegalArgumentException.class, () -> manager.getOps(rawPrefix));
   }
+
+  @Test
+  public void testRefreshCatalogWrapper() throws Exception {
+    TestConfigProvider configProvider = new TestConfigProvider();
+    configProvider.catalogConfig = ImmutableMap.of(IcebergConstants.CATALOG_BACKEND, "memory");
+    Map<String, String> config =
+        ImmutableMap.of(
+            IcebergConstants.ICEBERG_REST_CATALOG_CACHE_REFRESH_INTERVAL,
+            "1",
+            IcebergConstants.ICEBERG_REST_CATALOG_CACHE_WARM_UP_ENABLED,
+            "true");
+    AtomicInteger createdCount = new AtomicInteger();
+
+    try (IcebergCatalogWrapperManager manager =
+        new IcebergCatalogWrapperManager(config, configProvider) {
+          @Override
+          protected IcebergCatalogWrapper createIcebergCatalogWrapper(IcebergConfig icebergConfig) {
+            createdCount.incrementAndGet();
+            return Mockito.spy(super.createIcebergCatalogWrapper(icebergConfig));
+          }
+        }) {
+      // The catalog wrapper is created at startup
+      Assertions.assertEquals(1, createdCount.get());
+      IcebergCatalogWrapper catalogWrapper = manager.getCatalogWrapper(CATALOG_NAME);
+      Assertions.assertEquals(1, createdCount.get());
+
+      // The catalog wrapper is kept if the configuration isn't changed
+      for (int i = 0; i < 10; i++) {
+        Thread.sleep(10);
+        Assertions.assertSame(catalogWrapper, manager.getCatalogWrapper(CATALOG_NAME));
+      }
+      Assertions.assertEquals(1, createdCount.get());
+
+      // The catalog wrapper is recreated in the background if the configuration is changed
+      configProvider.catalogConfig =
+          ImmutableMap.of(IcebergConstants.CATALOG_BACKEND, "memory", "key", "value");
+      IcebergCatalogWrapper refreshedCatalogWrapper = catalogWrapper;
+      for (int i = 0; i < 500 && refreshedCatalogWrapper == catalogWrapper; i++) {
+        Thread.sleep(10);
+        refreshedCatalogWrapper = manager.getCatalogWrapper(CATALOG_NAME);
+      }
+      Assertions.assertNotSame(catalogWrapper, refreshedCatalogWrapper);
+      Assertions.assertEquals(2, createdCount.get());
+      Mockito.verify(catalogWrapper, Mockito.never()).close();
+    }
+
+    // The replaced catalog wrapper is closed with the manager instead of waiting for the delay
+    Mockito.verify(catalogWrapper, Mockito.timeout(5000)).close();
+  }
+
+  @Test
+  public void testWarmUpIsBestEffort() throws Exception {
+    TestConfigProvider configProvider =
+        new TestConfigProvider() {
+          @Override
+          public List<String> getCatalogNames() {
+            throw new RuntimeException("Failed to list the catalogs");
+          }
+        };
+    configProvider.catalogConfig = ImmutableMap.of(IcebergConstants.CATALOG_BACKEND, "memory");
+    Map<String, String> config =
+        ImmutableMap.of(IcebergConstants.ICEBERG_REST_CATALOG_CACHE_WARM_UP_ENABLED, "true");
+
+    try (IcebergCatalogWrapperManager manager =
+        new IcebergCatalogWrapperManager(config, configProvider)) {
+      Assertions.assertNotNull(manager.getCatalogWrapper(CATALOG_NAME));
+    }
+  }
+
+  private static class TestConfigProvider implements IcebergConfigProvider {
+
+    private volatile Map<String, String> catalogConfig;
+
+    @Override
+    public void initialize(Map<String, String> properties) {}
+
+    @Override
+    public Optional<IcebergConfig> getIcebergCatalogConfig(String catalogName) {
+      return CATALOG_NAME.equals(catalogName)
+          ? Optional.of(new IcebergConfig(catalogConfig))
+          : Optional.empty();
+    }
+
+    @Override
+    public List<String> getCatalogNames() {
+      return ImmutableList.of(CATALOG_NAME);
+    }
+
+    @Override
+    public void close() {}
+  }
 }
@@ -22,18 +22,34 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.testcontainers.shaded.org.awaitility.Awaitility.await;
 
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergConstants;
 import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.metrics.ImmutableCommitMetricsResult;
 import org.apache.iceberg.metrics.ImmutableCommitReport;
 import org.apache.iceberg.metrics.MetricsReport;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class TestIcebergMetricsManager {
 
+  private static final String CATALOG = "catalog";
+  private static final TableIdentifier TABLE = TableIdentifier.of("db", "a");
+
+  /** Fails to write every report, used to verify the failed reports are counted as dropped. */
+  public static class FailingMetricsStore extends MemoryMetricsStore {
+    @Override
+    public void recordMetric(MetricsReport metricsReport) {
+      throw new RuntimeException("Failed to write the report");
+    }
+  }
+
   private MetricsReport createMetricsReport() {
     ImmutableCommitMetricsResult commitMetricsResult =
         ImmutableCommitMetricsResult.builder().build();
@@ -64,7 +80,7 @@ public class TestIcebergMetricsManager {
     icebergMetricsManager.start();
 
     MetricsReport metricsReport = createMetricsReport();
-    icebergMetricsManager.recordMetric(metricsReport);
+    icebergMetricsManager.recordMetric(CATALOG, TABLE, metricsReport);
     Assertions.assertDoesNotThrow(
         () -> (DummyMetricsStore) icebergMetricsManager.getIcebergMetricsStore());
     icebergMetricsManager.close();
@@ -90,7 +106,7 @@ public class TestIcebergMetricsManager {
     icebergMetricsManager.start();
 
     MetricsReport metricsReport = createMetricsReport();
-    icebergMetricsManager.recordMetric(metricsReport);
+    icebergMetricsManager.recordMetric(CATALOG, TABLE, metricsReport);
     MemoryMetricsStore memoryMetricsStore =
         (MemoryMetricsStore) icebergMetricsManager.getIcebergMetricsStore();
     Assertions.assertEquals(metricsReport, tryGetIcebergMetrics(memoryMetricsStore));
@@ -98,4 +114,72 @@ public class TestIcebergMetricsManager {
 
     icebergMetricsManager.close();
   }
+
+  @Test
+  void testIcebergMetricsManagerDropMetrics() {
+    IcebergMetricsManager icebergMetricsManager = new IcebergMetricsManager(new IcebergConfig());
+    icebergMetricsManager.start();
+    icebergMetricsManager.close();
+
+    icebergMetricsManager.recordMetric(CATALOG, TABLE, createMetricsReport());
+    Assertions.assertEquals(1, icebergMetricsManager.getMetricsSource().dropCount());
+  }
+
+  @Test
+  void testIcebergMetricsManagerDropFailedBatch() {
+    IcebergConfig icebergConfig =
+        new IcebergConfig(
+            ImmutableMap.of(
+                IcebergConstants.ICEBERG_METRICS_STORE, FailingMetricsStore.class.getName()));
+    IcebergMetricsManager icebergMetricsManager = new IcebergMetricsManager(icebergConfig);
+    icebergMetricsManager.start();
+
+    icebergMetricsManager.recordMetric(CATALOG, TABLE, createMetricsReport());
+    icebergMetricsManager.recordMetric(CATALOG, TABLE, createMetricsReport());
+    await()
+        .atMost(20, TimeUnit.SECONDS)
+        .pollInterval(100, TimeUnit.MILLISECONDS)
+        .untilAsserted(
+            () -> Assertions.assertEquals(2, icebergMetricsManager.getMetricsSource().dropCount()));
+    icebergMetricsManager.close();
+  }
+
+  @Test
+  void testIcebergMetricsManagerWithJdbcStore(@TempDir Path tempDir) throws IOException {
+    IcebergConfig icebergConfig =
+        new IcebergConfig(
+            ImmutableMap.of(
+                IcebergConstants.ICEBERG_METRICS_STORE,
+                JdbcMetricsStore.ICEBERG_METRICS_STORE_JDBC_NAME,
+                IcebergConstants.ICEBERG_METRICS_STORE_JDBC_URL,
+                "jdbc:sqlite:" + tempDir.resolve("metrics.db")));
+
+    IcebergMetricsManager icebergMetricsManager = new IcebergMetricsManager(icebergConfig);
+    icebergMetricsManager.start();
+    Assertions.assertInstanceOf(
+        JdbcMetricsStore.class, icebergMetricsManager.getIcebergMetricsStore());
+    // Only the scan reports are aggregated.
+    icebergMetricsManager.recordMetric(CATALOG, TABLE, createMetricsReport());
+    icebergMetricsManager.recordMetric(
+        CATALOG, TABLE, TestJdbcMetricsStore.createScanReport("client_catalog.db.a", 100, 2, 1024));
+
+    await()
+        .atMost(20, TimeUnit.SECONDS)
+        .pollInterval(100, TimeUnit.MILLISECONDS)
+        .untilAsserted(
+            () ->
+                Assertions.assertEquals(
+                    1,
+                    icebergMetricsManager
+                        .getScanStatistics(CATALOG, TABLE, Instant.ofEpochMilli(0))
+                        .scanCount()));
+    IcebergScanStatistics statistics =
+        icebergMetricsManager.getScanStatistics(CATALOG, TABLE, Instant.ofEpochMilli(0));
+    Assertions.assertEquals("db.a", statistics.tableName());
+    Assertions.assertEquals(100, statistics.avgPlanningDurationMs(), 0.001);
+    Assertions.assertEquals(100, statistics.maxPlanningDurationMs());
+    Assertions.assertEquals(2, statistics.resultDataFiles());
+    Assertions.assertEquals(1024, statistics.totalFileSizeInBytes());
+    icebergMetricsManager.close();
+  }
 }
@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.service.metrics;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergConstants;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.metrics.CounterResult;
+import org.apache.iceberg.metrics.ImmutableCommitMetricsResult;
+import org.apache.iceberg.metrics.ImmutableCommitReport;
+import org.apache.iceberg.metrics.ImmutableScanMetricsResult;
+import org.apache.iceberg.metrics.ImmutableScanReport;
+import org.apache.iceberg.metrics.MetricsContext;
+import org.apache.iceberg.metrics.MetricsReport;
+import org.apache.iceberg.metrics.TimerResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+public class TestJdbcMetricsStore {
+
+  private static final TableIdentifier TABLE = TableIdentifier.of("db", "table");
+
+  @TempDir private Path tempDir;
+
+  private String jdbcUrl;
+  private JdbcMetricsStore metricsStore;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    jdbcUrl = createJdbcUrl(tempDir);
+    metricsStore = createMetricsStore();
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    metricsStore.close();
+  }
+
+  protected String createJdbcUrl(Path dir) {
+    return "jdbc:sqlite:" + dir.resolve("metrics.db");
+  }
+
+  protected String driverClassName() {
+    return "org.sqlite.JDBC";
+  }
+
+  @Test
+  void testRecordMetricsAndGetScanStatistics() throws IOException {
+    metricsStore.recordMetrics(
+        Arrays.asList(
+            new TableMetricsReport(
+                "catalog", TABLE, createScanReport("client_catalog.db.table", 100, 2, 1024)),
+            new TableMetricsReport("catalog", TABLE, createScanReport("db.table", 300, 4, 2048)),
+            new TableMetricsReport(
+                "catalog",
+                TableIdentifier.of("db", "other_table"),
+                createScanReport("db.other_table", 500, 8, 4096)),
+            // The table with the same name in another catalog or a nested namespace
+            new TableMetricsReport(
+                "other_catalog", TABLE, createScanReport("db.table", 700, 16, 8192)),
+            new TableMetricsReport(
+                "catalog",
+                TableIdentifier.of("parent", "db", "table"),
+                createScanReport("parent.db.table", 700, 16, 8192)),
+            new TableMetricsReport("catalog", TABLE, createCommitReport("db.table"))));
+
+    IcebergScanStatistics statistics =
+        metricsStore.getScanStatistics("catalog", TABLE, Instant.ofEpochMilli(0));
+    Assertions.assertEquals("catalog", statistics.catalogName());
+    Assertions.assertEquals("db.table", statistics.tableName());
+    Assertions.assertEquals(2, statistics.scanCount());
+    Assertions.assertEquals(200, statistics.avgPlanningDurationMs(), 0.001);
+    Assertions.assertEquals(300, statistics.maxPlanningDurationMs());
+    Assertions.assertEquals(6, statistics.resultDataFiles());
+    Assertions.assertEquals(3072, statistics.totalFileSizeInBytes());
+
+    Assertions.assertEquals(
+        1,
+        metricsStore
+            .getScanStatistics("other_catalog", TABLE, Instant.ofEpochMilli(0))
+            .scanCount());
+    Assertions.assertEquals(
+        0,
+        metricsStore
+            .getScanStatistics("catalog", TableIdentifier.of("db", "t"), Instant.ofEpochMilli(0))
+            .scanCount());
+    Assertions.assertEquals(
+        0,
+        metricsStore
+            .getScanStatistics("catalog", TABLE, Instant.now().plusSeconds(60))
+            .scanCount());
+    Assertions.assertEquals(6, countReports());
+  }
+
+  @Test
+  void testReopenStore() throws IOException {
+    metricsStore.recordMetrics(
+        Collections.singletonList(
+            new TableMetricsReport("catalog", TABLE, createScanReport("db.table", 100, 1, 10))));
+    metricsStore.close();
+
+    // The table created before is reused.
+    metricsStore = createMetricsStore();
+    metricsStore.recordMetrics(
+        Collections.singletonList(
+            new TableMetricsReport("catalog", TABLE, createScanReport("db.table", 100, 1, 10))));
+    Assertions.assertEquals(
+        2, metricsStore.getScanStatistics("catalog", TABLE, Instant.ofEpochMilli(0)).scanCount());
+  }
+
+  @Test
+  void testRecordMetricWithoutTable() throws IOException {
+    // The report is saved, but not aggregated with the reports of any table
+    metricsStore.recordMetric(createScanReport("db.table", 100, 1, 10));
+    Assertions.assertEquals(1, countReports());
+    Assertions.assertEquals(
+        0, metricsStore.getScanStatistics("catalog", TABLE, Instant.ofEpochMilli(0)).scanCount());
+  }
+
+  @Test
+  void testClean() throws IOException {
+    metricsStore.recordMetrics(
+        Arrays.asList(
+            new TableMetricsReport("catalog", TABLE, createScanReport("db.table", 100, 1, 10)),
+            new TableMetricsReport("catalog", TABLE, createCommitReport("db.table"))));
+    Assertions.assertEquals(2, countReports());
+
+    metricsStore.clean(Instant.ofEpochMilli(0));
+    Assertions.assertEquals(2, countReports());
+
+    metricsStore.clean(Instant.now().plusSeconds(60));
+    Assertions.assertEquals(0, countReports());
+  }
+
+  @Test
+  void testInitWithoutJdbcUrl() {
+    JdbcMetricsStore store = new JdbcMetricsStore();
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> store.init(Collections.emptyMap()));
+  }
+
+  @Test
+  void testReportColumnType() throws SQLException {
+    DatabaseMetaData metaData = Mockito.mock(DatabaseMetaData.class);
+    Mockito.when(metaData.getDatabaseProductName()).thenReturn("MySQL");
+    Assertions.assertEquals("MEDIUMTEXT", JdbcMetricsStore.reportColumnType(metaData));
+    Mockito.when(metaData.getDatabaseProductName()).thenReturn("PostgreSQL");
+    Assertions.assertEquals("TEXT", JdbcMetricsStore.reportColumnType(metaData));
+  }
+
+  private JdbcMetricsStore createMetricsStore() throws IOException {
+    Map<String, String> properties =
+        ImmutableMap.of(
+            IcebergConstants.ICEBERG_METRICS_STORE_JDBC_URL,
+            jdbcUrl,
+            IcebergConstants.ICEBERG_METRICS_STORE_JDBC_DRIVER,
+            driverClassName());
+    JdbcMetricsStore store = new JdbcMetricsStore();
+    store.init(properties);
+    return store;
+  }
+
+  private long countReports() {
+    try (Connection connection = DriverManager.getConnection(jdbcUrl);
+        Statement statement = connection.createStatement();
+        ResultSet resultSet =
+            statement.executeQuery("SELECT COUNT(*) FROM " + JdbcMetricsStore.TABLE_NAME)) {
+      resultSet.next();
+      return resultSet.getLong(1);
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  static MetricsReport createScanReport(
+      String tableName, long planningDurationMs, long resultDataFiles, long totalFileSize) {
+    return ImmutableScanReport.builder()
+        .tableName(tableName)
+        .snapshotId(1)
+        .filter(Expressions.alwaysTrue())
+        .schemaId(0)
+        .projectedFieldIds(Collections.singletonList(1))
+        .projectedFieldNames(Collections.singletonList("id"))
+        .scanMetrics(
+            ImmutableScanMetricsResult.builder()
+                .totalPlanningDuration(
+                    TimerResult.of(TimeUnit.NANOSECONDS, Duration.ofMillis(planningDurationMs), 1))
+                .resultDataFiles(CounterResult.of(MetricsContext.Unit.COUNT, resultDataFiles))
+                .totalFileSizeInBytes(CounterResult.of(MetricsContext.Unit.BYTES, totalFileSize))
+                .build())
+        .build();
+  }
+
+  private static MetricsReport createCommitReport(String tableName) {
+    return ImmutableCommitReport.builder()
+        .tableName(tableName)
+        .snapshotId(1)
+        .sequenceNumber(1)
+        .operation("append")
+        .commitMetrics(ImmutableCommitMetricsResult.builder().build())
+        .build();
+  }
+}
@@ -26,6 +26,8 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.core.Application;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
@@ -97,6 +99,30 @@ public class TestIcebergTableOperations extends TestIcebergNamespaceOperations {
     verifyLoadTableFail("load_foo2", 404);
   }
 
+  @Test
+  void testLoadTableWithEntityTag() {
+    verifyCreateNamespaceSucc(IcebergRestTestUtil.TEST_NAMESPACE_NAME);
+    verifyCreateTableSucc("etag_foo1");
+
+    Response response = doLoadTable("etag_foo1");
+    Assertions.assertEquals(Status.OK.getStatusCode(), response.getStatus());
+    EntityTag entityTag = response.getEntityTag();
+    Assertions.assertNotNull(entityTag);
+    TableMetadata metadata = response.readEntity(LoadTableResponse.class).tableMetadata();
+    Assertions.assertEquals(
+        IcebergTableOperations.tableEntityTag(metadata.metadataFileLocation()), entityTag);
+
+    // The unchanged table is not returned again
+    response = doLoadTable("etag_foo1", entityTag);
+    Assertions.assertEquals(Status.NOT_MODIFIED.getStatusCode(), response.getStatus());
+    Assertions.assertEquals(entityTag, response.getEntityTag());
+
+    verifyUpdateSucc("etag_foo1", metadata);
+    response = doLoadTable("etag_foo1", entityTag);
+    Assertions.assertEquals(Status.OK.getStatusCode(), response.getStatus());
+    Assertions.assertNotEquals(entityTag, response.getEntityTag());
+  }
+
   @Test
   void testDropTable() {
     verifyDropTableFail("drop_foo1", 404);
@@ -273,6 +299,12 @@ public class TestIcebergTableOperations extends TestIcebergNamespaceOperations {
     return getTableClientBuilder(Optional.of(name)).get();
   }
 
+  private Response doLoadTable(String name, EntityTag entityTag) {
+    return getTableClientBuilder(Optional.of(name))
+        .header(HttpHeaders.IF_NONE_MATCH, entityTag.toString())
+        .get();
+  }
+
   private Response doUpdateTable(String name, TableMetadata base) {
     TableMetadata newMetadata = base.updateSchema(newTableSchema, base.lastColumnId());
     List<MetadataUpdate> metadataUpdates = newMetadata.changes();
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Splits the entities returned by a list operation into pages. The entities are ordered by name,
+ * and the token of the next page is an opaque encoding of the last name of the current page, so a
+ * page is always resumed after that name even if entities are created or dropped in between. The
+ * page is selected by the list operation itself, so a request doesn't list all the entities.
+ */
+public class Pagination {
+
+  private Pagination() {}
+
+  /**
+   * Lists a page of the entities ordered by name.
+   *
+   * @param <T> The type of the entities.
+   */
+  @FunctionalInterface
+  public interface PageLister<T> {
+
+    /**
+     * Lists the entities whose names follow the given name.
+     *
+     * @param startAfter The last name of the previous page, or null for the first page.
+     * @param limit The maximum number of the entities to list.
+     * @return The listed entities, ordered by name.
+     */
+    T[] list(String startAfter, int limit);
+  }
+
+  /**
+   * A page of the listed entities.
+   *
+   * @param <T> The type of the entities.
+   */
+  public static class Page<T> {
+
+    private final T[] items;
+    private final String nextPageToken;
+
+    private Page(T[] items, String nextPageToken) {
+      this.items = items;
+      this.nextPageToken = nextPageToken;
+    }
+
+    /** @return The entities of this page. */
+    public T[] items() {
+      return items;
+    }
+
+    /** @return The token to fetch the next page, or null if this is the last page. */
+    public String nextPageToken() {
+      return nextPageToken;
+    }
+  }
+
+  /**
+   * Gets the requested page of the entities. If neither the page size nor the page token is
+   * specified, all the entities are listed as a single page in their original order.
+   *
+   * @param lister The function to list all the entities.
+   * @param pageLister The function to list a page of the entities.
+   * @param nameFn The function to get the name of an entity.
+   * @param pageSize The maximum number of the entities in the page, or null for no limit.
+   * @param pageToken The token returned with the previous page, or null for the first page.
+   * @param <T> The type of the entities.
+   * @return The requested page.
+   * @throws IllegalArgumentException If the page size is not positive or the token is malformed.
+   */
+  public static <T> Page<T> page(
+      Supplier<T[]> lister,
+      PageLister<T> pageLister,
+      Function<T, String> nameFn,
+      Integer pageSize,
+      String pageToken) {
+    if (pageSize == null && pageToken == null) {
+      return new Page<>(lister.get(), null);
+    }
+    Preconditions.checkArgument(
+        pageSize == null || pageSize > 0, "pageSize must be positive, but got %s", pageSize);
+
+    String startAfter = pageToken == null ? null : decodeToken(pageToken);
+    // One more entity is listed to know whether there is a next page.
+    int limit =
+        pageSize == null || pageSize == Integer.MAX_VALUE ? Integer.MAX_VALUE : pageSize + 1;
+    T[] items = pageLister.list(startAfter, limit);
+    if (pageSize == null || items.length <= pageSize) {
+      return new Page<>(items, null);
+    }
+
+    T[] pageItems = Arrays.copyOf(items, pageSize);
+    return new Page<>(pageItems, encodeToken(nameFn.apply(pageItems[pageSize - 1])));
+  }
+
+  @VisibleForTesting
+  static String encodeToken(String lastName) {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(lastName.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @VisibleForTesting
+  static String decodeToken(String pageToken) {
+    try {
+      return new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid page token: " + pageToken, e);
+    }
+  }
+}
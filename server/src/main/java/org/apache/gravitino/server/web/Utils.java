@@ -32,6 +32,8 @@ import org.apache.gravitino.audit.FilesetDataOperation;
 import org.apache.gravitino.audit.InternalClientType;
 import org.apache.gravitino.auth.AuthConstants;
 import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.tracing.Span;
+import org.apache.gravitino.tracing.Tracer;
 import org.apache.gravitino.utils.PrincipalUtils;
 
 public class Utils {
@@ -185,7 +187,20 @@ public class Utils {
     if (principal == null) {
       principal = new UserPrincipal(AuthConstants.ANONYMOUS_USER);
     }
-    return PrincipalUtils.doAs(principal, action);
+
+    // The root span of a traced request, the spans of the dispatchers, the catalogs and the entity
+    // store in the request are its descendants.
+    try (Span span =
+        Tracer.startSpan(httpRequest.getMethod() + " " + httpRequest.getRequestURI())) {
+      try {
+        Response response = PrincipalUtils.doAs(principal, action);
+        span.setAttribute("http.status_code", response.getStatus());
+        return response;
+      } catch (Exception e) {
+        span.recordException(e);
+        throw e;
+      }
+    }
   }
 
   public static Map<String, String> filterFilesetAuditHeaders(HttpServletRequest httpRequest) {
@@ -39,12 +39,14 @@ import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.audit.CallerContext;
 import org.apache.gravitino.catalog.FilesetDispatcher;
+import org.apache.gravitino.dto.requests.FileLocationsRequest;
 import org.apache.gravitino.dto.requests.FilesetCreateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdatesRequest;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.FileLocationResponse;
+import org.apache.gravitino.dto.responses.FileLocationsResponse;
 import org.apache.gravitino.dto.responses.FilesetResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.file.Fileset;
@@ -53,6 +55,8 @@ import org.apache.gravitino.lock.LockType;
 import org.apache.gravitino.lock.TreeLockUtils;
 import org.apache.gravitino.metrics.MetricNames;
 import org.apache.gravitino.rest.RESTUtils;
+import org.apache.gravitino.server.web.Pagination;
+import org.apache.gravitino.server.web.Pagination.Page;
 import org.apache.gravitino.server.web.Utils;
 import org.apache.gravitino.utils.NameIdentifierUtil;
 import org.apache.gravitino.utils.NamespaceUtil;
@@ -80,22 +84,21 @@ public class FilesetOperations {
   public Response listFilesets(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
-      @PathParam("schema") String schema) {
+      @PathParam("schema") String schema,
+      @QueryParam("pageSize") Integer pageSize,
+      @QueryParam("pageToken") String pageToken) {
     try {
       LOG.info("Received list filesets request for schema: {}.{}.{}", metalake, catalog, schema);
       return Utils.doAs(
           httpRequest,
           () -> {
             Namespace filesetNS = NamespaceUtil.ofFileset(metalake, catalog, schema);
-            NameIdentifier[] idents =
-                TreeLockUtils.doWithTreeLock(
-                    NameIdentifier.of(metalake, catalog, schema),
-                    LockType.READ,
-                    () -> dispatcher.listFilesets(filesetNS));
-            Response response = Utils.ok(new EntityListResponse(idents));
+            Page<NameIdentifier> page = listFilesetsPage(filesetNS, pageSize, pageToken);
+            Response response =
+                Utils.ok(new EntityListResponse(page.items(), page.nextPageToken()));
             LOG.info(
                 "List {} filesets under schema: {}.{}.{}",
-                idents.length,
+                page.items().length,
                 metalake,
                 catalog,
                 schema);
@@ -296,4 +299,62 @@ public class FilesetOperations {
       CallerContext.CallerContextHolder.remove();
     }
   }
+
+  @POST
+  @Path("{fileset}/locations")
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "get-file-locations." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "get-file-locations", absolute = true)
+  public Response getFileLocations(
+      @PathParam("metalake") String metalake,
+      @PathParam("catalog") String catalog,
+      @PathParam("schema") String schema,
+      @PathParam("fileset") String fileset,
+      FileLocationsRequest request) {
+    LOG.info(
+        "Received get file locations request: {}.{}.{}.{}", metalake, catalog, schema, fileset);
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            request.validate();
+            NameIdentifier ident = NameIdentifierUtil.ofFileset(metalake, catalog, schema, fileset);
+            Map<String, String> filteredAuditHeaders = Utils.filterFilesetAuditHeaders(httpRequest);
+            // set the audit info into the thread local context
+            if (!filteredAuditHeaders.isEmpty()) {
+              CallerContext context =
+                  CallerContext.builder().withContext(filteredAuditHeaders).build();
+              CallerContext.CallerContextHolder.set(context);
+            }
+            String[] actualFileLocations =
+                TreeLockUtils.doWithTreeLock(
+                    ident,
+                    LockType.READ,
+                    () -> dispatcher.getFileLocations(ident, request.getSubPaths()));
+            return Utils.ok(new FileLocationsResponse(actualFileLocations));
+          });
+    } catch (Exception e) {
+      return ExceptionHandlers.handleFilesetException(OperationType.GET, fileset, schema, e);
+    } finally {
+      // Clear the caller context
+      CallerContext.CallerContextHolder.remove();
+    }
+  }
+
+  private Page<NameIdentifier> listFilesetsPage(
+      Namespace namespace, Integer pageSize, String pageToken) {
+    NameIdentifier parentIdent = NameIdentifier.of(namespace.levels());
+    return Pagination.page(
+        () ->
+            TreeLockUtils.doWithTreeLock(
+                parentIdent, LockType.READ, () -> dispatcher.listFilesets(namespace)),
+        (startAfter, limit) ->
+            TreeLockUtils.doWithTreeLock(
+                parentIdent,
+                LockType.READ,
+                () -> dispatcher.listFilesets(namespace, startAfter, limit)),
+        NameIdentifier::name,
+        pageSize,
+        pageToken);
+  }
 }
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.server.web.rest;
+
+import com.codahale.metrics.annotation.ResponseMetered;
+import com.codahale.metrics.annotation.Timed;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.Response;
+import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.dto.responses.GarbageCollectorResponse;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.server.web.Utils;
+import org.apache.gravitino.storage.relational.RelationalEntityStore;
+import org.apache.gravitino.storage.relational.RelationalGarbageCollector;
+
+/** Triggers and inspects the runs of the garbage collector of the relational entity store. */
+@Path("/admin/garbage-collector")
+public class GarbageCollectorOperations {
+
+  @Context private HttpServletRequest httpRequest;
+
+  @GET
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "get-garbage-collector." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "get-garbage-collector", absolute = true)
+  public Response getGarbageCollector() {
+    return handle(false);
+  }
+
+  @POST
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "trigger-garbage-collector." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "trigger-garbage-collector", absolute = true)
+  public Response triggerGarbageCollector() {
+    return handle(true);
+  }
+
+  private Response handle(boolean trigger) {
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            // The entity store is retrieved per request since it isn't bound for the injection.
+            EntityStore entityStore = GravitinoEnv.getInstance().entityStore();
+            if (!(entityStore instanceof RelationalEntityStore)) {
+              return Utils.unsupportedOperation(
+                  "The garbage collector is only supported by the relational entity store");
+            }
+
+            RelationalGarbageCollector garbageCollector =
+                ((RelationalEntityStore) entityStore).garbageCollector();
+            // A run in progress is not triggered again, the response shows its status instead.
+            boolean triggered = trigger && garbageCollector.trigger();
+            return Utils.ok(
+                new GarbageCollectorResponse(
+                    triggered,
+                    garbageCollector.isRunning(),
+                    garbageCollector.lastRunStartTime(),
+                    garbageCollector.lastRunEndTime(),
+                    garbageCollector.lastRunDeletedRowNum(),
+                    garbageCollector.pendingEntityTypeNum(),
+                    garbageCollector.pendingRowNum()));
+          });
+    } catch (Exception e) {
+      return Utils.internalError(e.getMessage(), e);
+    }
+  }
+}
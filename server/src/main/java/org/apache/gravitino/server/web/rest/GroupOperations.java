@@ -20,6 +20,7 @@ package org.apache.gravitino.server.web.rest;
 
 import com.codahale.metrics.annotation.ResponseMetered;
 import com.codahale.metrics.annotation.Timed;
+import java.util.function.Function;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.DELETE;
 import javax.ws.rs.DefaultValue;
@@ -36,6 +37,7 @@ import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.authorization.AccessControlDispatcher;
 import org.apache.gravitino.authorization.AuthorizationUtils;
+import org.apache.gravitino.authorization.Group;
 import org.apache.gravitino.dto.requests.GroupAddRequest;
 import org.apache.gravitino.dto.responses.GroupListResponse;
 import org.apache.gravitino.dto.responses.GroupResponse;
@@ -46,6 +48,8 @@ import org.apache.gravitino.lock.LockType;
 import org.apache.gravitino.lock.TreeLockUtils;
 import org.apache.gravitino.metrics.MetricNames;
 import org.apache.gravitino.server.authorization.NameBindings;
+import org.apache.gravitino.server.web.Pagination;
+import org.apache.gravitino.server.web.Pagination.Page;
 import org.apache.gravitino.server.web.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -146,18 +150,35 @@ public class GroupOperations {
   @ResponseMetered(name = "list-group", absolute = true)
   public Response listGroups(
       @PathParam("metalake") String metalake,
-      @QueryParam("details") @DefaultValue("false") boolean verbose) {
+      @QueryParam("details") @DefaultValue("false") boolean verbose,
+      @QueryParam("pageSize") Integer pageSize,
+      @QueryParam("pageToken") String pageToken) {
     LOG.info("Received list groups request.");
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
             if (verbose) {
+              Page<Group> page =
+                  Pagination.page(
+                      () -> accessControlManager.listGroups(metalake),
+                      (startAfter, limit) ->
+                          accessControlManager.listGroups(metalake, startAfter, limit),
+                      Group::name,
+                      pageSize,
+                      pageToken);
               return Utils.ok(
-                  new GroupListResponse(
-                      DTOConverters.toDTOs(accessControlManager.listGroups(metalake))));
+                  new GroupListResponse(DTOConverters.toDTOs(page.items()), page.nextPageToken()));
             } else {
-              return Utils.ok(new NameListResponse(accessControlManager.listGroupNames(metalake)));
+              Page<String> page =
+                  Pagination.page(
+                      () -> accessControlManager.listGroupNames(metalake),
+                      (startAfter, limit) ->
+                          accessControlManager.listGroupNames(metalake, startAfter, limit),
+                      Function.identity(),
+                      pageSize,
+                      pageToken);
+              return Utils.ok(new NameListResponse(page.items(), page.nextPageToken()));
             }
           });
 
@@ -24,6 +24,7 @@ import com.google.common.collect.Sets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.DELETE;
@@ -32,6 +33,7 @@ import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
 import org.apache.gravitino.GravitinoEnv;
@@ -56,6 +58,8 @@ import org.apache.gravitino.lock.LockType;
 import org.apache.gravitino.lock.TreeLockUtils;
 import org.apache.gravitino.metrics.MetricNames;
 import org.apache.gravitino.server.authorization.NameBindings;
+import org.apache.gravitino.server.web.Pagination;
+import org.apache.gravitino.server.web.Pagination.Page;
 import org.apache.gravitino.server.web.Utils;
 import org.apache.gravitino.utils.MetadataObjectUtil;
 import org.slf4j.Logger;
@@ -78,7 +82,10 @@ public class RoleOperations {
   @Produces("application/vnd.gravitino.v1+json")
   @Timed(name = "list-role." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "list-role", absolute = true)
-  public Response listRoles(@PathParam("metalake") String metalake) {
+  public Response listRoles(
+      @PathParam("metalake") String metalake,
+      @QueryParam("pageSize") Integer pageSize,
+      @QueryParam("pageToken") String pageToken) {
     try {
       return Utils.doAs(
           httpRequest,
@@ -87,8 +94,15 @@ public class RoleOperations {
                   NameIdentifier.of(metalake),
                   LockType.READ,
                   () -> {
-                    String[] names = accessControlManager.listRoleNames(metalake);
-                    return Utils.ok(new NameListResponse(names));
+                    Page<String> page =
+                        Pagination.page(
+                            () -> accessControlManager.listRoleNames(metalake),
+                            (startAfter, limit) ->
+                                accessControlManager.listRoleNames(metalake, startAfter, limit),
+                            Function.identity(),
+                            pageSize,
+                            pageToken);
+                    return Utils.ok(new NameListResponse(page.items(), page.nextPageToken()));
                   }));
     } catch (Exception e) {
       return ExceptionHandlers.handleRoleException(OperationType.LIST, "", metalake, e);
@@ -50,6 +50,8 @@ import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.lock.LockType;
 import org.apache.gravitino.lock.TreeLockUtils;
 import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.server.web.Pagination;
+import org.apache.gravitino.server.web.Pagination.Page;
 import org.apache.gravitino.server.web.Utils;
 import org.apache.gravitino.utils.NameIdentifierUtil;
 import org.apache.gravitino.utils.NamespaceUtil;
@@ -77,20 +79,20 @@ public class SchemaOperations {
   @Timed(name = "list-schema." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "list-schema", absolute = true)
   public Response listSchemas(
-      @PathParam("metalake") String metalake, @PathParam("catalog") String catalog) {
+      @PathParam("metalake") String metalake,
+      @PathParam("catalog") String catalog,
+      @QueryParam("pageSize") Integer pageSize,
+      @QueryParam("pageToken") String pageToken) {
     LOG.info("Received list schema request for catalog: {}.{}", metalake, catalog);
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
             Namespace schemaNS = NamespaceUtil.ofSchema(metalake, catalog);
-            NameIdentifier[] idents =
-                TreeLockUtils.doWithTreeLock(
-                    NameIdentifier.of(metalake, catalog),
-                    LockType.READ,
-                    () -> dispatcher.listSchemas(schemaNS));
-            Response response = Utils.ok(new EntityListResponse(idents));
-            LOG.info("List {} schemas in catalog {}.{}", idents.length, metalake, catalog);
+            Page<NameIdentifier> page = listSchemasPage(schemaNS, pageSize, pageToken);
+            Response response =
+                Utils.ok(new EntityListResponse(page.items(), page.nextPageToken()));
+            LOG.info("List {} schemas in catalog {}.{}", page.items().length, metalake, catalog);
             return response;
           });
     } catch (Exception e) {
@@ -227,4 +229,21 @@ public class SchemaOperations {
       return ExceptionHandlers.handleSchemaException(OperationType.DROP, schema, catalog, e);
     }
   }
+
+  private Page<NameIdentifier> listSchemasPage(
+      Namespace namespace, Integer pageSize, String pageToken) {
+    NameIdentifier parentIdent = NameIdentifier.of(namespace.levels());
+    return Pagination.page(
+        () ->
+            TreeLockUtils.doWithTreeLock(
+                parentIdent, LockType.READ, () -> dispatcher.listSchemas(namespace)),
+        (startAfter, limit) ->
+            TreeLockUtils.doWithTreeLock(
+                parentIdent,
+                LockType.READ,
+                () -> dispatcher.listSchemas(namespace, startAfter, limit)),
+        NameIdentifier::name,
+        pageSize,
+        pageToken);
+  }
 }
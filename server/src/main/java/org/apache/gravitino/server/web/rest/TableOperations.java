@@ -23,6 +23,9 @@ import static org.apache.gravitino.dto.util.DTOConverters.fromDTOs;
 
 import com.codahale.metrics.annotation.ResponseMetered;
 import com.codahale.metrics.annotation.Timed;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.DELETE;
@@ -39,11 +42,13 @@ import javax.ws.rs.core.Response;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.catalog.TableDispatcher;
+import org.apache.gravitino.dto.rel.TableDTO;
 import org.apache.gravitino.dto.requests.TableCreateRequest;
 import org.apache.gravitino.dto.requests.TableUpdateRequest;
 import org.apache.gravitino.dto.requests.TableUpdatesRequest;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
+import org.apache.gravitino.dto.responses.TableListResponse;
 import org.apache.gravitino.dto.responses.TableResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.lock.LockType;
@@ -51,9 +56,12 @@ import org.apache.gravitino.lock.TreeLockUtils;
 import org.apache.gravitino.metrics.MetricNames;
 import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.rel.TableChange;
+import org.apache.gravitino.server.web.Pagination;
+import org.apache.gravitino.server.web.Pagination.Page;
 import org.apache.gravitino.server.web.Utils;
 import org.apache.gravitino.utils.NameIdentifierUtil;
 import org.apache.gravitino.utils.NamespaceUtil;
+import org.apache.gravitino.utils.PageUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -78,21 +86,63 @@ public class TableOperations {
   public Response listTables(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
-      @PathParam("schema") String schema) {
-    LOG.info("Received list tables request for schema: {}.{}.{}", metalake, catalog, schema);
+      @PathParam("schema") String schema,
+      @QueryParam("details") @DefaultValue("false") boolean verbose,
+      @QueryParam("name") List<String> names,
+      @QueryParam("pageSize") Integer pageSize,
+      @QueryParam("pageToken") String pageToken) {
+    LOG.info(
+        "Received list tables {} request for schema: {}.{}.{}",
+        verbose ? "infos" : "names",
+        metalake,
+        catalog,
+        schema);
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
             Namespace tableNS = NamespaceUtil.ofTable(metalake, catalog, schema);
-            NameIdentifier[] idents =
-                TreeLockUtils.doWithTreeLock(
-                    NameIdentifier.of(metalake, catalog, schema),
-                    LockType.READ,
-                    () -> dispatcher.listTables(tableNS));
-            Response response = Utils.ok(new EntityListResponse(idents));
+            if (verbose) {
+              Table[] tables;
+              String nextPageToken = null;
+              if (pageSize == null && pageToken == null) {
+                // The tables are loaded in bulk under the lock acquired by the dispatcher.
+                tables = dispatcher.loadTables(tableNS, names.toArray(new String[0]));
+              } else {
+                // Only the tables of the requested page are loaded.
+                Page<NameIdentifier> page =
+                    names.isEmpty()
+                        ? listTablesPage(tableNS, pageSize, pageToken)
+                        : pageRequestedTables(tableNS, names, pageSize, pageToken);
+                String[] pageNames =
+                    Arrays.stream(page.items()).map(NameIdentifier::name).toArray(String[]::new);
+                tables =
+                    pageNames.length == 0
+                        ? new Table[0]
+                        : dispatcher.loadTables(tableNS, pageNames);
+                nextPageToken = page.nextPageToken();
+              }
+              TableDTO[] tableDTOs =
+                  Arrays.stream(tables).map(DTOConverters::toDTO).toArray(TableDTO[]::new);
+              Response response = Utils.ok(new TableListResponse(tableDTOs, nextPageToken));
+              LOG.info(
+                  "List {} table infos under schema: {}.{}.{}",
+                  tables.length,
+                  metalake,
+                  catalog,
+                  schema);
+              return response;
+            }
+
+            Page<NameIdentifier> page = listTablesPage(tableNS, pageSize, pageToken);
+            Response response =
+                Utils.ok(new EntityListResponse(page.items(), page.nextPageToken()));
             LOG.info(
-                "List {} tables under schema: {}.{}.{}", idents.length, metalake, catalog, schema);
+                "List {} tables under schema: {}.{}.{}",
+                page.items().length,
+                metalake,
+                catalog,
+                schema);
             return response;
           });
 
@@ -252,4 +302,38 @@ public class TableOperations {
       return ExceptionHandlers.handleTableException(OperationType.DROP, table, schema, e);
     }
   }
+
+  private Page<NameIdentifier> listTablesPage(
+      Namespace namespace, Integer pageSize, String pageToken) {
+    NameIdentifier parentIdent = NameIdentifier.of(namespace.levels());
+    return Pagination.page(
+        () ->
+            TreeLockUtils.doWithTreeLock(
+                parentIdent, LockType.READ, () -> dispatcher.listTables(namespace)),
+        (startAfter, limit) ->
+            TreeLockUtils.doWithTreeLock(
+                parentIdent,
+                LockType.READ,
+                () -> dispatcher.listTables(namespace, startAfter, limit)),
+        NameIdentifier::name,
+        pageSize,
+        pageToken);
+  }
+
+  private Page<NameIdentifier> pageRequestedTables(
+      Namespace namespace, List<String> names, Integer pageSize, String pageToken) {
+    List<NameIdentifier> idents =
+        names.stream()
+            .distinct()
+            .map(name -> NameIdentifier.of(namespace, name))
+            .collect(Collectors.toList());
+    return Pagination.page(
+        () -> idents.toArray(new NameIdentifier[0]),
+        (startAfter, limit) ->
+            PageUtil.page(idents, NameIdentifier::name, startAfter, limit)
+                .toArray(new NameIdentifier[0]),
+        NameIdentifier::name,
+        pageSize,
+        pageToken);
+  }
 }
@@ -22,6 +22,7 @@ import com.codahale.metrics.annotation.ResponseMetered;
 import com.codahale.metrics.annotation.Timed;
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.function.Function;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.DELETE;
@@ -50,6 +51,8 @@ import org.apache.gravitino.dto.tag.MetadataObjectDTO;
 import org.apache.gravitino.dto.tag.TagDTO;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.server.web.Pagination;
+import org.apache.gravitino.server.web.Pagination.Page;
 import org.apache.gravitino.server.web.Utils;
 import org.apache.gravitino.tag.Tag;
 import org.apache.gravitino.tag.TagChange;
@@ -77,7 +80,9 @@ public class TagOperations {
   @ResponseMetered(name = "list-tags", absolute = true)
   public Response listTags(
       @PathParam("metalake") String metalake,
-      @QueryParam("details") @DefaultValue("false") boolean verbose) {
+      @QueryParam("details") @DefaultValue("false") boolean verbose,
+      @QueryParam("pageSize") Integer pageSize,
+      @QueryParam("pageToken") String pageToken) {
     LOG.info(
         "Received list tag {} request for metalake: {}", verbose ? "infos" : "names", metalake);
 
@@ -86,7 +91,14 @@ public class TagOperations {
           httpRequest,
           () -> {
             if (verbose) {
-              Tag[] tags = tagManager.listTagsInfo(metalake);
+              Page<Tag> page =
+                  Pagination.page(
+                      () -> tagManager.listTagsInfo(metalake),
+                      (startAfter, limit) -> tagManager.listTagsInfo(metalake, startAfter, limit),
+                      Tag::name,
+                      pageSize,
+                      pageToken);
+              Tag[] tags = page.items();
               TagDTO[] tagDTOs;
               if (ArrayUtils.isEmpty(tags)) {
                 tagDTOs = new TagDTO[0];
@@ -98,14 +110,22 @@ public class TagOperations {
               }
 
               LOG.info("List {} tags info under metalake: {}", tagDTOs.length, metalake);
-              return Utils.ok(new TagListResponse(tagDTOs));
+              return Utils.ok(new TagListResponse(tagDTOs, page.nextPageToken()));
 
             } else {
-              String[] tagNames = tagManager.listTags(metalake);
-              tagNames = tagNames == null ? new String[0] : tagNames;
+              Page<String> page =
+                  Pagination.page(
+                      () -> {
+                        String[] tagNames = tagManager.listTags(metalake);
+                        return tagNames == null ? new String[0] : tagNames;
+                      },
+                      (startAfter, limit) -> tagManager.listTags(metalake, startAfter, limit),
+                      Function.identity(),
+                      pageSize,
+                      pageToken);
 
-              LOG.info("List {} tags under metalake: {}", tagNames.length, metalake);
-              return Utils.ok(new NameListResponse(tagNames));
+              LOG.info("List {} tags under metalake: {}", page.items().length, metalake);
+              return Utils.ok(new NameListResponse(page.items(), page.nextPageToken()));
             }
           });
     } catch (Exception e) {
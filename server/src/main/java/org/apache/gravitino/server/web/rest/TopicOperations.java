@@ -29,6 +29,7 @@ import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
 import org.apache.gravitino.NameIdentifier;
@@ -46,6 +47,8 @@ import org.apache.gravitino.lock.TreeLockUtils;
 import org.apache.gravitino.messaging.Topic;
 import org.apache.gravitino.messaging.TopicChange;
 import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.server.web.Pagination;
+import org.apache.gravitino.server.web.Pagination.Page;
 import org.apache.gravitino.server.web.Utils;
 import org.apache.gravitino.utils.NameIdentifierUtil;
 import org.apache.gravitino.utils.NamespaceUtil;
@@ -71,7 +74,9 @@ public class TopicOperations {
   public Response listTopics(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
-      @PathParam("schema") String schema) {
+      @PathParam("schema") String schema,
+      @QueryParam("pageSize") Integer pageSize,
+      @QueryParam("pageToken") String pageToken) {
     try {
       LOG.info("Received list topics request for schema: {}.{}.{}", metalake, catalog, schema);
       return Utils.doAs(
@@ -79,14 +84,15 @@ public class TopicOperations {
           () -> {
             LOG.info("Listing topics under schema: {}.{}.{}", metalake, catalog, schema);
             Namespace topicNS = NamespaceUtil.ofTopic(metalake, catalog, schema);
-            NameIdentifier[] topics =
-                TreeLockUtils.doWithTreeLock(
-                    NameIdentifier.of(metalake, catalog, schema),
-                    LockType.READ,
-                    () -> dispatcher.listTopics(topicNS));
-            Response response = Utils.ok(new EntityListResponse(topics));
+            Page<NameIdentifier> page = listTopicsPage(topicNS, pageSize, pageToken);
+            Response response =
+                Utils.ok(new EntityListResponse(page.items(), page.nextPageToken()));
             LOG.info(
-                "List {} topics under schema: {}.{}.{}", topics.length, metalake, catalog, schema);
+                "List {} topics under schema: {}.{}.{}",
+                page.items().length,
+                metalake,
+                catalog,
+                schema);
             return response;
           });
     } catch (Exception e) {
@@ -235,4 +241,21 @@ public class TopicOperations {
       return ExceptionHandlers.handleTopicException(OperationType.DROP, topic, schema, e);
     }
   }
+
+  private Page<NameIdentifier> listTopicsPage(
+      Namespace namespace, Integer pageSize, String pageToken) {
+    NameIdentifier parentIdent = NameIdentifier.of(namespace.levels());
+    return Pagination.page(
+        () ->
+            TreeLockUtils.doWithTreeLock(
+                parentIdent, LockType.READ, () -> dispatcher.listTopics(namespace)),
+        (startAfter, limit) ->
+            TreeLockUtils.doWithTreeLock(
+                parentIdent,
+                LockType.READ,
+                () -> dispatcher.listTopics(namespace, startAfter, limit)),
+        NameIdentifier::name,
+        pageSize,
+        pageToken);
+  }
 }
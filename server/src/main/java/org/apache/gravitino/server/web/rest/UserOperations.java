@@ -20,6 +20,7 @@ package org.apache.gravitino.server.web.rest;
 
 import com.codahale.metrics.annotation.ResponseMetered;
 import com.codahale.metrics.annotation.Timed;
+import java.util.function.Function;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.DELETE;
 import javax.ws.rs.DefaultValue;
@@ -35,6 +36,7 @@ import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.authorization.AccessControlDispatcher;
 import org.apache.gravitino.authorization.AuthorizationUtils;
+import org.apache.gravitino.authorization.User;
 import org.apache.gravitino.dto.requests.UserAddRequest;
 import org.apache.gravitino.dto.responses.NameListResponse;
 import org.apache.gravitino.dto.responses.RemoveResponse;
@@ -45,6 +47,8 @@ import org.apache.gravitino.lock.LockType;
 import org.apache.gravitino.lock.TreeLockUtils;
 import org.apache.gravitino.metrics.MetricNames;
 import org.apache.gravitino.server.authorization.NameBindings;
+import org.apache.gravitino.server.web.Pagination;
+import org.apache.gravitino.server.web.Pagination.Page;
 import org.apache.gravitino.server.web.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -94,7 +98,9 @@ public class UserOperations {
   @ResponseMetered(name = "list-user", absolute = true)
   public Response listUsers(
       @PathParam("metalake") String metalake,
-      @QueryParam("details") @DefaultValue("false") boolean verbose) {
+      @QueryParam("details") @DefaultValue("false") boolean verbose,
+      @QueryParam("pageSize") Integer pageSize,
+      @QueryParam("pageToken") String pageToken) {
     try {
       return Utils.doAs(
           httpRequest,
@@ -104,12 +110,27 @@ public class UserOperations {
                   LockType.READ,
                   () -> {
                     if (verbose) {
+                      Page<User> page =
+                          Pagination.page(
+                              () -> accessControlManager.listUsers(metalake),
+                              (startAfter, limit) ->
+                                  accessControlManager.listUsers(metalake, startAfter, limit),
+                              User::name,
+                              pageSize,
+                              pageToken);
                       return Utils.ok(
                           new UserListResponse(
-                              DTOConverters.toDTOs(accessControlManager.listUsers(metalake))));
+                              DTOConverters.toDTOs(page.items()), page.nextPageToken()));
                     } else {
-                      return Utils.ok(
-                          new NameListResponse(accessControlManager.listUserNames(metalake)));
+                      Page<String> page =
+                          Pagination.page(
+                              () -> accessControlManager.listUserNames(metalake),
+                              (startAfter, limit) ->
+                                  accessControlManager.listUserNames(metalake, startAfter, limit),
+                              Function.identity(),
+                              pageSize,
+                              pageToken);
+                      return Utils.ok(new NameListResponse(page.items(), page.nextPageToken()));
                     }
                   }));
     } catch (Exception e) {
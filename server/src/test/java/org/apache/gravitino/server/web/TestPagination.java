@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import org.apache.gravitino.server.web.Pagination.Page;
+import org.apache.gravitino.server.web.Pagination.PageLister;
+import org.apache.gravitino.utils.PageUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestPagination {
+
+  @Test
+  public void testPage() {
+    String[] names = new String[] {"d", "b", "e", "a", "c"};
+    PageLister<String> lister = pageLister(names);
+
+    Page<String> all = Pagination.page(() -> names, lister, Function.identity(), null, null);
+    Assertions.assertArrayEquals(names, all.items());
+    Assertions.assertNull(all.nextPageToken());
+
+    Page<String> page1 = Pagination.page(() -> names, lister, Function.identity(), 2, null);
+    Assertions.assertArrayEquals(new String[] {"a", "b"}, page1.items());
+    Assertions.assertNotNull(page1.nextPageToken());
+
+    Page<String> page2 =
+        Pagination.page(() -> names, lister, Function.identity(), 2, page1.nextPageToken());
+    Assertions.assertArrayEquals(new String[] {"c", "d"}, page2.items());
+
+    Page<String> page3 =
+        Pagination.page(() -> names, lister, Function.identity(), 2, page2.nextPageToken());
+    Assertions.assertArrayEquals(new String[] {"e"}, page3.items());
+    Assertions.assertNull(page3.nextPageToken());
+
+    // The page is resumed after the last name even if it's dropped in between
+    String[] dropped = new String[] {"a", "c", "d", "e"};
+    Page<String> resumed =
+        Pagination.page(
+            () -> dropped,
+            pageLister(dropped),
+            Function.identity(),
+            2,
+            page1.nextPageToken());
+    Assertions.assertArrayEquals(new String[] {"c", "d"}, resumed.items());
+
+    // No page size means the rest of the entities
+    Page<String> rest =
+        Pagination.page(() -> names, lister, Function.identity(), null, page1.nextPageToken());
+    Assertions.assertArrayEquals(new String[] {"c", "d", "e"}, rest.items());
+    Assertions.assertNull(rest.nextPageToken());
+  }
+
+  @Test
+  public void testPageListing() {
+    // Only the requested page and one more entity are listed
+    Page<String> page =
+        Pagination.page(
+            () -> {
+              throw new AssertionError("All the entities shouldn't be listed");
+            },
+            (startAfter, limit) -> {
+              Assertions.assertEquals("b", startAfter);
+              Assertions.assertEquals(3, limit);
+              return new String[] {"c", "d", "e"};
+            },
+            Function.identity(),
+            2,
+            Pagination.encodeToken("b"));
+    Assertions.assertArrayEquals(new String[] {"c", "d"}, page.items());
+    Assertions.assertEquals("d", Pagination.decodeToken(page.nextPageToken()));
+  }
+
+  @Test
+  public void testIllegalArguments() {
+    String[] names = new String[] {"a"};
+    PageLister<String> lister = pageLister(names);
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> Pagination.page(() -> names, lister, Function.identity(), 0, null));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> Pagination.page(() -> names, lister, Function.identity(), 1, "not a token"));
+
+    Assertions.assertEquals("table_1", Pagination.decodeToken(Pagination.encodeToken("table_1")));
+  }
+
+  private static PageLister<String> pageLister(String[] names) {
+    List<String> items = Arrays.asList(names);
+    return (startAfter, limit) ->
+        PageUtil.page(items, Function.identity(), startAfter, limit).toArray(new String[0]);
+  }
+}
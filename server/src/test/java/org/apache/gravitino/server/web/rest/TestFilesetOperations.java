@@ -18,6 +18,7 @@
  */
 package org.apache.gravitino.server.web.rest;
 
+import static org.apache.gravitino.Configs.TREE_LOCK_ACQUIRE_TIMEOUT;
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
@@ -49,6 +50,7 @@ import org.apache.gravitino.audit.InternalClientType;
 import org.apache.gravitino.catalog.FilesetDispatcher;
 import org.apache.gravitino.catalog.FilesetOperationDispatcher;
 import org.apache.gravitino.dto.file.FilesetDTO;
+import org.apache.gravitino.dto.requests.FileLocationsRequest;
 import org.apache.gravitino.dto.requests.FilesetCreateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdatesRequest;
@@ -57,6 +59,7 @@ import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ErrorConstants;
 import org.apache.gravitino.dto.responses.ErrorResponse;
 import org.apache.gravitino.dto.responses.FileLocationResponse;
+import org.apache.gravitino.dto.responses.FileLocationsResponse;
 import org.apache.gravitino.dto.responses.FilesetResponse;
 import org.apache.gravitino.exceptions.FilesetAlreadyExistsException;
 import org.apache.gravitino.exceptions.NoSuchFilesetException;
@@ -99,6 +102,7 @@ public class TestFilesetOperations extends JerseyTest {
     Mockito.doReturn(100000L).when(config).get(TREE_LOCK_MAX_NODE_IN_MEMORY);
     Mockito.doReturn(1000L).when(config).get(TREE_LOCK_MIN_NODE_IN_MEMORY);
     Mockito.doReturn(36000L).when(config).get(TREE_LOCK_CLEAN_INTERVAL);
+    Mockito.doReturn(0L).when(config).get(TREE_LOCK_ACQUIRE_TIMEOUT);
     FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", new LockManager(config), true);
   }
 
@@ -568,6 +572,60 @@ public class TestFilesetOperations extends JerseyTest {
     Assertions.assertNull(CallerContext.CallerContextHolder.get());
   }
 
+  @Test
+  public void testGetFileLocations() {
+    NameIdentifier fullIdentifier = NameIdentifier.of(metalake, catalog, schema, "fileset1");
+    Map<String, String> callerContextMap = Maps.newHashMap();
+    when(dispatcher.getFileLocations(fullIdentifier, "/test/1", "/test/2"))
+        .thenAnswer(
+            (Answer<String[]>)
+                invocation -> {
+                  callerContextMap.putAll(CallerContext.CallerContextHolder.get().context());
+                  return new String[] {"/location/1", "/location/2"};
+                });
+    Response resp =
+        target(filesetPath(metalake, catalog, schema) + "fileset1/locations")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .header(
+                FilesetAuditConstants.HTTP_HEADER_INTERNAL_CLIENT_TYPE,
+                InternalClientType.HADOOP_GVFS.name())
+            .header(
+                FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION,
+                FilesetDataOperation.CREATE.name())
+            .accept("application/vnd.gravitino.v1+json")
+            .post(
+                Entity.entity(
+                    new FileLocationsRequest(new String[] {"/test/1", "/test/2"}),
+                    MediaType.APPLICATION_JSON_TYPE));
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+
+    FileLocationsResponse locationsResponse = resp.readEntity(FileLocationsResponse.class);
+    Assertions.assertEquals(0, locationsResponse.getCode());
+    Assertions.assertArrayEquals(
+        new String[] {"/location/1", "/location/2"}, locationsResponse.getFileLocations());
+    Assertions.assertEquals(
+        FilesetDataOperation.CREATE.name(),
+        callerContextMap.get(FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION));
+
+    // Test throw NoSuchFilesetException
+    doThrow(new NoSuchFilesetException("no found"))
+        .when(dispatcher)
+        .getFileLocations(fullIdentifier, "/test/1");
+    Response resp1 =
+        target(filesetPath(metalake, catalog, schema) + "fileset1/locations")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(
+                Entity.entity(
+                    new FileLocationsRequest(new String[] {"/test/1"}),
+                    MediaType.APPLICATION_JSON_TYPE));
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp1.getStatus());
+
+    ErrorResponse errorResp = resp1.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.NOT_FOUND_CODE, errorResp.getCode());
+    Assertions.assertEquals(NoSuchFilesetException.class.getSimpleName(), errorResp.getType());
+  }
+
   private void assertUpdateFileset(FilesetUpdatesRequest req, Fileset updatedFileset) {
     when(dispatcher.alterFileset(any(), any(FilesetChange.class))).thenReturn(updatedFileset);
 
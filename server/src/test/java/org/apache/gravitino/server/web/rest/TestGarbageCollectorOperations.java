@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.server.web.rest;
+
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_GC_MAX_BATCH_SIZE;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_GC_MAX_DELETES_PER_SECOND;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_GC_PARALLELISM;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_GC_TARGET_BATCH_LATENCY_MS;
+import static org.apache.gravitino.Configs.STORE_DELETE_AFTER_TIME;
+import static org.apache.gravitino.Configs.VERSION_RETENTION_COUNT;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.dto.responses.ErrorConstants;
+import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.dto.responses.GarbageCollectorResponse;
+import org.apache.gravitino.rest.RESTUtils;
+import org.apache.gravitino.storage.relational.RelationalBackend;
+import org.apache.gravitino.storage.relational.RelationalEntityStore;
+import org.apache.gravitino.storage.relational.RelationalGarbageCollector;
+import org.glassfish.hk2.utilities.binding.AbstractBinder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import org.glassfish.jersey.test.TestProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestGarbageCollectorOperations extends JerseyTest {
+
+  private static class MockServletRequestFactory extends ServletRequestFactoryBase {
+    @Override
+    public HttpServletRequest get() {
+      HttpServletRequest request = mock(HttpServletRequest.class);
+      when(request.getRemoteUser()).thenReturn(null);
+      return request;
+    }
+  }
+
+  @Override
+  protected Application configure() {
+    try {
+      forceSet(
+          TestProperties.CONTAINER_PORT, String.valueOf(RESTUtils.findAvailablePort(2000, 3000)));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    ResourceConfig resourceConfig = new ResourceConfig();
+    resourceConfig.register(GarbageCollectorOperations.class);
+    resourceConfig.register(
+        new AbstractBinder() {
+          @Override
+          protected void configure() {
+            bindFactory(MockServletRequestFactory.class).to(HttpServletRequest.class);
+          }
+        });
+
+    return resourceConfig;
+  }
+
+  @AfterEach
+  public void resetEntityStore() throws IllegalAccessException {
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "entityStore", null, true);
+  }
+
+  @Test
+  public void testTriggerAndGetGarbageCollector() throws Exception {
+    Config config = mock(Config.class);
+    when(config.get(STORE_DELETE_AFTER_TIME)).thenReturn(20 * 60 * 1000L);
+    when(config.get(VERSION_RETENTION_COUNT)).thenReturn(1L);
+    when(config.get(ENTITY_RELATIONAL_GC_PARALLELISM)).thenReturn(4);
+    when(config.get(ENTITY_RELATIONAL_GC_MAX_BATCH_SIZE)).thenReturn(1000);
+    when(config.get(ENTITY_RELATIONAL_GC_TARGET_BATCH_LATENCY_MS)).thenReturn(60_000L);
+    when(config.get(ENTITY_RELATIONAL_GC_MAX_DELETES_PER_SECOND)).thenReturn(0);
+
+    CountDownLatch deleting = new CountDownLatch(1);
+    CountDownLatch resume = new CountDownLatch(1);
+    RelationalBackend backend = mock(RelationalBackend.class);
+    when(backend.countLegacyData(eq(Entity.EntityType.TABLE), anyLong())).thenReturn(10L);
+    when(backend.hardDeleteLegacyData(eq(Entity.EntityType.TABLE), anyLong(), anyInt()))
+        .thenAnswer(
+            invocation -> {
+              if (deleting.getCount() > 0) {
+                deleting.countDown();
+                resume.await();
+                return 10;
+              }
+              return 0;
+            });
+
+    try (RelationalGarbageCollector garbageCollector =
+        new RelationalGarbageCollector(backend, config)) {
+      RelationalEntityStore entityStore = mock(RelationalEntityStore.class);
+      when(entityStore.garbageCollector()).thenReturn(garbageCollector);
+      FieldUtils.writeField(GravitinoEnv.getInstance(), "entityStore", entityStore, true);
+
+      GarbageCollectorResponse idle = getGarbageCollector();
+      Assertions.assertFalse(idle.triggered());
+      Assertions.assertFalse(idle.running());
+      Assertions.assertEquals(0, idle.lastRunStartTime());
+
+      GarbageCollectorResponse triggered = triggerGarbageCollector();
+      Assertions.assertTrue(triggered.triggered());
+      Assertions.assertTrue(triggered.running());
+      Assertions.assertTrue(deleting.await(10, TimeUnit.SECONDS));
+
+      // The run in progress is not triggered again.
+      GarbageCollectorResponse inProgress = triggerGarbageCollector();
+      Assertions.assertFalse(inProgress.triggered());
+      Assertions.assertTrue(inProgress.running());
+      Assertions.assertTrue(inProgress.lastRunStartTime() > 0);
+      Assertions.assertEquals(10, inProgress.pendingRows());
+
+      resume.countDown();
+      GarbageCollectorResponse finished = getGarbageCollector();
+      long deadline = System.currentTimeMillis() + 10_000;
+      while (finished.running() && System.currentTimeMillis() < deadline) {
+        Thread.sleep(10);
+        finished = getGarbageCollector();
+      }
+      Assertions.assertFalse(finished.running());
+      Assertions.assertEquals(10, finished.lastRunDeletedRows());
+      Assertions.assertEquals(0, finished.pendingRows());
+      Assertions.assertEquals(0, finished.pendingEntityTypes());
+      Assertions.assertTrue(finished.lastRunEndTime() >= finished.lastRunStartTime());
+    }
+  }
+
+  @Test
+  public void testGarbageCollectorOfUnsupportedEntityStore() throws IllegalAccessException {
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "entityStore", mock(EntityStore.class), true);
+
+    Response resp =
+        target("/admin/garbage-collector")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(null);
+    Assertions.assertEquals(Response.Status.METHOD_NOT_ALLOWED.getStatusCode(), resp.getStatus());
+
+    ErrorResponse errorResponse = resp.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.UNSUPPORTED_OPERATION_CODE, errorResponse.getCode());
+  }
+
+  private GarbageCollectorResponse getGarbageCollector() {
+    Response resp =
+        target("/admin/garbage-collector")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    return resp.readEntity(GarbageCollectorResponse.class);
+  }
+
+  private GarbageCollectorResponse triggerGarbageCollector() {
+    Response resp =
+        target("/admin/garbage-collector")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(null);
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    return resp.readEntity(GarbageCollectorResponse.class);
+  }
+}
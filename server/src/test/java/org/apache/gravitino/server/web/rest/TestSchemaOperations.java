@@ -18,11 +18,13 @@
  */
 package org.apache.gravitino.server.web.rest;
 
+import static org.apache.gravitino.Configs.TREE_LOCK_ACQUIRE_TIMEOUT;
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -91,6 +93,7 @@ public class TestSchemaOperations extends JerseyTest {
     Mockito.doReturn(100000L).when(config).get(TREE_LOCK_MAX_NODE_IN_MEMORY);
     Mockito.doReturn(1000L).when(config).get(TREE_LOCK_MIN_NODE_IN_MEMORY);
     Mockito.doReturn(36000L).when(config).get(TREE_LOCK_CLEAN_INTERVAL);
+    Mockito.doReturn(0L).when(config).get(TREE_LOCK_ACQUIRE_TIMEOUT);
     FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", new LockManager(config), true);
   }
 
@@ -173,6 +176,55 @@ public class TestSchemaOperations extends JerseyTest {
     Assertions.assertEquals(RuntimeException.class.getSimpleName(), errorResp2.getType());
   }
 
+  @Test
+  public void testListSchemasWithPagination() {
+    NameIdentifier ident1 = NameIdentifier.of(metalake, catalog, "schema1");
+    NameIdentifier ident2 = NameIdentifier.of(metalake, catalog, "schema2");
+    NameIdentifier ident3 = NameIdentifier.of(metalake, catalog, "schema3");
+    // One more schema is listed to know whether there is a next page
+    when(dispatcher.listSchemas(any(), isNull(), eq(3)))
+        .thenReturn(new NameIdentifier[] {ident1, ident2, ident3});
+    when(dispatcher.listSchemas(any(), eq("schema2"), eq(3)))
+        .thenReturn(new NameIdentifier[] {ident3});
+
+    Response resp =
+        target("/metalakes/" + metalake + "/catalogs/" + catalog + "/schemas")
+            .queryParam("pageSize", 2)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+
+    EntityListResponse listResp = resp.readEntity(EntityListResponse.class);
+    Assertions.assertArrayEquals(new NameIdentifier[] {ident1, ident2}, listResp.identifiers());
+    Assertions.assertNotNull(listResp.nextPageToken());
+
+    Response resp1 =
+        target("/metalakes/" + metalake + "/catalogs/" + catalog + "/schemas")
+            .queryParam("pageSize", 2)
+            .queryParam("pageToken", listResp.nextPageToken())
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp1.getStatus());
+
+    EntityListResponse listResp1 = resp1.readEntity(EntityListResponse.class);
+    Assertions.assertArrayEquals(new NameIdentifier[] {ident3}, listResp1.identifiers());
+    Assertions.assertNull(listResp1.nextPageToken());
+
+    // Test illegal page size
+    Response resp2 =
+        target("/metalakes/" + metalake + "/catalogs/" + catalog + "/schemas")
+            .queryParam("pageSize", 0)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp2.getStatus());
+
+    ErrorResponse errorResp = resp2.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.ILLEGAL_ARGUMENTS_CODE, errorResp.getCode());
+  }
+
   @Test
   public void testCreateSchema() {
     SchemaCreateRequest req =
@@ -18,6 +18,7 @@
  */
 package org.apache.gravitino.server.web.rest;
 
+import static org.apache.gravitino.Configs.TREE_LOCK_ACQUIRE_TIMEOUT;
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
@@ -66,6 +67,7 @@ import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ErrorConstants;
 import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.dto.responses.TableListResponse;
 import org.apache.gravitino.dto.responses.TableResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
@@ -120,6 +122,7 @@ public class TestTableOperations extends JerseyTest {
     Mockito.doReturn(100000L).when(config).get(TREE_LOCK_MAX_NODE_IN_MEMORY);
     Mockito.doReturn(1000L).when(config).get(TREE_LOCK_MIN_NODE_IN_MEMORY);
     Mockito.doReturn(36000L).when(config).get(TREE_LOCK_CLEAN_INTERVAL);
+    Mockito.doReturn(0L).when(config).get(TREE_LOCK_ACQUIRE_TIMEOUT);
     FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", new LockManager(config), true);
   }
 
@@ -200,6 +203,64 @@ public class TestTableOperations extends JerseyTest {
     Assertions.assertEquals(RuntimeException.class.getSimpleName(), errorResp2.getType());
   }
 
+  @Test
+  public void testListTableInfos() {
+    Column[] columns = new Column[] {mockColumn("col1", Types.StringType.get())};
+    Table table1 = mockTable("table1", columns, "mock comment", ImmutableMap.of("k1", "v1"));
+    Table table2 = mockTable("table2", columns, "mock comment", ImmutableMap.of("k1", "v1"));
+    when(dispatcher.loadTables(any())).thenReturn(new Table[] {table1, table2});
+    when(dispatcher.loadTables(any(), eq("table2"))).thenReturn(new Table[] {table2});
+
+    Response resp =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("details", "true")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+
+    TableListResponse listResp = resp.readEntity(TableListResponse.class);
+    Assertions.assertEquals(0, listResp.getCode());
+
+    TableDTO[] tables = listResp.getTables();
+    Assertions.assertEquals(2, tables.length);
+    Assertions.assertEquals("table1", tables[0].name());
+    Assertions.assertEquals("table2", tables[1].name());
+    Assertions.assertEquals(ImmutableMap.of("k1", "v1"), tables[0].properties());
+    Assertions.assertEquals(1, tables[0].columns().length);
+
+    // Test load the tables with the specified names
+    Response resp1 =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("details", "true")
+            .queryParam("name", "table2")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp1.getStatus());
+
+    TableListResponse listResp1 = resp1.readEntity(TableListResponse.class);
+    Assertions.assertEquals(1, listResp1.getTables().length);
+    Assertions.assertEquals("table2", listResp1.getTables()[0].name());
+
+    // Test throw NoSuchSchemaException
+    doThrow(new NoSuchSchemaException("mock error")).when(dispatcher).loadTables(any());
+    Response resp2 =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("details", "true")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp2.getStatus());
+
+    ErrorResponse errorResp = resp2.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.NOT_FOUND_CODE, errorResp.getCode());
+    Assertions.assertEquals(NoSuchSchemaException.class.getSimpleName(), errorResp.getType());
+  }
+
   private DistributionDTO createMockDistributionDTO(String columnName, int bucketNum) {
     return DistributionDTO.builder()
         .withStrategy(Strategy.HASH)